@@ -0,0 +1,44 @@
+package benchmarks;
+
+import game.BotPlayer;
+import game.Command;
+import game.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 📝 What one bot decision costs. The bid sits at a third of the table, which keeps
+// shouldCallLie inside the probability branch and decideNextCall away from the max-call shortcut.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BotPlayerBenchmark {
+
+    @Param({"2x5", "6x5", "10x10", "20x10", "50x20"})
+    public String table;
+
+    private BotPlayer bot;
+    private int totalDice;
+    private int quantity;
+
+    @Setup
+    public void setUp() {
+        GameState state = new GameState(Tables.seat(table));
+        bot = (BotPlayer) state.getPlayers().getLast();
+        totalDice = state.getTotalDiceCount();
+        quantity = Math.max(1, totalDice / 3);
+    }
+
+    @Benchmark
+    public boolean shouldCallLie() {
+        return bot.shouldCallLie(quantity, 4, totalDice);
+    }
+
+    @Benchmark
+    public Command decideNextCall() {
+        return bot.decideNextCall(quantity, 4, totalDice);
+    }
+}
@@ -0,0 +1,41 @@
+package benchmarks;
+
+import game.DiceCup;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceCupBenchmark {
+
+    @Param({"5", "10", "20"})
+    public int dice;
+
+    private DiceCup cup;
+    private final List<Integer> rerollIndices = List.of(0, 2);
+
+    @Setup
+    public void setUp() {
+        cup = new DiceCup(dice);
+        cup.rollAll();
+    }
+
+    @Benchmark
+    public void rollAll(Blackhole bh) {
+        cup.rollAll();
+        bh.consume(cup);
+    }
+
+    @Benchmark
+    public void rollSelected(Blackhole bh) {
+        cup.rollSelected(rerollIndices);
+        bh.consume(cup);
+    }
+}
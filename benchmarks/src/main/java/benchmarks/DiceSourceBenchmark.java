@@ -0,0 +1,46 @@
+package benchmarks;
+
+import game.DiceSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 📝 Rolls 24 dice per call from 8 threads at once: one shared java.util.Random (what every
+// DiceCup used to do when several threads shared a generator) against the DiceSource variants.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class DiceSourceBenchmark {
+
+    private static final Random SHARED_RANDOM = new Random();
+
+    @State(Scope.Thread)
+    public static class Dice {
+        final byte[] dice = new byte[DiceSource.FACES_PER_LONG];
+        final DiceSource seeded = DiceSource.seeded(Thread.currentThread().threadId());
+    }
+
+    @Benchmark
+    public byte[] sharedRandomPerDie(Dice state) {
+        for (int i = 0; i < state.dice.length; i++) {
+            state.dice[i] = (byte) (SHARED_RANDOM.nextInt(6) + 1);
+        }
+        return state.dice;
+    }
+
+    @Benchmark
+    public byte[] sharedDiceSource(Dice state) {
+        DiceSource.shared().roll(state.dice, 0, state.dice.length);
+        return state.dice;
+    }
+
+    @Benchmark
+    public byte[] seededDiceSource(Dice state) {
+        state.seeded.roll(state.dice, 0, state.dice.length);
+        return state.dice;
+    }
+}
@@ -0,0 +1,40 @@
+package benchmarks;
+
+import game.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStateBenchmark {
+
+    @Param({"2x5", "6x5", "10x10", "20x10", "50x20"})
+    public String table;
+
+    private GameState state;
+    private int face;
+
+    @Setup
+    public void setUp() {
+        state = new GameState(Tables.seat(table));
+        state.setCurrentCall(state.getTotalDiceCount() / 4, 3);
+    }
+
+    @Benchmark
+    public int getTotalDiceForFace() {
+        // 📝 Cycles through all faces so the JIT can't fold the lookup into a constant.
+        face = face == 6 ? 1 : face + 1;
+        return state.getTotalDiceForFace(face);
+    }
+
+    @Benchmark
+    public boolean isCallHigher() {
+        face = face == 6 ? 1 : face + 1;
+        return state.isCallHigher(state.getCurrentQuantityCalled(), face);
+    }
+}
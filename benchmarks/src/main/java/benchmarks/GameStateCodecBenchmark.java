@@ -0,0 +1,64 @@
+package benchmarks;
+
+import game.GameState;
+import game.GameStateCodec;
+import game.GameStateIO;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStateCodecBenchmark {
+
+    @Param({"2x5", "6x5", "10x10"})
+    public String table;
+
+    private GameState state;
+    private List<String> names;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        state = new GameState(Tables.seat(table));
+        state.setCurrentCall(state.getTotalDiceCount() / 4, 3);
+        names = state.getPlayers().stream().map(p -> p.getName()).toList();
+        buffer = ByteBuffer.allocateDirect(GameStateCodec.encodedLongs(state) * Long.BYTES);
+    }
+
+    @Benchmark
+    public int encodeToBuffer() {
+        buffer.clear();
+        return GameStateCodec.encode(state, buffer);
+    }
+
+    @Benchmark
+    public GameState roundTrip() {
+        buffer.clear();
+        GameStateCodec.encode(state, buffer);
+        buffer.flip();
+        return GameStateCodec.decode(buffer, names);
+    }
+
+    @Benchmark
+    public long hash() {
+        return GameStateCodec.hash(state);
+    }
+
+    // 📝 Baseline: the DataOutput format the spill store uses.
+    @Benchmark
+    public int encodeWithGameStateIO() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        GameStateIO.write(state, new DataOutputStream(bytes));
+        return bytes.size();
+    }
+}
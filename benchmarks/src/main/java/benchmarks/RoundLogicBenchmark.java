@@ -0,0 +1,36 @@
+package benchmarks;
+
+import game.GameState;
+import game.RoundLogic;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 📝 resolveLie changes the table (dice are lost, players drop out), so every
+// invocation gets a freshly rolled table. The setup is not part of the measurement.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoundLogicBenchmark {
+
+    @Param({"2x5", "6x5", "10x10", "20x10", "50x20"})
+    public String table;
+
+    private RoundLogic round;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        GameState state = new GameState(Tables.seat(table));
+        state.setCurrentCall(state.getTotalDiceCount() / 6, 5);
+        state.advanceTurn();
+        round = new RoundLogic(state);
+    }
+
+    @Benchmark
+    public String resolveLie() {
+        return round.resolveLie();
+    }
+}
@@ -0,0 +1,32 @@
+package benchmarks;
+
+import game.BotPlayer;
+import game.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 📝 Builds rolled tables for the benchmarks from a "<players>x<dice>" spec, e.g. "50x20".
+// The last seat is always the bot, so bot benchmarks can pick it up with getLast().
+final class Tables {
+
+    private Tables() {
+    }
+
+    static List<Player> seat(String spec) {
+        String[] parts = spec.split("x");
+        int playerCount = Integer.parseInt(parts[0]);
+        int dicePerPlayer = Integer.parseInt(parts[1]);
+
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount - 1; i++) {
+            players.add(new Player("Player " + i, dicePerPlayer));
+        }
+        players.add(new BotPlayer("Bot", dicePerPlayer));
+
+        for (Player p : players) {
+            p.rollAllDice();
+        }
+        return players;
+    }
+}
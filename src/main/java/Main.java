@@ -35,7 +35,7 @@ public class Main {
                 }
             }
 
-            RoundLogic round = new RoundLogic(state);
+            RoundLogic round = new RoundLogic(state, System.out::println);
             round.playRound();
 
             System.out.println("\n=== Dice Count After Round ===");
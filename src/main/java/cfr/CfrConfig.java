@@ -0,0 +1,41 @@
+package cfr;
+
+import java.nio.file.Path;
+
+// 📝 What the trainer should do: how many iterations (one dealt round, played once for each side),
+// on how many threads, the seed and where the policy file goes.
+public record CfrConfig(long iterations, int threads, long seed, Path output) {
+
+    public CfrConfig {
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Train for at least one iteration.");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Training needs at least one thread.");
+        }
+    }
+
+    // 📝 Reads "iterations=50000000 threads=8 seed=42 out=liarsdice.cfr".
+    public static CfrConfig fromArgs(String[] args) {
+        long iterations = 10_000_000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = System.nanoTime();
+        Path output = Path.of("liarsdice.cfr");
+
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            switch (pair[0]) {
+                case "iterations" -> iterations = Long.parseLong(pair[1]);
+                case "threads" -> threads = Integer.parseInt(pair[1]);
+                case "seed" -> seed = Long.parseLong(pair[1]);
+                case "out" -> output = Path.of(pair[1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + pair[0]);
+            }
+        }
+
+        return new CfrConfig(iterations, threads, seed, output);
+    }
+}
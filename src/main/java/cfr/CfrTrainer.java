@@ -0,0 +1,291 @@
+package cfr;
+
+import game.CfrPolicy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static game.CfrPolicy.*;
+
+// 📝 Offline self-play trainer for CfrBotPlayer: Monte Carlo counterfactual regret minimization
+// (outcome sampling) over one round of 1-on-1 with the rules of RoundLogic - raise or lie, one reroll per
+// match after which a call has to follow, a false call costs the caller 2 dice, a true one the challenger 1,
+// and a correct maximum call (all dice × 6) wins the whole game.
+//
+// Every iteration deals a random round (2-5 dice each, reroll used or not) and plays one path through it
+// for each side. Along the path the regrets of the side being trained are updated; where the other side
+// acts, its current strategy is added to the average strategy - weighted by the iteration, so the noisy
+// first iterations fade out. The average strategy is what converges - that is what ends up in the policy file.
+//
+// All threads update the same two float tables without locks. Two threads rarely hit the same info set
+// at once and a lost update only costs a little precision, which sampling has anyway.
+//
+// Usage: java -cp liarsdice.jar cfr.CfrTrainer iterations=50000000 threads=8 seed=42 out=liarsdice.cfr
+public final class CfrTrainer {
+
+    //region 🧱 Variables
+
+    private static final double EXPLORATION = 0.6; // <-- so oft probiert die trainierte Seite eine zufällige Aktion
+    private static final int INSTANT_WIN_SCORE = 10; // <-- das ganze Spiel zählt mehr als alle Würfel einer Runde
+    private static final int MAX_DEPTH = MAX_QUANTITY * 6 + 8; // <-- jeder Call ist höher, dazu zwei Rerolls und die Lüge
+
+    private final float[] regrets = new float[INFO_SETS * ACTIONS];
+    private final float[] strategySums = new float[INFO_SETS * ACTIONS];
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    public static void main(String[] args) throws IOException {
+        CfrConfig config = CfrConfig.fromArgs(args);
+
+        long start = System.nanoTime();
+        CfrTrainer trainer = new CfrTrainer();
+        trainer.train(config);
+        CfrPolicy.write(config.output(), trainer.getStrategySums());
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println(trainer.report(config, elapsed));
+    }
+
+    // 📝 Splits the iterations over the threads; every thread gets its own generator, split in order from the seed.
+    public void train(CfrConfig config) {
+        SplittableRandom seedRandom = new SplittableRandom(config.seed());
+        List<Thread> threads = new ArrayList<>(config.threads());
+        for (int t = 0; t < config.threads(); t++) {
+            long iterations = config.iterations() / config.threads() + (t < config.iterations() % config.threads() ? 1 : 0);
+            Walker walker = new Walker(seedRandom.split());
+            threads.add(Thread.ofPlatform().name("cfr-" + t).start(() -> {
+                for (long i = 0; i < iterations; i++) {
+                    walker.iterate();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Training was interrupted.", e);
+            }
+        }
+    }
+
+    public float[] getStrategySums() {
+        return strategySums;
+    }
+
+    // -- Info sets the average strategy has something for
+    public int trainedInfoSets() {
+        int trained = 0;
+        for (int infoSet = 0; infoSet < INFO_SETS; infoSet++) {
+            for (int a = 0; a < ACTIONS; a++) {
+                if (strategySums[infoSet * ACTIONS + a] > 0) {
+                    trained++;
+                    break;
+                }
+            }
+        }
+        return trained;
+    }
+
+    private String report(CfrConfig config, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        long bytes;
+        try {
+            bytes = Files.size(config.output());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return String.format("🧠 %d iterations on %d threads, seed %d%n", config.iterations(), config.threads(), config.seed())
+                + String.format("🗂️ %d of %d info sets trained%n", trainedInfoSets(), INFO_SETS)
+                + String.format("💾 %s, %.1f MB%n", config.output(), bytes / 1024.0 / 1024.0)
+                + String.format("⏱️ %.2f s, %.0f iterations/sec", seconds, config.iterations() / seconds);
+    }
+
+    //endregion
+
+    //region 🚶 Walker
+
+    // 📝 One thread's round: both hands as dice per face, and everything that changes along a path.
+    // Moves are made and taken back in place, so a walk allocates nothing.
+    private final class Walker {
+        private final SplittableRandom random;
+        private final int[][] hands = new int[2][7];
+        private final int[] dice = new int[2];
+        private final int[] reroll = new int[2];
+        private int quantity;
+        private int face;
+        private int toAct;
+
+        private final double[][] strategies = new double[MAX_DEPTH][ACTIONS]; // <-- pro Tiefe, überlebt den Abstieg
+        private final int[][] savedHands = new int[MAX_DEPTH][7]; // <-- Hand vor einem Reroll
+        private long iteration; // <-- spätere Iterationen zählen mehr in der Durchschnittsstrategie
+        private double tail; // <-- zweiter Rückgabewert von walk(): Wahrscheinlichkeit des restlichen Pfads
+
+        Walker(SplittableRandom random) {
+            this.random = random;
+        }
+
+        void iterate() {
+            iteration++;
+            for (int traverser = 0; traverser < 2; traverser++) {
+                deal();
+                walk(traverser, 0, 1, 1);
+            }
+        }
+
+        private void deal() {
+            for (int p = 0; p < 2; p++) {
+                dice[p] = MIN_DICE + random.nextInt(MAX_DICE - MIN_DICE + 1);
+                reroll[p] = random.nextBoolean() ? CAN_REROLL : REROLL_USED;
+                Arrays.fill(hands[p], 0);
+                for (int i = 0; i < dice[p]; i++) {
+                    hands[p][1 + random.nextInt(6)]++;
+                }
+            }
+            quantity = 0;
+            face = 0;
+            toAct = 0;
+        }
+
+        // 📝 Outcome sampling: returns the sampled utility for the traverser (divided by the sampling
+        // probability of the whole path) and leaves the tail probability in `tail`.
+        private double walk(int traverser, int depth, double otherReach, double sampleReach) {
+            int player = toAct;
+            int total = dice[0] + dice[1];
+            int infoSet = CfrPolicy.infoSet(hands[player], dice[1 - player], quantity, face, reroll[player]);
+            int first = infoSet * ACTIONS;
+
+            // 📝 Regret matching: play every legal action in proportion to its positive regret.
+            double[] strategy = strategies[depth];
+            double positive = 0;
+            int legal = 0;
+            for (int a = 0; a < ACTIONS; a++) {
+                if (CfrPolicy.isLegal(a, quantity, face, total, reroll[player])) {
+                    strategy[a] = Math.max(0, regrets[first + a]);
+                    positive += strategy[a];
+                    legal++;
+                } else {
+                    strategy[a] = -1; // <-- nicht erlaubt
+                }
+            }
+            for (int a = 0; a < ACTIONS; a++) {
+                if (strategy[a] >= 0) {
+                    strategy[a] = positive > 0 ? strategy[a] / positive : 1.0 / legal;
+                }
+            }
+
+            // 📝 The traverser explores, the other side plays its strategy.
+            boolean training = player == traverser;
+            int action = -1;
+            double sampleProbability = 0;
+            double pick = random.nextDouble();
+            for (int a = 0; a < ACTIONS; a++) {
+                if (strategy[a] < 0) {
+                    continue;
+                }
+                double p = training ? EXPLORATION / legal + (1 - EXPLORATION) * strategy[a] : strategy[a];
+                action = a;
+                sampleProbability = p;
+                pick -= p;
+                if (pick < 0) {
+                    break;
+                }
+            }
+
+            double chosen = strategy[action];
+            double childSampleReach = sampleReach * sampleProbability;
+            double utility;
+            if (action == LIE) {
+                utility = payoff(traverser, player) / childSampleReach;
+                tail = 1;
+            } else {
+                utility = play(action, player, traverser, depth,
+                        training ? otherReach : otherReach * chosen, childSampleReach);
+            }
+
+            if (training) {
+                double weighted = utility * otherReach * tail;
+                for (int a = 0; a < ACTIONS; a++) {
+                    if (strategy[a] >= 0) {
+                        regrets[first + a] += (float) (a == action ? weighted * (1 - chosen) : -weighted * chosen);
+                    }
+                }
+            } else {
+                double weight = iteration * otherReach / sampleReach;
+                for (int a = 0; a < ACTIONS; a++) {
+                    if (strategy[a] > 0) {
+                        strategySums[first + a] += (float) (weight * strategy[a]);
+                    }
+                }
+            }
+            tail *= chosen;
+            return utility;
+        }
+
+        // -- Makes the move, walks on and takes the move back
+        private double play(int action, int player, int traverser, int depth, double otherReach, double sampleReach) {
+            int[] hand = hands[player];
+            int rerollBefore = reroll[player];
+            double utility;
+            if (action == REROLL) {
+                int[] before = savedHands[depth];
+                System.arraycopy(hand, 0, before, 0, 7);
+                rerollLowest(hand);
+                reroll[player] = JUST_REROLLED;
+                utility = walk(traverser, depth + 1, otherReach, sampleReach); // <-- gleicher Spieler callt
+                System.arraycopy(before, 0, hand, 0, 7);
+            } else {
+                int quantityBefore = quantity;
+                int faceBefore = face;
+                quantity = CfrPolicy.quantityOf(action, quantityBefore, faceBefore);
+                face = CfrPolicy.faceOf(action);
+                if (rerollBefore == JUST_REROLLED) {
+                    reroll[player] = REROLL_USED;
+                }
+                toAct = 1 - player;
+                utility = walk(traverser, depth + 1, otherReach, sampleReach);
+                toAct = player;
+                quantity = quantityBefore;
+                face = faceBefore;
+            }
+            reroll[player] = rerollBefore;
+            return utility;
+        }
+
+        // 📝 Same dice as BotPlayer.chooseDiceToReroll: up to two of the lowest face.
+        private void rerollLowest(int[] hand) {
+            int lowest = 1;
+            while (hand[lowest] == 0) {
+                lowest++;
+            }
+            int count = Math.min(2, hand[lowest]);
+            hand[lowest] -= count;
+            for (int i = 0; i < count; i++) {
+                hand[1 + random.nextInt(6)]++;
+            }
+        }
+
+        // -- Dice balance for the traverser when `challenger` calls lie on the other player's call
+        private int payoff(int traverser, int challenger) {
+            int actual = hands[0][face] + hands[1][face];
+            int callerScore;
+            if (quantity == dice[0] + dice[1] && face == 6 && actual == quantity) {
+                callerScore = INSTANT_WIN_SCORE;
+            } else if (actual >= quantity) {
+                callerScore = 1;
+            } else {
+                callerScore = -2;
+            }
+            return traverser == challenger ? -callerScore : callerScore;
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,135 @@
+package cluster;
+
+import log.Log;
+import log.Logger;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import telegram.MyGameBot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public final class Cluster implements AutoCloseable {
+
+    // 📝 A sharded deployment inside one JVM: N ClusterNodes (each a full MyGameBot with its own sessions,
+    // journal and outbound queue), a LocalBroker as the network between them and a round-robin load
+    // balancer in front. Lets tests and the load generator run a multi-node cluster on one machine.
+    //
+    // addNode/removeNode change the membership while updates keep coming: first every node switches to
+    // the new ring, then every node hands off the games it lost (see ClusterNode).
+
+    //region 🧱 Variables
+
+    private static final Logger LOG = Log.get(Cluster.class);
+
+    private final LocalBroker broker = new LocalBroker();
+    private final Function<String, MyGameBot> botFactory; // <-- Knoten-ID → Bot mit eigenen Verzeichnissen
+    private final Map<String, ClusterNode> nodes = new LinkedHashMap<>(); // <-- nur unter dem Lock von this
+
+    private volatile ClusterNode[] entries = new ClusterNode[0]; // <-- hier kommen die Updates von außen an
+    private final AtomicInteger nextEntry = new AtomicInteger();
+    private volatile HashRing ring = HashRing.of(List.of());
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public Cluster(Function<String, MyGameBot> botFactory) {
+        this.botFactory = botFactory;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 Load balancer: every update goes to the next node in turn, no matter which chat it is for.
+    public void onUpdateReceived(Update update) {
+        ClusterNode[] current = entries;
+        if (current.length == 0) {
+            throw new IllegalStateException("The cluster has no nodes.");
+        }
+        current[Math.floorMod(nextEntry.getAndIncrement(), current.length)].onUpdateReceived(update);
+    }
+
+    public synchronized ClusterNode addNode(String nodeId) {
+        if (nodes.containsKey(nodeId)) {
+            throw new IllegalArgumentException("Node " + nodeId + " is already in the cluster.");
+        }
+        ClusterNode node = new ClusterNode(nodeId, botFactory.apply(nodeId), broker, ring);
+        broker.register(nodeId, node::receive);
+        nodes.put(nodeId, node);
+        rebalance(ring.with(nodeId));
+        return node;
+    }
+
+    // 📝 The node hands off all its games before it shuts down.
+    public synchronized void removeNode(String nodeId) {
+        ClusterNode node = nodes.get(nodeId);
+        if (node == null) {
+            throw new IllegalArgumentException("No node " + nodeId + " in the cluster.");
+        }
+        if (nodes.size() == 1) {
+            throw new IllegalStateException("The last node can't leave, its games would have nowhere to go.");
+        }
+        rebalance(ring.without(nodeId));
+        nodes.remove(nodeId);
+        broker.unregister(nodeId);
+        node.close();
+    }
+
+    private void rebalance(HashRing next) {
+        long started = System.nanoTime();
+        ring = next;
+        for (ClusterNode node : nodes.values()) {
+            node.beginRebalance(next);
+        }
+        entries = nodesOf(next);
+        for (ClusterNode node : nodes.values()) {
+            node.handOffSessions();
+        }
+        LOG.info("🔀 Cluster rebalanced", "nodes", next.nodes().size(),
+                "millis", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private ClusterNode[] nodesOf(HashRing next) {
+        List<ClusterNode> members = new ArrayList<>();
+        for (String nodeId : next.nodes()) {
+            members.add(nodes.get(nodeId));
+        }
+        return members.toArray(new ClusterNode[0]);
+    }
+
+    @Override
+    public synchronized void close() {
+        entries = new ClusterNode[0];
+        for (ClusterNode node : nodes.values()) {
+            node.close();
+        }
+        nodes.clear();
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    public synchronized ClusterNode getNode(String nodeId) {
+        return nodes.get(nodeId);
+    }
+
+    public synchronized List<ClusterNode> getNodes() {
+        return List.copyOf(nodes.values());
+    }
+
+    public HashRing getRing() {
+        return ring;
+    }
+
+    public LocalBroker getBroker() {
+        return broker;
+    }
+
+    //endregion
+}
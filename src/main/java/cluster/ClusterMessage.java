@@ -0,0 +1,19 @@
+package cluster;
+
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+// 📝 What nodes send each other - over a ClusterTransport, in the order they were sent.
+public sealed interface ClusterMessage {
+
+    // -- An update for a chat the receiving node owns
+    record ForwardedUpdate(Update update, int hops) implements ClusterMessage {
+    }
+
+    // -- A running game that moves to the receiving node (GameStateIO format)
+    record SessionHandoff(long chatId, byte[] state) implements ClusterMessage {
+    }
+
+    // -- The sender has handed off everything it had to hand off after a membership change
+    record HandoffDone(String from) implements ClusterMessage {
+    }
+}
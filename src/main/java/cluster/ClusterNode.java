@@ -0,0 +1,228 @@
+package cluster;
+
+import cluster.ClusterMessage.ForwardedUpdate;
+import cluster.ClusterMessage.HandoffDone;
+import cluster.ClusterMessage.SessionHandoff;
+import log.Log;
+import log.Logger;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import telegram.MyGameBot;
+import telegram.SessionRegistry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class ClusterNode implements AutoCloseable {
+
+    // 📝 One bot of a sharded deployment. Every node holds only the games of the chats it owns on the
+    // HashRing; an update that comes in at the wrong node (load balancer, poller) is forwarded to the owner.
+    //
+    // 📝 Membership change (see Cluster): all nodes switch to the new ring at once, then every node hands the
+    // games it no longer owns to their new owners and tells every other node it is done (HandoffDone).
+    // Until a node has heard that from a chat's previous owner, updates for that chat wait here - otherwise
+    // they could overtake their own game and find nothing. The transport keeps each sender's order, so the
+    // games of a handoff always arrive before its HandoffDone.
+    //
+    // Lobbies and /lang choices stay behind, like after a restart. An update that was already queued in the old
+    // owner's dispatcher when its game moved is sent on to the new owner when its turn comes (MyGameBot checks
+    // the ownership under the chat's lock, the same lock handOff takes).
+
+    //region 🧱 Variables
+
+    private static final Logger LOG = Log.get(ClusterNode.class);
+
+    private static final int MAX_HOPS = 2; // <-- danach verarbeitet der Knoten selbst, statt weiterzureichen
+
+    private final String id;
+    private final MyGameBot bot;
+    private final ClusterTransport transport;
+
+    private volatile HashRing ring;
+    private HashRing previousRing;                                // <-- Ring vor dem Wechsel, solange noch Übergaben fehlen
+    private final Set<String> awaitedHandoffs = new HashSet<>();  // <-- Knoten, deren HandoffDone noch fehlt
+    private final List<Update> held = new ArrayList<>();          // <-- Updates, die auf ihr Spiel warten
+    private final Set<Update> kept = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>())); // <-- trotz fremdem Besitzer hier (schwach: /help & Co. fragen nie nach)
+
+    private final LongAdder forwarded = new LongAdder();
+    private final LongAdder sessionsIn = new LongAdder();
+    private final LongAdder sessionsOut = new LongAdder();
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public ClusterNode(String id, MyGameBot bot, ClusterTransport transport, HashRing ring) {
+        this.id = id;
+        this.bot = bot;
+        this.transport = transport;
+        this.ring = ring;
+        bot.setChatOwnership(new MyGameBot.ChatOwnership() {
+            @Override
+            public boolean owns(Update update) {
+                if (kept.remove(update)) {
+                    return true; // <-- nach MAX_HOPS hier angenommen, nicht zurückschicken
+                }
+                String owner = ClusterNode.this.ring.ownerOf(update.getMessage().getChatId());
+                return owner == null || owner.equals(id);
+            }
+
+            @Override
+            public void redirect(Update update) {
+                forward(update);
+            }
+        });
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 Entry point for updates from outside (poller, webhook, load balancer) - same as MyGameBot's.
+    public void onUpdateReceived(Update update) {
+        route(update, 0);
+    }
+
+    // 📝 Inbox for the transport.
+    public void receive(ClusterMessage message) {
+        switch (message) {
+            case ForwardedUpdate forward -> route(forward.update(), forward.hops());
+            case SessionHandoff handoff -> {
+                if (bot.getSessions().takeOver(handoff.chatId(), handoff.state()) != null) {
+                    sessionsIn.increment();
+                } else {
+                    LOG.warn("⚠️ Handed off game refused, the chat already has one here", "node", id, "chat", handoff.chatId());
+                }
+            }
+            case HandoffDone done -> release(done.from());
+        }
+    }
+
+    private void route(Update update, int hops) {
+        if (!update.hasMessage()) {
+            return; // <-- MyGameBot kann damit eh nichts anfangen
+        }
+        long chatId = update.getMessage().getChatId();
+        String owner;
+        synchronized (this) { // <-- Ring und Übergaben passen so zusammen, beginRebalance kann nicht dazwischen
+            owner = ring.ownerOf(chatId);
+            if (owner == null || owner.equals(id) || hops >= MAX_HOPS) {
+                if (previousRing != null && awaitedHandoffs.contains(previousRing.ownerOf(chatId))) {
+                    held.add(update); // <-- das Spiel ist noch unterwegs
+                } else {
+                    if (owner != null && !owner.equals(id)) {
+                        kept.add(update);
+                    }
+                    bot.onUpdateReceived(update); // <-- stellt nur in den Dispatcher
+                }
+                return;
+            }
+        }
+        forwarded.increment();
+        transport.send(owner, new ForwardedUpdate(update, hops + 1)); // <-- außerhalb des Locks, der Empfänger nimmt seinen
+    }
+
+    // -- An update this node's bot took in before its chat moved: straight to the owner, who takes it in any case
+    private void forward(Update update) {
+        String owner = ring.ownerOf(update.getMessage().getChatId());
+        forwarded.increment();
+        transport.send(owner, new ForwardedUpdate(update, MAX_HOPS));
+    }
+
+    // 📝 Step 1 of a membership change: route with the new ring, hold updates for chats that are still moving here.
+    synchronized void beginRebalance(HashRing next) {
+        previousRing = ring;
+        ring = next;
+        awaitedHandoffs.clear();
+        for (String node : previousRing.nodes()) {
+            if (!node.equals(id)) {
+                awaitedHandoffs.add(node);
+            }
+        }
+        if (awaitedHandoffs.isEmpty()) {
+            previousRing = null;
+        }
+    }
+
+    // 📝 Step 2: send every game this node no longer owns to its new owner, then tell the others.
+    void handOffSessions() {
+        HashRing current = ring;
+        SessionRegistry sessions = bot.getSessions();
+        for (long chatId : sessions.chatIds()) {
+            String owner = current.ownerOf(chatId);
+            if (owner == null || owner.equals(id)) {
+                continue;
+            }
+            byte[] state = sessions.handOff(chatId);
+            if (state != null) {
+                transport.send(owner, new SessionHandoff(chatId, state));
+                sessionsOut.increment();
+            }
+        }
+        for (String node : current.nodes()) {
+            if (!node.equals(id)) {
+                transport.send(node, new HandoffDone(id));
+            }
+        }
+    }
+
+    // -- A previous owner is done: its chats' updates go on, in the order they came
+    private synchronized void release(String from) {
+        if (!awaitedHandoffs.remove(from) || previousRing == null) {
+            return;
+        }
+        int released = 0;
+        for (Iterator<Update> it = held.iterator(); it.hasNext(); ) {
+            Update update = it.next();
+            if (previousRing.ownerOf(update.getMessage().getChatId()).equals(from)) {
+                bot.onUpdateReceived(update); // <-- stellt nur in den Dispatcher, unter dem Lock, damit nichts überholt
+                it.remove();
+                released++;
+            }
+        }
+        if (awaitedHandoffs.isEmpty()) {
+            previousRing = null;
+        }
+        LOG.debug("🔀 Handoff done", "node", id, "from", from, "released", released);
+    }
+
+    @Override
+    public void close() {
+        bot.onClosing();
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    public String getId() {
+        return id;
+    }
+
+    public MyGameBot getBot() {
+        return bot;
+    }
+
+    public HashRing getRing() {
+        return ring;
+    }
+
+    public long getForwarded() {
+        return forwarded.sum();
+    }
+
+    public long getSessionsIn() {
+        return sessionsIn.sum();
+    }
+
+    public long getSessionsOut() {
+        return sessionsOut.sum();
+    }
+
+    //endregion
+}
@@ -0,0 +1,10 @@
+package cluster;
+
+// 📝 Delivers messages between the nodes of a cluster. Between two nodes, messages arrive in the order
+// they were sent - ClusterNode relies on that (the sessions of a handoff before its HandoffDone).
+// LocalBroker delivers in-process; a network transport would plug in here.
+@FunctionalInterface
+public interface ClusterTransport {
+
+    void send(String nodeId, ClusterMessage message);
+}
@@ -0,0 +1,116 @@
+package cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+public final class HashRing {
+
+    // 📝 Consistent hashing: which node owns which chat. Every node puts VIRTUAL_NODES points on a ring of
+    // 64-bit hashes, a chat belongs to the first point at or after its own hash. A node that joins only takes
+    // the chats between its points and their predecessors - about 1/n of all, and only from the others,
+    // nothing moves between the nodes that stay. A node that leaves gives its chats to its successors.
+    //
+    // Immutable: a membership change builds a new ring (with/without), readers never lock.
+    // The points are two sorted arrays, a lookup is one binary search.
+
+    //region 🧱 Variables
+
+    public static final int VIRTUAL_NODES = 128; // <-- mehr Punkte = gleichmäßiger verteilt, größerer Ring
+
+    private final String[] nodes;  // <-- sortiert, damit jeder Knoten denselben Ring baut
+    private final long[] points;   // <-- sortiert
+    private final int[] owners;    // <-- owners[i] = Index in nodes für points[i]
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    private HashRing(String[] nodes) {
+        this.nodes = nodes;
+        int count = nodes.length * VIRTUAL_NODES;
+        long[] unsorted = new long[count];
+        for (int n = 0; n < nodes.length; n++) {
+            for (int v = 0; v < VIRTUAL_NODES; v++) {
+                unsorted[n * VIRTUAL_NODES + v] = pointOf(nodes[n], v);
+            }
+        }
+        // 📝 Sort the points and carry the owner along: sort indices by point.
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(unsorted[a], unsorted[b]));
+        this.points = new long[count];
+        this.owners = new int[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = unsorted[order[i]];
+            owners[i] = order[i] / VIRTUAL_NODES;
+        }
+    }
+
+    public static HashRing of(Collection<String> nodeIds) {
+        return new HashRing(new TreeSet<>(nodeIds).toArray(new String[0]));
+    }
+
+    public HashRing with(String nodeId) {
+        List<String> next = new ArrayList<>(nodes());
+        next.add(nodeId);
+        return of(next);
+    }
+
+    public HashRing without(String nodeId) {
+        List<String> next = new ArrayList<>(nodes());
+        next.remove(nodeId);
+        return of(next);
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // -- The node that owns the chat, null if the ring has no nodes
+    public String ownerOf(long chatId) {
+        if (points.length == 0) {
+            return null;
+        }
+        int i = Arrays.binarySearch(points, mix(chatId));
+        if (i < 0) {
+            i = -i - 1; // <-- Einfügestelle = erster Punkt danach
+        }
+        return nodes[owners[i == points.length ? 0 : i]]; // <-- hinter dem letzten Punkt geht es vorne weiter
+    }
+
+    public boolean contains(String nodeId) {
+        return Arrays.binarySearch(nodes, nodeId) >= 0;
+    }
+
+    public List<String> nodes() {
+        return List.of(nodes);
+    }
+
+    public boolean isEmpty() {
+        return nodes.length == 0;
+    }
+
+    // -- FNV-1a over the node ID, then mixed with the replica number
+    private static long pointOf(String nodeId, int replica) {
+        long hash = 0xCBF2_9CE4_8422_2325L;
+        for (int i = 0; i < nodeId.length(); i++) {
+            hash ^= nodeId.charAt(i);
+            hash *= 0x100_0000_01B3L;
+        }
+        return mix(hash + replica * 0x9E37_79B9_7F4A_7C15L);
+    }
+
+    // 📝 Chat IDs count up - mixed, neighbours land far apart on the ring (same mix as SplittableRandom).
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    //endregion
+}
@@ -0,0 +1,137 @@
+package game;
+
+public final class BinomialTailTable {
+
+    // 📝 Precomputed P(X ≥ k) for X ~ Binomial(n, p) - "how likely is it that at least k of n unknown
+    // dice show the face we need". Every row is built from the one before:
+    //     P_n(X ≥ k) = P_{n-1}(X ≥ k) * (1 - p) + P_{n-1}(X ≥ k - 1) * p
+    // No factorials, so nothing overflows and the precision holds for big tables.
+    // Once built a table never changes, so all bots on all threads can share it.
+
+    //region 🧱 Variables
+
+    public static final int DEFAULT_MAX_DICE = 1000;
+
+    // 📝 Largest n the shared tables cover, e.g. -Dliarsdice.probability.maxDice=2000
+    private static final int sharedMaxDice = Integer.getInteger("liarsdice.probability.maxDice", DEFAULT_MAX_DICE);
+
+    private final double p;
+    private final int maxDice;
+    private final double[] tails; // <-- row n starts at n * (n + 1) / 2 and holds k = 0..n
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public BinomialTailTable(double p, int maxDice) {
+        if (p <= 0.0 || p >= 1.0) {
+            throw new IllegalArgumentException("Probability must be between 0 and 1.");
+        }
+        if (maxDice < 0) {
+            throw new IllegalArgumentException("Max dice must not be negative.");
+        }
+        this.p = p;
+        this.maxDice = maxDice;
+        this.tails = new double[rowStart(maxDice + 1)];
+
+        tails[0] = 1.0;
+        for (int n = 1; n <= maxDice; n++) {
+            int row = rowStart(n);
+            int previousRow = rowStart(n - 1);
+
+            tails[row] = 1.0;
+            for (int k = 1; k <= n; k++) {
+                double previousK = k <= n - 1 ? tails[previousRow + k] : 0.0;
+                tails[row + k] = previousK * (1 - p) + tails[previousRow + k - 1] * p;
+            }
+        }
+    }
+
+    //endregion
+
+    //region 🏭 Shared Tables
+
+    // 📝 Holder classes: a table is only built the first time it is asked for, and the JVM makes sure that happens once.
+    private static final class OneInSix {
+        private static final BinomialTailTable TABLE = new BinomialTailTable(1.0 / 6.0, sharedMaxDice);
+    }
+
+    private static final class OneInThree {
+        private static final BinomialTailTable TABLE = new BinomialTailTable(1.0 / 3.0, sharedMaxDice);
+    }
+
+    // -- One face out of six, the normal rules
+    public static BinomialTailTable oneInSix() {
+        return OneInSix.TABLE;
+    }
+
+    // -- The face or a wild one, for rules where ones count for every face
+    public static BinomialTailTable oneInThree() {
+        return OneInThree.TABLE;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 Probability that at least k of n dice show the face. O(1) inside the table.
+    public double atLeast(int n, int k) {
+        if (k <= 0) {
+            return 1.0;
+        }
+        if (k > n) {
+            return 0.0;
+        }
+        if (n > maxDice) {
+            return computeAtLeast(n, k);
+        }
+        return tails[rowStart(n) + k];
+    }
+
+    public int getMaxDice() {
+        return maxDice;
+    }
+
+    public double getProbability() {
+        return p;
+    }
+
+    private static int rowStart(int n) {
+        return n * (n + 1) / 2;
+    }
+
+    // 📝 Fallback for tables bigger than maxDice, O(n). The terms are summed on the side of k that is
+    // further from the mean, where they only get smaller, and the first term is calculated with
+    // logarithms so it doesn't overflow like factorials would.
+    private double computeAtLeast(int n, int k) {
+        double ratio = p / (1 - p);
+
+        if (k > n * p) {
+            double term = Math.exp(logProbabilityOfExactly(n, k));
+            double sum = 0.0;
+            for (int i = k; i <= n && term > 0.0; i++) {
+                sum += term;
+                term *= (double) (n - i) / (i + 1) * ratio;
+            }
+            return Math.min(1.0, sum);
+        }
+
+        double term = Math.exp(logProbabilityOfExactly(n, k - 1));
+        double below = 0.0;
+        for (int i = k - 1; i >= 0 && term > 0.0; i--) {
+            below += term;
+            term *= (double) i / (n - i + 1) / ratio;
+        }
+        return Math.max(0.0, 1.0 - below);
+    }
+
+    private double logProbabilityOfExactly(int n, int k) {
+        double logTerm = k * Math.log(p) + (n - k) * Math.log(1 - p);
+        for (int i = 0; i < k; i++) {
+            logTerm += Math.log(n - i) - Math.log(i + 1);
+        }
+        return logTerm;
+    }
+
+    //endregion
+}
@@ -0,0 +1,173 @@
+package game;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+public final class BotDecisionCache<V> {
+
+    // 📝 Remembers what a bot decided in a situation, shared by all bots of the process. A situation is
+    // packed into one long (own dice per face, the call on the table, dice in the game - see
+    // MonteCarloBotPlayer), what was found out about it is the value (for the search bot: the scores of its
+    // options). Thousands of games run into the same few thousand situations, so most bot turns become one
+    // lookup instead of a search. Values are shared between threads and must not change once they are stored.
+    //
+    // The table is open addressing over plain arrays: a key picks a bucket of WAYS slots and is
+    // looked for only there. When the bucket is full, a clock hand walks over its slots and evicts the
+    // first one that wasn't used since the hand last passed - recently used decisions stay, no list to keep
+    // in order. The buckets are guarded by striped locks, so bots of different games rarely wait on each other.
+
+    //region 🧱 Variables
+
+    private static final int WAYS = 8;
+    private static final int STRIPES = 64;
+
+    private final long[] keys;      // <-- 0 = leerer Platz, Schlüssel sind nie 0
+    private final Object[] values;
+    private final boolean[] referenced;
+    private final byte[] hands;     // <-- Uhrzeiger pro Bucket
+    private final Object[] locks = new Object[STRIPES];
+    private final int bucketMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder partialHits = new LongAdder(); // <-- gefunden, reichte aber nicht - der Bot sucht trotzdem
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    // -- Holds at least the given number of decisions (rounded up to a power of two)
+    public BotDecisionCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A decision cache needs room for at least one entry.");
+        }
+        int needed = (capacity + WAYS - 1) / WAYS;
+        int buckets = needed <= 1 ? 1 : Integer.highestOneBit(needed - 1) << 1;
+        this.keys = new long[buckets * WAYS];
+        this.values = new Object[buckets * WAYS];
+        this.referenced = new boolean[buckets * WAYS];
+        this.hands = new byte[buckets];
+        this.bucketMask = buckets - 1;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // -- The decision stored for the key, null if there is none
+    public V get(long key) {
+        return get(key, value -> true);
+    }
+
+    // 📝 Like get(key), but a stored value that doesn't answer the question on its own (complete says no)
+    // counts as a partial hit, not a hit - the caller still has to work for it.
+    @SuppressWarnings("unchecked")
+    public V get(long key, Predicate<? super V> complete) {
+        int bucket = bucketOf(key);
+        int first = bucket * WAYS;
+        V value = null;
+        synchronized (locks[bucket & (STRIPES - 1)]) {
+            for (int slot = first; slot < first + WAYS; slot++) {
+                if (keys[slot] == key) {
+                    referenced[slot] = true;
+                    value = (V) values[slot];
+                    break;
+                }
+            }
+        }
+        if (value == null) {
+            misses.increment();
+        } else if (complete.test(value)) {
+            hits.increment();
+        } else {
+            partialHits.increment();
+        }
+        return value;
+    }
+
+    // 📝 Stores the decision. An existing entry is overwritten.
+    public void put(long key, V value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 marks an empty slot.");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("null marks a missing decision.");
+        }
+        int bucket = bucketOf(key);
+        int first = bucket * WAYS;
+        synchronized (locks[bucket & (STRIPES - 1)]) {
+            int free = -1;
+            for (int slot = first; slot < first + WAYS; slot++) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    referenced[slot] = true;
+                    return;
+                }
+                if (free < 0 && keys[slot] == 0) {
+                    free = slot;
+                }
+            }
+            if (free < 0) {
+                free = evict(bucket);
+            }
+            keys[free] = key;
+            values[free] = value;
+            referenced[free] = false; // <-- erst ein Treffer zählt als Benutzung
+        }
+    }
+
+    // -- Clock: clears the reference bits until it finds a slot that wasn't used since the last pass
+    private int evict(int bucket) {
+        int first = bucket * WAYS;
+        int hand = hands[bucket];
+        while (referenced[first + hand]) {
+            referenced[first + hand] = false;
+            hand = (hand + 1) % WAYS;
+        }
+        hands[bucket] = (byte) ((hand + 1) % WAYS);
+        evictions.increment();
+        return first + hand;
+    }
+
+    private int bucketOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & bucketMask;
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getPartialHits() {
+        return partialHits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    // -- Share of lookups answered by the stored decision alone (0 before the first lookup)
+    public double getHitRate() {
+        long hit = hits.sum();
+        long total = hit + partialHits.sum() + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    //endregion
+}
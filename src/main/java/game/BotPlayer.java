@@ -1,19 +1,34 @@
 package game;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class BotPlayer extends Player {
 
     //region 🧱 Variables
-    private Random random;
+    private final RandomGenerator random;
+    private final BotTuning tuning;
+    private final Command call = new Command(); // <-- der Zug des Bots, wird für jeden Zug wiederverwendet
+    private int playerCount = 2; // <-- wie viele noch am Tisch sitzen, setzt der Spielablauf vor jedem Zug
 
     //endregion
 
 
     //region 🛠️ Constructor
     public BotPlayer(String name, int startingDice) {
-        super(name, startingDice);
-        this.random = new Random();
+        this(name, startingDice, DiceSource.shared(), BotTuning.DEFAULT);
+    }
+
+    // 📝 Simulations hand in their own generator (one per worker) and tuning.
+    public BotPlayer(String name, int startingDice, RandomGenerator random, BotTuning tuning) {
+        this(name, startingDice, DiceSource.of(random), tuning);
+    }
+
+    // 📝 Dice and bluffing decisions come from the same source - a seeded source makes the whole bot reproducible.
+    public BotPlayer(String name, int startingDice, DiceSource diceSource, BotTuning tuning) {
+        super(name, startingDice, diceSource);
+        this.random = diceSource.generator();
+        this.tuning = tuning;
     }
     //endregion
 
@@ -43,18 +58,19 @@ public class BotPlayer extends Player {
         );
 
         // 📝 Entscheidung auf Basis der Wahrscheinlichkeit:
-        if (probabilityOtherHasEnough >= 0.7) {
+        // 📝 Die Schwellen stehen in BotTuning (Standard: 0.7 / 0.4 / 0.2).
+        if (probabilityOtherHasEnough >= tuning.likelyTrue()) {
             // 📝 Sehr wahrscheinlich wahr → niemals Lüge rufen.
             return false;
-        } else if (probabilityOtherHasEnough >= 0.4) {
+        } else if (probabilityOtherHasEnough >= tuning.maybeTrue()) {
             // 📝 Könnte wahr sein → selten Lüge rufen (10 %).
-            return random.nextDouble() < 0.10;
-        } else if (probabilityOtherHasEnough >= 0.2) {
+            return random.nextDouble() < tuning.maybeTrueLieRate();
+        } else if (probabilityOtherHasEnough >= tuning.suspicious()) {
             // 📝 Verdächtig → manchmal Lüge rufen (30 %).
-            return random.nextDouble() < 0.30;
+            return random.nextDouble() < tuning.suspiciousLieRate();
         } else {
             // 📝 Extrem unwahrscheinlich → oft Lüge rufen (60 %).
-            return random.nextDouble() < 0.60;
+            return random.nextDouble() < tuning.unlikelyLieRate();
         }
     }
 
@@ -62,42 +78,49 @@ public class BotPlayer extends Player {
         if (hasUsedReroll()){
             return false;
         }
-        return random.nextDouble() < 0.10;
+        return random.nextDouble() < tuning.rerollChance();
     }
 
     //📝 What dice the Bot wants to reroll
     public List<Integer> chooseDiceToReroll(){
-        List<Integer> currentDice = revealDice();
-        List<Integer> indices = new ArrayList<>();
-        int minValue = Collections.min(currentDice);
+        int minValue = lowestFace();
 
-        for (int i = 0; i < currentDice.size(); i++) {
-            if (currentDice.get(i) == 1 || currentDice.get(i) == minValue) {
+        // Only reroll max 2 dice, but don't exceed available dice
+        int maxAllowed = Math.min(2, getDiceCount());
+        List<Integer> indices = new ArrayList<>(maxAllowed);
+
+        for (int i = 0; i < getDiceCount() && indices.size() < maxAllowed; i++) {
+            int die = getDie(i);
+            if (die == 1 || die == minValue) {
                 indices.add(i);
             }
         }
+        return indices;
+    }
 
-        // Only reroll max 2 dice, but don't exceed available dice
-        int maxAllowed = Math.min(2, currentDice.size());
-        return indices.size() > maxAllowed
-                ? indices.subList(0, maxAllowed)
-                : indices;
+    // 📝 How many players are still in the game - callers set it before asking the bot for its turn.
+    // Until then the bot assumes a 1-on-1 game.
+    public void setPlayerCount(int playerCount) {
+        this.playerCount = playerCount;
     }
 
-    //📝 We decide the call the bot should do.
+    public int getPlayerCount() {
+        return playerCount;
+    }
 
-    public String decideNextCall(int currentQuantity, int currentFace, int totalDice) {
-        List<Integer> dice = revealDice();
+    //📝 We decide the call the bot should do: CALL with quantity × face, or LIE if nothing higher is left.
+    // The Command belongs to the bot and is overwritten by its next call - read it right away.
 
-        double bluffChance = 0.25 + Math.random() * 0.1;
-        boolean willBluff = Math.random() < bluffChance;
+    public Command decideNextCall(int currentQuantity, int currentFace, int totalDice) {
+        double bluffChance = getLieChance();
+        boolean willBluff = random.nextDouble() < bluffChance;
 
         int quantity;
         int faceValue;
 
+        // 📝 Max call on the table - nothing is higher, so the bot must call lie.
         if (currentQuantity >= totalDice && currentFace == 6) {
-            System.out.println("🤖 Bot detects max call - must call lie!");
-            return "lie";
+            return lie();
         }
 
         if (willBluff && currentQuantity > 0) {
@@ -107,18 +130,16 @@ public class BotPlayer extends Player {
             // Choose a face value that the bot has 0 of
             List<Integer> possibleFaces = new ArrayList<>();
             for (int face = 1; face <= 6; face++) {
-                if (!dice.contains(face)) {
+                if (countOf(face) == 0) {
                     possibleFaces.add(face);
                 }
             }
 
             if (!possibleFaces.isEmpty()) {
-                faceValue = possibleFaces.get(
-                        (int) (Math.random() * possibleFaces.size())
-                );
+                faceValue = possibleFaces.get(random.nextInt(possibleFaces.size()));
             } else {
                 // No impossible faces found → pick random anyway
-                faceValue = 1 + (int) (Math.random() * 6);
+                faceValue = 1 + random.nextInt(6);
             }
 
             // Choose quantity just barely higher than current
@@ -129,19 +150,14 @@ public class BotPlayer extends Player {
                 quantity = totalDice;
             }
         } else {
-            // Normal logic (non-bluff)
-            Map<Integer, Integer> counts = new HashMap<>();
-            for (int val : dice) {
-                counts.put(val, counts.getOrDefault(val, 0) + 1);
-            }
-
-            int mostCommonFace = dice.get(0);
-            int maxCount = counts.getOrDefault(mostCommonFace, 1);
+            // Normal logic (non-bluff) - the cup already keeps a count per face
+            int mostCommonFace = getDie(0);
+            int maxCount = Math.max(1, countOf(mostCommonFace));
 
-            for (var entry : counts.entrySet()) {
-                if (entry.getValue() > maxCount) {
-                    mostCommonFace = entry.getKey();
-                    maxCount = entry.getValue();
+            for (int face = 1; face <= 6; face++) {
+                if (countOf(face) > maxCount) {
+                    mostCommonFace = face;
+                    maxCount = countOf(face);
                 }
             }
 
@@ -153,7 +169,20 @@ public class BotPlayer extends Player {
             }
         }
 
-        return quantity + " " + faceValue;
+        return call(quantity, faceValue);
+    }
+
+    // -- The bot's answer for decideNextCall (also for the subclasses)
+    protected final Command call(int quantity, int faceValue) {
+        call.reset();
+        call.setCall(quantity, faceValue);
+        return call;
+    }
+
+    protected final Command lie() {
+        call.reset();
+        call.set(Command.Type.LIE);
+        return call;
     }
 
     //endregion
@@ -162,69 +191,38 @@ public class BotPlayer extends Player {
     // 📝 Berechnet die kumulierte Wahrscheinlichkeit, dass unter den unbekannten Würfeln
     // mindestens die benötigte Anzahl eines bestimmten Wertes vorkommt.
     // Beispiel: Es werden mindestens 3 Fünfen unter 7 unbekannten Würfeln benötigt.
+    // Die Werte kommen aus einer vorberechneten Tabelle (BinomialTailTable) → O(1) statt Fakultäten pro Entscheidung.
     private double calculateProbability(int unknownDice, int neededFromOthers, int faceValue) {
-        double p = 1.0 / 6.0; // 📝 Wahrscheinlichkeit für eine bestimmte Zahl (z. B. eine Fünf) bei einem Würfelwurf.
-        double cumulative = 0.0; // 📝 Zwischenspeicher für die aufsummierte Wahrscheinlichkeit.
-
-        // 📝 Schleife über alle möglichen Anzahlen des gewünschten Wertes (von neededFromOthers bis alle unknownDice).
-        for (int i = neededFromOthers; i <= unknownDice; i++) {
-            cumulative += binomialProbability(unknownDice, i, p);
-            // 📝 Addiert die Wahrscheinlichkeit, dass genau i der unknownDice den gesuchten Wert zeigen.
-        }
-
-        // 📝 Gibt die Wahrscheinlichkeit zurück, mindestens neededFromOthers Erfolge zu haben.
-        return cumulative;
-    }
-
-
-    // 📝 Hilfsmethode zur Berechnung der Binomial-Wahrscheinlichkeit:
-    // Berechnet die Wahrscheinlichkeit dafür, dass bei n Würfen
-    // genau k Würfel einen bestimmten Wert zeigen.
-    // Formel: P(X = k) = (n über k) * p^k * (1-p)^(n-k)
-    private double binomialProbability(int n, int k, double p) {
-        // 📝 Berechnung der Anzahl möglicher Kombinationen (n über k).
-        double combinations = factorial(n) / (factorial(k) * factorial(n - k));
-
-        // 📝 Wahrscheinlichkeit, dass genau k Würfel den gesuchten Wert zeigen,
-        // multipliziert mit der Wahrscheinlichkeit, dass die übrigen (n-k) Würfel es nicht tun.
-        return combinations * Math.pow(p, k) * Math.pow(1 - p, n - k);
+        return BinomialTailTable.oneInSix().atLeast(unknownDice, neededFromOthers);
     }
 
-    // 📝 Hilfsmethode zur Berechnung der Fakultät (n!).
-    // Beispiel: 5! = 5 × 4 × 3 × 2 × 1 = 120
-    private double factorial(int n) {
-        double result = 1.0;
+    // 📝 Returns face Value the bot has the most of
 
-        // 📝 Multipliziert alle Zahlen von 2 bis n.
-        for (int i = 2; i <= n; i++) {
-            result *= i;
+    private int pickStrongestFace() {
+        int strongestFace = 6; // default to 6
+        int strongestCount = 0;
+        for (int face = 1; face <= 6; face++) {
+            if (countOf(face) > strongestCount) {
+                strongestFace = face;
+                strongestCount = countOf(face);
+            }
         }
-
-        return result;
+        return strongestFace;
     }
 
-    // 📝 Returns face Value the bot has the most of
-
-    private int pickStrongestFace() {
-        Map<Integer, Integer> countMap = new HashMap<>();
-        for (int die : revealDice()) {
-            countMap.put(die, countMap.getOrDefault(die, 0) + 1);
+    // 📝 Lowest face the bot is holding (0 if the dice were never rolled).
+    private int lowestFace() {
+        for (int face = 1; face <= 6; face++) {
+            if (countOf(face) > 0) {
+                return face;
+            }
         }
-        return countMap.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(6); // default to 6
+        return 0;
     }
 
     // 📝 BOT COUNTS ALL DICE HE HAS OF A GIVEN FACE VALUE
     private int countDiceOfFace(int face) {
-        int count = 0;
-        for (int die : revealDice()) {
-            if (die == face) {
-                count++;
-            }
-        }
-        return count;
+        return countOf(face);
     }
 
     // 📝 WE DETERMINE A LIE CHANCE BETWEEN 25 and 35%
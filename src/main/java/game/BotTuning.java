@@ -0,0 +1,40 @@
+package game;
+
+// 📝 The knobs of the heuristic bot. shouldCallLie compares the chance that a call is true against
+// the three thresholds and then calls "lie" with the matching rate - e.g. below `suspicious` it
+// calls lie in `unlikelyLieRate` of the cases. The simulator uses this to try out other values.
+public record BotTuning(
+        double likelyTrue,
+        double maybeTrue,
+        double suspicious,
+        double maybeTrueLieRate,
+        double suspiciousLieRate,
+        double unlikelyLieRate,
+        double rerollChance
+) {
+
+    public static final BotTuning DEFAULT = new BotTuning(0.7, 0.4, 0.2, 0.10, 0.30, 0.60, 0.10);
+
+    public BotTuning {
+        if (!(likelyTrue >= maybeTrue && maybeTrue >= suspicious)) {
+            throw new IllegalArgumentException("Thresholds must go down: likelyTrue >= maybeTrue >= suspicious.");
+        }
+    }
+
+    // 📝 Reads "0.7,0.4,0.2" or all seven values in record order. Missing values keep the default.
+    public static BotTuning parse(String text) {
+        String[] parts = text.split(",");
+        double[] values = {
+                DEFAULT.likelyTrue, DEFAULT.maybeTrue, DEFAULT.suspicious,
+                DEFAULT.maybeTrueLieRate, DEFAULT.suspiciousLieRate, DEFAULT.unlikelyLieRate,
+                DEFAULT.rerollChance
+        };
+        if (parts.length > values.length) {
+            throw new IllegalArgumentException("A bot tuning has at most " + values.length + " values: " + text);
+        }
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i].trim());
+        }
+        return new BotTuning(values[0], values[1], values[2], values[3], values[4], values[5], values[6]);
+    }
+}
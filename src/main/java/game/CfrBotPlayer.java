@@ -0,0 +1,149 @@
+package game;
+
+import java.util.random.RandomGenerator;
+
+public class CfrBotPlayer extends BotPlayer {
+
+    // 📝 Plays the strategy from a CfrPolicy (trained offline by cfr.CfrTrainer): every decision is one
+    // info set lookup in the mapped file plus a weighted draw - no search, no allocation.
+    // The policy is trained for 1-on-1 only. Outside it (more than 5 dice, an opponent with more than 5 dice,
+    // more than one opponent, no policy) it plays like the heuristic BotPlayer.
+    //
+    // MyGameBot asks shouldCallLie → shouldReroll → decideNextCall, like with the search bot. The first
+    // answer is drawn for the whole turn and kept as the plan; a call after a reroll is drawn again.
+
+    //region 🧱 Variables
+
+    private static final int NO_PLAN = -1;
+
+    private final RandomGenerator random;
+    private final CfrPolicy policy; // <-- null = immer Heuristik
+
+    private final int[] counts = new int[7];
+    private int planned = NO_PLAN;
+    private int plannedQuantity;
+    private int plannedFace;
+    private int plannedTotal;
+    private boolean heuristicTurn; // <-- shouldCallLie lag außerhalb der Policy: der Rest des Zugs auch
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    // 📝 Without a policy, i.e. always the heuristic. Restored bots get theirs through GameStateIO.read(in, policy).
+    public CfrBotPlayer(String name, int startingDice) {
+        this(name, startingDice, DiceSource.shared(), null);
+    }
+
+    public CfrBotPlayer(String name, int startingDice, DiceSource diceSource, CfrPolicy policy) {
+        super(name, startingDice, diceSource, BotTuning.DEFAULT);
+        this.random = diceSource.generator();
+        this.policy = policy;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    @Override
+    public boolean shouldCallLie(int currentQuantity, int faceValue, int totalDiceInGame) {
+        int rerollState = hasUsedReroll() ? CfrPolicy.REROLL_USED : CfrPolicy.CAN_REROLL;
+        int action = draw(currentQuantity, faceValue, totalDiceInGame, rerollState, true);
+        heuristicTurn = action == NO_PLAN;
+        if (heuristicTurn) {
+            planned = NO_PLAN;
+            return super.shouldCallLie(currentQuantity, faceValue, totalDiceInGame);
+        }
+        remember(action, currentQuantity, faceValue, totalDiceInGame);
+        return action == CfrPolicy.LIE;
+    }
+
+    @Override
+    public boolean shouldReroll() {
+        if (heuristicTurn) {
+            return super.shouldReroll();
+        }
+        return !hasUsedReroll() && planned == CfrPolicy.REROLL;
+    }
+
+    @Override
+    public Command decideNextCall(int currentQuantity, int currentFace, int totalDice) {
+        int action = planned;
+        boolean forThisCall = plannedQuantity == currentQuantity && plannedFace == currentFace && plannedTotal == totalDice;
+        if (action < CfrPolicy.RAISE || !forThisCall) {
+            // 📝 Opening call, a call after the reroll (dice changed) or no plan yet → draw a raise now.
+            int rerollState = action == CfrPolicy.REROLL && hasUsedReroll() ? CfrPolicy.JUST_REROLLED
+                    : hasUsedReroll() ? CfrPolicy.REROLL_USED : CfrPolicy.CAN_REROLL;
+            action = draw(currentQuantity, currentFace, totalDice, rerollState, false);
+        }
+        planned = NO_PLAN;
+        heuristicTurn = false;
+
+        if (action == NO_PLAN) {
+            return super.decideNextCall(currentQuantity, currentFace, totalDice);
+        }
+        if (action < CfrPolicy.RAISE) {
+            return lie(); // <-- kein Call mehr möglich
+        }
+        return call(CfrPolicy.quantityOf(action, currentQuantity, currentFace), CfrPolicy.faceOf(action));
+    }
+
+    //endregion
+
+    //region 🧮 Policy
+
+    // 📝 Draws an action with the policy's weights; NO_PLAN if the situation is outside the policy.
+    // Without lie/reroll (decideNextCall) only raises are drawn - "lie" only if no raise is legal.
+    private int draw(int quantity, int face, int totalDice, int rerollState, boolean mayStop) {
+        if (policy == null || getPlayerCount() != 2) {
+            return NO_PLAN; // <-- mehrere Gegner: deren Würfel zusammen wären für die Policy ein einziger Gegner
+        }
+        for (int f = 1; f <= 6; f++) {
+            counts[f] = countOf(f);
+        }
+        int theirDice = totalDice - getDiceCount();
+        int infoSet = CfrPolicy.infoSet(counts, theirDice, quantity, face, rerollState);
+        if (infoSet < 0) {
+            return NO_PLAN;
+        }
+        if (!CfrPolicy.canRaise(quantity, face, totalDice)) {
+            return CfrPolicy.LIE;
+        }
+
+        int sum = 0;
+        for (int a = 0; a < CfrPolicy.ACTIONS; a++) {
+            if (isAllowed(a, quantity, face, totalDice, rerollState, mayStop)) {
+                sum += policy.weight(infoSet, a);
+            }
+        }
+        if (sum == 0) {
+            return NO_PLAN; // <-- nie trainiert
+        }
+        int pick = random.nextInt(sum);
+        for (int a = 0; a < CfrPolicy.ACTIONS; a++) {
+            if (isAllowed(a, quantity, face, totalDice, rerollState, mayStop)) {
+                pick -= policy.weight(infoSet, a);
+                if (pick < 0) {
+                    return a;
+                }
+            }
+        }
+        return NO_PLAN;
+    }
+
+    private static boolean isAllowed(int action, int quantity, int face, int totalDice, int rerollState, boolean mayStop) {
+        if (!mayStop && action < CfrPolicy.RAISE) {
+            return false;
+        }
+        return CfrPolicy.isLegal(action, quantity, face, totalDice, rerollState);
+    }
+
+    private void remember(int action, int quantity, int face, int totalDice) {
+        planned = action;
+        plannedQuantity = quantity;
+        plannedFace = face;
+        plannedTotal = totalDice;
+    }
+
+    //endregion
+}
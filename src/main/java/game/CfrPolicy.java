@@ -0,0 +1,202 @@
+package game;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public final class CfrPolicy implements AutoCloseable {
+
+    // 📝 A trained strategy for one round of 1-on-1 (see cfr.CfrTrainer), memory-mapped from a file.
+    // What a player knows is packed into an "info set": own dice per face, the opponent's dice count,
+    // the call on the table and the own reroll. Every info set has one byte per action -
+    // how often to play it, 0 … 255. The file is a header and that byte table, nothing else, so
+    // opening it only maps the file (no parsing, no objects per entry) and a lookup is an index calculation.
+    //
+    // Actions: LIE, REROLL (the same dice the heuristic bot would pick, then a call has to follow) and
+    // per face the cheapest legal raise. Jump raises (one more than needed) and the opponent's reroll as part of
+    // the info set spread the training samples too thin - the trained bot played clearly weaker with them.
+    // Bigger tables (more dice, more players) are outside the policy - the bot falls back to its heuristic there.
+
+    //region 🧱 Variables
+
+    public static final int MIN_DICE = 2; // <-- mit weniger ist man raus
+    public static final int MAX_DICE = 5;
+    public static final int MAX_QUANTITY = 2 * MAX_DICE;
+
+    public static final int LIE = 0;
+    public static final int REROLL = 1;
+    public static final int RAISE = 2; // <-- RAISE + face - 1: billigster Call auf diese Augenzahl
+    public static final int ACTIONS = RAISE + 6;
+
+    // 📝 Reroll state of the player to act.
+    public static final int CAN_REROLL = 0;
+    public static final int REROLL_USED = 1;
+    public static final int JUST_REROLLED = 2; // <-- hat gerade neu gewürfelt und muss jetzt callen
+
+    private static final int BIDS = MAX_QUANTITY * 6 + 1; // <-- 0 = noch kein Call
+    private static final int[] HAND_INDEX = new int[6 * 6 * 6 * 6 * 6 * 6]; // <-- Würfel pro Augenzahl (je 0..5) → Hand
+    private static final int HANDS = buildHandIndex();
+
+    public static final int INFO_SETS = HANDS * (MAX_DICE - MIN_DICE + 1) * BIDS * 3; // <-- × Reroll-Zustand
+
+    private static final int MAGIC = 0x4C44_4346; // <-- "LDCF"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+
+    private final Arena arena;
+    private final MemorySegment table;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    private CfrPolicy(Arena arena, MemorySegment file) {
+        this.arena = arena;
+        this.table = file.asSlice(HEADER_BYTES);
+    }
+
+    // 📝 Maps the file read-only. Fails if it wasn't written for this layout.
+    public static CfrPolicy open(Path path) throws IOException {
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MemorySegment file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            check(file, path);
+            return new CfrPolicy(arena, file);
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    private static void check(MemorySegment file, Path path) throws IOException {
+        if (file.byteSize() != HEADER_BYTES + (long) INFO_SETS * ACTIONS) {
+            throw new IOException(path + " has " + file.byteSize() + " bytes, a policy has "
+                    + (HEADER_BYTES + (long) INFO_SETS * ACTIONS) + ".");
+        }
+        ValueLayout.OfInt big = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+        int[] expected = {MAGIC, VERSION, MIN_DICE, MAX_DICE, ACTIONS, INFO_SETS};
+        for (int i = 0; i < expected.length; i++) {
+            if (file.get(big, i * 4L) != expected[i]) {
+                throw new IOException(path + " is not a policy for this version of the game.");
+            }
+        }
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // -- How often to play the action in the info set, 0 … 255 (0 for every action = never trained)
+    public int weight(int infoSet, int action) {
+        return table.get(ValueLayout.JAVA_BYTE, (long) infoSet * ACTIONS + action) & 0xFF;
+    }
+
+    // 📝 Writes the average strategy of a trainer: for every info set the sums per action are scaled
+    // so the largest becomes 255. Info sets without any sum stay all 0.
+    public static void write(Path path, float[] strategySums) throws IOException {
+        if (strategySums.length != INFO_SETS * ACTIONS) {
+            throw new IllegalArgumentException("Expected " + INFO_SETS * ACTIONS + " sums, got " + strategySums.length);
+        }
+        try (OutputStream file = Files.newOutputStream(path);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            for (int value : new int[]{MAGIC, VERSION, MIN_DICE, MAX_DICE, ACTIONS, INFO_SETS}) {
+                out.writeInt(value);
+            }
+            byte[] row = new byte[ACTIONS];
+            for (int infoSet = 0; infoSet < INFO_SETS; infoSet++) {
+                int first = infoSet * ACTIONS;
+                float max = 0;
+                for (int a = 0; a < ACTIONS; a++) {
+                    max = Math.max(max, strategySums[first + a]);
+                }
+                for (int a = 0; a < ACTIONS; a++) {
+                    row[a] = max > 0 ? (byte) Math.round(255 * Math.max(0, strategySums[first + a]) / max) : 0;
+                }
+                out.write(row);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        arena.close();
+    }
+
+    //endregion
+
+    //region 🗂️ Layout
+
+    // 📝 Info set of the player to act, -1 if the situation is outside the policy.
+    // counts[face] = own dice showing face (index 0 is ignored).
+    public static int infoSet(int[] counts, int theirDice, int quantity, int face, int rerollState) {
+        int code = 0;
+        int myDice = 0;
+        for (int f = 1; f <= 6; f++) {
+            if (counts[f] > MAX_DICE) {
+                return -1;
+            }
+            code = code * 6 + counts[f];
+            myDice += counts[f];
+        }
+        if (myDice < MIN_DICE || myDice > MAX_DICE || theirDice < MIN_DICE || theirDice > MAX_DICE
+                || quantity > MAX_QUANTITY || quantity < 0 || (quantity > 0 && (face < 1 || face > 6))) {
+            return -1;
+        }
+        int bid = quantity == 0 ? 0 : (quantity - 1) * 6 + face;
+        return ((HAND_INDEX[code] * (MAX_DICE - MIN_DICE + 1) + theirDice - MIN_DICE) * BIDS + bid) * 3 + rerollState;
+    }
+
+    // -- Quantity an action calls (0 for LIE and REROLL)
+    public static int quantityOf(int action, int quantity, int face) {
+        if (action < RAISE) {
+            return 0;
+        }
+        return quantity == 0 ? 1 : faceOf(action) > face ? quantity : quantity + 1;
+    }
+
+    public static int faceOf(int action) {
+        return action < RAISE ? 0 : action - RAISE + 1;
+    }
+
+    // 📝 Same rules as RoundLogic: lie only on a call, after a reroll a call has to follow,
+    // a raise can't call more dice than there are. Rerolling only makes sense if a call is still possible.
+    public static boolean isLegal(int action, int quantity, int face, int totalDice, int rerollState) {
+        return switch (action) {
+            case LIE -> quantity > 0 && rerollState != JUST_REROLLED;
+            case REROLL -> rerollState == CAN_REROLL && quantity > 0 && canRaise(quantity, face, totalDice);
+            default -> quantityOf(action, quantity, face) <= totalDice;
+        };
+    }
+
+    public static boolean canRaise(int quantity, int face, int totalDice) {
+        return quantity < totalDice || face < 6;
+    }
+
+    // -- Numbers every hand of MIN_DICE … MAX_DICE dice, in the order of its face counts
+    private static int buildHandIndex() {
+        Arrays.fill(HAND_INDEX, -1);
+        int hands = 0;
+        for (int code = 0; code < HAND_INDEX.length; code++) {
+            int dice = 0;
+            for (int rest = code; rest > 0; rest /= 6) {
+                dice += rest % 6;
+            }
+            if (dice >= MIN_DICE && dice <= MAX_DICE) {
+                HAND_INDEX[code] = hands++;
+            }
+        }
+        return hands;
+    }
+
+    //endregion
+}
@@ -0,0 +1,136 @@
+package game;
+
+public final class Command {
+
+    // 📝 What a player typed, after CommandParser read it. Mutable on purpose: one instance can be
+    // parsed into again and again, so reading input creates no objects.
+    // If type is INVALID, error() says what was wrong - no exception is thrown for bad input.
+
+    public enum Type {
+        CALL,       // <-- quantity × face
+        LIE,
+        REROLL,     // <-- rerollMask: bit i = die i
+        START,
+        HELP,
+        RULES,
+        NEW_GAME,
+        END_GAME,
+        LANGUAGE,   // <-- /lang en: das Argument steht in der Eingabe bei argumentStart..argumentEnd
+        JOIN,       // <-- Gruppen: Tisch (Lobby) beitreten
+        LEAVE,
+        ADD_BOT,
+        START_GAME,
+        INVALID
+    }
+
+    public enum ParseError {
+        NONE,
+        EMPTY,
+        UNKNOWN_COMMAND,    // <-- /irgendwas, das wir nicht kennen
+        NOT_A_CALL,         // <-- weder Call noch lie noch reroll
+        QUANTITY_OUT_OF_RANGE,
+        FACE_OUT_OF_RANGE,
+        NO_DICE_TO_REROLL,
+        DIE_INDEX_OUT_OF_RANGE
+    }
+
+    //region 🧱 Variables
+
+    private Type type = Type.INVALID;
+    private ParseError error = ParseError.EMPTY;
+    private int quantity;
+    private int face;
+    private long rerollMask;
+    private int argumentStart;
+    private int argumentEnd;
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    void reset() {
+        type = Type.INVALID;
+        error = ParseError.NONE;
+        quantity = 0;
+        face = 0;
+        rerollMask = 0;
+        argumentStart = 0;
+        argumentEnd = 0;
+    }
+
+    void set(Type type) {
+        this.type = type;
+    }
+
+    void setCall(int quantity, int face) {
+        this.type = Type.CALL;
+        this.quantity = quantity;
+        this.face = face;
+    }
+
+    void setReroll(long mask) {
+        this.type = Type.REROLL;
+        this.rerollMask = mask;
+    }
+
+    void setArgument(int start, int end) {
+        this.argumentStart = start;
+        this.argumentEnd = end;
+    }
+
+    // -- Always returns false, so the parser can write "return command.fail(...)"
+    boolean fail(ParseError error) {
+        this.type = Type.INVALID;
+        this.error = error;
+        return false;
+    }
+
+    public boolean isValid() {
+        return type != Type.INVALID;
+    }
+
+    //endregion
+
+    // region 🫴Getters
+
+    public Type type() {
+        return type;
+    }
+
+    public ParseError error() {
+        return error;
+    }
+
+    public int quantity() {
+        return quantity;
+    }
+
+    public int face() {
+        return face;
+    }
+
+    public long rerollMask() {
+        return rerollMask;
+    }
+
+    // -- Where the first word after a slash command starts in the parsed input (start == end: none)
+    public int argumentStart() {
+        return argumentStart;
+    }
+
+    public int argumentEnd() {
+        return argumentEnd;
+    }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case CALL -> quantity + " " + face;
+            case REROLL -> "reroll " + Long.toBinaryString(rerollMask);
+            case INVALID -> "invalid (" + error + ")";
+            default -> type.name().toLowerCase();
+        };
+    }
+
+    //endregion
+}
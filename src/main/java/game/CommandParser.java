@@ -0,0 +1,212 @@
+package game;
+
+public final class CommandParser {
+
+    // 📝 Reads one chat message in a single pass, straight from the CharSequence - no split(), no parseInt(),
+    // no substring, no exception for bad input. Understands:
+    //     3 4 | 3x4 | 3 x 4 | 3×4 | 3*4       → CALL (quantity, face 1-6)
+    //     lie | Lüge | luege | liar (+ "!")    → LIE
+    //     reroll 0 2 | reroll 0,2              → REROLL (die indices 0-63 as a bitmask)
+    //     /start /help /rules /newgame /endgame (also /newgame@MyBot, anything after a space is ignored)
+    //     /lang en | /language de              → LANGUAGE (the word after it is the argument)
+    //     /join /leave /addbot /startgame      → group tables (lobby)
+    // Upper/lower case and extra spaces don't matter.
+
+    //region 🧱 Variables
+
+    private static final int MAX_NUMBER = 100_000; // <-- größere Zahlen werden hier gedeckelt, kein int-Überlauf
+    private static final int MAX_DIE_INDEX = Long.SIZE - 1;
+
+    private static final String[] LIE_WORDS = {"lie", "lüge", "luege", "liar"};
+
+    //endregion
+
+    private CommandParser() {
+    }
+
+    //region ⚙️ Methods
+
+    // 📝 Parses input into command. Returns false (and command.error() says why) if the input isn't valid.
+    public static boolean parse(CharSequence input, Command command) {
+        command.reset();
+        int end = input.length();
+        while (end > 0 && isSpace(input.charAt(end - 1))) {
+            end--;
+        }
+        int pos = skipSpaces(input, 0, end);
+        if (pos == end) {
+            return command.fail(Command.ParseError.EMPTY);
+        }
+
+        char first = input.charAt(pos);
+        if (first == '/') {
+            return parseSlashCommand(input, pos + 1, end, command);
+        }
+        if (isDigit(first)) {
+            return parseCall(input, pos, end, command);
+        }
+
+        int wordEnd = pos;
+        while (wordEnd < end && Character.isLetter(input.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        for (String word : LIE_WORDS) {
+            if (equalsIgnoreCase(input, pos, wordEnd, word)) {
+                int rest = wordEnd;
+                while (rest < end && (input.charAt(rest) == '!' || isSpace(input.charAt(rest)))) {
+                    rest++;
+                }
+                if (rest != end) {
+                    return command.fail(Command.ParseError.NOT_A_CALL);
+                }
+                command.set(Command.Type.LIE);
+                return true;
+            }
+        }
+        if (equalsIgnoreCase(input, pos, wordEnd, "reroll")) {
+            return parseReroll(input, wordEnd, end, command);
+        }
+        return command.fail(Command.ParseError.NOT_A_CALL);
+    }
+
+    private static boolean parseSlashCommand(CharSequence input, int pos, int end, Command command) {
+        int wordEnd = pos;
+        while (wordEnd < end && Character.isLetter(input.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        // 📝 In groups Telegram sends /newgame@BotName - the bot name is not checked here.
+        if (wordEnd < end && input.charAt(wordEnd) != '@' && !isSpace(input.charAt(wordEnd))) {
+            return command.fail(Command.ParseError.UNKNOWN_COMMAND);
+        }
+
+        Command.Type type;
+        if (equalsIgnoreCase(input, pos, wordEnd, "start")) {
+            type = Command.Type.START;
+        } else if (equalsIgnoreCase(input, pos, wordEnd, "help")) {
+            type = Command.Type.HELP;
+        } else if (equalsIgnoreCase(input, pos, wordEnd, "rules")) {
+            type = Command.Type.RULES;
+        } else if (equalsIgnoreCase(input, pos, wordEnd, "newgame")) {
+            type = Command.Type.NEW_GAME;
+        } else if (equalsIgnoreCase(input, pos, wordEnd, "endgame")) {
+            type = Command.Type.END_GAME;
+        } else if (equalsIgnoreCase(input, pos, wordEnd, "lang") || equalsIgnoreCase(input, pos, wordEnd, "language")) {
+            type = Command.Type.LANGUAGE;
+        } else if (equalsIgnoreCase(input, pos, wordEnd, "join")) {
+            type = Command.Type.JOIN;
+        } else if (equalsIgnoreCase(input, pos, wordEnd, "leave")) {
+            type = Command.Type.LEAVE;
+        } else if (equalsIgnoreCase(input, pos, wordEnd, "addbot")) {
+            type = Command.Type.ADD_BOT;
+        } else if (equalsIgnoreCase(input, pos, wordEnd, "startgame")) {
+            type = Command.Type.START_GAME;
+        } else {
+            return command.fail(Command.ParseError.UNKNOWN_COMMAND);
+        }
+        command.set(type);
+
+        int argument = wordEnd;
+        while (argument < end && !isSpace(input.charAt(argument))) {
+            argument++; // <-- @BotName überspringen
+        }
+        argument = skipSpaces(input, argument, end);
+        int argumentEnd = argument;
+        while (argumentEnd < end && !isSpace(input.charAt(argumentEnd))) {
+            argumentEnd++;
+        }
+        command.setArgument(argument, argumentEnd);
+        return true;
+    }
+
+    private static boolean parseCall(CharSequence input, int pos, int end, Command command) {
+        int quantity = 0;
+        while (pos < end && isDigit(input.charAt(pos))) {
+            quantity = Math.min(MAX_NUMBER, quantity * 10 + (input.charAt(pos++) - '0'));
+        }
+
+        pos = skipSpaces(input, pos, end);
+        if (pos < end && isTimes(input.charAt(pos))) {
+            pos = skipSpaces(input, pos + 1, end);
+        }
+        if (pos == end || !isDigit(input.charAt(pos))) {
+            return command.fail(Command.ParseError.NOT_A_CALL);
+        }
+
+        int face = 0;
+        while (pos < end && isDigit(input.charAt(pos))) {
+            face = Math.min(MAX_NUMBER, face * 10 + (input.charAt(pos++) - '0'));
+        }
+        if (pos != end) {
+            return command.fail(Command.ParseError.NOT_A_CALL);
+        }
+
+        if (quantity < 1 || quantity >= MAX_NUMBER) {
+            return command.fail(Command.ParseError.QUANTITY_OUT_OF_RANGE);
+        }
+        if (face < 1 || face > 6) {
+            return command.fail(Command.ParseError.FACE_OUT_OF_RANGE);
+        }
+        command.setCall(quantity, face);
+        return true;
+    }
+
+    private static boolean parseReroll(CharSequence input, int pos, int end, Command command) {
+        long mask = 0;
+        while (pos < end) {
+            char c = input.charAt(pos);
+            if (isSpace(c) || c == ',') {
+                pos++;
+                continue;
+            }
+            if (!isDigit(c)) {
+                return command.fail(Command.ParseError.NOT_A_CALL);
+            }
+            int index = 0;
+            while (pos < end && isDigit(input.charAt(pos))) {
+                index = Math.min(MAX_NUMBER, index * 10 + (input.charAt(pos++) - '0'));
+            }
+            if (index > MAX_DIE_INDEX) {
+                return command.fail(Command.ParseError.DIE_INDEX_OUT_OF_RANGE);
+            }
+            mask |= 1L << index;
+        }
+        if (mask == 0) {
+            return command.fail(Command.ParseError.NO_DICE_TO_REROLL);
+        }
+        command.setReroll(mask);
+        return true;
+    }
+
+    private static boolean equalsIgnoreCase(CharSequence input, int from, int to, String word) {
+        if (to - from != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.toLowerCase(input.charAt(from + i)) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipSpaces(CharSequence input, int pos, int end) {
+        while (pos < end && isSpace(input.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\u00A0';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isTimes(char c) {
+        return c == 'x' || c == 'X' || c == '×' || c == '*';
+    }
+
+    //endregion
+}
@@ -1,16 +1,24 @@
 package game;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
-import java.util.Random;
+import java.util.RandomAccess;
+import java.util.random.RandomGenerator;
 
 public class DiceCup {
 
     //region 🧱 Variables
 
     private static final int diceSides = 6;
-    private List<Integer> diceValues;
-    private Random random;
+
+    // 📝 Dice are stored as plain bytes. faceCounts is a histogram that is kept up to date on every
+    // roll and removal, so "how many 5s do I have" never needs to loop. Slot 0 counts dice that were never rolled.
+    private final byte[] diceValues;
+    private final int[] faceCounts = new int[diceSides + 1];
+    private int numberOfDice;
+    private final DiceSource diceSource;
+    private final List<Integer> diceView = new DiceView();
+    private DiceObserver observer;
 
     //endregion
 
@@ -18,55 +26,144 @@ public class DiceCup {
     // 📝 Constructor is creating a new dice cup with the given number of dice.
 
     public DiceCup(int numberOfDice) {
+        this(numberOfDice, DiceSource.shared());
+    }
+
+    public DiceCup(int numberOfDice, RandomGenerator random) {
+        this(numberOfDice, DiceSource.of(random));
+    }
+
+    public DiceCup(int numberOfDice, DiceSource diceSource) {
         if (numberOfDice <= 0) {
             throw new IllegalArgumentException("DiceCup must have at least one die.");
         }
 
-        this.diceValues = new ArrayList<>();
-        this.random = new Random();
-
-        for (int i = 0; i < numberOfDice; i++) {
-            diceValues.add(0);
-        }
+        this.diceValues = new byte[numberOfDice];
+        this.numberOfDice = numberOfDice;
+        this.diceSource = diceSource;
+        this.faceCounts[0] = numberOfDice;
     }
 
     //endregion
 
     //region ⚙️ Methods
 
-    private int rollSingleDie() {
-        return random.nextInt(diceSides) + 1;
+    // 📝 Every change of a die goes through here, so the histogram can't drift away from the dice.
+    private void setDie(int index, int face) {
+        int oldFace = diceValues[index];
+        faceCounts[oldFace]--;
+        faceCounts[face]++;
+        diceValues[index] = (byte) face;
+
+        if (observer != null) {
+            observer.onDieChanged(index, oldFace, face);
+        }
     }
 
+    // 📝 One random value from the DiceSource rolls up to 24 dice.
     public void rollAll() {
-        for (int i = 0; i < this.diceValues.size(); i++) {
-            diceValues.set(i, rollSingleDie());
+        int i = 0;
+        while (i < numberOfDice) {
+            long faces = diceSource.nextFaces();
+            int blockEnd = Math.min(numberOfDice, i + DiceSource.FACES_PER_LONG);
+            for (; i < blockEnd; i++) {
+                setDie(i, (int) (faces % 6) + 1);
+                faces /= 6;
+            }
         }
     }
 
     public void rollSelected(List<Integer> dices) {
-        for (int index : dices) {
-            if (index >= 0 && index < this.diceValues.size()) {
-                diceValues.set(index, rollSingleDie());
+        for (int i = 0; i < dices.size(); i++) {
+            int index = dices.get(i);
+            if (index >= 0 && index < numberOfDice) {
+                setDie(index, diceSource.roll());
+            }
+        }
+    }
+
+    // -- Same with a bitmask: bit i set = roll die i (bits past the last die are ignored)
+    public void rollSelected(long mask) {
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            int index = Long.numberOfTrailingZeros(bits);
+            if (index < numberOfDice) {
+                setDie(index, diceSource.roll());
             }
         }
     }
 
     public void removeDice(int amount) {
-        for (int i = 0; i < amount && !diceValues.isEmpty(); i++) {
-            diceValues.removeLast();
+        for (int i = 0; i < amount && numberOfDice > 0; i++) {
+            numberOfDice--;
+            int face = diceValues[numberOfDice];
+            faceCounts[face]--;
+
+            if (observer != null) {
+                observer.onDieRemoved(face);
+            }
         }
     }
 
     //endregion
 
     //region 🫴 Getters & Setters 🫳
+
+    // 📝 Read-only live view on the dice, nothing is copied. Small Integers come from the
+    // Integer cache, so reading through the view doesn't allocate either.
     public List<Integer> getCurrentDice() {
-        return new ArrayList<>(diceValues);
+        return diceView;
+    }
+
+    public int getDie(int index) {
+        if (index < 0 || index >= numberOfDice) {
+            throw new IndexOutOfBoundsException("No die at index " + index + ".");
+        }
+        return diceValues[index];
+    }
+
+    // 📝 How many dice currently show the given face - O(1) thanks to the histogram.
+    public int countOf(int face) {
+        if (face < 1 || face > diceSides) {
+            return 0;
+        }
+        return faceCounts[face];
     }
 
     public int getNumberOfDice() {
-        return diceValues.size();
+        return numberOfDice;
+    }
+
+    // 📝 Puts a die back to a known face, e.g. when a saved game is loaded.
+    void restoreDie(int index, int face) {
+        if (index < 0 || index >= numberOfDice) {
+            throw new IndexOutOfBoundsException("No die at index " + index + ".");
+        }
+        if (face < 1 || face > diceSides) {
+            throw new IllegalArgumentException("Invalid face value: " + face);
+        }
+        setDie(index, face);
+    }
+
+    // 📝 Only one observer per cup - the GameState the owning player currently sits in.
+    void setObserver(DiceObserver observer) {
+        this.observer = observer;
+    }
+
+    //endregion
+
+    //region 🔍 View
+
+    private final class DiceView extends AbstractList<Integer> implements RandomAccess {
+
+        @Override
+        public Integer get(int index) {
+            return getDie(index);
+        }
+
+        @Override
+        public int size() {
+            return numberOfDice;
+        }
     }
 
     //endregion
@@ -0,0 +1,17 @@
+package game;
+
+// 📝 Gets told about every change inside a DiceCup (and about the owner's reroll).
+// GameState uses it to keep its table-wide face counts up to date without looking at every cup again,
+// and to pass the changes on to its GameEventListener.
+interface DiceObserver {
+
+    // -- The die at index changed its face (oldFace is 0 for a die that was never rolled)
+    void onDieChanged(int index, int oldFace, int newFace);
+
+    // -- A die was taken out of the cup
+    void onDieRemoved(int face);
+
+    // -- The owner used their one reroll of the match
+    default void onRerollUsed() {
+    }
+}
@@ -0,0 +1,138 @@
+package game;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+public final class DiceSource {
+
+    // 📝 Where the dice come from. One 64-bit random value holds 24 d6: 6^24 < 2^64, so a value below
+    // 3 * 6^24 is read as 24 base-6 digits. Values above that are thrown away (rejection, ~23 %), otherwise
+    // small faces would come up a tiny bit more often. So one nextLong() rolls a whole cup.
+    //
+    // - shared(): for normal games. Draws from ThreadLocalRandom - every thread has its own generator,
+    //   nobody waits for anybody. Thread-safe.
+    // - seeded(seed) / of(generator): own generator, same seed → same dice. For load tests, simulations and
+    //   replays. Keeps unused faces of the last value for the next roll(), so NOT thread-safe - one per game.
+
+    //region 🧱 Variables
+
+    public static final int FACES_PER_LONG = 24;
+
+    private static final long FACES_RANGE = 4_738_381_338_321_616_896L; // <-- 6^24
+    private static final long ACCEPT_BELOW = 3 * FACES_RANGE;             // <-- als unsigned gelesen
+
+    private static final DiceSource SHARED = new DiceSource(null);
+
+    private final RandomGenerator generator; // <-- null = ThreadLocalRandom des aufrufenden Threads
+    private long buffered;
+    private int bufferedFaces;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    private DiceSource(RandomGenerator generator) {
+        this.generator = generator;
+    }
+
+    public static DiceSource shared() {
+        return SHARED;
+    }
+
+    public static DiceSource seeded(long seed) {
+        return new DiceSource(new SplittableRandom(seed));
+    }
+
+    public static DiceSource of(RandomGenerator generator) {
+        return new DiceSource(generator);
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 24 independent faces packed as base-6 digits, each digit 0..5 (add 1 for the face).
+    public long nextFaces() {
+        long value;
+        do {
+            value = nextLong();
+        } while (Long.compareUnsigned(value, ACCEPT_BELOW) >= 0);
+        return Long.remainderUnsigned(value, FACES_RANGE);
+    }
+
+    // -- One die, 1..6
+    public int roll() {
+        if (generator == null) {
+            return ThreadLocalRandom.current().nextInt(1, 7);
+        }
+        if (bufferedFaces == 0) {
+            buffered = nextFaces();
+            bufferedFaces = FACES_PER_LONG;
+        }
+        int face = (int) (buffered % 6) + 1;
+        buffered /= 6;
+        bufferedFaces--;
+        return face;
+    }
+
+    // -- Rolls count dice into target, one random value per 24 dice
+    public void roll(byte[] target, int offset, int count) {
+        int end = offset + count;
+        int i = offset;
+        while (i < end) {
+            long faces = nextFaces();
+            int blockEnd = Math.min(end, i + FACES_PER_LONG);
+            for (; i < blockEnd; i++) {
+                target[i] = (byte) (faces % 6 + 1);
+                faces /= 6;
+            }
+        }
+    }
+
+    // 📝 An independent source for e.g. one player of a seeded game - same seed, same split, same dice.
+    // A generator that can't be split seeds a SplittableRandom child with its next value instead.
+    // The shared source just returns itself.
+    public DiceSource split() {
+        if (generator == null) {
+            return this;
+        }
+        if (generator instanceof SplittableGenerator splittable) {
+            return new DiceSource(splittable.split());
+        }
+        return new DiceSource(new SplittableRandom(generator.nextLong()));
+    }
+
+    // 📝 The generator behind the dice, for other random decisions (e.g. a bot bluffing).
+    public RandomGenerator generator() {
+        return generator != null ? generator : ThreadLocalGenerator.INSTANCE;
+    }
+
+    private long nextLong() {
+        return generator != null ? generator.nextLong() : ThreadLocalRandom.current().nextLong();
+    }
+
+    //endregion
+
+    // 📝 Always draws from the calling thread's ThreadLocalRandom, so one instance can be shared by all threads.
+    private static final class ThreadLocalGenerator implements RandomGenerator {
+
+        private static final ThreadLocalGenerator INSTANCE = new ThreadLocalGenerator();
+
+        @Override
+        public long nextLong() {
+            return ThreadLocalRandom.current().nextLong();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return ThreadLocalRandom.current().nextInt(bound);
+        }
+
+        @Override
+        public double nextDouble() {
+            return ThreadLocalRandom.current().nextDouble();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package game;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+public final class GameEventCodec implements GameEventListener {
+
+    // 📝 Writes the events of a GameState as compact ops into a byte buffer, and replays them.
+    // One op is the op code plus a few varints - a call is 3 bytes, a rolled die 4.
+    // The journal collects the ops of one move and writes them as one record.
+    // Players are written as their seat, which doesn't change during a game - so ops recorded after
+    // somebody dropped out still point at the right players.
+
+    //region 🧱 Variables
+
+    private static final byte CALL = 1;
+    private static final byte TURN = 2;
+    private static final byte DIE_ROLLED = 3;
+    private static final byte DIE_REMOVED = 4;
+    private static final byte REROLL_USED = 5;
+    private static final byte ELIMINATED_REMOVED = 6;
+    private static final byte WINNER_DECLARED = 7;
+
+    private byte[] buffer = new byte[64];
+    private int size;
+
+    //endregion
+
+    //region 🎧 Listener
+
+    @Override
+    public void onCall(int quantity, int faceValue) {
+        writeByte(CALL);
+        writeVarint(quantity);
+        writeByte(faceValue);
+    }
+
+    @Override
+    public void onTurn(int seat) {
+        writeByte(TURN);
+        writeVarint(seat);
+    }
+
+    @Override
+    public void onDieRolled(int seat, int dieIndex, int face) {
+        writeByte(DIE_ROLLED);
+        writeVarint(seat);
+        writeVarint(dieIndex);
+        writeByte(face);
+    }
+
+    @Override
+    public void onDieRemoved(int seat) {
+        writeByte(DIE_REMOVED);
+        writeVarint(seat);
+    }
+
+    @Override
+    public void onRerollUsed(int seat) {
+        writeByte(REROLL_USED);
+        writeVarint(seat);
+    }
+
+    @Override
+    public void onEliminatedRemoved() {
+        writeByte(ELIMINATED_REMOVED);
+    }
+
+    @Override
+    public void onWinnerDeclared(int seat) {
+        writeByte(WINNER_DECLARED);
+        writeVarint(seat);
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    public boolean hasOps() {
+        return size > 0;
+    }
+
+    // -- Hands out the ops collected so far and starts over
+    public byte[] drain() {
+        byte[] ops = Arrays.copyOf(buffer, size);
+        clear();
+        return ops;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // 📝 Applies ops written by a codec to a state that looks like the one they were recorded on.
+    public static void replay(byte[] ops, GameState state) throws IOException {
+        Reader in = new Reader(ops);
+        try {
+            while (in.position < ops.length) {
+                byte op = ops[in.position++];
+                switch (op) {
+                    case CALL -> state.setCurrentCall(in.varint(), in.unsignedByte());
+                    case TURN -> state.setCurrentSeat(in.varint());
+                    case DIE_ROLLED -> {
+                        Player player = state.getSeat(in.varint());
+                        player.restoreDie(in.varint(), in.unsignedByte());
+                    }
+                    case DIE_REMOVED -> state.getSeat(in.varint()).loseDice(1);
+                    case REROLL_USED -> state.getSeat(in.varint()).useReroll();
+                    case ELIMINATED_REMOVED -> state.removeEliminatedPlayers();
+                    case WINNER_DECLARED -> state.declareWinner(state.getSeat(in.varint()));
+                    default -> throw new IOException("Unknown game op: " + op);
+                }
+            }
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Ops don't fit the game state: " + e.getMessage(), e);
+        }
+    }
+
+    private void writeByte(int value) {
+        if (size == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    private void writeVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    //endregion
+
+    private static final class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data) {
+            this.data = data;
+        }
+
+        int unsignedByte() {
+            return data[position++] & 0xFF;
+        }
+
+        int varint() {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                int b = data[position++];
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Varint too long.");
+        }
+    }
+}
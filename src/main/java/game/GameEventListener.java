@@ -0,0 +1,23 @@
+package game;
+
+// 📝 Gets told about every change of a GameState, in the order they happen - e.g. to write them
+// to a journal. Players are given by their seat, which stays the same for the whole game (see TurnRing).
+// Replaying the same events on a copy of the state (GameEventCodec) leads to the same state.
+public interface GameEventListener {
+
+    void onCall(int quantity, int faceValue);
+
+    // -- Whose seat's turn it is after advanceTurn()
+    void onTurn(int seat);
+
+    void onDieRolled(int seat, int dieIndex, int face);
+
+    void onDieRemoved(int seat);
+
+    void onRerollUsed(int seat);
+
+    void onEliminatedRemoved();
+
+    // -- declareWinner(): everyone but this seat left the table
+    void onWinnerDeclared(int seat);
+}
@@ -8,15 +8,33 @@ public class GameState {
     // 📝 This Class knows about the Players, Turns and remembers the current bit
     // Checks if new calls are legal and tells whose turn is next
     // It also calculates how many dice of a given face value exist across all players.
+    //
+    // 📝 Every player keeps the seat they started on (index in the list given to the constructor).
+    // Whose turn it is follows a TurnRing over those seats: next, previous and dropping a player are O(1),
+    // also at a table with 50 players. Events and saved games refer to players by seat.
 
     //region 🧱Variables
 
-    private List<Player> players;
-    private int currentPlayerIndex;
+    private final Player[] seats;
+    private final TurnRing ring;
+    private int currentSeat;
 
     private int currentQuantityCalled;
     private int currentFaceValueCalled;
 
+    // 📝 Table-wide dice index. Every cup reports its changes here (see Seat),
+    // so counting a face or all dice on the table is O(1) instead of walking every player.
+    // Slot 0 holds the dice that were not rolled yet.
+    private final int[] tableFaceCounts = new int[7];
+    private int totalDiceCount;
+
+    // 📝 Seats whose player dropped below 2 dice - removeEliminatedPlayers() only looks at these.
+    private final int[] eliminatedSeats;
+    private int eliminatedCount;
+
+    private GameEventListener listener; // <-- z. B. das Journal, null = niemand hört zu
+    private long version; // <-- zählt jede Änderung, die auch der Listener erfährt
+
     //endregion
 
     //region 🛠️ Constructor
@@ -25,10 +43,16 @@ public class GameState {
         if  (players == null || players.size() < 2) {
             throw new IllegalArgumentException("There must  be at least 2 players to play.");
         }
-        this.players = new ArrayList<>(players);
-        this.currentPlayerIndex = 0;
+        this.seats = players.toArray(new Player[0]);
+        this.ring = new TurnRing(seats.length);
+        this.eliminatedSeats = new int[seats.length];
+        this.currentSeat = 0;
         this.currentQuantityCalled = 0;
         this.currentFaceValueCalled = 0;
+
+        for (int seat = 0; seat < seats.length; seat++) {
+            attach(seat);
+        }
     }
 
     //endregion
@@ -37,17 +61,30 @@ public class GameState {
 
     // -- Checks the current Player Turn
     public Player getCurrentPlayer() {
-        return players.get(currentPlayerIndex);
+        return seats[currentSeat];
+    }
+
+    // -- Who made the call that is on the table (the player before the current one)
+    public Player getPreviousPlayer() {
+        return seats[ring.previous(currentSeat)];
     }
 
     public void advanceTurn() {
-        currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        currentSeat = ring.next(currentSeat);
+        version++;
+        if (listener != null) {
+            listener.onTurn(currentSeat);
+        }
     }
 
     // -- Sets the current Call/Bid of the Player as the one to go above
     public void setCurrentCall(int quantity, int faceValue) {
         this.currentQuantityCalled = quantity;
         this.currentFaceValueCalled = faceValue;
+        version++;
+        if (listener != null) {
+            listener.onCall(quantity, faceValue);
+        }
     }
 
     // -- Check if the proposed call is higher than the current call
@@ -62,46 +99,89 @@ public class GameState {
     }
 
     public int getTotalDiceForFace(int faceValue) {
-        int count  = 0;
-        for (Player player : players) {
-            List<Integer> dice = player.revealDice();
-            for (Integer die : dice) {
-                if (die == faceValue) {
-                    count++;
-                }
-            }
+        if (faceValue < 1 || faceValue > 6) {
+            return 0;
         }
-        return count;
+        return tableFaceCounts[faceValue];
     }
 
+    // 📝 Takes everyone with less than 2 dice off the table. If it was the current player's turn,
+    // the turn goes on to the next player in the ring who is still in the game.
     public void removeEliminatedPlayers() {
-        players.removeIf(Player::isEliminated);
-        if (currentPlayerIndex >= players.size()) {
-            currentPlayerIndex = 0;
+        for (int i = 0; i < eliminatedCount && ring.size() > 1; i++) {
+            int seat = eliminatedSeats[i];
+            if (ring.contains(seat) && seats[seat].isEliminated()) {
+                unseat(seat);
+            }
+        }
+        eliminatedCount = 0;
+        version++;
+        if (listener != null) {
+            listener.onEliminatedRemoved();
+        }
+    }
+
+    // 📝 A player leaves a running game (e.g. /leave in a group): their dice go off the table like after
+    // a lost round. If they made the call on the table, nobody can be doubted for it any more -
+    // the call is cleared and the next player opens again.
+    public void forfeit(Player player) {
+        int seat = seatOf(player);
+        if (seat < 0 || !ring.contains(seat)) {
+            return;
+        }
+        if (ring.previous(currentSeat) == seat && currentQuantityCalled > 0) {
+            setCurrentCall(0, 0);
+        }
+        player.loseDice(player.getDiceCount());
+        removeEliminatedPlayers();
+    }
+
+    // 📝 Instant win: everyone else leaves the table at once, the winner is the last one seated.
+    public void declareWinner(Player winner) {
+        int winnerSeat = seatOf(winner);
+        if (winnerSeat < 0 || !ring.contains(winnerSeat)) {
+            throw new IllegalArgumentException(winner.getName() + " is not at the table.");
+        }
+        currentSeat = winnerSeat;
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seat != winnerSeat && ring.contains(seat)) {
+                unseat(seat);
+            }
+        }
+        version++;
+        if (listener != null) {
+            listener.onWinnerDeclared(winnerSeat);
         }
     }
 
     public boolean isGameOver() {
-        return players.size() == 1;
+        return ring.size() == 1;
     }
 
     public Player getWinner() {
         if (isGameOver()) {
-            return players.getFirst();
+            return seats[currentSeat]; // <-- der Zug wandert nie auf einen leeren Platz
         }
         return null;
     }
 
     public int getTotalDiceCount() {
-        int sum = 0;
-        for (Player player : players) {
-            sum += player.getDiceCount();
-        }
-        return sum;
+        return totalDiceCount;
     }
 
+    // -- The players still in the game, in seat order (a copy)
     public List<Player> getPlayers() {
-        return new ArrayList<>(players);
+        List<Player> players = new ArrayList<>(ring.size());
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (ring.contains(seat)) {
+                players.add(seats[seat]);
+            }
+        }
+        return players;
+    }
+
+    public int getPlayerCount() {
+        return ring.size();
     }
 
     public int getCurrentQuantityCalled() {
@@ -112,12 +192,134 @@ public class GameState {
         return currentFaceValueCalled;
     }
 
-    public int getCurrentPlayerIndex() {
-        return currentPlayerIndex;
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    void setCurrentSeat(int seat) {
+        if (!ring.contains(seat)) {
+            throw new IllegalArgumentException("No player at seat " + seat + ".");
+        }
+        this.currentSeat = seat;
+    }
+
+    // -- All seats the game started with, also the ones that are out by now
+    public int getSeatCount() {
+        return seats.length;
+    }
+
+    public Player getSeat(int seat) {
+        return seats[seat];
+    }
+
+    public boolean isSeated(int seat) {
+        return ring.contains(seat);
     }
 
-    public void setPlayers(List<Player> players) {
-        this.players = players;
+    // -- Seat of the player, -1 if they never sat at this table
+    public int seatOf(Player player) {
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat] == player) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    // -- Goes up with every change of the game, e.g. to tell whether a move changed anything
+    public long getVersion() {
+        return version;
+    }
+
+    // 📝 Only one listener per game. Set it after the game is set up - what happened before isn't repeated.
+    public void setEventListener(GameEventListener listener) {
+        this.listener = listener;
+    }
+
+    //endregion
+
+    //region 🗂️ Table Index
+
+    // -- Adds the player's dice to the table index and listens to their cup from now on
+    private void attach(int seat) {
+        Player player = seats[seat];
+        int rolled = 0;
+        for (int face = 1; face <= 6; face++) {
+            tableFaceCounts[face] += player.countOf(face);
+            rolled += player.countOf(face);
+        }
+        tableFaceCounts[0] += player.getDiceCount() - rolled;
+        totalDiceCount += player.getDiceCount();
+        player.observeDice(new Seat(seat));
+        if (player.isEliminated()) {
+            eliminatedSeats[eliminatedCount++] = seat;
+        }
+    }
+
+    // -- Takes the player's dice off the table again
+    private void detach(Player player) {
+        player.observeDice(null);
+        int rolled = 0;
+        for (int face = 1; face <= 6; face++) {
+            tableFaceCounts[face] -= player.countOf(face);
+            rolled += player.countOf(face);
+        }
+        tableFaceCounts[0] -= player.getDiceCount() - rolled;
+        totalDiceCount -= player.getDiceCount();
+    }
+
+    // 📝 Takes a seat out of the game without telling the listener - the callers do that (or, when
+    // a saved game is loaded, there is nobody to tell yet). The turn moves on if it was this seat's.
+    void unseat(int seat) {
+        if (!ring.contains(seat)) {
+            return;
+        }
+        if (seat == currentSeat) {
+            currentSeat = ring.next(seat);
+        }
+        ring.remove(seat);
+        detach(seats[seat]);
+    }
+
+    // 📝 One per player: keeps the table index up to date and tells the listener which seat changed.
+    private final class Seat implements DiceObserver {
+
+        private final int seat;
+
+        Seat(int seat) {
+            this.seat = seat;
+        }
+
+        @Override
+        public void onDieChanged(int index, int oldFace, int newFace) {
+            tableFaceCounts[oldFace]--;
+            tableFaceCounts[newFace]++;
+            version++;
+            if (listener != null) {
+                listener.onDieRolled(seat, index, newFace);
+            }
+        }
+
+        @Override
+        public void onDieRemoved(int face) {
+            tableFaceCounts[face]--;
+            totalDiceCount--;
+            if (seats[seat].getDiceCount() == 1) {
+                eliminatedSeats[eliminatedCount++] = seat; // <-- genau einmal: beim Schritt von 2 auf 1 Würfel
+            }
+            version++;
+            if (listener != null) {
+                listener.onDieRemoved(seat);
+            }
+        }
+
+        @Override
+        public void onRerollUsed() {
+            version++;
+            if (listener != null) {
+                listener.onRerollUsed(seat);
+            }
+        }
     }
 
     //endregion
@@ -0,0 +1,328 @@
+package game;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class GameStateCodec {
+
+    // 📝 Packs a whole table into a few longs - a bit stream, lowest bits first:
+    //     header:     seats (6) | turn seat (6) | quantity called (13) | face called (3)
+    //     per seat:   type (2) | seated (1) | reroll used (1) | dice count (7) | every die (3 each, 0 = not rolled)
+    // Every seat is written, also the ones that are out, so seat numbers survive a round trip.
+    // A two-player game with 5 dice each is 80 bits → 2 longs. Names are not part of it (they don't
+    // change during a game), decode() gets them from the caller.
+    // Encoding writes straight into the target (long[], ByteBuffer, MemorySegment) and decoding reads
+    // straight from it - nothing is copied in between. Bytes are always little endian, whatever the target's
+    // own byte order is, so a state written one way can be read the other way. hash() runs the same stream through a hash
+    // without writing anything, e.g. as a key for bot memoization.
+
+    //region 🧱 Variables
+
+    public static final int MAX_PLAYERS = 63;
+    public static final int MAX_DICE_PER_PLAYER = 127;
+
+    private static final int PLAYER_BITS = 6;
+    private static final int TURN_BITS = 6;
+    private static final int QUANTITY_BITS = 13;
+    private static final int FACE_BITS = 3;
+    private static final int TYPE_BITS = 2;
+    private static final int DICE_COUNT_BITS = 7;
+    private static final int DIE_BITS = 3;
+
+    private static final int HEADER_BITS = PLAYER_BITS + TURN_BITS + QUANTITY_BITS + FACE_BITS;
+    private static final int PLAYER_HEADER_BITS = TYPE_BITS + 1 + 1 + DICE_COUNT_BITS;
+
+    private static final int HUMAN = 0;
+    private static final int HEURISTIC_BOT = 1;
+    private static final int MONTE_CARLO_BOT = 2;
+    private static final int CFR_BOT = 3;
+
+    private static final ValueLayout.OfLong SEGMENT_LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    //endregion
+
+    private GameStateCodec() {
+    }
+
+    //region 📦 Encode
+
+    public static int encodedBits(GameState state) {
+        int bits = HEADER_BITS;
+        for (int seat = 0; seat < state.getSeatCount(); seat++) {
+            bits += PLAYER_HEADER_BITS + state.getSeat(seat).getDiceCount() * DIE_BITS;
+        }
+        return bits;
+    }
+
+    public static int encodedLongs(GameState state) {
+        return (encodedBits(state) + 63) >>> 6;
+    }
+
+    public static long[] encode(GameState state) {
+        long[] words = new long[encodedLongs(state)];
+        encode(state, words);
+        return words;
+    }
+
+    public static void encode(GameState state, long[] target) {
+        write(state, new BitWriter() {
+            @Override
+            void flush(int index, long word) {
+                target[index] = word;
+            }
+        });
+    }
+
+    // 📝 Writes the longs at the buffer's position (little endian, the buffer's own order is left alone)
+    // and moves the position on.
+    public static int encode(GameState state, ByteBuffer target) {
+        int start = target.position();
+        boolean swap = target.order() != ByteOrder.LITTLE_ENDIAN;
+        int words = write(state, new BitWriter() {
+            @Override
+            void flush(int index, long word) {
+                target.putLong(start + index * Long.BYTES, swap ? Long.reverseBytes(word) : word);
+            }
+        });
+        target.position(start + words * Long.BYTES);
+        return words * Long.BYTES;
+    }
+
+    // -- Writes the longs at offset (little endian), returns the bytes written
+    public static long encode(GameState state, MemorySegment target, long offset) {
+        int words = write(state, new BitWriter() {
+            @Override
+            void flush(int index, long word) {
+                target.set(SEGMENT_LONG, offset + (long) index * Long.BYTES, word);
+            }
+        });
+        return (long) words * Long.BYTES;
+    }
+
+    // 📝 Hash of the packed state - equal tables give equal hashes, no array is written.
+    public static long hash(GameState state) {
+        long[] hash = {0x9E3779B97F4A7C15L};
+        write(state, new BitWriter() {
+            @Override
+            void flush(int index, long word) {
+                hash[0] = mix(hash[0] ^ word);
+            }
+        });
+        return hash[0];
+    }
+
+    private static int write(GameState state, BitWriter out) {
+        int seats = state.getSeatCount();
+        if (seats > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Too many players to encode: " + seats);
+        }
+
+        if (state.getCurrentQuantityCalled() >= 1 << QUANTITY_BITS) {
+            throw new IllegalArgumentException("Call too high to encode: " + state.getCurrentQuantityCalled());
+        }
+
+        out.write(seats, PLAYER_BITS);
+        out.write(state.getCurrentSeat(), TURN_BITS);
+        out.write(state.getCurrentQuantityCalled(), QUANTITY_BITS);
+        out.write(state.getCurrentFaceValueCalled(), FACE_BITS);
+
+        for (int seat = 0; seat < seats; seat++) {
+            Player player = state.getSeat(seat);
+            int dice = player.getDiceCount();
+            if (dice > MAX_DICE_PER_PLAYER) {
+                throw new IllegalArgumentException("Too many dice to encode: " + dice);
+            }
+            out.write(typeOf(player), TYPE_BITS);
+            out.write(state.isSeated(seat) ? 1 : 0, 1);
+            out.write(player.hasUsedReroll() ? 1 : 0, 1);
+            out.write(dice, DICE_COUNT_BITS);
+            for (int i = 0; i < dice; i++) {
+                out.write(player.getDie(i), DIE_BITS);
+            }
+        }
+        return out.finish();
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    //endregion
+
+    //region 📭 Decode
+
+    // 📝 Rebuilds the game. names.get(i) is the name of seat i, missing names become "Player i".
+    public static GameState decode(long[] source, List<String> names) {
+        return read(new BitReader() {
+            @Override
+            long load(int index) {
+                return source[index];
+            }
+        }, names);
+    }
+
+    // -- Reads from the buffer's position (little endian) and moves the position past the state
+    public static GameState decode(ByteBuffer source, List<String> names) {
+        int start = source.position();
+        boolean swap = source.order() != ByteOrder.LITTLE_ENDIAN;
+        BitReader in = new BitReader() {
+            @Override
+            long load(int index) {
+                long word = source.getLong(start + index * Long.BYTES);
+                return swap ? Long.reverseBytes(word) : word;
+            }
+        };
+        GameState state = read(in, names);
+        source.position(start + in.wordsRead() * Long.BYTES);
+        return state;
+    }
+
+    public static GameState decode(MemorySegment source, long offset, List<String> names) {
+        return read(new BitReader() {
+            @Override
+            long load(int index) {
+                return source.get(SEGMENT_LONG, offset + (long) index * Long.BYTES);
+            }
+        }, names);
+    }
+
+    private static GameState read(BitReader in, List<String> names) {
+        int playerCount = in.read(PLAYER_BITS);
+        int turn = in.read(TURN_BITS);
+        int quantity = in.read(QUANTITY_BITS);
+        int face = in.read(FACE_BITS);
+        if (playerCount < 2) {
+            throw new IllegalArgumentException("An encoded game needs at least 2 players.");
+        }
+
+        List<Player> players = new ArrayList<>(playerCount);
+        boolean[] seated = new boolean[playerCount];
+        for (int p = 0; p < playerCount; p++) {
+            int type = in.read(TYPE_BITS);
+            seated[p] = in.read(1) == 1;
+            boolean rerollUsed = in.read(1) == 1;
+            int dice = in.read(DICE_COUNT_BITS);
+            String name = p < names.size() ? names.get(p) : "Player " + p;
+
+            // 📝 Same trick as GameStateIO: a Player needs 2 dice to be created.
+            Player player = create(type, name, Math.max(2, dice));
+            player.loseDice(player.getDiceCount() - dice);
+            for (int i = 0; i < dice; i++) {
+                int die = in.read(DIE_BITS);
+                if (die != 0) {
+                    player.restoreDie(i, die);
+                }
+            }
+            if (rerollUsed) {
+                player.useReroll();
+            }
+            players.add(player);
+        }
+
+        GameState state = new GameState(players);
+        for (int seat = 0; seat < playerCount; seat++) {
+            if (!seated[seat]) {
+                state.unseat(seat);
+            }
+        }
+        state.setCurrentSeat(turn);
+        state.setCurrentCall(quantity, face);
+        return state;
+    }
+
+    private static int typeOf(Player player) {
+        if (player instanceof CfrBotPlayer) {
+            return CFR_BOT;
+        } else if (player instanceof MonteCarloBotPlayer) {
+            return MONTE_CARLO_BOT;
+        } else if (player instanceof BotPlayer) {
+            return HEURISTIC_BOT;
+        }
+        return HUMAN;
+    }
+
+    private static Player create(int type, String name, int dice) {
+        return switch (type) {
+            case HUMAN -> new Player(name, dice);
+            case HEURISTIC_BOT -> new BotPlayer(name, dice);
+            case MONTE_CARLO_BOT -> new MonteCarloBotPlayer(name, dice);
+            case CFR_BOT -> new CfrBotPlayer(name, dice);
+            default -> throw new IllegalArgumentException("Unknown player type: " + type);
+        };
+    }
+
+    //endregion
+
+    //region 🔧 Bit Streams
+
+    // 📝 Collects bits in one long and hands every full long to flush().
+    private abstract static class BitWriter {
+        private long word;
+        private int used;
+        private int index;
+
+        abstract void flush(int index, long word);
+
+        final void write(int value, int bits) {
+            word |= (long) value << used;
+            used += bits;
+            if (used >= 64) {
+                flush(index++, word);
+                used -= 64;
+                // 📝 The bits that didn't fit into the full long start the next one.
+                word = used == 0 ? 0 : (long) value >>> (bits - used);
+            }
+        }
+
+        // -- Flushes the last, partly filled long and returns how many longs were written
+        final int finish() {
+            if (used > 0) {
+                flush(index++, word);
+            }
+            return index;
+        }
+    }
+
+    private abstract static class BitReader {
+        private long word;
+        private int available;
+        private int index;
+
+        abstract long load(int index);
+
+        final int read(int bits) {
+            if (available == 0) {
+                word = load(index++);
+                available = 64;
+            }
+            long value;
+            if (bits <= available) {
+                value = word & ((1L << bits) - 1);
+                word >>>= bits;
+                available -= bits;
+            } else {
+                int low = available;
+                value = word & ((1L << low) - 1);
+                word = load(index++);
+                available = 64;
+                int high = bits - low;
+                value |= (word & ((1L << high) - 1)) << low;
+                word >>>= high;
+                available -= high;
+            }
+            return (int) value;
+        }
+
+        final int wordsRead() {
+            return index;
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,135 @@
+package game;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class GameStateIO {
+
+    // 📝 Writes a whole game (players, their dice, reroll flags, whose turn it is and the current call)
+    // to a DataOutput and reads it back - used to park sessions on disk.
+    // Bots come back with their default tuning / search budget; those are settings, not game state.
+    // Every seat is written, also the ones that are out, so seat numbers stay the same after
+    // loading (the journal's ops refer to seats).
+
+    //region 🧱 Variables
+
+    private static final int VERSION = 3;
+
+    private static final byte HUMAN = 0;
+    private static final byte HEURISTIC_BOT = 1;
+    private static final byte MONTE_CARLO_BOT = 2;
+    private static final byte CFR_BOT = 3;
+
+    //endregion
+
+    private GameStateIO() {
+    }
+
+    //region ⚙️ Methods
+
+    public static void write(GameState state, DataOutput out) throws IOException {
+        out.writeByte(VERSION);
+        out.writeShort(state.getSeatCount());
+        for (int seat = 0; seat < state.getSeatCount(); seat++) {
+            Player player = state.getSeat(seat);
+            out.writeByte(typeOf(player));
+            out.writeUTF(player.getName());
+            out.writeLong(player.getUserId());
+            out.writeBoolean(state.isSeated(seat));
+            out.writeBoolean(player.hasUsedReroll());
+            out.writeShort(player.getDiceCount());
+            for (int i = 0; i < player.getDiceCount(); i++) {
+                out.writeByte(player.getDie(i));
+            }
+        }
+        out.writeShort(state.getCurrentSeat());
+        out.writeShort(state.getCurrentQuantityCalled());
+        out.writeByte(state.getCurrentFaceValueCalled());
+    }
+
+    public static GameState read(DataInput in) throws IOException {
+        return read(in, null);
+    }
+
+    // 📝 policy = what restored CfrBotPlayers play with, null = heuristic. It belongs to the bot that
+    // restores the game - several bots in one JVM (loadtest.Cluster) each have their own.
+    public static GameState read(DataInput in, CfrPolicy policy) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unknown game state version: " + version);
+        }
+
+        int playerCount = in.readUnsignedShort();
+        if (playerCount < 2) {
+            throw new IOException("A saved game needs at least 2 players.");
+        }
+        List<Player> players = new ArrayList<>(playerCount);
+        boolean[] seated = new boolean[playerCount];
+        for (int p = 0; p < playerCount; p++) {
+            byte type = in.readByte();
+            String name = in.readUTF();
+            long userId = in.readLong();
+            seated[p] = in.readBoolean();
+            boolean rerollUsed = in.readBoolean();
+            int diceCount = in.readUnsignedShort();
+
+            // 📝 Player needs at least 2 dice to be created - a player with 1 die left
+            // starts with 2 and drops the extra one again.
+            Player player = create(type, name, Math.max(2, diceCount), policy);
+            player.loseDice(player.getDiceCount() - diceCount);
+            for (int i = 0; i < diceCount; i++) {
+                int face = in.readUnsignedByte();
+                if (face != 0) {
+                    player.restoreDie(i, face);
+                }
+            }
+            if (rerollUsed) {
+                player.useReroll();
+            }
+            player.setUserId(userId);
+            players.add(player);
+        }
+
+        GameState state = new GameState(players);
+        for (int seat = 0; seat < playerCount; seat++) {
+            if (!seated[seat]) {
+                state.unseat(seat);
+            }
+        }
+        try {
+            state.setCurrentSeat(in.readUnsignedShort());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Saved turn is not at the table: " + e.getMessage(), e);
+        }
+        int quantity = in.readUnsignedShort();
+        int faceValue = in.readUnsignedByte();
+        state.setCurrentCall(quantity, faceValue);
+        return state;
+    }
+
+    private static byte typeOf(Player player) {
+        if (player instanceof CfrBotPlayer) {
+            return CFR_BOT;
+        } else if (player instanceof MonteCarloBotPlayer) {
+            return MONTE_CARLO_BOT;
+        } else if (player instanceof BotPlayer) {
+            return HEURISTIC_BOT;
+        }
+        return HUMAN;
+    }
+
+    private static Player create(byte type, String name, int dice, CfrPolicy policy) throws IOException {
+        return switch (type) {
+            case HUMAN -> new Player(name, dice);
+            case HEURISTIC_BOT -> new BotPlayer(name, dice);
+            case MONTE_CARLO_BOT -> new MonteCarloBotPlayer(name, dice);
+            case CFR_BOT -> new CfrBotPlayer(name, dice, DiceSource.shared(), policy);
+            default -> throw new IOException("Unknown player type: " + type);
+        };
+    }
+
+    //endregion
+}
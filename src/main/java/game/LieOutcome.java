@@ -0,0 +1,29 @@
+package game;
+
+// 📝 What happened when somebody called "lie" - RoundLogic.settleLie() returns it, so callers
+// can build their own messages (Telegram, console) or just count results (simulation).
+public record LieOutcome(
+        Player caller,
+        Player challenger,
+        int quantity,
+        int faceValue,
+        int actualCount,
+        boolean callWasTrue,
+        boolean instantWin
+) {
+
+    // -- The player who lost dice this round (null after an instant win)
+    public Player loser() {
+        if (instantWin) {
+            return null;
+        }
+        return callWasTrue ? challenger : caller;
+    }
+
+    public int diceLost() {
+        if (instantWin) {
+            return 0;
+        }
+        return callWasTrue ? 1 : 2;
+    }
+}
@@ -0,0 +1,522 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.*;
+import java.util.random.RandomGenerator;
+
+public class MonteCarloBotPlayer extends BotPlayer {
+
+    // 📝 Search bot: instead of fixed thresholds it tries its options - "lie", a few raises and a
+    // reroll - in many sampled worlds. A world keeps the bot's own dice and draws the hidden dice of
+    // the others at random, so it is always consistent with what the bot knows. In every world each
+    // option is played out to the end of the round with a simple policy for both sides, and the
+    // option with the best average dice balance wins.
+    //
+    // The other players are modelled as one opponent holding all unknown dice - exact for 1-on-1,
+    // an approximation for bigger tables (the bot only gets the dice total, not the seats).
+    //
+    // Cost is bounded by the SearchBudget: a hard deadline per move and a thread budget. All bots
+    // share one search pool, so under load searches queue up instead of starting more threads.
+    //
+    // With a BotDecisionCache the scores of a search are kept under everything the search looks at
+    // (own dice per face, the call, dice in the game, lie/reroll allowed). The next bot that runs into
+    // the same situation - in any game - picks its move from the stored scores and, once they stand on the
+    // full rollout budget, doesn't search at all.
+
+    //region 🧱 Variables
+
+    private static final ExecutorService searchPool = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            runnable -> {
+                Thread thread = new Thread(runnable, "mc-search");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final BinomialTailTable table = BinomialTailTable.oneInSix();
+
+    private static final int LIE = 0;
+    private static final int REROLL = 1;
+    private static final int RAISE = 2;
+
+    // 📝 Rollout policy: call lie when a bid is less likely than this, otherwise raise on the strongest face.
+    private static final double ROLLOUT_LIE_THRESHOLD = 0.35;
+    private static final int MAX_ROLLOUT_STEPS = 64;
+    // 📝 Winning the whole game with a correct max call is worth more than any dice.
+    private static final int INSTANT_WIN_SCORE = 10;
+    // 📝 Fewer rollouts than this (pool busy, deadline hit) say nothing - the bot plays the heuristic instead.
+    private static final int MIN_ROLLOUTS = 100;
+    // 📝 Options whose average is less than TIE_ERRORS standard errors below the best count as equally good.
+    // SCORE_SPREAD is a rough standard deviation of one rollout's score (mostly -2 .. +2).
+    private static final double TIE_ERRORS = 2;
+    private static final double SCORE_SPREAD = 1.5;
+
+    // 📝 Decision key: own dice per face (4 bits each), call quantity, call face, dice in the game, two flags.
+    private static final int FACE_BITS = 4;
+    private static final int QUANTITY_BITS = 10;
+    private static final long KEY_MARKER = 1L << 62; // <-- damit kein Schlüssel 0 ist
+
+    private final RandomGenerator random;
+    private final SearchBudget budget;
+    private final BotDecisionCache<SearchScores> cache; // <-- null = jedes Mal suchen
+
+    private Plan plan;
+    private boolean heuristicTurn; // <-- die Suche kam zu nichts: der Rest des Zugs läuft über die Heuristik
+    private SearchStats lastSearch;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public MonteCarloBotPlayer(String name, int startingDice) {
+        this(name, startingDice, DiceSource.shared(), SearchBudget.DEFAULT);
+    }
+
+    public MonteCarloBotPlayer(String name, int startingDice, RandomGenerator random, SearchBudget budget) {
+        this(name, startingDice, DiceSource.of(random), budget);
+    }
+
+    public MonteCarloBotPlayer(String name, int startingDice, DiceSource diceSource, SearchBudget budget) {
+        this(name, startingDice, diceSource, budget, null);
+    }
+
+    // 📝 Bots sharing a cache should share the budget too - a stored plan is only as good as the search behind it.
+    public MonteCarloBotPlayer(String name, int startingDice, DiceSource diceSource, SearchBudget budget,
+                               BotDecisionCache<SearchScores> cache) {
+        super(name, startingDice, diceSource, BotTuning.DEFAULT);
+        this.random = diceSource.generator();
+        this.budget = budget;
+        this.cache = cache;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 MyGameBot asks shouldCallLie → shouldReroll → decideNextCall in this order. The first
+    // question runs the search and the answer is kept as the plan for the rest of the turn.
+    // A search that got too few rollouts in time falls back to the heuristic BotPlayer for the turn.
+    @Override
+    public boolean shouldCallLie(int currentQuantity, int faceValue, int totalDiceInGame) {
+        plan = search(currentQuantity, faceValue, totalDiceInGame, true, !hasUsedReroll());
+        heuristicTurn = plan == null;
+        if (heuristicTurn) {
+            return super.shouldCallLie(currentQuantity, faceValue, totalDiceInGame);
+        }
+        return plan.kind == LIE;
+    }
+
+    @Override
+    public boolean shouldReroll() {
+        if (heuristicTurn) {
+            return super.shouldReroll();
+        }
+        return !hasUsedReroll() && plan != null && plan.kind == REROLL;
+    }
+
+    @Override
+    public Command decideNextCall(int currentQuantity, int currentFace, int totalDice) {
+        // 📝 No plan yet (opening call) or the dice changed after a reroll → search the raises again.
+        if (!heuristicTurn && (plan == null || plan.kind != RAISE || !plan.isFor(currentQuantity, currentFace, totalDice))) {
+            plan = search(currentQuantity, currentFace, totalDice, false, false);
+        }
+        Plan chosen = plan;
+        plan = null;
+        heuristicTurn = false;
+
+        if (chosen == null) {
+            return super.decideNextCall(currentQuantity, currentFace, totalDice);
+        }
+        if (chosen.kind != RAISE) {
+            return lie();
+        }
+        return call(chosen.quantity, chosen.faceValue);
+    }
+
+    public SearchStats getLastSearch() {
+        return lastSearch;
+    }
+
+    //endregion
+
+    //region 🔍 Search
+
+    // 📝 The plan for the situation, null if the search didn't get enough rollouts.
+    // With a cache the scores of the options are stored, not the move: a hit picks the move from them again
+    // (see choose), and until the stored scores stand on the full rollout budget every hit searches on and
+    // adds its rollouts - one unlucky or starved search doesn't become the answer for every later game.
+    private Plan search(int currentQuantity, int currentFace, int totalDice, boolean allowLie, boolean allowReroll) {
+        Candidates candidates = buildCandidates(currentQuantity, currentFace, totalDice, allowLie, allowReroll);
+        if (candidates.size() == 0) {
+            return new Plan(LIE, 0, 0, currentQuantity, currentFace, totalDice);
+        }
+
+        long key = cache == null ? 0 : decisionKey(currentQuantity, currentFace, totalDice, allowLie, allowReroll);
+        SearchScores stored = key != 0 ? cache.get(key, scores -> scores.rollouts() >= budget.maxRollouts()) : null;
+        if (stored != null && stored.sums().length != candidates.size()) {
+            stored = null; // <-- passt nicht zu den Optionen (darf nicht vorkommen), neu suchen
+        }
+
+        SearchScores scores = stored;
+        if (stored == null || stored.rollouts() < budget.maxRollouts()) {
+            long missing = budget.maxRollouts() - (stored != null ? stored.rollouts() : 0);
+            Tally tally = runSearch(candidates, currentQuantity, currentFace, totalDice, (int) missing);
+            scores = SearchScores.of(stored, tally);
+            if (key != 0 && tally.rollouts > 0 && scores.rollouts() >= minRollouts()) {
+                cache.put(key, scores); // <-- ein zweiter Bot kann parallel dasselbe tun, dann gewinnt einer - egal
+            }
+        } else {
+            lastSearch = new SearchStats(0, 0, 0); // <-- aus dem Cache, keine Rollouts
+        }
+
+        if (scores.rollouts() < minRollouts()) {
+            return null; // <-- alle Scores (fast) 0, die beste Option wäre nur die erste - meist "lie"
+        }
+        int chosen = choose(scores);
+        return new Plan(candidates.kind[chosen], candidates.quantity[chosen], candidates.faceValue[chosen],
+                currentQuantity, currentFace, totalDice);
+    }
+
+    private int minRollouts() {
+        return Math.min(MIN_ROLLOUTS, budget.maxRollouts());
+    }
+
+    // 📝 Picks at random among the options whose average is within the noise of the best one. Two options
+    // the rollouts can't tell apart are played about equally often - no fixed answer to learn and exploit.
+    private int choose(SearchScores scores) {
+        long[] sums = scores.sums();
+        int best = 0;
+        for (int i = 1; i < sums.length; i++) {
+            if (sums[i] > sums[best]) {
+                best = i;
+            }
+        }
+        // 📝 In sums: TIE_ERRORS standard errors of the mean, with SCORE_SPREAD as the spread of one rollout.
+        double margin = TIE_ERRORS * SCORE_SPREAD * Math.sqrt(scores.rollouts());
+        int near = 0;
+        for (long sum : sums) {
+            if (sum >= sums[best] - margin) {
+                near++;
+            }
+        }
+        int pick = random.nextInt(near);
+        for (int i = 0; i < sums.length; i++) {
+            if (sums[i] >= sums[best] - margin && pick-- == 0) {
+                return i;
+            }
+        }
+        return best;
+    }
+
+    private Tally runSearch(Candidates candidates, int currentQuantity, int currentFace, int totalDice, int maxRollouts) {
+        long start = System.nanoTime();
+        long deadline = start + budget.moveTime().toNanos();
+
+        World world = new World(this, totalDice - getDiceCount(), rerollFaces(), currentQuantity, currentFace);
+
+        // 📝 Every task gets its own generator, split off on this thread before the tasks start.
+        int tasks = budget.threads();
+        int rolloutsPerTask = Math.max(1, maxRollouts / tasks);
+        List<Future<Tally>> futures = new ArrayList<>(tasks);
+        for (int i = 0; i < tasks; i++) {
+            SplittableRandom taskRandom = new SplittableRandom(random.nextLong());
+            futures.add(searchPool.submit(() -> runRollouts(world, candidates, taskRandom, rolloutsPerTask, deadline)));
+        }
+
+        // 📝 Tasks stop by themselves at the deadline. The grace period gives them time to hand in their
+        // tally, anything later than that is dropped - so a move never takes much longer than its budget.
+        long collectUntil = deadline + Math.max(TimeUnit.MILLISECONDS.toNanos(2), budget.moveTime().toNanos() / 10);
+        Tally total = new Tally(candidates.size());
+        for (Future<Tally> future : futures) {
+            try {
+                long remaining = Math.max(0, collectUntil - System.nanoTime());
+                total.add(future.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                // 📝 The pool was busy and the task didn't finish in time - carry on without it.
+                future.cancel(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Monte Carlo search failed.", e.getCause());
+            }
+        }
+
+        lastSearch = new SearchStats(total.rollouts, System.nanoTime() - start, tasks);
+        return total;
+    }
+
+    // 📝 Options to compare: lie, reroll and per face the cheapest legal raise, one more and the
+    // "expected" bid (own dice plus a sixth of the unknown dice).
+    private Candidates buildCandidates(int currentQuantity, int currentFace, int totalDice,
+                                       boolean allowLie, boolean allowReroll) {
+        Candidates candidates = new Candidates();
+        if (allowLie && currentQuantity > 0) {
+            candidates.add(LIE, 0, 0);
+        }
+        boolean canRaise = currentQuantity < totalDice || currentFace < 6;
+        if (allowReroll && currentQuantity > 0 && getDiceCount() > 0 && canRaise) { // <-- ohne möglichen Call danach kein Reroll
+            candidates.add(REROLL, 0, 0);
+        }
+
+        int unknownDice = totalDice - getDiceCount();
+        for (int face = 1; face <= 6; face++) {
+            int cheapest = cheapestRaise(currentQuantity, currentFace, face);
+            int expected = countOf(face) + Math.round(unknownDice / 6.0f);
+
+            for (int quantity : new int[]{cheapest, cheapest + 1, expected}) {
+                if (quantity >= cheapest && quantity <= totalDice && !candidates.contains(quantity, face)) {
+                    candidates.add(RAISE, quantity, face);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    // -- Faces of the dice the bot would reroll (same choice as the heuristic bot)
+    private int[] rerollFaces() {
+        int[] faces = new int[7];
+        if (hasUsedReroll()) {
+            return faces;
+        }
+        for (int index : chooseDiceToReroll()) {
+            faces[getDie(index)]++;
+        }
+        return faces;
+    }
+
+    private static Tally runRollouts(World world, Candidates candidates, RandomGenerator rng,
+                                     int maxRollouts, long deadline) {
+        Tally tally = new Tally(candidates.size());
+        int[] theirs = new int[7];
+        int[] mine = new int[7];
+
+        for (int n = 0; n < maxRollouts && System.nanoTime() < deadline; n++) {
+            world.sampleOpponents(theirs, rng);
+
+            // 📝 All options are scored in the same world, which makes the comparison much less noisy.
+            for (int c = 0; c < candidates.size(); c++) {
+                System.arraycopy(world.own, 0, mine, 0, 7);
+                tally.scores[c] += world.score(candidates.kind[c], candidates.quantity[c], candidates.faceValue[c],
+                        mine, theirs, rng);
+            }
+            tally.rollouts++;
+        }
+        return tally;
+    }
+
+    // 📝 Everything the search depends on, packed into one long - 0 if the situation doesn't fit
+    // (more than 15 dice of a face, or more than 1023 dice on the table); those are just searched.
+    private long decisionKey(int currentQuantity, int currentFace, int totalDice, boolean allowLie, boolean allowReroll) {
+        long key = KEY_MARKER;
+        int counted = 0;
+        for (int face = 1; face <= 6; face++) {
+            int count = countOf(face);
+            if (count >= 1 << FACE_BITS) {
+                return 0;
+            }
+            key |= (long) count << ((face - 1) * FACE_BITS);
+            counted += count;
+        }
+        if (counted != getDiceCount() || totalDice >= 1 << QUANTITY_BITS || currentQuantity >= 1 << QUANTITY_BITS) {
+            return 0; // <-- ungewürfelte Würfel oder ein Riesentisch
+        }
+        int shift = 6 * FACE_BITS;
+        key |= (long) currentQuantity << shift;
+        key |= (long) currentFace << (shift += QUANTITY_BITS);
+        key |= (long) totalDice << (shift += 3);
+        key |= (allowLie ? 1L : 0L) << (shift += QUANTITY_BITS);
+        key |= (allowReroll ? 1L : 0L) << (shift + 1);
+        return key;
+    }
+
+    private static int cheapestRaise(int currentQuantity, int currentFace, int face) {
+        if (currentQuantity == 0) {
+            return 1;
+        }
+        return face > currentFace ? currentQuantity : currentQuantity + 1;
+    }
+
+    //endregion
+
+    //region 🌍 World
+
+    // 📝 Everything a rollout needs, copied once per search so the search threads never touch the Player.
+    private static final class World {
+        private final int[] own = new int[7];
+        private final int[] rerolled;
+        private final int myDice;
+        private final int theirDice;
+        private final int currentQuantity;
+        private final int currentFace;
+
+        World(MonteCarloBotPlayer bot, int unknownDice, int[] rerolled, int currentQuantity, int currentFace) {
+            for (int face = 1; face <= 6; face++) {
+                own[face] = bot.countOf(face);
+            }
+            this.rerolled = rerolled;
+            this.myDice = bot.getDiceCount();
+            this.theirDice = unknownDice;
+            this.currentQuantity = currentQuantity;
+            this.currentFace = currentFace;
+        }
+
+        void sampleOpponents(int[] theirs, RandomGenerator rng) {
+            Arrays.fill(theirs, 0);
+            for (int i = 0; i < theirDice; i++) {
+                theirs[1 + rng.nextInt(6)]++;
+            }
+        }
+
+        // -- Dice balance of one option in one world: + dice the opponent loses, - dice the bot loses
+        int score(int kind, int quantity, int faceValue, int[] mine, int[] theirs, RandomGenerator rng) {
+            return switch (kind) {
+                case LIE -> settle(currentQuantity, currentFace, mine, theirs, true);
+                case REROLL -> {
+                    for (int face = 1; face <= 6; face++) {
+                        for (int i = 0; i < rerolled[face]; i++) {
+                            mine[face]--;
+                            mine[1 + rng.nextInt(6)]++;
+                        }
+                    }
+                    int face = strongestFace(mine);
+                    int raise = cheapestRaise(currentQuantity, currentFace, face);
+                    if (raise > myDice + theirDice) {
+                        yield settle(currentQuantity, currentFace, mine, theirs, true);
+                    }
+                    yield playOut(raise, face, mine, theirs);
+                }
+                default -> playOut(quantity, faceValue, mine, theirs);
+            };
+        }
+
+        // 📝 Plays the round on after the bot made the bid: both sides lie when the bid looks
+        // unlikely from their own dice, otherwise they raise as cheaply as possible on their best face.
+        private int playOut(int quantity, int faceValue, int[] mine, int[] theirs) {
+            boolean myTurn = false;
+            int totalDice = myDice + theirDice;
+
+            for (int step = 0; step < MAX_ROLLOUT_STEPS; step++) {
+                int[] own = myTurn ? mine : theirs;
+                int othersDice = myTurn ? theirDice : myDice;
+
+                int face = strongestFace(own);
+                int raise = cheapestRaise(quantity, faceValue, face);
+                double chanceTrue = table.atLeast(othersDice, quantity - own[faceValue]);
+
+                if (chanceTrue < ROLLOUT_LIE_THRESHOLD || raise > totalDice) {
+                    return settle(quantity, faceValue, mine, theirs, myTurn);
+                }
+                quantity = raise;
+                faceValue = face;
+                myTurn = !myTurn;
+            }
+            return 0;
+        }
+
+        // 📝 Same rules as RoundLogic.settleLie: true call → challenger loses 1, false call → caller loses 2.
+        private int settle(int quantity, int faceValue, int[] mine, int[] theirs, boolean botChallenges) {
+            int actual = mine[faceValue] + theirs[faceValue];
+            int sign = botChallenges ? 1 : -1;
+
+            if (quantity == myDice + theirDice && faceValue == 6 && actual == quantity) {
+                return -sign * INSTANT_WIN_SCORE;
+            }
+            return actual >= quantity ? -sign : sign * 2;
+        }
+
+        private static int strongestFace(int[] counts) {
+            int best = 6;
+            for (int face = 5; face >= 1; face--) {
+                if (counts[face] > counts[best]) {
+                    best = face;
+                }
+            }
+            return best;
+        }
+    }
+
+    //endregion
+
+    //region 📦 Helpers
+
+    private static final class Candidates {
+        private int[] kind = new int[20];
+        private int[] quantity = new int[20];
+        private int[] faceValue = new int[20];
+        private int size;
+
+        void add(int k, int q, int f) {
+            if (size == kind.length) {
+                kind = Arrays.copyOf(kind, size * 2);
+                quantity = Arrays.copyOf(quantity, size * 2);
+                faceValue = Arrays.copyOf(faceValue, size * 2);
+            }
+            kind[size] = k;
+            quantity[size] = q;
+            faceValue[size] = f;
+            size++;
+        }
+
+        boolean contains(int q, int f) {
+            for (int i = 0; i < size; i++) {
+                if (kind[i] == RAISE && quantity[i] == q && faceValue[i] == f) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    private static final class Tally {
+        private final long[] scores;
+        private long rollouts;
+
+        Tally(int candidates) {
+            this.scores = new long[candidates];
+        }
+
+        void add(Tally other) {
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] += other.scores[i];
+            }
+            rollouts += other.rollouts;
+        }
+    }
+
+    // 📝 What the cache keeps per situation: rollouts done and the score sum of every option. Every option
+    // was played in every world, so the highest sum is the highest average. Never changed once made.
+    public record SearchScores(long rollouts, long[] sums) {
+
+        static SearchScores of(SearchScores stored, Tally tally) {
+            long[] sums = tally.scores.clone();
+            long rollouts = tally.rollouts;
+            if (stored != null) {
+                for (int i = 0; i < sums.length; i++) {
+                    sums[i] += stored.sums[i];
+                }
+                rollouts += stored.rollouts;
+            }
+            return new SearchScores(rollouts, sums);
+        }
+    }
+
+    private record Plan(int kind, int quantity, int faceValue, int forQuantity, int forFace, int forTotal) {
+        boolean isFor(int currentQuantity, int currentFace, int totalDice) {
+            return forQuantity == currentQuantity && forFace == currentFace && forTotal == totalDice;
+        }
+    }
+
+    // 📝 What the last move cost - rollouts done, wall time and tasks used.
+    public record SearchStats(long rollouts, long elapsedNanos, int threads) {
+    }
+
+    //endregion
+}
@@ -1,6 +1,7 @@
 package game;
 
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 public class Player {
 
@@ -9,17 +10,27 @@ public class Player {
     private final String name;
     private DiceCup diceCup;
     private boolean rerollUsed = false;
+    private DiceObserver observer;
+    private long userId; // <-- Telegram-User, der auf diesem Platz spielt (0 = Bot oder Konsole)
 
     //endregion
 
     //region 🛠️ Constructor
     public Player(String name, int startingDice) {
+        this(name, startingDice, DiceSource.shared());
+    }
+
+    public Player(String name, int startingDice, RandomGenerator random) {
+        this(name, startingDice, DiceSource.of(random));
+    }
+
+    public Player(String name, int startingDice, DiceSource diceSource) {
 
         if (startingDice <= 1) {
             throw new IllegalArgumentException("Invalid start dice! You need at least 2 dice.");
         }
         this.name = name;
-        this.diceCup = new DiceCup(startingDice);
+        this.diceCup = new DiceCup(startingDice, diceSource);
     }
 
     //endregion
@@ -34,10 +45,23 @@ public class Player {
         diceCup.rollSelected(dices);
     }
 
+    public void rerollSelectedDice(long mask) {
+        diceCup.rollSelected(mask);
+    }
+
+    // 📝 Read-only live view on the dice - copy it if you need the values from before a roll.
     public List<Integer> revealDice() {
         return diceCup.getCurrentDice();
     }
 
+    public int countOf(int face) {
+        return diceCup.countOf(face);
+    }
+
+    public int getDie(int index) {
+        return diceCup.getDie(index);
+    }
+
     public void loseDice(int count) {
         diceCup.removeDice(count);
     }
@@ -56,6 +80,9 @@ public class Player {
 
     public void useReroll() {
         rerollUsed = true;
+        if (observer != null) {
+            observer.onRerollUsed();
+        }
     }
 
     //endregion
@@ -66,10 +93,27 @@ public class Player {
         return name;
     }
 
+    public long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(long userId) {
+        this.userId = userId;
+    }
+
     public int getDiceCount() {
         return diceCup.getNumberOfDice();
     }
 
+    void restoreDie(int index, int face) {
+        diceCup.restoreDie(index, face);
+    }
+
+    void observeDice(DiceObserver observer) {
+        this.observer = observer;
+        diceCup.setObserver(observer);
+    }
+
     //endregion
 
 }
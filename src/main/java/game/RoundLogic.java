@@ -1,22 +1,37 @@
 package game;
 
-import java.util.ArrayList;
+import log.Log;
+import log.Logger;
+
 import java.util.List;
 import java.util.Scanner;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 public class RoundLogic {
 
     //region 🧱 Variables
 
+    private static final Logger LOG = Log.get(RoundLogic.class);
+    private static final Consumer<String> DEBUG_LOG = LOG::debug;
+
     private final GameState gameState;
+    private final Consumer<String> output; // <-- Konsolenspiel: System.out, sonst nur DEBUG-Log
+    private final Command command = new Command(); // <-- wird für jede Eingabe wiederverwendet
     private boolean roundEnded;
 
     //endregion
 
     //region 🛠️ Constructor
 
+    // 📝 The bot and the simulation don't read the console texts, so they only go to the debug log.
     public RoundLogic(GameState gameState) {
+        this(gameState, DEBUG_LOG);
+    }
+
+    public RoundLogic(GameState gameState, Consumer<String> output) {
         this.gameState = gameState;
+        this.output = output;
         this.roundEnded = false;
     }
 
@@ -41,6 +56,7 @@ public class RoundLogic {
 
     // 📝 Bot Turn
     private void handleBotTurn(BotPlayer botPlayer) {
+        botPlayer.setPlayerCount(gameState.getPlayerCount());
         int currentQuantity = gameState.getCurrentQuantityCalled();
         int currentFace = gameState.getCurrentFaceValueCalled();
 
@@ -55,11 +71,11 @@ public class RoundLogic {
         }
 
         if (callLie) {
-            System.out.println("🤖 Bot shouts: YOU LIE!");
+            output.accept("🤖 Bot shouts: YOU LIE!");
             resolveLie();
         } else {
             if (!botPlayer.hasUsedReroll() && botPlayer.shouldReroll()) {
-                System.out.println("🤖 Bot decides to reroll!");
+                output.accept("🤖 Bot decides to reroll!");
                 List<Integer> indices = botPlayer.chooseDiceToReroll();
                 botPlayer.rerollSelectedDice(indices);
                 botPlayer.useReroll();
@@ -70,40 +86,41 @@ public class RoundLogic {
                     currentQuantity,
                     currentFace,
                     gameState.getTotalDiceCount()
-            );
+            ).toString(); // <-- Konsole: geht als Eingabe durch denselben Weg wie die eines Menschen
 
-            System.out.println("🤖 Bot calls: " + call);
+            say(() -> "🤖 Bot calls: " + call);
             handleNewCall(call, botPlayer);
         }
     }
 
     // 📝 Human Turn
     private void handleHumanTurn(Player player, Scanner scanner) {
-        System.out.println("\n--- " + player.getName() + "'s turn ---");
-        System.out.println("Current call: "
+        say(() -> "\n--- " + player.getName() + "'s turn ---");
+        say(() -> "Current call: "
                 + gameState.getCurrentQuantityCalled()
                 + " x " + gameState.getCurrentFaceValueCalled());
-        System.out.println("Your dice: " + player.revealDice());
+        say(() -> "Your dice: " + player.revealDice());
 
         if (!player.hasUsedReroll()) {
-            System.out.println("Enter your move (e.g. '3 4' for call, 'reroll 0 2', or 'lie'):");
+            output.accept("Enter your move (e.g. '3 4' for call, 'reroll 0 2', or 'lie'):");
         } else {
-            System.out.println("Enter your move (e.g. '3 4' for call, or 'lie'):");
+            output.accept("Enter your move (e.g. '3 4' for call, or 'lie'):");
         }
 
-        String input = scanner.nextLine().trim();
+        String input = scanner.nextLine();
+        CommandParser.parse(input, command);
 
-        if (input.equalsIgnoreCase("lie")) {
+        if (command.type() == Command.Type.LIE) {
             if (gameState.getCurrentQuantityCalled() == 0) {
-                System.out.println("⚠️ You can't call a lie before any call has been made.");
+                output.accept("⚠️ You can't call a lie before any call has been made.");
                 return;
             }
             resolveLie();
-        } else if (input.startsWith("reroll")) {
+        } else if (command.type() == Command.Type.REROLL) {
             if (player.hasUsedReroll()) {
-                System.out.println("⚠️ You already used your reroll this match.");
+                output.accept("⚠️ You already used your reroll this match.");
             } else {
-                handleReroll(player, input, scanner);
+                handleReroll(player, command.rerollMask(), scanner);
                 player.useReroll();
             }
         } else {
@@ -112,73 +129,65 @@ public class RoundLogic {
     }
 
     // 📝 Handle rerolling dice for a player.
-    private void handleReroll(Player player, String input, Scanner scanner) {
-        String[] parts = input.split(" ");
-        List<Integer> indices = new ArrayList<>();
-        for (int i = 1; i < parts.length; i++) {
-            indices.add(Integer.parseInt(parts[i]));
-        }
+    private void handleReroll(Player player, long rerollMask, Scanner scanner) {
+        player.rerollSelectedDice(rerollMask);
+        say(() -> "New dice after reroll: " + player.revealDice());
 
-        player.rerollSelectedDice(indices);
-        System.out.println("New dice after reroll: " + player.revealDice());
-
-        System.out.println("Now you must make a higher call (e.g. '3 4'):");
+        output.accept("Now you must make a higher call (e.g. '3 4'):");
 
         boolean validCall = false;
 
         while (!validCall) {
-            String call = scanner.nextLine().trim();
-
-            if (call.equalsIgnoreCase("lie")) {
-                System.out.println("⚠️ You cannot call 'lie' after a reroll. You must make a numeric call.");
-                continue;
-            }
-
-            String[] partsCall = call.split(" ");
-            if (partsCall.length == 2) {
-                try {
-                    int quantity = Integer.parseInt(partsCall[0]);
-                    int faceValue = Integer.parseInt(partsCall[1]);
-
-                    if (quantity > 0 && faceValue >= 1 && faceValue <= 6) {
-                        handleNewCall(call, player);
-                        validCall = true;
+            String call = scanner.nextLine();
+            CommandParser.parse(call, command);
+
+            switch (command.type()) {
+                case LIE -> output.accept("⚠️ You cannot call 'lie' after a reroll. You must make a numeric call.");
+                case CALL -> {
+                    handleNewCall(call, player);
+                    validCall = true;
+                }
+                default -> {
+                    Command.ParseError error = command.error();
+                    if (error == Command.ParseError.QUANTITY_OUT_OF_RANGE || error == Command.ParseError.FACE_OUT_OF_RANGE) {
+                        output.accept("⚠️ Invalid call values. Must be > 0 and face value between 1-6.");
                     } else {
-                        System.out.println("⚠️ Invalid call values. Must be > 0 and face value between 1-6.");
+                        output.accept("⚠️ You must enter two numbers like '3 4'.");
                     }
-                } catch (NumberFormatException e) {
-                    System.out.println("⚠️ Invalid input. Please enter two numbers.");
                 }
-            } else {
-                System.out.println("⚠️ You must enter two numbers like '3 4'.");
             }
         }
     }
 
     // 📝 Handle making a new call
     public void handleNewCall(String input, Player currentPlayer) {
-        try {
-            String[] parts = input.split(" ");
-            int quantity = Integer.parseInt(parts[0]);
-            int faceValue = Integer.parseInt(parts[1]);
+        if (!CommandParser.parse(input, command) || command.type() != Command.Type.CALL) {
+            output.accept("⚠️ Invalid input - Must be higher than previous Call. Please try again.");
+            return;
+        }
+        int quantity = command.quantity();
+        int faceValue = command.face();
 
-            if (quantity > gameState.getTotalDiceCount()) {
-                System.out.println("⚠️ Illegal call! You can't call more dice than remain in the game.");
-                return;
-            }
+        if (quantity > gameState.getTotalDiceCount()) {
+            output.accept("⚠️ Illegal call! You can't call more dice than remain in the game.");
+            return;
+        }
 
-            if (!gameState.isCallHigher(quantity, faceValue)) {
-                System.out.println("⚠️ Illegal call! Must be higher than previous.");
-                return;
-            }
+        if (!gameState.isCallHigher(quantity, faceValue)) {
+            output.accept("⚠️ Illegal call! Must be higher than previous.");
+            return;
+        }
 
-            gameState.setCurrentCall(quantity, faceValue);
-            System.out.println(currentPlayer.getName()
-                    + " calls " + quantity + " x " + faceValue);
-            gameState.advanceTurn();
+        gameState.setCurrentCall(quantity, faceValue);
+        say(() -> currentPlayer.getName()
+                + " calls " + quantity + " x " + faceValue);
+        gameState.advanceTurn();
+    }
 
-        } catch (Exception e) {
-            System.out.println("⚠️ Invalid input - Must be higher than previous Call. Please try again.");
+    // -- Texts that have to be built: only built if someone reads them (DEBUG off = nothing happens)
+    private void say(Supplier<String> text) {
+        if (output != DEBUG_LOG || LOG.isDebugEnabled()) {
+            output.accept(text.get());
         }
     }
 
@@ -194,33 +203,46 @@ public class RoundLogic {
         }
         sb.append("============================\n\n");
 
+        LieOutcome outcome = settleLie();
+        sb.append("Es lagen tatsächlich *").append(outcome.actualCount()).append(" × ").append(outcome.faceValue()).append("* auf dem Tisch.\n");
+
+        if (outcome.instantWin()) {
+            sb.append("\n🏆 *").append(outcome.caller().getName())
+                    .append("* hat das Maximum richtig gecallt und gewinnt sofort das ganze Spiel!");
+        } else if (outcome.callWasTrue()) {
+            sb.append("\n✅ *Der Call war WAHR!* ")
+                    .append(outcome.challenger().getName())
+                    .append(" verliert 1 Würfel.");
+        } else {
+            sb.append("\n❌ *Der Call war FALSCH!* ")
+                    .append(outcome.caller().getName())
+                    .append(" verliert 2 Würfel.");
+        }
+
+        return sb.toString();
+    }
+
+    // 📝 Settles the lie without any text: counts the dice, takes dice away and removes eliminated
+    // players. resolveLie() builds the chat message on top of it, the simulation uses it directly.
+    public LieOutcome settleLie() {
         int quantity = gameState.getCurrentQuantityCalled();
         int faceValue = gameState.getCurrentFaceValueCalled();
 
         int actualCount = gameState.getTotalDiceForFace(faceValue);
-        sb.append("Es lagen tatsächlich *").append(actualCount).append(" × ").append(faceValue).append("* auf dem Tisch.\n");
 
-        Player previousPlayer = getPreviousPlayer();
+        Player previousPlayer = gameState.getPreviousPlayer();
+        Player challenger = gameState.getCurrentPlayer();
 
         if (isMaxPossibleCall(quantity, faceValue) && actualCount == quantity) {
-            sb.append("\n🏆 *").append(previousPlayer.getName())
-                    .append("* hat das Maximum richtig gecallt und gewinnt sofort das ganze Spiel!");
-            List<Player> winnerList = new ArrayList<>();
-            winnerList.add(previousPlayer);
-            gameState.setPlayers(winnerList);
+            gameState.declareWinner(previousPlayer);
             roundEnded = true;
-            return sb.toString();
+            return new LieOutcome(previousPlayer, challenger, quantity, faceValue, actualCount, true, true);
         }
 
-        if (actualCount >= quantity) {
-            sb.append("\n✅ *Der Call war WAHR!* ")
-                    .append(gameState.getCurrentPlayer().getName())
-                    .append(" verliert 1 Würfel.");
-            gameState.getCurrentPlayer().loseDice(1);
+        boolean callWasTrue = actualCount >= quantity;
+        if (callWasTrue) {
+            challenger.loseDice(1);
         } else {
-            sb.append("\n❌ *Der Call war FALSCH!* ")
-                    .append(previousPlayer.getName())
-                    .append(" verliert 2 Würfel.");
             previousPlayer.loseDice(2);
         }
 
@@ -228,16 +250,7 @@ public class RoundLogic {
         gameState.removeEliminatedPlayers();
         roundEnded = true;
 
-        return sb.toString();
-    }
-
-    // 📝 Who made the last call
-    private Player getPreviousPlayer() {
-        int prevIndex = gameState.getCurrentPlayerIndex() - 1;
-        if (prevIndex < 0) {
-            prevIndex = gameState.getPlayers().size() - 1;
-        }
-        return gameState.getPlayers().get(prevIndex);
+        return new LieOutcome(previousPlayer, challenger, quantity, faceValue, actualCount, callWasTrue, false);
     }
 
     private boolean isMaxPossibleCall(int quantity, int faceValue) {
@@ -258,12 +271,17 @@ public class RoundLogic {
 
     public void handleHumanReroll(String input) {
         Player player = gameState.getCurrentPlayer();
+        if (!CommandParser.parse(input, command) || command.type() != Command.Type.REROLL) {
+            output.accept("⚠️ Use 'reroll' with the dice to roll again, e.g. 'reroll 0 2'.");
+            return;
+        }
         Scanner fakeScanner = new Scanner(System.in);
-        handleReroll(player, input, fakeScanner);
+        handleReroll(player, command.rerollMask(), fakeScanner);
     }
 
     public String playBotTurn(BotPlayer botPlayer) {
         StringBuilder response = new StringBuilder();
+        botPlayer.setPlayerCount(gameState.getPlayerCount());
 
         int currentQuantity = gameState.getCurrentQuantityCalled();
         int currentFace = gameState.getCurrentFaceValueCalled();
@@ -294,7 +312,7 @@ public class RoundLogic {
                     currentQuantity,
                     currentFace,
                     gameState.getTotalDiceCount()
-            );
+            ).toString(); // <-- Konsole: geht als Eingabe durch denselben Weg wie die eines Menschen
 
             response.append("🤖 Bot ruft: ").append(call);
             handleNewCall(call, botPlayer);
@@ -0,0 +1,22 @@
+package game;
+
+import java.time.Duration;
+
+// 📝 How much a MonteCarloBotPlayer may spend on one move: a hard deadline, how many
+// search threads it may use at once and a cap on rollouts (small tables converge quickly).
+public record SearchBudget(Duration moveTime, int threads, int maxRollouts) {
+
+    public static final SearchBudget DEFAULT = new SearchBudget(Duration.ofMillis(50), 2, 50_000);
+
+    public SearchBudget {
+        if (moveTime.isNegative() || moveTime.isZero()) {
+            throw new IllegalArgumentException("A move needs some time to think.");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("A search needs at least one thread.");
+        }
+        if (maxRollouts < 1) {
+            throw new IllegalArgumentException("A search needs at least one rollout.");
+        }
+    }
+}
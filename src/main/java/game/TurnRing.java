@@ -0,0 +1,81 @@
+package game;
+
+public final class TurnRing {
+
+    // 📝 Turn order of a table as a doubly linked ring over seat numbers (0 … seats-1), kept in two int arrays.
+    // next(), previous() and remove() only touch a few array slots - O(1) no matter how many players,
+    // and no list is copied or shifted. A seat keeps its number for the whole game, even after the players
+    // before it dropped out, so "seat 7" means the same player in every event and in the journal.
+
+    //region 🧱 Variables
+
+    private final int[] next;
+    private final int[] previous;
+    private final boolean[] seated;
+    private int size;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public TurnRing(int seats) {
+        if (seats < 1) {
+            throw new IllegalArgumentException("A ring needs at least one seat.");
+        }
+        next = new int[seats];
+        previous = new int[seats];
+        seated = new boolean[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            next[seat] = (seat + 1) % seats;
+            previous[seat] = (seat + seats - 1) % seats;
+            seated[seat] = true;
+        }
+        size = seats;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // -- The seat after this one that is still in the game
+    public int next(int seat) {
+        return next[seat];
+    }
+
+    public int previous(int seat) {
+        return previous[seat];
+    }
+
+    // 📝 Takes the seat out of the ring: its neighbours now point at each other. The seat's own links
+    // stay as they were, so following next() from a removed seat still ends up back in the ring.
+    public void remove(int seat) {
+        if (!seated[seat]) {
+            return;
+        }
+        if (size == 1) {
+            throw new IllegalStateException("The last seat can't leave the ring.");
+        }
+        int before = previous[seat];
+        int after = next[seat];
+        next[before] = after;
+        previous[after] = before;
+        seated[seat] = false;
+        size--;
+    }
+
+    public boolean contains(int seat) {
+        return seat >= 0 && seat < seated.length && seated[seat];
+    }
+
+    // -- Seats still in the ring
+    public int size() {
+        return size;
+    }
+
+    // -- Seats the ring was built with, including the removed ones
+    public int capacity() {
+        return seated.length;
+    }
+
+    //endregion
+}
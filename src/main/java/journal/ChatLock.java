@@ -0,0 +1,9 @@
+package journal;
+
+// 📝 Runs an action under the lock of a chat (SessionRegistry.withLock), so a snapshot
+// sees each game between two moves and never in the middle of one.
+@FunctionalInterface
+public interface ChatLock {
+
+    void run(long chatId, Runnable action);
+}
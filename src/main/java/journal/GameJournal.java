@@ -0,0 +1,585 @@
+package journal;
+
+import game.CfrPolicy;
+import game.GameEventCodec;
+import game.GameState;
+import game.GameStateIO;
+import log.Log;
+import log.Logger;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+public class GameJournal implements AutoCloseable {
+
+    // 📝 Append-only Journal aller Spielzüge, damit ein Deploy oder Absturz keine laufenden Spiele mehr killt.
+    // - Jeder Zug wird ein Record: Chat-ID, Sequenznummer, Art, Nutzdaten (Ops oder ganzer Spielstand), CRC.
+    // - Ein Writer-Thread schreibt alles, was sich angesammelt hat, in einem Rutsch und ruft dann EINMAL fsync
+    //   (Group Commit). Unter dem Lock des Chats wird nur eingereiht; erst danach wartet der Bot mit sync() auf
+    //   den Group Commit und antwortet dann - ein Zug, den der Spieler bestätigt bekommt, liegt auf der Platte.
+    //   Ging das Schreiben schief, wirft sync() eine IOException, bis der nächste Snapshot alle Spiele neu gesichert hat.
+    // - Das Journal besteht aus Segmenten (journal-N.log). Ein Snapshot (snapshot-N.bin) enthält alle offenen
+    //   Spiele und ersetzt die Segmente vor N, die danach gelöscht werden.
+    // - Beim Start: neuester Snapshot laden, Segmente ab N abspielen. Records, die der Snapshot schon enthält,
+    //   erkennt man an der Sequenznummer und überspringt sie. Ein halb geschriebener Record am Ende wird ignoriert.
+    // Sequenznummern sind global und steigen immer, auch über Neustarts hinweg.
+
+    //region 🧱 Variables
+
+    private static final Logger LOG = Log.get(GameJournal.class);
+
+    static final byte STATE = 1;  // <-- ganzer Spielstand (neues Spiel, aus dem Spill Store geholt, ...)
+    static final byte OPS = 2;    // <-- Änderungen eines Zugs
+    static final byte END = 3;    // <-- Spiel vorbei oder beendet
+    static final byte PARKED = 4; // <-- Spiel liegt jetzt im SessionStore
+
+    private static final int SNAPSHOT_MAGIC = 0x4C445353; // "LDSS"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int HEADER_BYTES = 8;             // <-- Länge + CRC
+    private static final int BODY_HEADER_BYTES = 17;       // <-- Chat-ID + Sequenz + Art
+    private static final int MAX_RECORD_BYTES = 1 << 24;
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+    private static final int MAX_BATCH = 4096;
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private static final Object STOP = new Object();
+
+    private final Path directory;
+    private final JournalConfig config;
+    private final CfrPolicy policy; // <-- für wiederhergestellte CFR-Bots, null = Heuristik
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong recordsSinceSnapshot = new AtomicLong();
+    private final AtomicBoolean snapshotRequested = new AtomicBoolean();
+    private final ConcurrentHashMap<Long, JournalRecorder> recorders = new ConcurrentHashMap<>();
+    private final LinkedBlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private final AtomicReference<IOException> failure = new AtomicReference<>(); // <-- letzter Schreibfehler, bis ein Snapshot ihn abdeckt
+    private final LongAdder forces = new LongAdder();
+
+    private Map<Long, RecoveredSession> recovered;
+    private final RecoveryStats recoveryStats;
+    private int currentSegment;          // <-- Segment, in das gerade geschrieben wird
+    private FileChannel channel;         // <-- gehört dem Writer-Thread
+    private ScheduledExecutorService snapshotter;
+    private ChatLock locks;
+    private volatile boolean closed;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    // 📝 Rebuilds the games from the directory (see takeRecovered()) and starts a fresh segment.
+    public GameJournal(Path directory, JournalConfig config) throws IOException {
+        this(directory, config, null);
+    }
+
+    public GameJournal(Path directory, JournalConfig config, CfrPolicy policy) throws IOException {
+        this.directory = directory;
+        this.config = config;
+        this.policy = policy;
+        Files.createDirectories(directory);
+
+        long start = System.nanoTime();
+        this.recovered = new HashMap<>();
+        this.recoveryStats = recover(start);
+
+        this.channel = openSegment(currentSegment);
+        this.writer = new Thread(this::writeLoop, "journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    //endregion
+
+    //region ✍️ Writing
+
+    // -- Starts recording a new game, its first record is the whole state
+    public JournalRecorder open(long chatId, GameState state) {
+        return register(new JournalRecorder(this, chatId, state, 0, true));
+    }
+
+    // -- Continues recording a game that came out of takeRecovered()
+    public JournalRecorder adopt(long chatId, GameState state, long lastSequence) {
+        return register(new JournalRecorder(this, chatId, state, lastSequence, false));
+    }
+
+    private JournalRecorder register(JournalRecorder recorder) {
+        JournalRecorder previous = recorders.put(recorder.getChatId(), recorder);
+        if (previous != null) {
+            previous.detach();
+        }
+        return recorder;
+    }
+
+    void forget(JournalRecorder recorder) {
+        recorders.remove(recorder.getChatId(), recorder);
+    }
+
+    // 📝 Frames the record and hands it to the writer. Called under the chat's lock, so the records
+    // of one chat are queued in the order they happened. Returns the record's sequence number.
+    long append(long chatId, byte kind, byte[] payload) {
+        long seq = sequence.incrementAndGet();
+        if (closed) {
+            return seq;
+        }
+
+        byte[] frame = new byte[HEADER_BYTES + BODY_HEADER_BYTES + payload.length];
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        buffer.putInt(BODY_HEADER_BYTES + payload.length);
+        buffer.putInt(0); // <-- CRC kommt gleich
+        buffer.putLong(chatId).putLong(seq).put(kind).put(payload);
+
+        CRC32C crc = new CRC32C();
+        crc.update(frame, HEADER_BYTES, frame.length - HEADER_BYTES);
+        buffer.putInt(4, (int) crc.getValue());
+        queue.add(frame);
+
+        if (recordsSinceSnapshot.incrementAndGet() >= config.snapshotEveryRecords()) {
+            requestSnapshot();
+        }
+        return seq;
+    }
+
+    // 📝 Waits until everything this thread appended so far is on disk - shares the fsync with
+    // whatever the other chats queued meanwhile. Throws if a write failed since the last snapshot:
+    // then the appended records may be lost and the move is not durable.
+    public void sync() throws IOException, InterruptedException {
+        if (closed) {
+            return;
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        queue.add(done);
+        while (!done.await(100, TimeUnit.MILLISECONDS)) {
+            if (!writer.isAlive()) {
+                return; // <-- close() kam dazwischen, der letzte Snapshot hat die Spiele
+            }
+        }
+        IOException failed = failure.get();
+        if (failed != null) {
+            throw new IOException("Game journal could not write", failed);
+        }
+    }
+
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<>();
+        List<CountDownLatch> synced = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+
+        boolean unforced = false; // <-- Frames geschrieben, aber noch nicht gefsynct
+
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch, MAX_BATCH);
+
+            boolean stop = false;
+            try {
+                for (Object entry : batch) {
+                    if (entry instanceof byte[] frame) {
+                        if (frame.length > buffer.remaining()) {
+                            writeBuffer(buffer);
+                        }
+                        if (frame.length > buffer.capacity()) {
+                            writeFully(ByteBuffer.wrap(frame));
+                        } else {
+                            buffer.put(frame);
+                        }
+                        unforced = true;
+                    } else if (entry instanceof Roll roll) {
+                        unforced = force(buffer, unforced);
+                        FileChannel next = openSegment(roll.segment()); // <-- erst öffnen: schlägt das fehl, bleibt das alte Segment
+                        channel.close();
+                        channel = next;
+                    } else if (entry instanceof CountDownLatch latch) {
+                        synced.add(latch);
+                    } else if (entry == STOP) {
+                        stop = true;
+                    }
+                }
+                // 📝 Group commit: one fsync for the whole batch - none if it only held sync() requests.
+                unforced = force(buffer, unforced);
+                if (stop) {
+                    channel.close();
+                }
+            } catch (IOException e) {
+                LOG.error("❌ Could not write game journal", "error", e.getMessage());
+                failure.set(e);
+                buffer.clear();
+                unforced = false; // <-- was im Puffer war, ist weg; der Snapshot sichert die Spiele neu
+                requestSnapshot();
+            }
+
+            for (Object entry : batch) {
+                if (entry instanceof Roll roll) {
+                    roll.done().countDown(); // <-- auch nach einem Fehler, sonst hängt snapshot()
+                }
+            }
+            for (CountDownLatch latch : synced) {
+                latch.countDown();
+            }
+            synced.clear();
+            batch.clear();
+            if (stop) {
+                return;
+            }
+        }
+    }
+
+    // -- Writes the buffer and fsyncs if anything was written since the last fsync, returns false (nothing unforced)
+    private boolean force(ByteBuffer buffer, boolean unforced) throws IOException {
+        writeBuffer(buffer);
+        if (unforced) {
+            channel.force(false);
+            forces.increment();
+        }
+        return false;
+    }
+
+    private void writeBuffer(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private FileChannel openSegment(int segment) throws IOException {
+        return FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    static byte[] encodeState(GameState state) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try {
+            GameStateIO.write(state, new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    //endregion
+
+    //region 📸 Snapshots
+
+    // 📝 Starts the periodic snapshots. If something was recovered, the first one is taken right away
+    // and folds the replayed segments into a single file.
+    public synchronized void startSnapshots(ChatLock locks) {
+        this.locks = locks;
+        this.snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = config.snapshotInterval().toMillis();
+        snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        if (recoveryStats.segments() > 0) {
+            requestSnapshot();
+        }
+    }
+
+    private void requestSnapshot() {
+        ScheduledExecutorService executor = snapshotter;
+        if (executor != null && !executor.isShutdown() && snapshotRequested.compareAndSet(false, true)) {
+            executor.execute(this::snapshotQuietly);
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException e) {
+            LOG.error("❌ Could not write journal snapshot", "error", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 📝 1. Switch the writer to a new segment N.
+    //    2. Write every open game with the sequence number of its last record - each under its chat's lock.
+    //    3. Rename the finished file to snapshot-N, then delete older snapshots and all segments before N.
+    // Whatever a chat does after its turn in step 2 lands in segment N with a higher sequence number.
+    public synchronized void snapshot() throws IOException, InterruptedException {
+        if (locks == null || closed) {
+            return;
+        }
+        snapshotRequested.set(false);
+        recordsSinceSnapshot.set(0);
+        IOException failedBefore = failure.get(); // <-- Records davor stecken gleich im Snapshot
+
+        int segment = currentSegment + 1;
+        CountDownLatch rolled = new CountDownLatch(1);
+        queue.add(new Roll(segment, rolled));
+        rolled.await();
+        if (failure.get() != failedBefore) {
+            throw new IOException("Could not switch to journal segment " + segment, failure.get()); // <-- alte Segmente bleiben
+        }
+        currentSegment = segment;
+
+        Path temp = directory.resolve(SNAPSHOT_PREFIX + "tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeByte(SNAPSHOT_VERSION);
+            out.writeLong(sequence.get()); // <-- damit die Sequenz nach dem Neustart nicht zurückspringt
+            for (JournalRecorder recorder : recorders.values()) {
+                byte[][] captured = new byte[1][];
+                long[] seq = new long[1];
+                locks.run(recorder.getChatId(), () -> {
+                    if (recorder.isOpen()) {
+                        recorder.flush();
+                        captured[0] = encodeState(recorder.getState());
+                        seq[0] = recorder.getLastSequence();
+                    }
+                });
+                if (captured[0] != null) {
+                    out.writeByte(1);
+                    out.writeLong(recorder.getChatId());
+                    out.writeLong(seq[0]);
+                    out.writeInt(captured[0].length);
+                    out.write(captured[0]);
+                }
+            }
+            out.writeByte(0);
+        }
+        try (FileChannel file = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            file.force(true);
+        }
+        Files.move(temp, snapshotPath(segment), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        failure.compareAndSet(failedBefore, null);
+
+        for (int old : listNumbers(SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+            if (old < segment) {
+                Files.deleteIfExists(segmentPath(old));
+            }
+        }
+        for (int old : listNumbers(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (old < segment) {
+                Files.deleteIfExists(snapshotPath(old));
+            }
+        }
+    }
+
+    //endregion
+
+    //region ♻️ Recovery
+
+    private RecoveryStats recover(long start) throws IOException {
+        List<Integer> segments = listNumbers(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        List<Integer> snapshots = listNumbers(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+
+        int firstSegment = 0;
+        Map<Long, Long> snapshotSequences = new HashMap<>();
+        long maxSequence = 0;
+        if (!snapshots.isEmpty()) {
+            firstSegment = snapshots.getLast();
+            maxSequence = loadSnapshot(snapshotPath(firstSegment), snapshotSequences);
+        }
+        int fromSnapshot = recovered.size();
+
+        long[] counts = new long[2]; // <-- abgespielt, übersprungen
+        int replayedSegments = 0;
+        for (int segment : segments) {
+            if (segment >= firstSegment) {
+                maxSequence = Math.max(maxSequence, replaySegment(segmentPath(segment), snapshotSequences, counts));
+                replayedSegments++;
+            }
+        }
+
+        sequence.set(maxSequence);
+        int last = Math.max(segments.isEmpty() ? 0 : segments.getLast(), firstSegment);
+        currentSegment = last + 1;
+
+        return new RecoveryStats(recovered.size(), fromSnapshot, counts[0], counts[1], replayedSegments,
+                System.nanoTime() - start);
+    }
+
+    private long loadSnapshot(Path file, Map<Long, Long> snapshotSequences) throws IOException {
+        long maxSequence = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readUnsignedByte() != SNAPSHOT_VERSION) {
+                throw new IOException("Not a journal snapshot: " + file);
+            }
+            maxSequence = in.readLong();
+            while (in.readUnsignedByte() == 1) {
+                long chatId = in.readLong();
+                long seq = in.readLong();
+                byte[] state = new byte[in.readInt()];
+                in.readFully(state);
+
+                recovered.put(chatId, new RecoveredSession(decodeState(state), seq));
+                snapshotSequences.put(chatId, seq);
+                maxSequence = Math.max(maxSequence, seq);
+            }
+        }
+        return maxSequence;
+    }
+
+    private long replaySegment(Path file, Map<Long, Long> snapshotSequences, long[] counts) throws IOException {
+        long maxSequence = 0;
+        CRC32C crc = new CRC32C();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    return maxSequence;
+                }
+                if (length < BODY_HEADER_BYTES || length > MAX_RECORD_BYTES) {
+                    warnTornTail(file);
+                    return maxSequence;
+                }
+                int expectedCrc;
+                byte[] body = new byte[length];
+                try {
+                    expectedCrc = in.readInt();
+                    in.readFully(body);
+                } catch (EOFException e) {
+                    warnTornTail(file);
+                    return maxSequence;
+                }
+                crc.reset();
+                crc.update(body);
+                if ((int) crc.getValue() != expectedCrc) {
+                    warnTornTail(file);
+                    return maxSequence;
+                }
+
+                ByteBuffer record = ByteBuffer.wrap(body);
+                long chatId = record.getLong();
+                long seq = record.getLong();
+                byte kind = record.get();
+                maxSequence = Math.max(maxSequence, seq);
+
+                if (seq <= snapshotSequences.getOrDefault(chatId, 0L)) {
+                    counts[1]++;
+                    continue;
+                }
+                apply(chatId, seq, kind, Arrays.copyOfRange(body, BODY_HEADER_BYTES, body.length));
+                counts[0]++;
+            }
+        }
+    }
+
+    private void apply(long chatId, long seq, byte kind, byte[] payload) {
+        switch (kind) {
+            case STATE -> {
+                try {
+                    recovered.put(chatId, new RecoveredSession(decodeState(payload), seq));
+                } catch (IOException | RuntimeException e) {
+                    LOG.warn("⚠️ Dropping game from the journal", "chat", chatId, "error", e.getMessage());
+                    recovered.remove(chatId);
+                }
+            }
+            case OPS -> {
+                RecoveredSession session = recovered.get(chatId);
+                if (session == null) {
+                    return;
+                }
+                try {
+                    GameEventCodec.replay(payload, session.state());
+                    recovered.put(chatId, new RecoveredSession(session.state(), seq));
+                } catch (IOException e) {
+                    LOG.warn("⚠️ Dropping game from the journal", "chat", chatId, "error", e.getMessage());
+                    recovered.remove(chatId);
+                }
+            }
+            case END, PARKED -> recovered.remove(chatId);
+            default -> LOG.warn("⚠️ Unknown journal record kind", "kind", kind, "chat", chatId);
+        }
+    }
+
+    private GameState decodeState(byte[] bytes) throws IOException {
+        return GameStateIO.read(new DataInputStream(new ByteArrayInputStream(bytes)), policy);
+    }
+
+    private static void warnTornTail(Path file) {
+        LOG.warn("⚠️ Journal ends with an incomplete record, ignoring the rest", "file", file.getFileName());
+    }
+
+    // 📝 Games rebuilt at startup. Hands them out once - the caller adopts them (see adopt()).
+    public synchronized Map<Long, RecoveredSession> takeRecovered() {
+        Map<Long, RecoveredSession> sessions = recovered;
+        recovered = Map.of();
+        return sessions;
+    }
+
+    public RecoveryStats getRecoveryStats() {
+        return recoveryStats;
+    }
+
+    // -- fsyncs of the journal segments so far
+    public long getForceCount() {
+        return forces.sum();
+    }
+
+    //endregion
+
+    //region 🗂️ Files
+
+    private List<Integer> listNumbers(String prefix, String suffix) throws IOException {
+        List<Integer> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, prefix + "*" + suffix)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    numbers.add(Integer.parseInt(name.substring(prefix.length(), name.length() - suffix.length())));
+                } catch (NumberFormatException ignored) {
+                    // 📝 Not one of ours.
+                }
+            }
+        }
+        Collections.sort(numbers);
+        return numbers;
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private Path snapshotPath(int segment) {
+        return directory.resolve(String.format("%s%010d%s", SNAPSHOT_PREFIX, segment, SNAPSHOT_SUFFIX));
+    }
+
+    //endregion
+
+    // 📝 Takes a last snapshot (so the next start is quick) and waits for the writer to finish.
+    @Override
+    public void close() throws InterruptedException {
+        if (snapshotter != null) {
+            snapshotter.shutdownNow();
+            snapshotter.awaitTermination(5, TimeUnit.SECONDS);
+        }
+        try {
+            snapshot();
+        } catch (IOException e) {
+            LOG.error("❌ Could not write journal snapshot", "error", e.getMessage());
+        }
+        closed = true;
+        queue.add(STOP);
+        writer.join();
+    }
+
+    private record Roll(int segment, CountDownLatch done) {
+    }
+}
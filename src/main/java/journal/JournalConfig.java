@@ -0,0 +1,17 @@
+package journal;
+
+import java.time.Duration;
+
+// 📝 When the GameJournal writes a snapshot: every snapshotInterval, or earlier once snapshotEveryRecords
+// records were written since the last one. The second limit is what keeps recovery time bounded -
+// a restart never replays more than that many records on top of the snapshot.
+public record JournalConfig(Duration snapshotInterval, long snapshotEveryRecords) {
+
+    public static final JournalConfig DEFAULT = new JournalConfig(Duration.ofMinutes(5), 250_000);
+
+    public JournalConfig {
+        if (snapshotInterval.isNegative() || snapshotInterval.isZero() || snapshotEveryRecords < 1) {
+            throw new IllegalArgumentException("Snapshot limits must be positive.");
+        }
+    }
+}
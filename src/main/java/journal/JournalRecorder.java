@@ -0,0 +1,104 @@
+package journal;
+
+import game.GameEventCodec;
+import game.GameState;
+
+public final class JournalRecorder {
+
+    // 📝 Hängt an einem GameState und sammelt seine Änderungen als Ops (GameEventCodec).
+    // flush() am Ende eines Zugs schreibt sie als einen Record ins Journal.
+    // Alle Methoden nur unter dem Lock des Chats aufrufen - wie alles, was das Spiel anfasst.
+
+    //region 🧱 Variables
+
+    private static final byte[] NO_PAYLOAD = new byte[0];
+
+    private final GameJournal journal;
+    private final long chatId;
+    private final GameState state;
+    private final GameEventCodec ops = new GameEventCodec();
+    private long lastSequence;
+    private boolean fullStatePending;
+    private boolean open = true;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    JournalRecorder(GameJournal journal, long chatId, GameState state, long lastSequence, boolean fullStatePending) {
+        this.journal = journal;
+        this.chatId = chatId;
+        this.state = state;
+        this.lastSequence = lastSequence;
+        this.fullStatePending = fullStatePending;
+        state.setEventListener(ops);
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 Writes what changed since the last flush as one record - the ops, or the whole state for a new game.
+    public void flush() {
+        if (!open) {
+            return;
+        }
+        if (fullStatePending) {
+            ops.clear();
+            lastSequence = journal.append(chatId, GameJournal.STATE, GameJournal.encodeState(state));
+            fullStatePending = false;
+        } else if (ops.hasOps()) {
+            lastSequence = journal.append(chatId, GameJournal.OPS, ops.drain());
+        }
+    }
+
+    // -- The game is over or was ended, recovery forgets it
+    public void end() {
+        close(GameJournal.END);
+    }
+
+    // -- The game was parked in the session store, which is responsible for it from now on
+    public void park() {
+        close(GameJournal.PARKED);
+    }
+
+    // -- Stops recording without a record, e.g. when a new game replaces this one
+    public void detach() {
+        if (open) {
+            open = false;
+            state.setEventListener(null);
+            journal.forget(this);
+        }
+    }
+
+    private void close(byte kind) {
+        if (!open) {
+            return;
+        }
+        detach();
+        ops.clear();
+        lastSequence = journal.append(chatId, kind, NO_PAYLOAD);
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    public long getChatId() {
+        return chatId;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+
+    GameState getState() {
+        return state;
+    }
+
+    //endregion
+}
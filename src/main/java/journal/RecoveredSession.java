@@ -0,0 +1,7 @@
+package journal;
+
+import game.GameState;
+
+// 📝 A game rebuilt from snapshot + journal, and the sequence number of the last record it came from.
+public record RecoveredSession(GameState state, long sequence) {
+}
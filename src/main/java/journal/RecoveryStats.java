@@ -0,0 +1,15 @@
+package journal;
+
+import java.util.concurrent.TimeUnit;
+
+// 📝 What the last startup recovery did and how long it took.
+public record RecoveryStats(int sessions, int fromSnapshot, long recordsReplayed, long recordsSkipped,
+                            int segments, long elapsedNanos) {
+
+    @Override
+    public String toString() {
+        return sessions + " sessions (" + fromSnapshot + " from snapshot), " + recordsReplayed + " records replayed, "
+                + recordsSkipped + " skipped, " + segments + " segments in "
+                + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms";
+    }
+}
@@ -0,0 +1,179 @@
+package loadtest;
+
+import cluster.Cluster;
+import cluster.ClusterNode;
+import game.Command;
+import metrics.LatencyHistogram;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import telegram.MyGameBot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 📝 In-process load test for MyGameBot: N simulated chats (SyntheticChat) play full games against one
+// bot instance at the same time. Updates go in through onUpdateReceived like from the poller, replies
+// come out through a RecordingSender instead of the Telegram API - everything in between (dispatcher,
+// session cache, engine, outbound queue) is the real thing. Journal is off, Telegram's rate limits are
+// lifted, so what we measure is the bot and not the API.
+// With nodes=N the chats play against a sharded cluster of N bots in this JVM instead (cluster.Cluster):
+// the updates go in round-robin, so most of them are forwarded to the chat's node first.
+//
+// Usage: java -cp liarsdice.jar loadtest.LoadGenerator chats=1000 seconds=60 think=1500 seed=42 nodes=1
+public class LoadGenerator {
+
+    private static final long HEAP_SAMPLE_MILLIS = 100;
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        LoadTestStats stats = run(config);
+        System.out.println(report(config, stats));
+    }
+
+    public static LoadTestStats run(LoadTestConfig config) throws InterruptedException {
+        Path spillDirectory;
+        try {
+            spillDirectory = Files.createTempDirectory("liarsdice-loadtest");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create a session directory", e);
+        }
+
+        RecordingSender sender = new RecordingSender();
+        MyGameBot bot = null;
+        Cluster cluster = null;
+        Consumer<Update> entry;
+        if (config.nodes() == 1) {
+            bot = new MyGameBot(settings(config, spillDirectory)::get, sender);
+            entry = bot::onUpdateReceived;
+        } else {
+            cluster = new Cluster(nodeId -> new MyGameBot(settings(config, spillDirectory.resolve(nodeId))::get, sender));
+            for (int n = 1; n <= config.nodes(); n++) {
+                cluster.addNode("node-" + n);
+            }
+            entry = cluster::onUpdateReceived;
+        }
+        LoadTestStats stats = new LoadTestStats();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        long heapBefore = usedHeapAfterGc(memory);
+        long started = System.nanoTime();
+        long deadline = started + config.duration().toNanos();
+
+        // 📝 Every chat gets its own generator, split in order from one seed - same seed, same players.
+        SplittableRandom seedRandom = new SplittableRandom(config.seed());
+        List<Thread> threads = new ArrayList<>(config.chats());
+        for (int i = 0; i < config.chats(); i++) {
+            SyntheticChat chat = new SyntheticChat(1_000_000L + i, entry, stats, seedRandom.split(),
+                    config.thinkTime().toNanos(), deadline);
+            sender.register(chat);
+            threads.add(Thread.ofVirtual().name("load-chat-" + i).unstarted(chat));
+        }
+        threads.forEach(Thread::start);
+
+        long heapPeak = heapBefore;
+        while (System.nanoTime() < deadline) {
+            heapPeak = Math.max(heapPeak, memory.getHeapMemoryUsage().getUsed());
+            TimeUnit.MILLISECONDS.sleep(HEAP_SAMPLE_MILLIS);
+        }
+        long joinUntil = deadline + TimeUnit.SECONDS.toNanos(SyntheticChat.REPLY_TIMEOUT_SECONDS);
+        for (Thread thread : threads) {
+            long left = joinUntil - System.nanoTime();
+            if (left <= 0 || !thread.join(Duration.ofNanos(left))) {
+                thread.interrupt();
+            }
+        }
+        stats.setElapsedNanos(System.nanoTime() - started);
+
+        // 📝 Measured while the bot is still open: the sessions it holds are the growth we want to see.
+        stats.recordHeap(heapBefore, heapPeak, usedHeapAfterGc(memory));
+        if (cluster != null) {
+            stats.setForwarded(cluster.getNodes().stream().mapToLong(ClusterNode::getForwarded).sum());
+            cluster.close();
+        } else {
+            bot.onClosing();
+        }
+        return stats;
+    }
+
+    private static Map<String, String> settings(LoadTestConfig config, Path spillDirectory) {
+        Map<String, String> settings = new HashMap<>();
+        settings.put("BOT_TOKEN", "load-test");
+        settings.put("BOT_USERNAME", "LoadTestBot");
+        settings.put("BOT_STRATEGY", config.strategy());
+        settings.put("DICE_SEED", String.valueOf(config.seed()));
+        settings.put("DEFAULT_LANGUAGE", "en");
+        settings.put("LOG_LEVEL", "WARN");
+        settings.put("JOURNAL_DIR", "off");
+        settings.put("SESSION_SPILL_DIR", spillDirectory.toString());
+        settings.put("MAX_QUEUED_PER_CHAT", "4"); // <-- ein Chat hat nie mehr als eine Nachricht offen
+        settings.put("OUTBOUND_GLOBAL_PER_SECOND", "1e9");
+        settings.put("OUTBOUND_CHAT_PER_SECOND", "1e9");
+        settings.put("OUTBOUND_CHAT_BURST", "1000");
+        settings.put("OUTBOUND_MERGE_MS", "0");
+        return settings;
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) {
+        System.gc(); // <-- nur ein Hinweis an die JVM, für einen Vorher/Nachher-Vergleich reicht das
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    public static String report(LoadTestConfig config, LoadTestStats stats) {
+        StringBuilder sb = new StringBuilder();
+        double seconds = stats.getElapsedNanos() / 1_000_000_000.0;
+        long updates = stats.getUpdates();
+
+        sb.append("🎲 ").append(config.chats()).append(" chats, ").append(config.duration().toSeconds())
+                .append(" s, think ").append(config.thinkTime().toMillis()).append(" ms, bot ")
+                .append(config.strategy()).append(", seed ").append(config.seed());
+        if (config.nodes() > 1) {
+            sb.append(", ").append(config.nodes()).append(" nodes");
+        }
+        sb.append('\n');
+        sb.append(String.format("📨 %d updates, %.0f updates/sec, %d timeouts%n",
+                updates, updates / seconds, stats.getTimeouts()));
+        sb.append(String.format("🏁 %d games started, %d played to the end%n",
+                stats.getGamesStarted(), stats.getGamesFinished()));
+        if (config.nodes() > 1) {
+            sb.append(String.format("🔀 %d updates forwarded to the chat's node%n", stats.getForwarded()));
+        }
+
+        sb.append(String.format("⏱️ %-10s %10s %10s %10s %10s%n", "command", "count", "p50 ms", "p99 ms", "p999 ms"));
+        for (Command.Type type : Command.Type.values()) {
+            appendLatency(sb, type.name().toLowerCase(), stats.latency(type));
+        }
+        appendLatency(sb, "all", stats.getAll());
+
+        sb.append(String.format("🧠 Heap %.1f MB before, %.1f MB peak, %.1f MB after (%+.1f MB)",
+                mb(stats.getHeapBefore()), mb(stats.getHeapPeak()), mb(stats.getHeapAfter()),
+                mb(stats.getHeapAfter() - stats.getHeapBefore())));
+        return sb.toString();
+    }
+
+    private static void appendLatency(StringBuilder sb, String label, LatencyHistogram histogram) {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+        sb.append(String.format("   %-10s %10d %10.2f %10.2f %10.2f%n", label, histogram.getCount(),
+                millis(histogram.percentile(50)), millis(histogram.percentile(99)), millis(histogram.percentile(99.9))));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static double mb(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+}
@@ -0,0 +1,56 @@
+package loadtest;
+
+import java.time.Duration;
+
+// 📝 What the load generator should do: how many chats play at once, for how long, how long a player
+// thinks between two messages (median of a log-normal distribution, 0 = no pauses) and the seed for
+// dice and players. strategy is passed on as BOT_STRATEGY. nodes > 1 runs a sharded cluster (cluster.Cluster).
+public record LoadTestConfig(int chats, Duration duration, Duration thinkTime, long seed, String strategy, int nodes) {
+
+    public LoadTestConfig {
+        if (chats < 1) {
+            throw new IllegalArgumentException("Simulate at least one chat.");
+        }
+        if (nodes < 1) {
+            throw new IllegalArgumentException("The bot needs at least one node.");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("The load test needs a duration.");
+        }
+        if (thinkTime.isNegative()) {
+            throw new IllegalArgumentException("Think time can't be negative.");
+        }
+    }
+
+    public LoadTestConfig(int chats, Duration duration, Duration thinkTime, long seed, String strategy) {
+        this(chats, duration, thinkTime, seed, strategy, 1);
+    }
+
+    // 📝 Reads "chats=1000 seconds=60 think=1500 seed=42 strategy=montecarlo nodes=4" (think in milliseconds).
+    public static LoadTestConfig fromArgs(String[] args) {
+        int chats = 100;
+        long seconds = 30;
+        long thinkMillis = 1500;
+        long seed = System.nanoTime();
+        String strategy = "heuristic";
+        int nodes = 1;
+
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            switch (pair[0]) {
+                case "chats" -> chats = Integer.parseInt(pair[1]);
+                case "seconds" -> seconds = Long.parseLong(pair[1]);
+                case "think" -> thinkMillis = Long.parseLong(pair[1]);
+                case "seed" -> seed = Long.parseLong(pair[1]);
+                case "strategy" -> strategy = pair[1];
+                case "nodes" -> nodes = Integer.parseInt(pair[1]);
+                default -> throw new IllegalArgumentException("Unknown option: " + pair[0]);
+            }
+        }
+
+        return new LoadTestConfig(chats, Duration.ofSeconds(seconds), Duration.ofMillis(thinkMillis), seed, strategy, nodes);
+    }
+}
@@ -0,0 +1,116 @@
+package loadtest;
+
+import game.Command;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static metrics.MetricsRegistry.label;
+
+// 📝 What all simulated chats measured together. Written from many threads at once,
+// so everything is a LatencyHistogram or a LongAdder - no locks while the test runs.
+public final class LoadTestStats {
+
+    //region 🧱 Variables
+
+    private final LatencyHistogram[] latency = new LatencyHistogram[Command.Type.values().length]; // <-- Index = ordinal()
+    private final LatencyHistogram all;
+    final LongAdder updates = new LongAdder();
+    final LongAdder timeouts = new LongAdder();     // <-- keine Antwort innerhalb von REPLY_TIMEOUT
+    final LongAdder gamesStarted = new LongAdder();
+    final LongAdder gamesFinished = new LongAdder(); // <-- GAME OVER, nicht /endgame
+
+    private long heapBefore;
+    private long heapPeak;
+    private long heapAfter;
+    private long elapsedNanos;
+    private long forwarded; // <-- Updates, die ein Cluster-Knoten an den Besitzer des Chats weitergereicht hat
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    LoadTestStats() {
+        MetricsRegistry registry = new MetricsRegistry();
+        String name = "liarsdice_loadtest_reply_seconds";
+        String help = "Time from handing an update to the bot until its reply is sent.";
+        for (Command.Type type : Command.Type.values()) {
+            latency[type.ordinal()] = registry.histogram(name, help, label("command", type.name().toLowerCase()));
+        }
+        all = registry.histogram(name, help, label("command", "all"));
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    void recordReply(Command.Type type, long nanos) {
+        latency[type.ordinal()].record(nanos);
+        all.record(nanos);
+    }
+
+    void recordHeap(long before, long peak, long after) {
+        this.heapBefore = before;
+        this.heapPeak = peak;
+        this.heapAfter = after;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    void setForwarded(long forwarded) {
+        this.forwarded = forwarded;
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    public LatencyHistogram latency(Command.Type type) {
+        return latency[type.ordinal()];
+    }
+
+    public LatencyHistogram getAll() {
+        return all;
+    }
+
+    public long getUpdates() {
+        return updates.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public long getGamesStarted() {
+        return gamesStarted.sum();
+    }
+
+    public long getGamesFinished() {
+        return gamesFinished.sum();
+    }
+
+    public long getHeapBefore() {
+        return heapBefore;
+    }
+
+    public long getHeapPeak() {
+        return heapPeak;
+    }
+
+    public long getHeapAfter() {
+        return heapAfter;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getForwarded() {
+        return forwarded;
+    }
+
+    //endregion
+}
@@ -0,0 +1,58 @@
+package loadtest;
+
+import telegram.MessageSender;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 📝 Takes the place of the Telegram API: counts what the bot sends and hands each reply
+// to the simulated chat it was meant for, stamped with the time it left the bot.
+final class RecordingSender implements MessageSender {
+
+    //region 🧱 Variables
+
+    private final ConcurrentHashMap<String, SyntheticChat> chats = new ConcurrentHashMap<>();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder characters = new LongAdder();
+    private final LongAdder unknownChats = new LongAdder();
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    void register(SyntheticChat chat) {
+        chats.put(String.valueOf(chat.getChatId()), chat);
+    }
+
+    @Override
+    public void send(String chatId, String text) {
+        long now = System.nanoTime();
+        messages.increment();
+        characters.add(text.length());
+
+        SyntheticChat chat = chats.get(chatId);
+        if (chat == null) {
+            unknownChats.increment();
+            return;
+        }
+        chat.receive(text, now);
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    long getMessages() {
+        return messages.sum();
+    }
+
+    long getCharacters() {
+        return characters.sum();
+    }
+
+    long getUnknownChats() {
+        return unknownChats.sum();
+    }
+
+    //endregion
+}
@@ -0,0 +1,259 @@
+package loadtest;
+
+import game.Command;
+import game.CommandParser;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import text.Language;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 📝 One simulated player in a private chat or a group. Plays like a person would: sends a message, waits
+// for the bot's answer, reads the bot's call out of it, thinks for a moment and answers - full games, over
+// and over, until the deadline. Runs on its own (virtual) thread, so thousands of them are cheap.
+//
+// The player only knows what the replies tell it, in the language its Telegram client sends, just like a
+// real user. It calls lie more often the higher the bot goes, rerolls once in a while and sometimes
+// ends a game early. In a group it opens a table, adds one or two bots and starts the game - its dice go
+// to its private chat, which nobody reads here.
+final class SyntheticChat implements Runnable {
+
+    //region 🧱 Variables
+
+    static final long REPLY_TIMEOUT_SECONDS = 10;
+
+    private static final double THINK_SIGMA = 0.6;       // <-- Streuung der Log-Normalverteilung
+    private static final double MAX_THINK_FACTOR = 20;   // <-- niemand denkt 20× länger als der Median
+
+    private final long chatId;
+    private final long userId; // <-- == chatId im privaten Chat
+    private final String name;
+    private final Language language;
+    private final Texts texts;
+    private final Consumer<Update> bot; // <-- MyGameBot.onUpdateReceived oder der Load Balancer eines Clusters
+    private final LoadTestStats stats;
+    private final SplittableRandom random;
+    private final long thinkNanos;
+    private final long deadline;
+    private final int maxGames; // <-- danach hört der Chat nach dem laufenden Spiel auf (WarmUp)
+    private final ArrayBlockingQueue<Received> replies = new ArrayBlockingQueue<>(16);
+    private final Command command = new Command(); // <-- nur um die eigene Eingabe einem Befehl zuzuordnen
+
+    private boolean inGame;
+    private boolean seated; // <-- Gruppe: Tisch ist offen, wir sitzen dran
+    private int botsAdded;
+    private int tableBots;
+    private int gamesStarted;
+    private boolean rerollUsed;
+    private int quantity; // <-- Call auf dem Tisch, 0 = keiner
+    private int face;
+
+    private record Received(String text, long atNanos) {
+    }
+
+    // 📝 The bits of text.Msg the player looks for. A bot's call reads "*Bot calls:* `2 5`" in both
+    // languages, "*Bot 1 calls:* `2 5`" in a group.
+    private record Texts(String gameStarted, String groupGameStarted, String tableOpen, String tableAlreadyOpen,
+                         String gameEnded, String noGame, String newRound) {
+    }
+
+    private static final Texts ENGLISH = new Texts("New game started", "New game with", "The table is open",
+            "already an open table", "Game ended", "haven't started a game", "New round started");
+    private static final Texts GERMAN = new Texts("Neues Spiel gestartet", "Neues Spiel mit", "Der Tisch ist offen",
+            "schon ein Tisch offen", "Spiel beendet", "noch kein Spiel gestartet", "Neue Runde gestartet");
+    private static final String BOT_CALL = " calls:* `";
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    SyntheticChat(long chatId, Consumer<Update> bot, LoadTestStats stats, SplittableRandom random, long thinkNanos, long deadline) {
+        this(chatId, bot, stats, random, thinkNanos, deadline, Integer.MAX_VALUE);
+    }
+
+    SyntheticChat(long chatId, Consumer<Update> bot, LoadTestStats stats, SplittableRandom random, long thinkNanos, long deadline,
+                  int maxGames) {
+        this(chatId, false, Language.EN, bot, stats, random, thinkNanos, deadline, maxGames);
+    }
+
+    // 📝 group: plays in the group chat -userId instead of the private chat.
+    SyntheticChat(long userId, boolean group, Language language, Consumer<Update> bot, LoadTestStats stats,
+                  SplittableRandom random, long thinkNanos, long deadline, int maxGames) {
+        this.chatId = group ? -userId : userId;
+        this.userId = userId;
+        this.name = "Load " + userId;
+        this.language = language;
+        this.texts = language == Language.DE ? GERMAN : ENGLISH;
+        this.bot = bot;
+        this.stats = stats;
+        this.random = random;
+        this.thinkNanos = thinkNanos;
+        this.deadline = deadline;
+        this.maxGames = maxGames;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    @Override
+    public void run() {
+        think(); // <-- verteilt die Starts, sonst schreiben alle Chats in derselben Millisekunde
+        String reply = null;
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted() && (inGame || gamesStarted < maxGames)) {
+            String text = nextMessage(reply);
+            reply = exchange(text);
+            if (reply == null) {
+                return; // <-- Timeout oder unterbrochen, dieser Chat ist raus
+            }
+            read(text, reply);
+            think();
+        }
+    }
+
+    void receive(String text, long atNanos) {
+        replies.offer(new Received(text, atNanos));
+    }
+
+    // 📝 Sends one message and waits for the answer. Returns null if none came in time.
+    private String exchange(String text) {
+        CommandParser.parse(text, command);
+        Command.Type type = command.type();
+
+        long sent = System.nanoTime();
+        bot.accept(SyntheticUpdates.text(chatId, userId, name, language.code(), text));
+        stats.updates.increment();
+
+        Received received;
+        try {
+            received = replies.poll(REPLY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        if (received == null) {
+            stats.timeouts.increment();
+            return null;
+        }
+        stats.recordReply(type, received.atNanos() - sent);
+        return received.text();
+    }
+
+    private String nextMessage(String lastReply) {
+        if (!inGame) {
+            if (lastReply != null && !seated && random.nextInt(10) == 0) {
+                return random.nextBoolean() ? "/help" : "/rules";
+            }
+            if (!seated) {
+                return "/newgame";
+            }
+            return botsAdded < tableBots ? "/addbot" : "/startgame";
+        }
+        if (random.nextInt(200) == 0) {
+            return "/endgame";
+        }
+        if (quantity > 0 && shouldCallLie()) {
+            return random.nextBoolean() ? "lie" : "Lüge";
+        }
+        if (!rerollUsed && random.nextInt(8) == 0) {
+            rerollUsed = true;
+            return "reroll " + random.nextInt(3) + " " + (3 + random.nextInt(2));
+        }
+        return raise();
+    }
+
+    // 📝 The higher the call, the more likely it's a lie - same gut feeling a real player has.
+    private boolean shouldCallLie() {
+        return random.nextDouble() < Math.min(0.9, 0.1 + 0.15 * (quantity - 1));
+    }
+
+    private String raise() {
+        int nextQuantity;
+        int nextFace;
+        if (quantity == 0) {
+            nextQuantity = 1 + random.nextInt(2);
+            nextFace = 1 + random.nextInt(6);
+        } else if (face < 6 && random.nextBoolean()) {
+            nextQuantity = quantity;
+            nextFace = face + 1 + random.nextInt(6 - face);
+        } else {
+            nextQuantity = quantity + 1;
+            nextFace = 1 + random.nextInt(6);
+        }
+        return random.nextInt(4) == 0 ? nextQuantity + "x" + nextFace : nextQuantity + " " + nextFace;
+    }
+
+    // 📝 Updates what the player knows from the bot's reply (see Texts).
+    private void read(String sent, String reply) {
+        if (reply.contains(texts.tableOpen()) || reply.contains(texts.tableAlreadyOpen())) {
+            seated = true;
+            botsAdded = 0;
+            tableBots = 1 + random.nextInt(2); // <-- 2 Spieler (CFR-Strategie) oder 3
+            return;
+        }
+        if (sent.equals("/addbot")) {
+            botsAdded++;
+            return;
+        }
+        if (reply.contains(texts.gameStarted()) || reply.contains(texts.groupGameStarted())) {
+            inGame = true;
+            seated = false;
+            rerollUsed = false;
+            quantity = 0;
+            gamesStarted++;
+            stats.gamesStarted.increment();
+        }
+        if (reply.contains("GAME OVER")) {
+            inGame = false;
+            stats.gamesFinished.increment();
+            return;
+        }
+        if (reply.contains(texts.gameEnded()) || reply.contains(texts.noGame())) {
+            inGame = false;
+            return;
+        }
+
+        int botCall = reply.lastIndexOf(BOT_CALL);
+        int newRound = reply.lastIndexOf(texts.newRound());
+        if (botCall >= 0 && botCall > newRound) {
+            int start = botCall + BOT_CALL.length();
+            int space = reply.indexOf(' ', start);
+            int end = reply.indexOf('`', space);
+            quantity = Integer.parseInt(reply, start, space, 10);
+            face = Integer.parseInt(reply, space + 1, end, 10);
+        } else if (newRound >= 0) {
+            quantity = 0;
+        } else if (reply.startsWith("⚠️") && !sent.startsWith("/")) {
+            quantity = Math.max(quantity, 1); // <-- Call abgelehnt (zu hoch/zu niedrig): nächstes Mal lieber Lüge
+            face = 6;
+        }
+    }
+
+    // 📝 Log-normal think time around the median: most answers come quickly, a few take much longer.
+    private void think() {
+        if (thinkNanos == 0) {
+            return;
+        }
+        double factor = Math.min(MAX_THINK_FACTOR, Math.exp(THINK_SIGMA * random.nextGaussian()));
+        long pause = Math.min((long) (thinkNanos * factor), deadline - System.nanoTime());
+        if (pause > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(pause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    long getChatId() {
+        return chatId;
+    }
+
+    //endregion
+}
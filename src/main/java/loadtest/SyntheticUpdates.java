@@ -0,0 +1,47 @@
+package loadtest;
+
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 📝 Builds Updates the way Telegram would send them for a text in a private chat (chat ID == user ID)
+// or a group, so MyGameBot can't tell them from real ones.
+final class SyntheticUpdates {
+
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+    private SyntheticUpdates() {
+    }
+
+    static Update text(long chatId, String firstName, String text) {
+        return text(chatId, chatId, firstName, null, text);
+    }
+
+    // -- languageCode as the Telegram client sends it, null for none
+    static Update text(long chatId, long userId, String firstName, String languageCode, String text) {
+        User user = new User();
+        user.setId(userId);
+        user.setFirstName(firstName);
+        user.setIsBot(false);
+        user.setLanguageCode(languageCode);
+
+        Chat chat = new Chat();
+        chat.setId(chatId);
+        chat.setType(chatId == userId ? "private" : "group");
+
+        int id = NEXT_ID.incrementAndGet();
+        Message message = new Message();
+        message.setMessageId(id);
+        message.setChat(chat);
+        message.setFrom(user);
+        message.setText(text);
+
+        Update update = new Update();
+        update.setUpdateId(id);
+        update.setMessage(message);
+        return update;
+    }
+}
@@ -0,0 +1,162 @@
+package loadtest;
+
+import log.Level;
+import log.Log;
+import log.Logger;
+import metrics.LatencyHistogram;
+import telegram.MyGameBot;
+import text.Language;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 📝 JIT warm-up before the bot takes traffic: synthetic chats (SyntheticChat) play games against a
+// throwaway MyGameBot with the real bot's settings - same strategy, same engine, same message building -
+// so RoundLogic, the bots and the texts are compiled before the first real update instead of during it.
+// The chats take turns: English and German, private chats and group tables with one or two bots.
+// Journal, session store and Telegram stay out of it: that bot writes nothing and sends nothing.
+//
+// Plays in rounds until WARMUP_GAMES games are done or the JIT has settled (a round in which the
+// compilers spent almost no time), whichever comes first. WARMUP_SECONDS caps the whole thing.
+// The throwaway bot opens and closes its own CFR policy, the real bot's stays untouched.
+public final class WarmUp {
+
+    //region 🧱 Variables
+
+    private static final Logger LOG = Log.get(WarmUp.class);
+
+    private static final int ROUNDS = 10;               // <-- WARMUP_GAMES verteilt auf so viele Runden
+    private static final int MIN_ROUNDS = 3;            // <-- vorher gilt nichts als eingeschwungen
+    private static final double SETTLED_JIT_SHARE = 0.02; // <-- JIT-Zeit einer Runde im Verhältnis zu ihrer Dauer
+
+    // 📝 What the warm-up did, for the startup log.
+    public record Result(int games, int rounds, Duration elapsed, long jitMillis, boolean settled,
+                         LatencyHistogram firstRound, LatencyHistogram lastRound) {
+    }
+
+    private WarmUp() {
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 WARMUP_GAMES=0 (default) skips the warm-up and returns null.
+    public static Result run(Function<String, String> settings) throws InterruptedException {
+        int games = Integer.parseInt(setting(settings, "WARMUP_GAMES", "0"));
+        if (games <= 0) {
+            return null;
+        }
+        int chats = Integer.parseInt(setting(settings, "WARMUP_CHATS", "16"));
+        Duration limit = Duration.ofSeconds(Long.parseLong(setting(settings, "WARMUP_SECONDS", "60")));
+
+        Level level = Log.instance().getLevel();
+        Result result;
+        try {
+            result = play(warmUpSettings(settings)::get, games, chats, limit);
+        } finally {
+            Log.instance().setLevel(level); // <-- der Wegwerf-Bot hat WARN gesetzt, der echte Bot liest den Level von hier
+        }
+        LOG.info("🔥 Warm-up done", "games", result.games(), "millis", result.elapsed().toMillis(),
+                "jitMillis", result.jitMillis());
+        LOG.info("🔥 Warm-up replies", "firstRound", timings(result.firstRound()), "lastRound", timings(result.lastRound()),
+                "settled", result.settled());
+        return result;
+    }
+
+    static Result play(Function<String, String> settings, int games, int chats, Duration limit) throws InterruptedException {
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        boolean jitMeasured = jit != null && jit.isCompilationTimeMonitoringSupported();
+        long jitBefore = jitMeasured ? jit.getTotalCompilationTime() : 0;
+
+        int roundGames = Math.max(chats, games / ROUNDS);
+        int gamesPerChat = Math.max(1, roundGames / chats);
+        long started = System.nanoTime();
+        long deadline = started + limit.toNanos();
+
+        RecordingSender sender = new RecordingSender();
+        MyGameBot bot = new MyGameBot(settings, sender);
+        SplittableRandom seedRandom = new SplittableRandom(42);
+        LoadTestStats first = null;
+        LoadTestStats last = null;
+        int played = 0;
+        int rounds = 0;
+        boolean settled = false;
+        try {
+            do {
+                long roundStarted = System.nanoTime();
+                long jitRoundBefore = jitMeasured ? jit.getTotalCompilationTime() : 0;
+
+                LoadTestStats stats = new LoadTestStats();
+                List<Thread> threads = new ArrayList<>(chats);
+                for (int i = 0; i < chats; i++) {
+                    Language language = i % 2 == 0 ? Language.EN : Language.DE;
+                    boolean group = i % 4 >= 2;
+                    SyntheticChat chat = new SyntheticChat(1_000_000L * (rounds + 1) + i, group, language,
+                            bot::onUpdateReceived, stats, seedRandom.split(), 0, deadline, gamesPerChat);
+                    sender.register(chat);
+                    threads.add(Thread.ofVirtual().name("warm-up-chat-" + i).start(chat));
+                }
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+
+                rounds++;
+                played += (int) stats.getGamesStarted();
+                first = first != null ? first : stats;
+                last = stats;
+                long roundMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - roundStarted);
+                long roundJit = jitMeasured ? jit.getTotalCompilationTime() - jitRoundBefore : 0;
+                settled = jitMeasured && rounds >= MIN_ROUNDS && roundJit <= roundMillis * SETTLED_JIT_SHARE;
+                LOG.debug("🔥 Warm-up round", "round", rounds, "replies", timings(stats.getAll()), "jitMillis", roundJit);
+            } while (played < games && !settled && System.nanoTime() < deadline);
+        } finally {
+            bot.onClosing();
+        }
+
+        long jitMillis = jitMeasured ? jit.getTotalCompilationTime() - jitBefore : 0;
+        return new Result(played, rounds, Duration.ofNanos(System.nanoTime() - started), jitMillis, settled,
+                first.getAll(), last.getAll());
+    }
+
+    // 📝 The real settings, minus everything that would leave the process or touch the real bot's files.
+    static Map<String, String> warmUpSettings(Function<String, String> settings) {
+        Map<String, String> warmUp = new HashMap<>();
+        for (String key : List.of("BOT_TOKEN", "BOT_USERNAME", "BOT_STRATEGY", "BOT_CACHE_ENTRIES", "CFR_POLICY",
+                "MAX_CONCURRENT_UPDATES", "SESSION_MAX_ENTRIES", "SESSION_MAX_MB")) {
+            String value = settings.apply(key);
+            if (value != null) {
+                warmUp.put(key, value);
+            }
+        }
+        warmUp.put("LOG_LEVEL", "WARN");
+        warmUp.put("JOURNAL_DIR", "off");
+        warmUp.put("SESSION_STORE", "memory");
+        warmUp.put("MAX_QUEUED_PER_CHAT", "4");
+        warmUp.put("OUTBOUND_GLOBAL_PER_SECOND", "1e9");
+        warmUp.put("OUTBOUND_CHAT_PER_SECOND", "1e9");
+        warmUp.put("OUTBOUND_CHAT_BURST", "1000");
+        warmUp.put("OUTBOUND_MERGE_MS", "0");
+        return warmUp;
+    }
+
+    private static String setting(Function<String, String> settings, String key, String defaultValue) {
+        String value = settings.apply(key);
+        return value != null ? value : defaultValue;
+    }
+
+    private static String timings(LatencyHistogram histogram) {
+        return String.format("p50 %.2f ms, p99 %.2f ms", histogram.percentile(50) / 1_000_000.0,
+                histogram.percentile(99) / 1_000_000.0);
+    }
+
+    //endregion
+}
@@ -0,0 +1,271 @@
+package log;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class AsyncLog implements AutoCloseable {
+
+    // 📝 Logging ohne dass der aufrufende Thread auf die Konsole wartet:
+    // - Ein Ringpuffer mit festen, wiederverwendeten Event-Slots. Ein Thread holt sich per CAS den nächsten
+    //   Slot, füllt ihn und gibt ihn frei - das ist alles, was auf dem Hot Path passiert.
+    // - Ist der Puffer voll, wird das Event verworfen und gezählt (getDropped()) - niemand blockiert.
+    // - Ein einzelner Writer-Thread formatiert die Events (logfmt, eine Zeile pro Event) und schreibt sie
+    //   gebündelt raus; geflusht wird erst, wenn der Puffer leer ist. Ist nichts zu tun, schläft er, bis
+    //   ein Producer ihn weckt.
+    // Formatiert wird im Writer-Thread. Als Referenz übergeben werden deshalb nur unveränderliche Werte
+    // (Strings, Zahlen, Booleans, Enums) - alles andere wird beim publish per toString() festgehalten, sonst
+    // stünde im Log der Zustand von später. Ein Throwable kommt als Stacktrace unter die Zeile.
+
+    //region 🧱 Variables
+
+    private final Event[] ring;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // <-- nächster freier Slot (Producer)
+    private volatile long head;                       // <-- nächster Slot für den Writer
+    private volatile boolean idle;                    // <-- Writer schläft, der nächste publish weckt ihn
+    private final LongAdder dropped = new LongAdder();
+
+    private final Writer out;
+    private final Writer err; // <-- WARN und ERROR
+    private final Thread writer;
+    private volatile Level level;
+    private volatile boolean running = true;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    // 📝 capacity is rounded up to a power of two.
+    public AsyncLog(int capacity, Level level, Writer out, Writer err) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("Log capacity must be at least 2.");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.ring = new Event[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new Event();
+        }
+        this.mask = size - 1;
+        this.level = level;
+        this.out = out;
+        this.err = err;
+
+        this.writer = new Thread(this::drain, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    public Logger logger(String name) {
+        return new Logger(this, name, 1);
+    }
+
+    public Logger logger(Class<?> type) {
+        return logger(type.getName());
+    }
+
+    public boolean isEnabled(Level eventLevel) {
+        return eventLevel.compareTo(level) >= 0 && eventLevel != Level.OFF;
+    }
+
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    // 📝 Claims a slot and fills it. Returns false if the buffer was full and the event was dropped.
+    boolean publish(Level eventLevel, String logger, String message,
+                    String k1, Object v1, String k2, Object v2, String k3, Object v3, Throwable error) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head >= ring.length || !running) {
+                dropped.increment();
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        Event event = ring[(int) (sequence & mask)];
+        event.time = System.currentTimeMillis();
+        event.level = eventLevel;
+        event.logger = logger;
+        event.message = message;
+        event.k1 = k1;
+        event.v1 = snapshot(v1);
+        event.k2 = k2;
+        event.v2 = snapshot(v2);
+        event.k3 = k3;
+        event.v3 = snapshot(v3);
+        event.error = error;
+        event.published = sequence + 1; // <-- volatile: ab hier sieht der Writer den Slot
+        if (idle) {
+            LockSupport.unpark(writer);
+        }
+        return true;
+    }
+
+    // -- Immutable values are kept as they are, everything else is turned into its text now
+    static Object snapshot(Object value) {
+        if (value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Double || value instanceof Boolean || value instanceof Enum<?>) {
+            return value;
+        }
+        return String.valueOf(value);
+    }
+
+    // 📝 Writer thread: takes events in order; a slot that is claimed but not yet filled is waited for.
+    private void drain() {
+        StringBuilder line = new StringBuilder(256);
+        boolean dirty = false;
+        while (true) {
+            long position = head;
+            Event event = ring[(int) (position & mask)];
+            if (event.published != position + 1) {
+                if (dirty) {
+                    flush();
+                    dirty = false;
+                }
+                if (!running && tail.get() == position) {
+                    return;
+                }
+                idle = true; // <-- erst melden, dann nachsehen: ein publish dazwischen weckt uns auf jeden Fall
+                if (event.published != position + 1 && running) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                continue;
+            }
+
+            line.setLength(0);
+            format(event, line);
+            Writer target = event.level.compareTo(Level.WARN) >= 0 ? err : out;
+            event.clear();
+            head = position + 1; // <-- Slot ist wieder frei
+
+            try {
+                target.append(line);
+                dirty = true;
+            } catch (IOException e) {
+                dropped.increment();
+            }
+        }
+    }
+
+    private void flush() {
+        try {
+            out.flush();
+            err.flush();
+        } catch (IOException e) {
+            // 📝 Nowhere left to report it - the next write tries again.
+        }
+    }
+
+    private static void format(Event event, StringBuilder line) {
+        line.append(Instant.ofEpochMilli(event.time)).append(' ')
+                .append(event.level).append(' ')
+                .append(event.logger).append(' ');
+        appendValue(line, event.message);
+        appendField(line, event.k1, event.v1);
+        appendField(line, event.k2, event.v2);
+        appendField(line, event.k3, event.v3);
+        line.append('\n');
+        if (event.error != null) {
+            StringWriter trace = new StringWriter();
+            event.error.printStackTrace(new PrintWriter(trace));
+            line.append(trace); // <-- eigene Zeilen, damit man ihn lesen kann
+        }
+    }
+
+    private static void appendField(StringBuilder line, String key, Object value) {
+        if (key == null) {
+            return;
+        }
+        line.append(' ').append(key).append('=');
+        appendValue(line, value);
+    }
+
+    // 📝 logfmt: quoted if needed, line breaks escaped - one event is always one line.
+    static void appendValue(StringBuilder line, Object value) {
+        String text = String.valueOf(value);
+        boolean quote = text.isEmpty();
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c <= ' ' || c == '"' || c == '=' || c == '\\';
+        }
+        if (!quote) {
+            line.append(text);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    // -- Events dropped because the buffer was full
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    // 📝 Stops taking events and writes what is left (waits up to 5 s for the writer).
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    //endregion
+
+    // 📝 A reusable slot. Everything is written before 'published', so the writer sees a complete event.
+    private static final class Event {
+        private volatile long published;
+        private long time;
+        private Level level;
+        private String logger;
+        private String message;
+        private String k1;
+        private Object v1;
+        private String k2;
+        private Object v2;
+        private String k3;
+        private Object v3;
+        private Throwable error;
+
+        // -- drops the references, so logged objects can be collected
+        void clear() {
+            message = null;
+            v1 = null;
+            v2 = null;
+            v3 = null;
+            error = null;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package log;
+
+public enum Level {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    // -- LOG_LEVEL aus der .env, unbekannte Werte werden INFO
+    public static Level parse(String value) {
+        if (value == null) {
+            return INFO;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return INFO;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package log;
+
+import java.io.BufferedWriter;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+public final class Log {
+
+    // 📝 Das eine AsyncLog des Prozesses, nach stdout (WARN/ERROR nach stderr).
+    // Klassen holen sich ihren Logger einmal: private static final Logger LOG = Log.get(MyGameBot.class);
+    // Level und Puffergröße kommen aus LOG_LEVEL / LOG_BUFFER (Umgebung), MyGameBot setzt das Level
+    // danach noch aus der .env.
+
+    private static final AsyncLog INSTANCE = new AsyncLog(
+            parseCapacity(System.getenv("LOG_BUFFER")),
+            Level.parse(System.getenv("LOG_LEVEL")),
+            new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), 1 << 16),
+            new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.err), StandardCharsets.UTF_8), 1 << 12)
+    );
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::close, "log-shutdown"));
+    }
+
+    private Log() {
+    }
+
+    public static Logger get(Class<?> type) {
+        return INSTANCE.logger(type);
+    }
+
+    public static AsyncLog instance() {
+        return INSTANCE;
+    }
+
+    private static int parseCapacity(String value) {
+        if (value == null || value.isBlank()) {
+            return 8192;
+        }
+        return Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,139 @@
+package log;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class Logger {
+
+    // 📝 Named handle on an AsyncLog. Up to three key/value fields per event, as fixed parameters -
+    // no varargs array, no string building on the caller's side. Values are formatted on the writer thread;
+    // anything but strings, numbers, booleans and enums is turned into text when it is logged (AsyncLog).
+    // An exception goes in as the last parameter, its stack trace is printed below the event.
+    // Bodies (whole messages, game texts) belong on DEBUG: if DEBUG is off, nothing of them is touched.
+    //
+    // sampled(n) gives a logger that keeps only ~1 of n events, for things that happen on every update.
+
+    //region 🧱 Variables
+
+    private final AsyncLog log;
+    private final String name;
+    private final int sampleRate; // <-- 1 = jedes Event
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    Logger(AsyncLog log, String name, int sampleRate) {
+        this.log = log;
+        this.name = name;
+        this.sampleRate = sampleRate;
+    }
+
+    // -- Same logger, keeping about one in rate events
+    public Logger sampled(int rate) {
+        if (rate < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1.");
+        }
+        return new Logger(log, name, rate);
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    public boolean isDebugEnabled() {
+        return log.isEnabled(Level.DEBUG);
+    }
+
+    public boolean isEnabled(Level level) {
+        return log.isEnabled(level);
+    }
+
+    public void debug(String message) {
+        emit(Level.DEBUG, message, null, null, null, null, null, null);
+    }
+
+    public void debug(String message, String k1, Object v1) {
+        emit(Level.DEBUG, message, k1, v1, null, null, null, null);
+    }
+
+    public void debug(String message, String k1, Object v1, String k2, Object v2) {
+        emit(Level.DEBUG, message, k1, v1, k2, v2, null, null);
+    }
+
+    public void debug(String message, String k1, Object v1, String k2, Object v2, String k3, Object v3) {
+        emit(Level.DEBUG, message, k1, v1, k2, v2, k3, v3);
+    }
+
+    public void info(String message) {
+        emit(Level.INFO, message, null, null, null, null, null, null);
+    }
+
+    public void info(String message, String k1, Object v1) {
+        emit(Level.INFO, message, k1, v1, null, null, null, null);
+    }
+
+    public void info(String message, String k1, Object v1, String k2, Object v2) {
+        emit(Level.INFO, message, k1, v1, k2, v2, null, null);
+    }
+
+    public void info(String message, String k1, Object v1, String k2, Object v2, String k3, Object v3) {
+        emit(Level.INFO, message, k1, v1, k2, v2, k3, v3);
+    }
+
+    public void warn(String message) {
+        emit(Level.WARN, message, null, null, null, null, null, null);
+    }
+
+    public void warn(String message, String k1, Object v1) {
+        emit(Level.WARN, message, k1, v1, null, null, null, null);
+    }
+
+    public void warn(String message, String k1, Object v1, String k2, Object v2) {
+        emit(Level.WARN, message, k1, v1, k2, v2, null, null);
+    }
+
+    public void warn(String message, String k1, Object v1, String k2, Object v2, String k3, Object v3) {
+        emit(Level.WARN, message, k1, v1, k2, v2, k3, v3);
+    }
+
+    public void error(String message) {
+        emit(Level.ERROR, message, null, null, null, null, null, null);
+    }
+
+    public void error(String message, String k1, Object v1) {
+        emit(Level.ERROR, message, k1, v1, null, null, null, null);
+    }
+
+    public void error(String message, String k1, Object v1, String k2, Object v2) {
+        emit(Level.ERROR, message, k1, v1, k2, v2, null, null);
+    }
+
+    public void error(String message, String k1, Object v1, String k2, Object v2, String k3, Object v3) {
+        emit(Level.ERROR, message, k1, v1, k2, v2, k3, v3);
+    }
+
+    public void error(String message, Throwable error) {
+        emit(Level.ERROR, message, null, null, null, null, null, null, error);
+    }
+
+    public void error(String message, String k1, Object v1, Throwable error) {
+        emit(Level.ERROR, message, k1, v1, null, null, null, null, error);
+    }
+
+    private void emit(Level level, String message, String k1, Object v1, String k2, Object v2, String k3, Object v3) {
+        emit(level, message, k1, v1, k2, v2, k3, v3, null);
+    }
+
+    private void emit(Level level, String message, String k1, Object v1, String k2, Object v2, String k3, Object v3,
+                      Throwable error) {
+        if (!log.isEnabled(level)) {
+            return;
+        }
+        if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+            return;
+        }
+        log.publish(level, name, message, k1, v1, k2, v2, k3, v3, error);
+    }
+
+    //endregion
+}
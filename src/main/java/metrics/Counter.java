@@ -0,0 +1,26 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class Counter {
+
+    // 📝 Only goes up. A LongAdder spreads concurrent increments over several cells, so threads counting
+    // the same thing don't fight over one cache line - and counting never allocates once it's warm.
+
+    private final LongAdder value = new LongAdder();
+
+    Counter() {
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
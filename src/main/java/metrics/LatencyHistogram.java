@@ -0,0 +1,144 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyHistogram {
+
+    // 📝 Latencies in nanoseconds, bucketed like an HdrHistogram with 2 significant bits:
+    // every power of two is split into 4 buckets, so a bucket is at most 25 % wide - from 1 µs up to ~69 s.
+    // The bucket is found with a few shifts (numberOfLeadingZeros), no search, no lock, no allocation.
+    // Prometheus gets one bucket per power of two (27 lines), percentile() uses the fine buckets.
+
+    //region 🧱 Variables
+
+    private static final int MIN_EXPONENT = 10;   // <-- alles unter 2^10 ns (~1 µs) landet im ersten Bucket
+    private static final int MAX_EXPONENT = 36;   // <-- ab 2^36 ns (~69 s) nur noch "+Inf"
+    private static final int SUB_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    static final int BUCKETS = 1 + (MAX_EXPONENT - MIN_EXPONENT) * SUB_BUCKETS + 1;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sumNanos = new LongAdder();
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0; // <-- nanoTime() can't go backwards, but a caller's arithmetic can
+        }
+        buckets[bucketOf(nanos)].increment();
+        sumNanos.add(nanos);
+    }
+
+    // -- Records the time since start, which came from System.nanoTime()
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    static int bucketOf(long nanos) {
+        if (nanos < 1L << MIN_EXPONENT) {
+            return 0;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int sub = (int) (nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return 1 + (exponent - MIN_EXPONENT) * SUB_BUCKETS + sub;
+    }
+
+    // -- Exclusive upper bound of a bucket in nanoseconds (Long.MAX_VALUE for the last one)
+    static long upperBound(int bucket) {
+        if (bucket == 0) {
+            return 1L << MIN_EXPONENT;
+        }
+        if (bucket == BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+        int exponent = MIN_EXPONENT + (bucket - 1) / SUB_BUCKETS;
+        int sub = (bucket - 1) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub + 1) << (exponent - SUB_BITS);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+
+    // 📝 Upper bound of the bucket the percentile falls into - at most 25 % too high. 0 if nothing was recorded.
+    public long percentile(double percentile) {
+        long[] counts = snapshot();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= Math.max(1, rank)) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(counts.length - 1);
+    }
+
+    // -- Bucket counts at one moment (not atomic across buckets, good enough for a scrape)
+    long[] snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+        }
+        return counts;
+    }
+
+    // 📝 Prometheus buckets: one per power of two, cumulative, le in seconds.
+    void writeTo(StringBuilder out, String name, String labels) {
+        long[] counts = snapshot();
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = counts[0];
+        appendBucket(out, name, prefix, upperBound(0), cumulative);
+        for (int i = 1; i < BUCKETS - 1; i++) {
+            cumulative += counts[i];
+            if (i % SUB_BUCKETS == 0) { // <-- letzter Sub-Bucket einer Zweierpotenz
+                appendBucket(out, name, prefix, upperBound(i), cumulative);
+            }
+        }
+        cumulative += counts[BUCKETS - 1];
+        out.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(cumulative).append('\n');
+
+        String braces = labels.isEmpty() ? "" : "{" + labels + "}";
+        out.append(name).append("_sum").append(braces).append(' ').append(getSumNanos() / 1e9).append('\n');
+        out.append(name).append("_count").append(braces).append(' ').append(cumulative).append('\n');
+    }
+
+    private static void appendBucket(StringBuilder out, String name, String prefix, long boundNanos, long count) {
+        out.append(name).append("_bucket{").append(prefix)
+                .append("le=\"").append(boundNanos / 1e9).append("\"} ").append(count).append('\n');
+    }
+
+    //endregion
+}
@@ -0,0 +1,126 @@
+package metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+public class MetricsRegistry {
+
+    // 📝 All metrics of the bot, by name. Metrics are registered once at startup and kept in fields by
+    // whoever records them - recording never touches the registry. Only a scrape walks it and writes
+    // the Prometheus text format.
+    // Registering a name twice with the same labels hands back the same metric.
+
+    //region 🧱 Variables
+
+    private final Map<String, Family> families = new LinkedHashMap<>();
+
+    //endregion
+
+    //region 📝 Register
+
+    public Counter counter(String name, String help) {
+        return counter(name, help, "");
+    }
+
+    // -- labels like command="call" (already escaped, see label())
+    public synchronized Counter counter(String name, String help, String labels) {
+        return (Counter) family(name, help, "counter").metric(labels, Counter::new);
+    }
+
+    public LatencyHistogram histogram(String name, String help) {
+        return histogram(name, help, "");
+    }
+
+    public synchronized LatencyHistogram histogram(String name, String help, String labels) {
+        return (LatencyHistogram) family(name, help, "histogram").metric(labels, LatencyHistogram::new);
+    }
+
+    // 📝 A value someone else already keeps (e.g. SessionRegistry.size()), read at scrape time.
+    public synchronized void gauge(String name, String help, LongSupplier value) {
+        family(name, help, "gauge").metric("", () -> value);
+    }
+
+    // -- Same, for a count that only goes up (e.g. OutboundQueue.getRetries())
+    public synchronized void counterFunction(String name, String help, LongSupplier value) {
+        family(name, help, "counter").metric("", () -> value);
+    }
+
+    public static String label(String name, String value) {
+        String escaped = value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        return name + "=\"" + escaped + "\"";
+    }
+
+    private Family family(String name, String help, String type) {
+        if (!name.matches("[a-zA-Z_:][a-zA-Z0-9_:]*")) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        Family family = families.computeIfAbsent(name, n -> new Family(help, type));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException(name + " is already registered as a " + family.type);
+        }
+        return family;
+    }
+
+    //endregion
+
+    //region 📤 Scrape
+
+    public synchronized String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            out.append("# HELP ").append(name).append(' ').append(family.help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(family.type).append('\n');
+
+            for (Sample sample : family.samples) {
+                if (sample.metric instanceof LatencyHistogram histogram) {
+                    histogram.writeTo(out, name, sample.labels);
+                    continue;
+                }
+                long value = switch (sample.metric) {
+                    case Counter counter -> counter.get();
+                    case LongSupplier supplier -> supplier.getAsLong();
+                    default -> throw new IllegalStateException("Unknown metric " + sample.metric);
+                };
+                out.append(name);
+                if (!sample.labels.isEmpty()) {
+                    out.append('{').append(sample.labels).append('}');
+                }
+                out.append(' ').append(value).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    //endregion
+
+    private record Sample(String labels, Object metric) {
+    }
+
+    private static final class Family {
+        private final String help;
+        private final String type;
+        private final List<Sample> samples = new ArrayList<>();
+
+        Family(String help, String type) {
+            this.help = help;
+            this.type = type;
+        }
+
+        Object metric(String labels, Supplier<Object> factory) {
+            for (Sample sample : samples) {
+                if (sample.labels.equals(labels)) {
+                    return sample.metric;
+                }
+            }
+            Object metric = factory.get();
+            samples.add(new Sample(labels, metric));
+            return metric;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import log.Log;
+import log.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class MetricsServer implements AutoCloseable {
+
+    // 📝 GET /metrics liefert den MetricsRegistry im Prometheus-Textformat.
+    // Gleicher JDK-HttpServer wie der WebhookServer; gedacht für localhost, Prometheus scrapt von dort.
+
+    //region 🧱 Variables
+
+    private static final Logger LOG = Log.get(MetricsServer.class);
+
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final MetricsRegistry registry;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public MetricsServer(InetSocketAddress address, MetricsRegistry registry) throws IOException {
+        this.registry = registry;
+        this.server = HttpServer.create(address, 0);
+        server.createContext("/metrics", this::handle);
+        server.setExecutor(executor);
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    public void start() {
+        server.start();
+        LOG.info("📊 Metrics endpoint started", "url", "http://" + server.getAddress().getHostString() + ":" + getPort() + "/metrics");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (!exchange.getRequestURI().getPath().equals("/metrics")) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    // -- Port the server really listens on (useful when started with port 0)
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.close();
+    }
+
+    //endregion
+}
@@ -0,0 +1,90 @@
+package simulation;
+
+import game.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+// 📝 Plays one full bot-vs-bot game with the real engine (GameState, RoundLogic, BotPlayer),
+// but without Scanner, console output or Telegram. Same turn flow as MyGameBot.handleBotTurn.
+final class HeadlessGame {
+
+    private HeadlessGame() {
+    }
+
+    static void play(SimulationConfig config, RandomGenerator random, SimulationStats stats) {
+        List<Player> seats = new ArrayList<>(config.players());
+        for (int seat = 0; seat < config.players(); seat++) {
+            seats.add(new BotPlayer("Bot " + seat, config.dicePerPlayer(), random, config.tunings().get(seat)));
+        }
+
+        GameState state = new GameState(seats);
+
+        // 📝 Random opener, otherwise seat 0 would always have the first call.
+        int opener = random.nextInt(config.players());
+        for (int i = 0; i < opener; i++) {
+            state.advanceTurn();
+        }
+
+        int rounds = 0;
+        while (!state.isGameOver()) {
+            rounds++;
+            for (Player p : state.getPlayers()) {
+                p.rollAllDice();
+            }
+            playRound(state, stats);
+        }
+
+        stats.recordGame(seats.indexOf(state.getWinner()), rounds);
+    }
+
+    private static void playRound(GameState state, SimulationStats stats) {
+        RoundLogic round = new RoundLogic(state);
+
+        while (true) {
+            BotPlayer bot = (BotPlayer) state.getCurrentPlayer();
+            bot.setPlayerCount(state.getPlayerCount());
+            int currentQuantity = state.getCurrentQuantityCalled();
+            int currentFace = state.getCurrentFaceValueCalled();
+            int totalDice = state.getTotalDiceCount();
+
+            boolean callLie = currentQuantity > 0 && bot.shouldCallLie(currentQuantity, currentFace, totalDice);
+
+            if (!callLie) {
+                if (!bot.hasUsedReroll() && bot.shouldReroll()) {
+                    bot.rerollSelectedDice(bot.chooseDiceToReroll());
+                    bot.useReroll();
+                }
+
+                Command call = bot.decideNextCall(currentQuantity, currentFace, totalDice);
+                int quantity = call.quantity();
+                int faceValue = call.face();
+
+                if (call.type() == Command.Type.CALL) {
+                    if (quantity <= totalDice && state.isCallHigher(quantity, faceValue)) {
+                        state.setCurrentCall(quantity, faceValue);
+                        state.advanceTurn();
+                        continue;
+                    }
+                    if (currentQuantity == 0) {
+                        throw new IllegalStateException("Bot found no opening call: " + call);
+                    }
+                    // 📝 A call that isn't higher is a bot error, not a lie call - MyGameBot never turns it into one.
+                    // The round still has to end, so it is settled like a lie but only counted as an error.
+                    stats.recordBotError();
+                    round.settleLie();
+                    return;
+                }
+                if (currentQuantity == 0) {
+                    throw new IllegalStateException("Bot found no opening call: " + call);
+                }
+                // -- "lie": the maximum is already on the table (same as MyGameBot.botMakesCall)
+            }
+
+            LieOutcome outcome = round.settleLie();
+            stats.recordLieCall(outcome.callWasTrue(), outcome.instantWin());
+            return;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package simulation;
+
+import game.BotTuning;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 📝 What the simulator should play: how many games, table size, seed and one tuning per seat.
+public record SimulationConfig(long games, int players, int dicePerPlayer, long seed, List<BotTuning> tunings) {
+
+    public SimulationConfig {
+        if (games <= 0) {
+            throw new IllegalArgumentException("Simulate at least one game.");
+        }
+        if (players < 2) {
+            throw new IllegalArgumentException("There must be at least 2 players to play.");
+        }
+        if (tunings.size() != players) {
+            throw new IllegalArgumentException("Every seat needs a bot tuning.");
+        }
+        tunings = List.copyOf(tunings);
+    }
+
+    // 📝 Reads "games=1000000 players=2 dice=5 seed=42 seat0=0.6,0.35,0.15".
+    // Seats without their own tuning play with BotTuning.DEFAULT.
+    public static SimulationConfig fromArgs(String[] args) {
+        long games = 100_000;
+        int players = 2;
+        int dice = 5;
+        long seed = System.nanoTime();
+
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            switch (pair[0]) {
+                case "games" -> games = Long.parseLong(pair[1]);
+                case "players" -> players = Integer.parseInt(pair[1]);
+                case "dice" -> dice = Integer.parseInt(pair[1]);
+                case "seed" -> seed = Long.parseLong(pair[1]);
+                default -> {
+                    if (!pair[0].startsWith("seat")) {
+                        throw new IllegalArgumentException("Unknown option: " + pair[0]);
+                    }
+                }
+            }
+        }
+
+        List<BotTuning> tunings = new ArrayList<>();
+        for (int seat = 0; seat < players; seat++) {
+            tunings.add(BotTuning.DEFAULT);
+        }
+        for (String arg : args) {
+            if (arg.startsWith("seat")) {
+                String[] pair = arg.split("=", 2);
+                int seat = Integer.parseInt(pair[0].substring("seat".length()));
+                tunings.set(seat, BotTuning.parse(pair[1]));
+            }
+        }
+
+        return new SimulationConfig(games, players, dice, seed, tunings);
+    }
+}
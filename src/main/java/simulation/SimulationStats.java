@@ -0,0 +1,105 @@
+package simulation;
+
+// 📝 Counters of one simulation chunk. Every chunk fills its own instance on its own thread,
+// the results are merged at the end - so nothing here needs to be thread-safe.
+public final class SimulationStats {
+
+    //region 🧱 Variables
+
+    private final long[] winsBySeat;
+    private long games;
+    private long rounds;
+    private long lieCalls;
+    private long correctLieCalls;
+    private long instantWins;
+    private long botErrors; // <-- Calls, die nicht höher waren - MyGameBot würde sie nie so spielen
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public SimulationStats(int seats) {
+        this.winsBySeat = new long[seats];
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    void recordGame(int winnerSeat, int roundsPlayed) {
+        games++;
+        rounds += roundsPlayed;
+        winsBySeat[winnerSeat]++;
+    }
+
+    // -- A lie call is correct when the call it challenged was false
+    void recordLieCall(boolean callWasTrue, boolean instantWin) {
+        lieCalls++;
+        if (!callWasTrue) {
+            correctLieCalls++;
+        }
+        if (instantWin) {
+            instantWins++;
+        }
+    }
+
+    void recordBotError() {
+        botErrors++;
+    }
+
+    public SimulationStats merge(SimulationStats other) {
+        SimulationStats merged = new SimulationStats(winsBySeat.length);
+        for (int seat = 0; seat < winsBySeat.length; seat++) {
+            merged.winsBySeat[seat] = winsBySeat[seat] + other.winsBySeat[seat];
+        }
+        merged.games = games + other.games;
+        merged.rounds = rounds + other.rounds;
+        merged.lieCalls = lieCalls + other.lieCalls;
+        merged.correctLieCalls = correctLieCalls + other.correctLieCalls;
+        merged.instantWins = instantWins + other.instantWins;
+        merged.botErrors = botErrors + other.botErrors;
+        return merged;
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins(int seat) {
+        return winsBySeat[seat];
+    }
+
+    public double getWinRate(int seat) {
+        return games == 0 ? 0.0 : (double) winsBySeat[seat] / games;
+    }
+
+    public double getAverageRounds() {
+        return games == 0 ? 0.0 : (double) rounds / games;
+    }
+
+    public long getLieCalls() {
+        return lieCalls;
+    }
+
+    public double getLieCallAccuracy() {
+        return lieCalls == 0 ? 0.0 : (double) correctLieCalls / lieCalls;
+    }
+
+    public long getInstantWins() {
+        return instantWins;
+    }
+
+    public long getBotErrors() {
+        return botErrors;
+    }
+
+    public int getSeats() {
+        return winsBySeat.length;
+    }
+
+    //endregion
+}
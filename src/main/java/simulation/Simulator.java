@@ -0,0 +1,75 @@
+package simulation;
+
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// 📝 Headless bot-vs-bot simulator for tuning the bot thresholds at scale.
+// The games are split into chunks that run on all cores (parallel stream → common ForkJoinPool).
+// Every chunk gets its own SplittableRandom, split from one seed, so workers never share a generator
+// and the same seed gives the same result no matter how many cores there are.
+//
+// Usage: java -cp liarsdice.jar simulation.Simulator games=1000000 players=2 dice=5 seed=42 seat0=0.6,0.35,0.15
+public class Simulator {
+
+    private static final int MAX_CHUNKS = 256;
+
+    public static void main(String[] args) {
+        SimulationConfig config = SimulationConfig.fromArgs(args);
+
+        long start = System.nanoTime();
+        SimulationStats stats = run(config);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println(report(config, stats, elapsed));
+    }
+
+    public static SimulationStats run(SimulationConfig config) {
+        int chunks = (int) Math.min(MAX_CHUNKS, config.games());
+
+        // 📝 Split the generators up front and in order - that keeps runs reproducible.
+        SplittableRandom seedRandom = new SplittableRandom(config.seed());
+        SplittableRandom[] chunkRandoms = new SplittableRandom[chunks];
+        for (int i = 0; i < chunks; i++) {
+            chunkRandoms[i] = seedRandom.split();
+        }
+
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> runChunk(config, chunkRandoms[chunk], gamesInChunk(config.games(), chunks, chunk)))
+                .reduce(SimulationStats::merge)
+                .orElseThrow();
+    }
+
+    private static long gamesInChunk(long games, int chunks, int chunk) {
+        return games / chunks + (chunk < games % chunks ? 1 : 0);
+    }
+
+    private static SimulationStats runChunk(SimulationConfig config, SplittableRandom random, long games) {
+        SimulationStats stats = new SimulationStats(config.players());
+        for (long i = 0; i < games; i++) {
+            HeadlessGame.play(config, random, stats);
+        }
+        return stats;
+    }
+
+    public static String report(SimulationConfig config, SimulationStats stats, long elapsedNanos) {
+        StringBuilder sb = new StringBuilder();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+
+        sb.append("🎲 ").append(stats.getGames()).append(" games, ")
+                .append(config.players()).append(" players × ").append(config.dicePerPlayer()).append(" dice, seed ")
+                .append(config.seed()).append('\n');
+        for (int seat = 0; seat < stats.getSeats(); seat++) {
+            sb.append(String.format("🤖 Seat %d %s: %.2f %% wins%n",
+                    seat, config.tunings().get(seat), stats.getWinRate(seat) * 100));
+        }
+        sb.append(String.format("🔁 Average rounds: %.2f%n", stats.getAverageRounds()));
+        sb.append(String.format("🙅 Lie calls: %d, accuracy %.2f %%, instant wins %d%n",
+                stats.getLieCalls(), stats.getLieCallAccuracy() * 100, stats.getInstantWins()));
+        if (stats.getBotErrors() > 0) {
+            sb.append(String.format("⚠️ Bot errors (calls that weren't higher): %d%n", stats.getBotErrors()));
+        }
+        sb.append(String.format("⏱️ %.2f s, %.0f games/sec", seconds, stats.getGames() / seconds));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,76 @@
+package telegram;
+
+import game.Command;
+import metrics.Counter;
+import metrics.LatencyHistogram;
+import metrics.MetricsRegistry;
+
+import static metrics.MetricsRegistry.label;
+
+final class BotMetrics {
+
+    // 📝 Everything MyGameBot measures, registered once. The bot records straight into these fields -
+    // a nanoTime() and a LongAdder per measurement, nothing allocated on the hot path.
+    // Engine time is split by command type (what CommandParser made of the message).
+
+    //region 🧱 Variables
+
+    final Counter updatesReceived;
+    final Counter updatesDropped;
+    final LatencyHistogram updateLatency;   // <-- ganzes Update: Befehl, Spiel, Antwort in die Queue
+    final LatencyHistogram botDecision;     // <-- ein Zug des Bots (Lüge? Reroll? Call?)
+    final LatencyHistogram sendLatency;     // <-- ein execute() gegen die Telegram-API
+    final Counter sendErrors;
+    final Counter gamesStarted;
+    final Counter gamesWon;
+    final Counter gamesLost;
+    final Counter gamesEnded;
+
+    private final LatencyHistogram[] engineTime = new LatencyHistogram[Command.Type.values().length]; // <-- Index = ordinal(), null = kein Spielbefehl
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    BotMetrics(MetricsRegistry registry) {
+        updatesReceived = registry.counter("liarsdice_updates_received_total", "Text updates received from Telegram.");
+        updatesDropped = registry.counter("liarsdice_updates_dropped_total", "Updates dropped because the chat's queue was full.");
+        updateLatency = registry.histogram("liarsdice_update_duration_seconds", "Time to handle one update, until the reply is queued.");
+        for (Command.Type type : Command.Type.values()) {
+            if (!touchesGame(type)) {
+                continue; // <-- /start, /help, /rules, /lang laufen nicht durchs Spiel, eine leere Serie hilft keinem
+            }
+            engineTime[type.ordinal()] = registry.histogram("liarsdice_engine_duration_seconds",
+                    "Game engine time per command, including the bot's moves.", label("command", type.name().toLowerCase()));
+        }
+        botDecision = registry.histogram("liarsdice_bot_decision_duration_seconds", "Time for one bot turn.");
+        sendLatency = registry.histogram("liarsdice_telegram_send_duration_seconds", "Latency of one sendMessage call.");
+        sendErrors = registry.counter("liarsdice_telegram_send_errors_total", "sendMessage calls that failed (before retries).");
+        gamesStarted = registry.counter("liarsdice_games_started_total", "Games started with /newgame.");
+
+        String finished = "liarsdice_games_finished_total";
+        String help = "Games that ended, by outcome.";
+        gamesWon = registry.counter(finished, help, label("outcome", "player_won"));
+        gamesLost = registry.counter(finished, help, label("outcome", "bot_won"));
+        gamesEnded = registry.counter(finished, help, label("outcome", "ended"));
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // -- Only for commands that touch the game (see touchesGame)
+    LatencyHistogram engineTime(Command.Type type) {
+        return engineTime[type.ordinal()];
+    }
+
+    // -- The commands MyGameBot handles under the chat's lock, the rest is a fixed text
+    static boolean touchesGame(Command.Type type) {
+        return switch (type) {
+            case START, HELP, RULES, LANGUAGE -> false;
+            default -> true;
+        };
+    }
+
+    //endregion
+}
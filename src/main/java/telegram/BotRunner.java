@@ -1,11 +1,65 @@
 package telegram;
 
+import io.github.cdimascio.dotenv.Dotenv;
+import loadtest.WarmUp;
+import metrics.MetricsServer;
 import org.telegram.telegrambots.meta.TelegramBotsApi;
+import org.telegram.telegrambots.meta.api.methods.updates.SetWebhook;
 import org.telegram.telegrambots.updatesreceivers.DefaultBotSession;
 
+import java.net.InetSocketAddress;
+
 public class BotRunner {
+
+    // 📝 BOT_MODE in der .env wählt, wie Updates reinkommen:
+    // - "polling" (Standard): der Bot fragt Telegram selbst nach neuen Nachrichten.
+    // - "webhook": Telegram schickt die Updates an WEBHOOK_URL, wir lauschen auf WEBHOOK_PORT.
+    // In beiden Fällen landen sie in MyGameBot.onUpdateReceived.
+    // Daneben läuft GET /metrics auf METRICS_HOST:METRICS_PORT (Standard 127.0.0.1:9400, "off" schaltet es ab).
+    // Mit WARMUP_GAMES > 0 spielt vorher ein Wegwerf-Bot so viele Spiele, damit der JIT fertig ist,
+    // bevor das erste echte Update kommt (siehe loadtest.WarmUp).
     public static void main(String[] args) throws Exception {
-        TelegramBotsApi botsApi = new TelegramBotsApi(DefaultBotSession.class);
-        botsApi.registerBot(new MyGameBot());
+        Dotenv dotenv = Dotenv.load();
+        WarmUp.run(dotenv::get); // <-- vor dem echten Bot: der Wegwerf-Bot schließt seine CFR-Policy wieder
+        MyGameBot bot = new MyGameBot();
+        startMetrics(bot, dotenv);
+
+        if (dotenv.get("BOT_MODE", "polling").equalsIgnoreCase("webhook")) {
+            startWebhook(bot, dotenv);
+        } else {
+            TelegramBotsApi botsApi = new TelegramBotsApi(DefaultBotSession.class);
+            botsApi.registerBot(bot);
+        }
+    }
+
+    private static void startMetrics(MyGameBot bot, Dotenv dotenv) throws Exception {
+        String port = dotenv.get("METRICS_PORT", "9400");
+        if (port.equalsIgnoreCase("off")) {
+            return;
+        }
+        InetSocketAddress address = new InetSocketAddress(dotenv.get("METRICS_HOST", "127.0.0.1"), Integer.parseInt(port));
+        MetricsServer server = new MetricsServer(address, bot.getMetrics());
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+    }
+
+    private static void startWebhook(MyGameBot bot, Dotenv dotenv) throws Exception {
+        String path = dotenv.get("WEBHOOK_PATH", "/telegram");
+        String secret = dotenv.get("WEBHOOK_SECRET");
+        int port = Integer.parseInt(dotenv.get("WEBHOOK_PORT", "8080"));
+
+        WebhookServer server = new WebhookServer(new InetSocketAddress(port), path, secret, bot::onUpdateReceived);
+        server.start();
+
+        // 📝 Tells Telegram where to send updates. WEBHOOK_URL is the public address (e.g. behind the load balancer).
+        bot.execute(SetWebhook.builder()
+                .url(dotenv.get("WEBHOOK_URL") + path)
+                .secretToken(secret)
+                .build());
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            bot.onClosing();
+        }));
     }
-}
\ No newline at end of file
+}
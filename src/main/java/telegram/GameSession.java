@@ -1,12 +1,18 @@
 package telegram;
 
 import game.GameState;
+import game.Player;
 import game.RoundLogic;
+import journal.JournalRecorder;
 
 public class GameSession {
 
     private GameState gameState;
     private RoundLogic roundLogic;
+    private volatile long lastAccess = System.nanoTime(); // <-- für das Aufräumen inaktiver Sessions (SessionRegistry)
+    private long accountedBytes; // <-- so viel hat die SessionRegistry für diese Session gezählt
+    private JournalRecorder recorder; // <-- schreibt die Züge ins Journal, null = kein Journal
+    private long markedVersion = -1; // <-- GameState-Version, die zuletzt zum Write-behind angemeldet wurde
 
     public GameSession(GameState gameState, RoundLogic roundLogic) {
         this.gameState = gameState;
@@ -20,4 +26,45 @@ public class GameSession {
     public RoundLogic getRoundLogic() {
         return roundLogic;
     }
-}
\ No newline at end of file
+
+    public void touch() {
+        lastAccess = System.nanoTime();
+    }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+
+    long getAccountedBytes() {
+        return accountedBytes;
+    }
+
+    void setAccountedBytes(long accountedBytes) {
+        this.accountedBytes = accountedBytes;
+    }
+
+    JournalRecorder getRecorder() {
+        return recorder;
+    }
+
+    void setRecorder(JournalRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    long getMarkedVersion() {
+        return markedVersion;
+    }
+
+    void setMarkedVersion(long markedVersion) {
+        this.markedVersion = markedVersion;
+    }
+
+    // 📝 Rough heap size of the session (objects, names, dice) - enough to keep the cache within a byte budget.
+    public long estimateBytes() {
+        long bytes = 256;
+        for (Player player : gameState.getPlayers()) {
+            bytes += 160 + player.getName().length() * 2L + player.getDiceCount();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,105 @@
+package telegram;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 📝 A group table before the game starts: who sits down, in the order they joined (that becomes the seat order).
+// Only lives in memory - a lobby that is lost on a restart is just opened again with /newgame.
+// Not thread-safe: MyGameBot only touches it under the chat's lock. Only lastChange is read without it
+// (the sweep looks for abandoned tables and checks again under the lock).
+final class Lobby {
+
+    //region 🧱 Variables
+
+    static final int MAX_SEATS = 50;
+
+    // -- userId 0 = Bot
+    record Seat(String name, long userId) {
+        boolean isBot() {
+            return userId == 0;
+        }
+    }
+
+    private final List<Seat> seats = new ArrayList<>();
+    private int bots;
+    private volatile long lastChange = System.nanoTime(); // <-- letztes join/addBot/leave, für den Sweep
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // -- false if the table is full or the user already sits there
+    boolean join(String name, long userId) {
+        if (isFull() || contains(userId)) {
+            return false;
+        }
+        seats.add(new Seat(name, userId));
+        lastChange = System.nanoTime();
+        return true;
+    }
+
+    // -- Bots are numbered "Bot 1", "Bot 2", … so the group can tell them apart
+    String addBot() {
+        if (isFull()) {
+            return null;
+        }
+        String name = "Bot " + (++bots);
+        seats.add(new Seat(name, 0));
+        lastChange = System.nanoTime();
+        return name;
+    }
+
+    boolean leave(long userId) {
+        if (seats.removeIf(seat -> !seat.isBot() && seat.userId() == userId)) {
+            lastChange = System.nanoTime();
+            return true;
+        }
+        return false;
+    }
+
+    boolean contains(long userId) {
+        for (Seat seat : seats) {
+            if (!seat.isBot() && seat.userId() == userId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isFull() {
+        return seats.size() >= MAX_SEATS;
+    }
+
+    // -- Nobody human left - bots alone don't keep a table open
+    boolean hasHumans() {
+        for (Seat seat : seats) {
+            if (!seat.isBot()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return seats.size();
+    }
+
+    List<Seat> seats() {
+        return seats;
+    }
+
+    long getLastChange() {
+        return lastChange;
+    }
+
+    // -- "Alice, Bob, Bot 1" - who sits there, in seat order
+    String names() {
+        StringBuilder names = new StringBuilder();
+        for (Seat seat : seats) {
+            names.append(names.isEmpty() ? "" : ", ").append(seat.name());
+        }
+        return names.toString();
+    }
+
+    //endregion
+}
@@ -0,0 +1,295 @@
+package telegram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class MappedSessionStore implements SessionStore {
+
+    // 📝 All games in a few big segment files, memory-mapped. Saving appends a record to the newest segment -
+    // a copy into mapped memory, no system call - and an in-memory index points each chat at its newest record.
+    // Deleting appends a tombstone. Opening reads the segments oldest first and rebuilds the index.
+    //
+    // Record: int header (bytes + 1, TOMBSTONE for a delete, 0 = nothing written here yet), long chat ID, bytes.
+    // The header is written last, so a record cut off by a crash reads as the end of the segment.
+    //
+    // 📝 Old records are garbage. When a new segment is started and the oldest one is mostly garbage (or the whole
+    // store is), its live records are copied to the newest segment and the file is deleted. Always the oldest:
+    // its tombstones can go with it, there is nothing older they would have to hide.
+    //
+    // Every method is synchronized. The write-behind flusher and the sweeper write, reads come from lazy
+    // loads - none of that is on the hot path of a move.
+
+    //region 🧱 Variables
+
+    public static final int DEFAULT_SEGMENT_BYTES = 8 * 1024 * 1024;
+
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final int TOMBSTONE = -1;
+    private static final double MAX_GARBAGE = 0.5; // <-- ab diesem Anteil wird das älteste Segment aufgeräumt
+    private static final String PREFIX = "segment-";
+    private static final String SUFFIX = ".seg";
+
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED;
+    private static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG_UNALIGNED;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final Deque<Segment> segments = new ArrayDeque<>(); // <-- älteste vorne, in die letzte wird geschrieben
+    private final Map<Long, Location> index = new HashMap<>();
+    private final Set<Segment> unflushed = new HashSet<>();
+    private boolean compacting; // <-- beim Umkopieren keine zweite Runde anstoßen
+
+    private record Location(Segment segment, int offset, int size) {
+    }
+
+    private static final class Segment {
+        private final int number;
+        private final Path path;
+        private final Arena arena;
+        private final MemorySegment memory;
+        private int position;  // <-- hier kommt der nächste Record hin
+        private long live;     // <-- Bytes der Records, auf die der Index noch zeigt
+
+        private Segment(int number, Path path, Arena arena, MemorySegment memory) {
+            this.number = number;
+            this.path = path;
+            this.arena = arena;
+            this.memory = memory;
+        }
+    }
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public MappedSessionStore(Path directory) {
+        this(directory, DEFAULT_SEGMENT_BYTES);
+    }
+
+    public MappedSessionStore(Path directory, int segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+            for (int number : existingSegments()) {
+                replay(map(number));
+            }
+            if (segments.isEmpty()) {
+                map(0);
+            }
+        } catch (IOException e) {
+            closeSegments();
+            throw new UncheckedIOException("Could not open session segments in " + directory, e);
+        }
+    }
+
+    private List<Integer> existingSegments() throws IOException {
+        List<Integer> numbers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                numbers.add(Integer.parseInt(name, PREFIX.length(), name.length() - SUFFIX.length(), 10));
+            }
+        }
+        numbers.sort(null);
+        return numbers;
+    }
+
+    // -- Maps the segment (a new file grows to segmentBytes) and makes it the newest
+    private Segment map(int number) throws IOException {
+        Path path = directory.resolve(PREFIX + number + SUFFIX);
+        Arena arena = Arena.ofShared();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            Segment segment = new Segment(number, path, arena, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes, arena));
+            segments.addLast(segment);
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            arena.close();
+            throw e;
+        }
+    }
+
+    // -- Reads the records of a segment into the index, newer records replace older ones
+    private void replay(Segment segment) {
+        int position = 0;
+        while (position + HEADER_BYTES <= segmentBytes) {
+            int header = segment.memory.get(INT, position);
+            if (header == 0) {
+                break;
+            }
+            long chatId = segment.memory.get(LONG, position + Integer.BYTES);
+            int size = header == TOMBSTONE ? HEADER_BYTES : HEADER_BYTES + header - 1;
+            if (header == TOMBSTONE) {
+                drop(index.remove(chatId));
+            } else {
+                point(chatId, new Location(segment, position, size));
+            }
+            position += size;
+        }
+        segment.position = position;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    @Override
+    public synchronized void save(long chatId, byte[] state) throws IOException {
+        int size = HEADER_BYTES + state.length;
+        if (size > segmentBytes) {
+            throw new IOException("Session of chat " + chatId + " has " + state.length + " bytes, a segment only " + segmentBytes);
+        }
+        Segment segment = segmentFor(size);
+        int offset = segment.position;
+        MemorySegment.copy(state, 0, segment.memory, ValueLayout.JAVA_BYTE, offset + HEADER_BYTES, state.length);
+        segment.memory.set(LONG, offset + Integer.BYTES, chatId);
+        segment.memory.set(INT, offset, state.length + 1); // <-- zuletzt: erst jetzt gilt der Record
+        segment.position += size;
+        unflushed.add(segment);
+        point(chatId, new Location(segment, offset, size));
+    }
+
+    @Override
+    public synchronized byte[] load(long chatId) {
+        Location location = index.get(chatId);
+        if (location == null) {
+            return null;
+        }
+        byte[] state = new byte[location.size() - HEADER_BYTES];
+        MemorySegment.copy(location.segment().memory, ValueLayout.JAVA_BYTE, location.offset() + HEADER_BYTES, state, 0, state.length);
+        return state;
+    }
+
+    @Override
+    public synchronized boolean delete(long chatId) throws IOException {
+        Location removed = index.remove(chatId);
+        if (removed == null) {
+            return false;
+        }
+        drop(removed);
+        Segment segment = segmentFor(HEADER_BYTES);
+        int offset = segment.position;
+        segment.memory.set(LONG, offset + Integer.BYTES, chatId);
+        segment.memory.set(INT, offset, TOMBSTONE);
+        segment.position += HEADER_BYTES;
+        unflushed.add(segment);
+        return true;
+    }
+
+    @Override
+    public synchronized List<Long> chatIds() {
+        return List.copyOf(index.keySet());
+    }
+
+    // 📝 Writes the changed pages of the segments back to their files.
+    @Override
+    public synchronized void flush() {
+        for (Segment segment : unflushed) {
+            segment.memory.force();
+        }
+        unflushed.clear();
+    }
+
+    @Override
+    public synchronized void close() {
+        flush();
+        closeSegments();
+    }
+
+    private void closeSegments() {
+        for (Segment segment : segments) {
+            segment.arena.close();
+        }
+        segments.clear();
+        index.clear();
+    }
+
+    // -- The newest segment if the record fits, otherwise a new one (and a chance to clean up the oldest)
+    private Segment segmentFor(int size) throws IOException {
+        Segment newest = segments.getLast();
+        if (newest.position + size <= segmentBytes) {
+            return newest;
+        }
+        Segment next = map(newest.number + 1);
+        if (!compacting) {
+            compactOldest();
+        }
+        return next.position + size <= segmentBytes ? next : segmentFor(size);
+    }
+
+    // 📝 Copies the live records of the oldest segment to the newest and deletes it, as long as that pays off.
+    private void compactOldest() throws IOException {
+        while (segments.size() > 2) { // <-- nie das gerade angelegte und nie das davor, in das eben noch geschrieben wurde
+            Segment oldest = segments.getFirst();
+            if (!isWorthCompacting(oldest)) {
+                return;
+            }
+            List<Map.Entry<Long, Location>> moving = new ArrayList<>();
+            for (Map.Entry<Long, Location> entry : index.entrySet()) {
+                if (entry.getValue().segment() == oldest) {
+                    moving.add(entry);
+                }
+            }
+            compacting = true;
+            try {
+                for (Map.Entry<Long, Location> entry : moving) {
+                    save(entry.getKey(), load(entry.getKey()));
+                }
+            } finally {
+                compacting = false;
+            }
+            segments.remove(oldest);
+            unflushed.remove(oldest);
+            oldest.arena.close();
+            Files.delete(oldest.path);
+        }
+    }
+
+    private boolean isWorthCompacting(Segment oldest) {
+        long used = 0;
+        long live = 0;
+        for (Segment segment : segments) {
+            used += segment.position;
+            live += segment.live;
+        }
+        return oldest.live < oldest.position * (1 - MAX_GARBAGE) || live < used * (1 - MAX_GARBAGE);
+    }
+
+    private void point(long chatId, Location location) {
+        drop(index.put(chatId, location));
+        location.segment().live += location.size();
+    }
+
+    private static void drop(Location old) {
+        if (old != null) {
+            old.segment().live -= old.size();
+        }
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    //endregion
+}
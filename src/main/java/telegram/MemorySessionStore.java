@@ -0,0 +1,34 @@
+package telegram;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MemorySessionStore implements SessionStore {
+
+    // 📝 Keeps parked games on the heap, but as their GameStateIO bytes (a few hundred bytes instead of the
+    // object graph). Nothing survives a restart - for tests and for running without a disk.
+
+    private final Map<Long, byte[]> states = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(long chatId, byte[] state) {
+        states.put(chatId, state.clone());
+    }
+
+    @Override
+    public byte[] load(long chatId) {
+        byte[] state = states.get(chatId);
+        return state != null ? state.clone() : null;
+    }
+
+    @Override
+    public boolean delete(long chatId) {
+        return states.remove(chatId) != null;
+    }
+
+    @Override
+    public List<Long> chatIds() {
+        return List.copyOf(states.keySet());
+    }
+}
@@ -0,0 +1,11 @@
+package telegram;
+
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+// 📝 Sends one text to one chat. MyGameBot sends through the Telegram API,
+// tests and load runs plug in a stub that only records what would have been sent.
+@FunctionalInterface
+public interface MessageSender {
+
+    void send(String chatId, String text) throws TelegramApiException;
+}
@@ -0,0 +1,78 @@
+package telegram;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class MvStoreSessionStore implements SessionStore {
+
+    // 📝 Parked games in H2's MVStore, an embedded key-value store in a single file (chat ID → GameStateIO bytes).
+    // Autocommit is off: puts only go to the store's in-memory pages, flush() commits them in one go - that
+    // fits the write-behind batches. Whatever was not committed is gone after a crash, like with the other stores.
+
+    //region 🧱 Variables
+
+    public static final String FILE_NAME = "sessions.mv.db";
+
+    private final MVStore store;
+    private final MVMap<Long, byte[]> sessions;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public MvStoreSessionStore(Path file) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create session directory " + file.getParent(), e);
+        }
+        this.store = new MVStore.Builder()
+                .fileName(file.toString())
+                .autoCommitDisabled()
+                .open();
+        this.sessions = store.openMap("sessions");
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    @Override
+    public void save(long chatId, byte[] state) {
+        sessions.put(chatId, state.clone()); // <-- MVStore hält die Referenz, der Aufrufer darf sein Array weiterverwenden
+    }
+
+    @Override
+    public byte[] load(long chatId) {
+        byte[] state = sessions.get(chatId);
+        return state != null ? state.clone() : null;
+    }
+
+    @Override
+    public boolean delete(long chatId) {
+        return sessions.remove(chatId) != null;
+    }
+
+    @Override
+    public List<Long> chatIds() {
+        return List.copyOf(sessions.keySet());
+    }
+
+    @Override
+    public void flush() {
+        store.commit();
+    }
+
+    @Override
+    public void close() {
+        store.close(); // <-- schreibt noch offene Änderungen
+    }
+
+    //endregion
+}
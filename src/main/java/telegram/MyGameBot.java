@@ -4,13 +4,31 @@ package telegram;
 //region ⬆️ Imports
 import game.*;
 import io.github.cdimascio.dotenv.Dotenv;
+import journal.GameJournal;
+import journal.JournalConfig;
+import journal.RecoveredSession;
+import log.Level;
+import log.Log;
+import log.Logger;
+import metrics.MetricsRegistry;
 import org.telegram.telegrambots.bots.TelegramLongPollingBot;
 import org.telegram.telegrambots.meta.api.methods.send.SendMessage;
 import org.telegram.telegrambots.meta.api.objects.Message;
 import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
 import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
-
+import text.Language;
+import text.Messages;
+import text.Msg;
+import text.Reply;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 //endregion
 
 
@@ -18,121 +36,478 @@ public class MyGameBot extends TelegramLongPollingBot {
 
     //region 🧱 Variables
 
+    private static final Logger LOG = Log.get(MyGameBot.class);
+
     private final String botToken;
     private final String botUsername;
-    private final Map<Long, GameSession> gameSessions = new HashMap<>(); // <-- Maps damit einzelne Verbindungen durch chatID die Keys bekommen und jeder spielen kann
+    private final String botStrategy; // <-- "heuristic" (Standard), "montecarlo" oder "cfr"
+    private final BotDecisionCache<MonteCarloBotPlayer.SearchScores> decisionCache; // <-- gemeinsame Such-Ergebnisse aller Montecarlo-Bots (null = aus)
+    private final CfrPolicy policy; // <-- trainierte Strategie der CFR-Bots, gemappt aus CFR_POLICY (null = nicht cfr)
+    private final Long diceSeed; // <-- DICE_SEED: gleiche Würfel pro Chat, z. B. für Lasttests (null = echter Zufall)
+    private final GameJournal journal; // <-- schreibt jeden Zug mit, damit Spiele einen Neustart überleben (null = aus)
+    private final SessionRegistry gameSessions; // <-- Sessions pro chatID, damit jeder sein eigenes Spiel hat (thread-safe, begrenzt)
+    private final UpdateDispatcher dispatcher; // <-- verarbeitet Chats parallel, aber jeden Chat der Reihe nach
+    private final OutboundQueue outbound; // <-- verschickt Antworten im Hintergrund, im Rahmen von Telegrams Limits
+    private final MessageSender transport; // <-- der eigentliche Versand (Telegram-API oder ein Stub)
+    private final MetricsRegistry metrics = new MetricsRegistry(); // <-- wird unter /metrics ausgeliefert (siehe BotRunner)
+    private final BotMetrics stats = new BotMetrics(metrics);
+    private final Messages messages = new Messages(); // <-- alle Texte, einmal beim Start kompiliert (Deutsch und Englisch)
+    private final Map<Long, Language> chatLanguages = new ConcurrentHashMap<>(); // <-- Wahl per /lang, nur im Speicher
+    private final Language defaultLanguage; // <-- DEFAULT_LANGUAGE, wenn Telegram keine Sprache mitschickt, die wir können
+    private final Map<Long, Lobby> tables = new ConcurrentHashMap<>(); // <-- offene Gruppentische vor /startgame, nur im Speicher
+    private final long tableIdleNanos; // <-- so lange bleibt ein Tisch ohne join/addbot/leave offen (SESSION_IDLE_MINUTES)
+    private volatile ChatOwnership chatOwnership; // <-- nur im Cluster: welche Chats dieser Knoten hat (null = alle)
 
     //endregion
 
     //region 🛠️ Constructor
 
     public MyGameBot() {
-        Dotenv dotenv = Dotenv.load();
-        this.botToken = dotenv.get("BOT_TOKEN");
-        this.botUsername = dotenv.get("BOT_USERNAME");
+        this(Dotenv.load()::get, null);
+    }
+
+    // 📝 settings liefert einen Wert wie BOT_TOKEN (null = nicht gesetzt), normalerweise aus der .env.
+    // transport verschickt die fertige Nachricht - null heißt Telegram-API, der Lasttest steckt hier einen Stub rein.
+    public MyGameBot(Function<String, String> settings, MessageSender transport) {
+        this.botToken = settings.apply("BOT_TOKEN");
+        this.botUsername = settings.apply("BOT_USERNAME");
+        this.botStrategy = setting(settings, "BOT_STRATEGY", "heuristic");
+        int cacheEntries = Integer.parseInt(setting(settings, "BOT_CACHE_ENTRIES", "65536")); // <-- 0 schaltet den Cache ab
+        this.decisionCache = cacheEntries > 0 ? new BotDecisionCache<>(cacheEntries) : null;
+        this.defaultLanguage = Objects.requireNonNullElse(Language.fromCode(setting(settings, "DEFAULT_LANGUAGE", "de")), Language.DE);
+        Log.instance().setLevel(Level.parse(setting(settings, "LOG_LEVEL", Log.instance().getLevel().name())));
+        String seed = settings.apply("DICE_SEED");
+        this.diceSeed = seed == null || seed.isBlank() ? null : Long.parseLong(seed);
+        this.transport = transport != null ? transport : this::sendToTelegram;
+        this.policy = openPolicy(settings, botStrategy); // <-- vor dem Journal: wiederhergestellte CFR-Bots brauchen sie schon
+        this.journal = openJournal(settings, policy);
+        SessionCacheConfig cacheConfig = new SessionCacheConfig(
+                Integer.parseInt(setting(settings, "SESSION_MAX_ENTRIES", "10000")),
+                Long.parseLong(setting(settings, "SESSION_MAX_MB", "64")) * 1024 * 1024,
+                Duration.ofMinutes(Long.parseLong(setting(settings, "SESSION_IDLE_MINUTES", "30"))),
+                Duration.ofMinutes(1)
+        );
+        this.tableIdleNanos = cacheConfig.idleTimeout().toNanos();
+        this.gameSessions = new SessionRegistry(
+                cacheConfig,
+                openSessionStore(settings),
+                journal,
+                Duration.ofMillis(Long.parseLong(setting(settings, "SESSION_WRITE_BEHIND_MS", "0"))), // <-- 0 = nur geparkte Spiele im Store
+                policy
+        );
+        gameSessions.onSweep(this::closeIdleTables);
+        restoreSessions();
+        this.dispatcher = new UpdateDispatcher(
+                this::handleUpdate,
+                Integer.parseInt(setting(settings, "MAX_CONCURRENT_UPDATES", "256")),
+                Integer.parseInt(setting(settings, "MAX_QUEUED_PER_CHAT", "50"))
+        );
+        // 📝 Die Limits sind Telegrams - nur zum Messen ohne echte API (Lasttest) lohnt es sich, sie anzuheben.
+        OutboundConfig defaults = OutboundConfig.DEFAULT;
+        this.outbound = new OutboundQueue(this::sendNow, new OutboundConfig(
+                Integer.parseInt(setting(settings, "OUTBOUND_WORKERS", String.valueOf(defaults.workers()))),
+                Double.parseDouble(setting(settings, "OUTBOUND_GLOBAL_PER_SECOND", String.valueOf(defaults.globalPerSecond()))),
+                Double.parseDouble(setting(settings, "OUTBOUND_CHAT_PER_SECOND", String.valueOf(defaults.chatPerSecond()))),
+                Integer.parseInt(setting(settings, "OUTBOUND_CHAT_BURST", String.valueOf(defaults.chatBurst()))),
+                defaults.groupPerMinute(),
+                Duration.ofMillis(Long.parseLong(setting(settings, "OUTBOUND_MERGE_MS", String.valueOf(defaults.mergeWindow().toMillis())))),
+                defaults.maxRetries(),
+                defaults.baseBackoff()
+        ));
+        registerGauges();
+    }
+
+    private static String setting(Function<String, String> settings, String key, String defaultValue) {
+        String value = settings.apply(key);
+        return value != null ? value : defaultValue;
+    }
+
+    // 📝 Values the other parts already count - read only when /metrics is scraped.
+    private void registerGauges() {
+        metrics.gauge("liarsdice_active_sessions", "Games held in memory.", gameSessions::size);
+        metrics.gauge("liarsdice_session_resident_bytes", "Estimated heap used by the games in memory.", gameSessions::getResidentBytes);
+        metrics.gauge("liarsdice_session_writes_pending", "Changed games waiting for the write-behind writer.", gameSessions::getPendingWrites);
+        metrics.counterFunction("liarsdice_session_store_writes_total", "Games written to the session store by the write-behind writer.", gameSessions::getStoreWrites);
+        metrics.counterFunction("liarsdice_session_store_marks_total", "Changes that asked for a write-behind write.", gameSessions::getStoreMarks);
+        metrics.gauge("liarsdice_updates_queued", "Updates waiting in the dispatcher.", dispatcher::getQueueDepth);
+        metrics.gauge("liarsdice_outbound_pending", "Replies waiting in the outbound queue.", outbound::getPending);
+        metrics.counterFunction("liarsdice_outbound_requests_total", "sendMessage requests made by the outbound queue.", outbound::getRequests);
+        metrics.counterFunction("liarsdice_outbound_merged_total", "Replies merged into an earlier message.", outbound::getMerged);
+        metrics.counterFunction("liarsdice_outbound_retries_total", "sendMessage retries after 429, 5xx or network errors.", outbound::getRetries);
+        metrics.counterFunction("liarsdice_outbound_failed_total", "Replies given up on.", outbound::getFailed);
+        metrics.counterFunction("liarsdice_log_dropped_total", "Log events dropped because the log buffer was full.", Log.instance()::getDropped);
+        if (decisionCache != null) {
+            metrics.counterFunction("liarsdice_bot_cache_hits_total", "Bot searches answered from the decision cache.", decisionCache::getHits);
+            metrics.counterFunction("liarsdice_bot_cache_partial_hits_total", "Bot searches that found stored scores below their budget and searched on.", decisionCache::getPartialHits);
+            metrics.counterFunction("liarsdice_bot_cache_misses_total", "Bot searches that had to run.", decisionCache::getMisses);
+            metrics.counterFunction("liarsdice_bot_cache_evictions_total", "Decisions evicted to make room.", decisionCache::getEvictions);
+        }
+    }
+
+    // 📝 JOURNAL_DIR=off schaltet das Journal ab.
+    private static GameJournal openJournal(Function<String, String> settings, CfrPolicy policy) {
+        String directory = setting(settings, "JOURNAL_DIR", "journal");
+        if (directory.equalsIgnoreCase("off")) {
+            return null;
+        }
+        JournalConfig config = new JournalConfig(
+                Duration.ofMinutes(Long.parseLong(setting(settings, "JOURNAL_SNAPSHOT_MINUTES", "5"))),
+                Long.parseLong(setting(settings, "JOURNAL_SNAPSHOT_RECORDS", "250000"))
+        );
+        try {
+            return new GameJournal(Path.of(directory), config, policy);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open game journal " + directory, e);
+        }
+    }
+
+    // 📝 SESSION_STORE=files (default) | mapped | mvstore | memory, alle unter SESSION_SPILL_DIR.
+    private static SessionStore openSessionStore(Function<String, String> settings) {
+        Path directory = Path.of(setting(settings, "SESSION_SPILL_DIR", "sessions"));
+        String type = setting(settings, "SESSION_STORE", "files");
+        return switch (type.toLowerCase()) {
+            case "files" -> new SessionSpillStore(directory);
+            case "mapped" -> new MappedSessionStore(directory);
+            case "mvstore" -> new MvStoreSessionStore(directory.resolve(MvStoreSessionStore.FILE_NAME));
+            case "memory" -> new MemorySessionStore();
+            default -> throw new IllegalArgumentException("Unknown SESSION_STORE " + type);
+        };
+    }
+
+    // 📝 Nur mit BOT_STRATEGY=cfr - die Datei schreibt cfr.CfrTrainer.
+    private static CfrPolicy openPolicy(Function<String, String> settings, String strategy) {
+        if (!strategy.equalsIgnoreCase("cfr")) {
+            return null;
+        }
+        String file = setting(settings, "CFR_POLICY", "liarsdice.cfr");
+        try {
+            return CfrPolicy.open(Path.of(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open CFR policy " + file, e);
+        }
+    }
+
+    // 📝 Holt die Spiele zurück, die beim letzten Stopp oder Absturz noch liefen.
+    private void restoreSessions() {
+        if (journal == null) {
+            return;
+        }
+        for (Map.Entry<Long, RecoveredSession> entry : journal.takeRecovered().entrySet()) {
+            GameState state = entry.getValue().state();
+            gameSessions.restore(entry.getKey(), new GameSession(state, new RoundLogic(state)), entry.getValue().sequence());
+        }
+        LOG.info("♻️ Recovered games from journal", "stats", journal.getRecoveryStats());
+
+        journal.startSnapshots((chatId, action) -> gameSessions.withLock(chatId, () -> {
+            action.run();
+            return null;
+        }));
     }
 
     //endregion
 
     //region 🏁 Start Options
 
-    // 📝 Dies ist die zentrale Methode des Telegram-Bots.
-//     Sie wird bei jeder eingehenden Nachricht von Telegram aufgerufen.
-//     Hier entscheidet der Bot, wie er auf verschiedene Befehle oder Spielzüge reagiert.
-
+    // 📝 Der Polling-Thread reicht das Update nur weiter, verarbeitet wird es im UpdateDispatcher.
     @Override
     public void onUpdateReceived(Update update) {
         if (update.hasMessage() && update.getMessage().hasText()) {
-            Message message = update.getMessage();
-            Long chatId = message.getChatId(); // <-- speichert die Chat-ID, damit die Antwort später an den richtigen Nutzer zurückgeschickt wird
-            String incomingText = message.getText().trim(); // <-- entfernt überflüssige Leerzeichen
-
-            System.out.println("✅ Incoming from Telegram [" + chatId + "]: " + incomingText);
-
-            String response;
-
-            // 📝 Hier wird geprüft, ob der User einen bestimmten Befehl geschickt hat.
-            if (incomingText.equalsIgnoreCase("/start")) {
-                response = getWelcomeText(); // <-- ruft Begrüßungstext auf
-            } else if (incomingText.equalsIgnoreCase("/help")) {
-                response = getHelpText(); // <-- ruft Hilfetext auf
-            } else if (incomingText.equalsIgnoreCase("/rules")) {
-                response = getRulesText(); // <-- ruft Spielregeln auf
-            } else if (incomingText.equalsIgnoreCase("/newgame")) {
-                response = startNewGame(chatId, message.getFrom().getFirstName()); // <-- startet ein neues Spiel
-            } else if (incomingText.equalsIgnoreCase("/endgame")) {
-                response = endGame(chatId); // <-- beendet ein laufendes Spiel
-            } else {
-                response = handleGameInput(chatId, incomingText); // <-- behandelt alle anderen Texteingaben als Spielzüge
+            Long chatId = update.getMessage().getChatId();
+            stats.updatesReceived.increment();
+            if (!dispatcher.dispatch(chatId, update)) {
+                stats.updatesDropped.increment();
+                LOG.warn("⚠️ Too many updates queued for chat, dropping one", "chat", chatId, "queued", dispatcher.getQueueDepth());
+            }
+        }
+    }
+
+    // 📝 Dies ist die zentrale Methode des Telegram-Bots.
+//     Sie wird für jede eingehende Nachricht aufgerufen - pro Chat immer nur eine gleichzeitig.
+//     Hier entscheidet der Bot, wie er auf verschiedene Befehle oder Spielzüge reagiert.
+    private void handleUpdate(Update update) {
+        long started = System.nanoTime();
+        Message message = update.getMessage();
+        Long chatId = message.getChatId(); // <-- speichert die Chat-ID, damit die Antwort später an den richtigen Nutzer zurückgeschickt wird
+        String incomingText = message.getText().trim(); // <-- entfernt überflüssige Leerzeichen
+
+        LOG.debug("✅ Incoming from Telegram", "chat", chatId, "text", incomingText); // <-- Nachrichtentext nur auf DEBUG
+
+        // 📝 Die Nachricht wird genau einmal gelesen (CommandParser), danach zählt nur noch der Command.
+        // Ein frischer pro Update: jeder Drain läuft auf einem neuen virtuellen Thread, da gibt es nichts wiederzuverwenden.
+        Command command = new Command();
+        CommandParser.parse(incomingText, command);
+
+        // 📝 Alle Handler schreiben in dieselbe Reply (siehe text.Messages) - erst am Ende wird ein String daraus.
+        if (command.type() == Command.Type.LANGUAGE) {
+            changeLanguage(chatId, incomingText, command);
+        }
+        Reply reply = messages.open(languageFor(chatId, message));
+
+        // 📝 Hier wird geprüft, ob der User einen bestimmten Befehl geschickt hat.
+        switch (command.type()) {
+            case START -> reply.add(Msg.WELCOME); // <-- Begrüßungstext
+            case HELP -> reply.add(Msg.HELP); // <-- Hilfetext
+            case RULES -> reply.add(Msg.RULES); // <-- Spielregeln
+            case LANGUAGE -> reply.add(chatLanguages.containsKey(chatId) && command.argumentStart() < command.argumentEnd()
+                    ? Msg.LANGUAGE_SET : Msg.LANGUAGE_USAGE);
+            default -> {
+                // 📝 Alles, was ein Spiel anfasst, läuft unter dem Lock des Chats - gesendet wird danach.
+                long engineStarted = System.nanoTime();
+                Handled handled = gameSessions.withLock(chatId, () -> {
+                    if (chatOwnership != null && !chatOwnership.owns(update)) {
+                        return Handled.MOVED; // <-- unter dem Lock geprüft: eine Übergabe (handOff) nimmt denselben
+                    }
+                    GameSession before = gameSessions.get(chatId);
+                    long version = before == null ? 0 : before.getGameState().getVersion();
+                    handleGameCommand(chatId, command, message, reply);
+                    GameSession after = gameSessions.get(chatId);
+                    return after == before && (after == null || after.getGameState().getVersion() == version)
+                            ? Handled.UNCHANGED : Handled.CHANGED;
+                });
+                if (handled == Handled.MOVED) {
+                    reply.close();
+                    chatOwnership.redirect(update);
+                    return;
+                }
+                stats.engineTime(command.type()).recordSince(engineStarted);
+                if (handled == Handled.CHANGED) {
+                    awaitJournal(reply); // <-- erst antworten, wenn der Zug auf der Platte ist
+                }
+            }
+        }
+
+        if (reply.length() == 0) {
+            reply.close(); // <-- z. B. Gespräch in einer Gruppe: nichts zu sagen
+        } else {
+            sendTextMessage(chatId.toString(), reply.finish()); // <-- sendet die generierte Antwort zurück an den User
+        }
+        stats.updateLatency.recordSince(started);
+    }
+
+
+    // 📝 Waits for the journal's group commit (outside the chat's lock, other chats keep going).
+    // If the journal couldn't write, the player is told that the move won't survive a restart.
+    private void awaitJournal(Reply reply) {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.sync();
+        } catch (IOException e) {
+            LOG.error("❌ Move is not in the journal", e);
+            reply.gap().add(Msg.NOT_SAVED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // <-- Herunterfahren: die Antwort geht trotzdem raus
+        }
+    }
+
+    private void handleGameCommand(Long chatId, Command command, Message message, Reply reply) {
+        boolean group = isGroupChat(message);
+        switch (command.type()) {
+            case NEW_GAME -> { // <-- startet ein neues Spiel (in einer Gruppe erst den Tisch)
+                if (group) {
+                    openTable(chatId, message.getFrom(), reply);
+                } else {
+                    startNewGame(chatId, message.getFrom(), reply);
+                }
+            }
+            case END_GAME -> endGame(chatId, reply); // <-- beendet ein laufendes Spiel
+            case JOIN, LEAVE, ADD_BOT, START_GAME -> {
+                if (group) {
+                    handleTableCommand(chatId, command, message.getFrom(), reply);
+                } else {
+                    reply.add(Msg.GROUP_ONLY);
+                }
             }
+            default -> handleGameInput(chatId, command, message.getFrom(), group, reply); // <-- behandelt alle anderen Texteingaben als Spielzüge
+        }
+    }
+
+    private static boolean isGroupChat(Message message) {
+        return message.isGroupMessage() || message.isSuperGroupMessage();
+    }
+
+    // 📝 /lang en - gilt nur für diesen Chat und nur bis zum Neustart (wird nicht im Journal gespeichert).
+    private void changeLanguage(Long chatId, String incomingText, Command command) {
+        Language language = Language.fromCode(incomingText, command.argumentStart(), command.argumentEnd());
+        if (language != null) {
+            chatLanguages.put(chatId, language);
+        } else if (command.argumentStart() < command.argumentEnd()) {
+            chatLanguages.remove(chatId); // <-- unbekannte Sprache: zurück zur Sprache des Telegram-Clients
+        }
+    }
 
-            sendTextMessage(chatId.toString(), response); // <-- sendet die generierte Antwort zurück an den User
-        }
-    }
-
-
-    private String getWelcomeText() {
-        return """
-                👋 *Willkommen bei Liars Dice!*
-                
-                Starte dein Spiel mit:
-                • `/newgame` – Neues Spiel beginnen
-                • `/help` – Hilfe anzeigen
-                • `/rules` – Anleitung anzeigen
-                • `/endgame` – Beendet das Spiel
-                """;
-    }
-
-    private String getHelpText() {
-        return """
-                ℹ️ *Hilfe*:
-                
-                • `/newgame` – Neues Spiel starten
-                • `2 5` – einen Call machen (z. B. „2 Würfel mit Wert 5“)
-                • `lie` – den letzten Call anzweifeln
-                • `reroll 0 2` – einzelne Würfel neu würfeln (max. 1x pro Spiel) - wobei 0 dein Erster und 5 dein Letzter Würfel ist!
-                """;
-    }
-
-    private String getRulesText() {
-        return """
-            ℹ️ *Regeln*:
-            
-            • Bei Liars Dice geht es um Lug & Betrug.
-            • Ziel ist am Ende noch mindestens 2 Würfel zu besitzen.
-            • Man verliert Würfel, wenn man beim Lügen erwischt wird (2 Stück)
-            • oder jemanden fälschlicherweise des Betrugs beschuldigt (1 Würfel).
-            • Jedes Mal wenn man dran ist, sagt man eine Anzahl der Würfel mit einem bestimmten Wert.
-            • Z. B. 2 3 (2 Würfel, die eine 3 zeigen).
-            • Der nächste Spieler kann „Lüge“ rufen oder höher bieten.
-            • Hier kommt der Twist: Alle Würfel werden aufgedeckt und alle Würfel auf dem Tisch zählen.
-            • Glaubt man während des Spiels dem Bot – oder nicht?
-            • Außerdem kann man 1× pro Match beliebige Würfel neu würfeln.
-            
-            Möge der Bessere gewinnen!
-            """;
-    }
-
-    private String endGame(Long chatId) {
-        if (gameSessions.containsKey(chatId)) {
-            gameSessions.remove(chatId);
-            return """
-                🛑 *Spiel beendet!*
-                
-                Danke fürs Spielen. Starte ein neues Spiel mit `/newgame`.
-                """;
+    // 📝 Erst die Wahl per /lang, dann die Sprache des Telegram-Clients, sonst DEFAULT_LANGUAGE.
+    private Language languageFor(Long chatId, Message message) {
+        Language chosen = chatLanguages.get(chatId);
+        if (chosen != null) {
+            return chosen;
+        }
+        Language client = message.getFrom() == null ? null : Language.fromCode(message.getFrom().getLanguageCode());
+        return client != null ? client : defaultLanguage;
+    }
+
+    private void endGame(Long chatId, Reply reply) {
+        boolean closedTable = tables.remove(chatId) != null;
+        if (gameSessions.remove(chatId)) {
+            stats.gamesEnded.increment();
+            reply.add(Msg.GAME_ENDED);
+        } else if (closedTable) {
+            reply.add(Msg.GAME_ENDED);
         } else {
-            return "⚠️ Es läuft gerade kein Spiel, das du beenden könntest.";
+            reply.add(Msg.NO_GAME_TO_END);
         }
     }
 
     //endregion
 
+    //region 👥 Group Tables
+
+    // 📝 /newgame in einer Gruppe: wer es schreibt, sitzt auf Platz 0. Die anderen kommen mit /join dazu.
+    // Ist schon ein Tisch offen, bleibt er so, wie er ist - wer dort sitzt, fliegt nicht raus.
+    private void openTable(Long chatId, User from, Reply reply) {
+        if (gameSessions.get(chatId) != null) {
+            reply.add(Msg.GAME_RUNNING);
+            return;
+        }
+        Lobby open = tables.get(chatId);
+        if (open != null) {
+            reply.number(0, open.size()).text(1, open.names()).add(Msg.LOBBY_ALREADY_OPEN);
+            return;
+        }
+        Lobby lobby = new Lobby();
+        lobby.join(from.getFirstName(), from.getId());
+        tables.put(chatId, lobby);
+        reply.add(Msg.LOBBY_OPENED);
+    }
+
+    private void handleTableCommand(Long chatId, Command command, User from, Reply reply) {
+        if (command.type() == Command.Type.LEAVE) {
+            leaveTable(chatId, from, reply);
+            return;
+        }
+        Lobby lobby = tables.get(chatId);
+        if (lobby == null) {
+            reply.add(gameSessions.get(chatId) != null ? Msg.GAME_RUNNING : Msg.NO_LOBBY);
+            return;
+        }
+        switch (command.type()) {
+            case JOIN -> {
+                if (lobby.contains(from.getId())) {
+                    reply.add(Msg.ALREADY_JOINED);
+                } else if (lobby.join(from.getFirstName(), from.getId())) {
+                    reply.text(0, from.getFirstName()).number(1, lobby.size()).add(Msg.LOBBY_JOINED);
+                } else {
+                    reply.number(0, Lobby.MAX_SEATS).add(Msg.LOBBY_FULL);
+                }
+            }
+            case ADD_BOT -> {
+                String name = lobby.addBot();
+                if (name == null) {
+                    reply.number(0, Lobby.MAX_SEATS).add(Msg.LOBBY_FULL);
+                } else {
+                    reply.text(0, name).number(1, lobby.size()).add(Msg.LOBBY_JOINED);
+                }
+            }
+            default -> startGroupGame(chatId, lobby, reply); // <-- START_GAME
+        }
+    }
+
+    // 📝 /leave: vor dem Start einfach aufstehen, mitten im Spiel aufgeben (GameState.forfeit).
+    private void leaveTable(Long chatId, User from, Reply reply) {
+        Lobby lobby = tables.get(chatId);
+        if (lobby != null && lobby.leave(from.getId())) {
+            reply.text(0, from.getFirstName()).number(1, lobby.size()).add(Msg.LOBBY_LEFT);
+            if (!lobby.hasHumans()) {
+                tables.remove(chatId); // <-- nur noch Bots: der Tisch ist zu
+            }
+            return;
+        }
+
+        GameSession session = gameSessions.get(chatId);
+        Player player = session == null ? null : playerFor(session.getGameState(), from.getId());
+        if (player == null) {
+            reply.add(Msg.NOT_PLAYING);
+            return;
+        }
+        session.getGameState().forfeit(player);
+        reply.text(0, player.getName()).add(Msg.PLAYER_LEFT_GAME);
+        afterMove(chatId, session, true, reply);
+    }
+
+    // 📝 Läuft mit dem Sweep der Sessions: ein /newgame, bei dem nie jemand /startgame schreibt, soll nicht
+    // ewig Speicher belegen. Wie bei geparkten Spielen gibt es keine Nachricht - ein neues /newgame öffnet ihn wieder.
+    private void closeIdleTables() {
+        for (Map.Entry<Long, Lobby> entry : tables.entrySet()) {
+            if (System.nanoTime() - entry.getValue().getLastChange() > tableIdleNanos) {
+                gameSessions.withLock(entry.getKey(), () -> {
+                    Lobby lobby = entry.getValue(); // <-- unter dem Lock nochmal: gerade hat sich vielleicht jemand gesetzt
+                    if (System.nanoTime() - lobby.getLastChange() > tableIdleNanos) {
+                        tables.remove(entry.getKey(), lobby);
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+
+    private void startGroupGame(Long chatId, Lobby lobby, Reply reply) {
+        if (lobby.size() < 2) {
+            reply.add(Msg.LOBBY_TOO_SMALL);
+            return;
+        }
+        DiceSource dice = diceFor(chatId);
+        List<Player> players = new ArrayList<>(lobby.size());
+        for (Lobby.Seat seat : lobby.seats()) {
+            Player player = seat.isBot() ? createBot(seat.name(), dice.split()) : new Player(seat.name(), 5, dice.split());
+            player.setUserId(seat.userId());
+            players.add(player);
+        }
+        tables.remove(chatId);
+
+        GameState state = new GameState(players);
+        rerollAllDice(state);
+        GameSession session = gameSessions.create(chatId, () -> new GameSession(state, new RoundLogic(state)));
+        stats.gamesStarted.increment();
+
+        reply.number(0, players.size()).add(Msg.GROUP_GAME_STARTED);
+        sendDice(state, reply.language());
+        afterMove(chatId, session, true, reply); // <-- hat der Eröffner den Tisch verlassen, fängt vielleicht ein Bot an
+    }
+
+    // -- The player at the table who belongs to this Telegram user, null if they aren't (or no longer) playing
+    private static Player playerFor(GameState state, long userId) {
+        for (int seat = 0; seat < state.getSeatCount(); seat++) {
+            if (state.isSeated(seat) && state.getSeat(seat).getUserId() == userId) {
+                return state.getSeat(seat);
+            }
+        }
+        return null;
+    }
+
+    // 📝 In einer Gruppe liest jeder mit - die eigenen Würfel gehen deshalb als Privatnachricht raus.
+    // Das klappt nur, wenn der Spieler den Bot schon einmal privat gestartet hat (Telegram-Regel).
+    private void sendDice(GameState state, Language language) {
+        for (Player player : state.getPlayers()) {
+            if (player.getUserId() != 0) {
+                sendDice(player, language);
+            }
+        }
+    }
+
+    private void sendDice(Player player, Language language) {
+        sendTextMessage(String.valueOf(player.getUserId()), messages.open(language).dice(0, player).add(Msg.YOUR_DICE).finish());
+    }
+
+    //endregion
+
     //region ⚙️ Methods
 
-    private String startNewGame(Long chatId, String playerName) {
-        Player human = new Player(playerName, 5);
-        BotPlayer bot = new BotPlayer("Bot", 5);
+    private void startNewGame(Long chatId, User from, Reply reply) {
+        DiceSource dice = diceFor(chatId);
+        Player human = new Player(from.getFirstName(), 5, dice.split());
+        human.setUserId(from.getId());
+        BotPlayer bot = createBot("Bot", dice.split());
 
         GameState state = new GameState(List.of(human, bot));
         RoundLogic round = new RoundLogic(state);
@@ -141,14 +516,10 @@ public class MyGameBot extends TelegramLongPollingBot {
             p.rollAllDice();
         }
 
-        gameSessions.put(chatId, new GameSession(state, round));
+        gameSessions.create(chatId, () -> new GameSession(state, round));
+        stats.gamesStarted.increment();
 
-        return """
-                🎲 *Neues Spiel gestartet!*
-                
-                Du hast 5 Würfel.
-                """ + showPlayerDice(human)
-                + "\n\n*Mach deinen ersten Call* – z. B. `2 3`.";
+        reply.number(0, human.getDiceCount()).dice(1, human).add(Msg.GAME_STARTED);
     }
 
     /**
@@ -161,12 +532,16 @@ public class MyGameBot extends TelegramLongPollingBot {
      * - Neuen Call machen
      *
      * Außerdem wird hier geprüft, ob der Bot nach dem Spielzug an der Reihe ist.
+     * In einer Gruppe darf nur der Spieler ziehen, der gerade dran ist.
      */
-    private String handleGameInput(Long chatId, String input) {
+    private void handleGameInput(Long chatId, Command command, User from, boolean group, Reply reply) {
         GameSession session = gameSessions.get(chatId); // <-- Trennung der Sessions für verschiedene Nutzer
 
         if (session == null) {
-            return "⚠️ Du hast noch kein Spiel gestartet. Nutze /newgame.";
+            if (!group) {
+                reply.add(Msg.NO_GAME);
+            }
+            return; // <-- in einer Gruppe ist nicht jede Nachricht an den Bot gerichtet
         }
 
         // 📝 Lädt den aktuellen Spielzustand und die Logik-Instanz.
@@ -177,91 +552,127 @@ public class MyGameBot extends TelegramLongPollingBot {
         Player currentPlayer = state.getCurrentPlayer();
 
         if (currentPlayer instanceof BotPlayer) {
-            return "⚠️ *Warte, der Bot ist gerade am Zug.*";
+            reply.add(Msg.WAIT_FOR_BOT);
+            return;
         }
 
-        String result;
+        boolean move = command.type() == Command.Type.LIE || command.type() == Command.Type.REROLL
+                || command.type() == Command.Type.CALL;
+        if (group && currentPlayer.getUserId() != from.getId()) {
+            if (!move) {
+                return; // <-- Gespräch in der Gruppe, kein Zug
+            }
+            if (playerFor(state, from.getId()) == null) {
+                reply.add(Msg.NOT_PLAYING);
+            } else {
+                reply.text(0, currentPlayer.getName()).add(Msg.NOT_YOUR_TURN);
+            }
+            return;
+        }
 
         // 📝 Prüft, ob der Spieler „lie“ eingegeben hat.
-        if (input.equalsIgnoreCase("lie")) {
+        if (command.type() == Command.Type.LIE) {
             // 📝 Löst die Prüfung auf, ob der letzte Call eine Lüge war.
-            String lieResolution = round.resolveLie();
-
-            // 📝 Alle Würfel werden nach einer Lüge neu gewürfelt.
-            rerollAllDice(state);
-
-            result = "🙅 *Du hast Lüge gerufen!*\n\n"
-                    + lieResolution
-                    + "\n\n" + buildRoundSummary(state)
-                    + "\n🔄 *Neue Runde gestartet!* Mach deinen ersten Call.";
-        } else if (input.startsWith("reroll")) {
+            if (group) {
+                reply.text(0, currentPlayer.getName()).add(Msg.GROUP_LIE);
+            } else {
+                reply.add(Msg.PLAYER_CALLED_LIE);
+            }
+            resolveLie(round, state, reply);
+            startNextRound(state, group, reply);
+        } else if (command.type() == Command.Type.REROLL) {
             // 📝 Spieler will einzelne Würfel neu würfeln.
-            result = handleReroll(input, currentPlayer, round, state);
+            handleReroll(command, currentPlayer, group, reply);
+        } else if (command.type() == Command.Type.CALL) {
+            // 📝 Ein neuer Call (z. B. „2 5“ oder „2x5“).
+            handleNewCall(command, currentPlayer, state, group, reply);
         } else {
-            // 📝 Andernfalls interpretiert es die Eingabe als neuen Call (z. B. „2 5“).
-            result = handleNewCall(input, currentPlayer, round, state);
+            invalidInput(command.error(), reply); // <-- nichts ist passiert, der Bot bleibt still
+            return;
         }
 
-        // 📝 Nachdem der Spieler gezogen hat, prüft die Schleife,
-        // ob der Bot nun an der Reihe ist, und lässt ihn ggf. mehrfach agieren.
+        afterMove(chatId, session, group, reply);
+    }
+
+    // 📝 Nachdem ein Spieler gezogen hat, prüft die Schleife, ob ein Bot nun an der Reihe ist,
+    // und lässt die Bots ziehen, bis wieder ein Mensch dran oder das Spiel vorbei ist.
+    private void afterMove(Long chatId, GameSession session, boolean group, Reply reply) {
+        GameState state = session.getGameState();
+        RoundLogic round = session.getRoundLogic();
+
         while (!state.isGameOver() && state.getCurrentPlayer() instanceof BotPlayer) {
-            result += "\n\n" + handleBotTurn(round, state);
+            reply.gap();
+            handleBotTurn(round, state, group, reply);
         }
 
         if (state.isGameOver()) {
             // 📝 Wenn das Spiel vorbei ist, wird der Gewinner ausgegeben.
-            result += "\n\n🎉 *GAME OVER!* \n🏆 Gewinner: " + state.getWinner().getName();
+            reply.gap().text(0, state.getWinner().getName()).add(Msg.GAME_OVER);
+            (state.getWinner() instanceof BotPlayer ? stats.gamesLost : stats.gamesWon).increment();
             gameSessions.remove(chatId); // <-- Session wird entfernt, damit der User neu starten kann
+        } else if (group) {
+            reply.text(0, state.getCurrentPlayer().getName()).add(Msg.TURN);
         }
-
-        return result;
     }
 
-    private String handleNewCall(String input, Player currentPlayer, RoundLogic round, GameState state) {
-        try {
-            String[] parts = input.split(" ");
-            int quantity = Integer.parseInt(parts[0]);
-            int faceValue = Integer.parseInt(parts[1]);
+    private void handleNewCall(Command command, Player currentPlayer, GameState state, boolean group, Reply reply) {
+        int quantity = command.quantity();
+        int faceValue = command.face();
 
-            if (quantity > state.getTotalDiceCount()) {
-                return "⚠️ Es gibt nicht so viele Würfel im Spiel.";
-            }
-            if (!state.isCallHigher(quantity, faceValue)) {
-                return "⚠️ Dein Call muss höher sein als der letzte.";
-            }
-
-            state.setCurrentCall(quantity, faceValue);
-            state.advanceTurn();
+        if (quantity > state.getTotalDiceCount()) {
+            reply.add(Msg.TOO_MANY_DICE);
+            return;
+        }
+        if (!state.isCallHigher(quantity, faceValue)) {
+            reply.add(Msg.CALL_NOT_HIGHER);
+            return;
+        }
 
-            return "*"+currentPlayer.getName()+"* calls " + quantity + " × " + faceValue
-                    + "\n\n" + showPlayerDice(currentPlayer)
-                    + "\n\n_Bitte warte, Bot denkt nach…_";
+        state.setCurrentCall(quantity, faceValue);
+        state.advanceTurn();
 
-        } catch (Exception e) {
-            return "⚠️ Ungültige Eingabe. Nutze z. B. `2 3`.";
+        reply.text(0, currentPlayer.getName()).number(1, quantity).number(2, faceValue);
+        if (group) {
+            reply.add(Msg.GROUP_CALL); // <-- ohne Würfel, die sieht nur der Spieler selbst
+        } else {
+            reply.dice(3, currentPlayer).add(Msg.PLAYER_CALLED);
         }
     }
 
-    private String handleReroll(String input, Player player, RoundLogic round, GameState state) {
+    private void handleReroll(Command command, Player player, boolean group, Reply reply) {
         if (player.hasUsedReroll()) {
-            return "⚠️ Du hast deinen Reroll bereits benutzt.";
+            reply.add(Msg.REROLL_ALREADY_USED);
+            return;
         }
-
-        String[] parts = input.split(" ");
-        List<Integer> indices = new ArrayList<>();
-        for (int i = 1; i < parts.length; i++) {
-            indices.add(Integer.parseInt(parts[i]));
+        if (command.rerollMask() >>> player.getDiceCount() != 0) {
+            reply.add(Msg.NO_SUCH_DIE);
+            return;
         }
 
-        player.rerollSelectedDice(indices);
+        player.rerollSelectedDice(command.rerollMask());
         player.useReroll();
 
-        return "🎲 *Neue Würfel:* " + player.revealDice()
-                + "\n\n_Mach nun einen höheren Call._";
+        if (group) {
+            sendTextMessage(String.valueOf(player.getUserId()),
+                    messages.open(reply.language()).dice(0, player).add(Msg.REROLLED).finish());
+            reply.text(0, player.getName()).add(Msg.GROUP_REROLLED);
+        } else {
+            reply.dice(0, player).add(Msg.REROLLED);
+        }
+    }
+
+    private void handleBotTurn(RoundLogic round, GameState state, boolean group, Reply reply) {
+        long started = System.nanoTime();
+        try {
+            playBotTurn(round, state, group, reply);
+        } finally {
+            stats.botDecision.recordSince(started);
+        }
     }
 
-    private String handleBotTurn(RoundLogic round, GameState state) {
+    private void playBotTurn(RoundLogic round, GameState state, boolean group, Reply reply) {
         BotPlayer bot = (BotPlayer) state.getCurrentPlayer();
+        bot.setPlayerCount(state.getPlayerCount());
 
         int currentQuantity = state.getCurrentQuantityCalled();
         int currentFace = state.getCurrentFaceValueCalled();
@@ -276,55 +687,117 @@ public class MyGameBot extends TelegramLongPollingBot {
         }
 
         if (callLie) {
-            String lieResolution = round.resolveLie();
-            rerollAllDice(state);
-
-            return "🤖 *Bot ruft LIE!*\n\n"
-                    + lieResolution
-                    + "\n\n" + buildRoundSummary(state)
-                    + "\n🔄 *Neue Runde gestartet!* Mach deinen ersten Call.";
+            botCallsLie(bot, round, state, group, reply);
         } else {
             if (!bot.hasUsedReroll() && bot.shouldReroll()) {
                 List<Integer> rerollIndices = bot.chooseDiceToReroll();
                 bot.rerollSelectedDice(rerollIndices);
                 bot.useReroll();
 
-                return "🤖 *Bot entscheidet sich für einen Reroll.*\n"
-                        + botMakesCall(bot, state);
-            } else {
-                return botMakesCall(bot, state);
+                reply.text(0, bot.getName()).add(Msg.BOT_REROLLS);
             }
+            botMakesCall(bot, round, state, group, reply);
         }
     }
 
-    private String botMakesCall(BotPlayer bot, GameState state) {
-        String call = bot.decideNextCall(
+    private void botCallsLie(BotPlayer bot, RoundLogic round, GameState state, boolean group, Reply reply) {
+        reply.text(0, bot.getName()).add(Msg.BOT_CALLED_LIE);
+        resolveLie(round, state, reply);
+        startNextRound(state, group, reply);
+    }
+
+    private void botMakesCall(BotPlayer bot, RoundLogic round, GameState state, boolean group, Reply reply) {
+        Command command = bot.decideNextCall(
                 state.getCurrentQuantityCalled(),
                 state.getCurrentFaceValueCalled(),
                 state.getTotalDiceCount()
-        );
-
-        state.setCurrentCall(
-                Integer.parseInt(call.split(" ")[0]),
-                Integer.parseInt(call.split(" ")[1])
-        );
+        ); // <-- gehört dem Bot, gleich auslesen
+        if (command.type() == Command.Type.LIE) {
+            botCallsLie(bot, round, state, group, reply); // <-- Maximum liegt schon auf dem Tisch, höher geht nicht
+            return;
+        }
+        if (command.type() != Command.Type.CALL) {
+            throw new IllegalStateException("Bot made an invalid call: " + command);
+        }
+        state.setCurrentCall(command.quantity(), command.face());
         state.advanceTurn();
 
-        return "🤖 *Bot calls:* `" + call + "`" + " Überbiete es oder schreib 'lie'!";
+        reply.text(0, bot.getName()).number(1, command.quantity()).number(2, command.face()).add(Msg.BOT_CALLS);
     }
 
-    private String buildRoundSummary(GameState state) {
-        StringBuilder sb = new StringBuilder();
+    // 📝 Deckt alle Würfel auf, solange sie noch auf dem Tisch liegen - danach erst settleLie(),
+    // das Würfel wegnimmt und ausgeschiedene Spieler entfernt.
+    private void resolveLie(RoundLogic round, GameState state, Reply reply) {
+        reply.add(Msg.REVEAL_HEADER);
+        for (Player player : state.getPlayers()) {
+            reply.text(0, player.getName()).dice(1, player).add(Msg.REVEAL_LINE);
+        }
+        reply.add(Msg.REVEAL_FOOTER);
+
+        LieOutcome outcome = round.settleLie();
+        reply.number(0, outcome.actualCount()).number(1, outcome.faceValue()).add(Msg.ACTUAL_COUNT);
 
+        if (outcome.instantWin()) {
+            reply.text(0, outcome.caller().getName()).add(Msg.INSTANT_WIN);
+        } else if (outcome.callWasTrue()) {
+            reply.text(0, outcome.challenger().getName()).add(Msg.CALL_WAS_TRUE);
+        } else {
+            reply.text(0, outcome.caller().getName()).add(Msg.CALL_WAS_FALSE);
+        }
+    }
+
+    // 📝 Alle Würfel werden nach einer Lüge neu gewürfelt. In einer Gruppe gehen sie danach per Privatnachricht raus.
+    private void startNextRound(GameState state, boolean group, Reply reply) {
+        rerollAllDice(state);
+
+        reply.gap();
+        addRoundSummary(state, group, reply);
+        reply.add(Msg.NEW_ROUND);
+        if (group && !state.isGameOver()) {
+            sendDice(state, reply.language());
+        }
+    }
+
+    private void addRoundSummary(GameState state, boolean group, Reply reply) {
         for (Player p : state.getPlayers()) {
-            sb.append("🎲 *").append(p.getName()).append("* hat noch ")
-                    .append(p.getDiceCount()).append(" Würfel.\n");
+            reply.text(0, p.getName()).number(1, p.getDiceCount()).add(Msg.SUMMARY_LINE);
 
-            if (!(p instanceof BotPlayer)) {
-                sb.append("Würfel: ").append(p.revealDice()).append("\n");
+            if (!group && !(p instanceof BotPlayer)) {
+                reply.dice(0, p).add(Msg.SUMMARY_DICE);
             }
         }
-        return sb.toString();
+    }
+
+    // 📝 Sagt dem Spieler, was an seiner Eingabe nicht gepasst hat.
+    private static void invalidInput(Command.ParseError error, Reply reply) {
+        reply.add(switch (error) {
+            case UNKNOWN_COMMAND -> Msg.UNKNOWN_COMMAND;
+            case QUANTITY_OUT_OF_RANGE -> Msg.QUANTITY_OUT_OF_RANGE;
+            case FACE_OUT_OF_RANGE -> Msg.FACE_OUT_OF_RANGE;
+            case NO_DICE_TO_REROLL -> Msg.NO_DICE_TO_REROLL;
+            case DIE_INDEX_OUT_OF_RANGE -> Msg.NO_SUCH_DIE;
+            default -> Msg.INVALID_INPUT;
+        });
+    }
+
+    // 📝 Which bot plays - set BOT_STRATEGY=montecarlo in the .env for the search bot, cfr for the trained policy.
+    private BotPlayer createBot(String name, DiceSource dice) {
+        if (botStrategy.equalsIgnoreCase("montecarlo")) {
+            return new MonteCarloBotPlayer(name, 5, dice, SearchBudget.DEFAULT, decisionCache);
+        }
+        if (policy != null) {
+            return new CfrBotPlayer(name, 5, dice, policy);
+        }
+        return new BotPlayer(name, 5, dice, BotTuning.DEFAULT);
+    }
+
+    // 📝 Ohne DICE_SEED würfeln alle Spiele aus dem geteilten DiceSource (ThreadLocalRandom).
+    // Mit DICE_SEED bekommt jeder Chat eine eigene, reproduzierbare Würfelfolge.
+    private DiceSource diceFor(long chatId) {
+        if (diceSeed == null) {
+            return DiceSource.shared();
+        }
+        return DiceSource.seeded(diceSeed * 0x9E3779B97F4A7C15L + chatId);
     }
 
     private void rerollAllDice(GameState state) {
@@ -333,23 +806,91 @@ public class MyGameBot extends TelegramLongPollingBot {
         }
     }
 
+    // 📝 Die Antwort landet nur in der Outbound-Queue - der Chat-Thread wartet nicht auf Telegram.
     private void sendTextMessage(String chatId, String text) {
+        if (!outbound.submit(chatId, text)) {
+            LOG.warn("⚠️ Bot is shutting down, dropping message", "chat", chatId);
+        }
+    }
+
+    // 📝 Runs on an outbound worker; errors go back to the queue, which decides about retries.
+    private void sendNow(String chatId, String text) throws TelegramApiException {
+        long started = System.nanoTime();
+        try {
+            transport.send(chatId, text);
+        } catch (TelegramApiException | RuntimeException e) {
+            stats.sendErrors.increment();
+            throw e;
+        } finally {
+            stats.sendLatency.recordSince(started);
+        }
+        LOG.debug("📤 Sent to Telegram", "chat", chatId, "text", text);
+    }
+
+    private void sendToTelegram(String chatId, String text) throws TelegramApiException {
         SendMessage message = new SendMessage();
         message.setChatId(chatId);
         message.setText(text);
         message.enableMarkdown(true);
+        execute(message);
+    }
 
-        try {
-            execute(message);
-            System.out.println("📤 Sent to Telegram [" + chatId + "]: " + text);
-        } catch (TelegramApiException e) {
-            System.err.println("❌ Error sending message: " + e.getMessage());
+    //endregion
+
+    @Override
+    public void onClosing() {
+        dispatcher.close();
+        outbound.close(); // <-- nach dem Dispatcher, damit keine neuen Antworten mehr kommen
+        if (journal != null) {
+            try {
+                journal.close(); // <-- letzter Snapshot, damit der nächste Start schnell geht
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        gameSessions.close();
+        if (policy != null) {
+            policy.close(); // <-- erst jetzt: bis hier können Bots noch ziehen
         }
+        super.onClosing();
     }
 
-    //endregion
+    // 📝 Only in a cluster (cluster.ClusterNode): game updates of chats this node no longer owns - queued here
+    // before their game moved to another node - go to the owner instead of finding no game here.
+    public void setChatOwnership(ChatOwnership chatOwnership) {
+        this.chatOwnership = chatOwnership;
+    }
+
+    public interface ChatOwnership {
+
+        // -- false if the update's chat lives on another node now
+        boolean owns(Update update);
+
+        void redirect(Update update);
+    }
+
+    // -- What a game update did: moved to another node, left the game alone, or changed it (→ journal)
+    private enum Handled {
+        MOVED, UNCHANGED, CHANGED
+    }
 
     // region 🫴Getters
+    public UpdateDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    public SessionRegistry getSessions() {
+        return gameSessions;
+    }
+
+    public OutboundQueue getOutbound() {
+        return outbound;
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
     @Override
     public String getBotUsername() {
         return botUsername;
@@ -360,9 +901,5 @@ public class MyGameBot extends TelegramLongPollingBot {
         return botToken;
     }
 
-    private String showPlayerDice(Player player) {
-        return "🎲 *Deine Würfel:* " + player.revealDice();
-    }
-
 //endregion
 }
\ No newline at end of file
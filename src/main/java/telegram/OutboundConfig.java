@@ -0,0 +1,26 @@
+package telegram;
+
+import java.time.Duration;
+
+// 📝 Settings for the OutboundQueue. The defaults follow Telegram's limits: about 30 messages per second
+// overall, about one per second in a chat (short bursts are fine) and 20 per minute in a group.
+public record OutboundConfig(
+        int workers,
+        double globalPerSecond,
+        double chatPerSecond,
+        int chatBurst,
+        double groupPerMinute,
+        Duration mergeWindow,
+        int maxRetries,
+        Duration baseBackoff
+) {
+
+    public static final OutboundConfig DEFAULT = new OutboundConfig(
+            8, 30, 1, 3, 20, Duration.ofMillis(100), 5, Duration.ofMillis(500));
+
+    public OutboundConfig {
+        if (workers < 1) {
+            throw new IllegalArgumentException("The outbound queue needs at least one worker.");
+        }
+    }
+}
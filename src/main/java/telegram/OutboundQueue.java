@@ -0,0 +1,382 @@
+package telegram;
+
+import log.Log;
+import log.Logger;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiRequestException;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OutboundQueue implements AutoCloseable {
+
+    // 📝 Alles, was der Bot an Telegram schickt, läuft hier durch:
+    // - submit() legt die Nachricht nur in die Outbox des Chats und kehrt sofort zurück - die Spiel-Threads warten nie auf die API.
+    // - Ein paar Worker-Threads verschicken die Outboxen, sobald sie dran sind (DelayQueue nach Zeitpunkt).
+    // - Token Buckets halten Telegrams Limits ein: global, pro Chat und strenger pro Gruppe.
+    // - Was innerhalb des Merge-Fensters im selben Chat landet, geht als eine Nachricht raus (max. 4096 Zeichen).
+    // - 429 und 5xx/Netzwerkfehler werden mit Backoff wiederholt, bei 429 so lange wie Telegram es verlangt (retry_after).
+    // - Scheitert eine zusammengefügte Nachricht endgültig, gehen ihre Texte danach einzeln raus - verworfen wird
+    //   nur der Text, der wirklich nicht durchgeht (z. B. kaputtes Markdown), nicht alles, was mit ihm im Fenster lag.
+    // Pro Chat ist immer höchstens ein Worker unterwegs, die Reihenfolge bleibt also erhalten.
+
+    //region 🧱 Variables
+
+    private static final Logger LOG = Log.get(OutboundQueue.class);
+
+    public static final int MAX_MESSAGE_LENGTH = 4096;
+
+    private static final String SEPARATOR = "\n\n";
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(30);
+    private static final long IDLE_SWEEP_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final MessageSender sender;
+    private final OutboundConfig config;
+    private final TokenBucket globalBucket;
+    private final ConcurrentHashMap<String, Outbox> outboxes = new ConcurrentHashMap<>();
+    private final DelayQueue<Outbox> ready = new DelayQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicLong lastIdleSweep = new AtomicLong(System.nanoTime());
+    private volatile boolean closed;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder requests = new LongAdder(); // <-- API-Aufrufe, die geklappt haben
+    private final LongAdder merged = new LongAdder();   // <-- Texte, die an einen anderen angehängt wurden
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder failed = new LongAdder();   // <-- Texte, die endgültig verworfen wurden
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public OutboundQueue(MessageSender sender, OutboundConfig config) {
+        this.sender = sender;
+        this.config = config;
+        this.globalBucket = new TokenBucket(config.globalPerSecond(), config.globalPerSecond());
+
+        for (int i = 0; i < config.workers(); i++) {
+            Thread worker = Thread.ofVirtual().name("outbound-" + i).unstarted(this::work);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 Queues a text for the chat and returns right away. False once the queue is closed.
+    // Texts longer than Telegram allows are split, preferably at a line break.
+    public boolean submit(String chatId, String text) {
+        if (closed) {
+            return false;
+        }
+        List<String> parts = split(text);
+
+        // 📝 Added inside compute(), so it can't race with the idle sweep removing the outbox.
+        outboxes.compute(chatId, (id, current) -> {
+            Outbox outbox = current != null ? current : new Outbox(id, bucketFor(id));
+            synchronized (outbox) {
+                outbox.texts.addAll(parts);
+                pending.addAndGet(parts.size());
+                if (!outbox.scheduled) {
+                    // 📝 Waiting for the merge window lets a burst of texts go out as one message.
+                    outbox.scheduled = true;
+                    outbox.readyAt = System.nanoTime() + config.mergeWindow().toNanos() + outbox.bucket.waitTime();
+                    ready.add(outbox);
+                }
+            }
+            return outbox;
+        });
+        return true;
+    }
+
+    private void work() {
+        while (!closed || pending.get() > 0) {
+            Outbox outbox;
+            try {
+                outbox = ready.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (outbox == null) {
+                sweepIdleOutboxes();
+                continue;
+            }
+            if (!deliver(outbox)) {
+                return;
+            }
+        }
+    }
+
+    // 📝 Sends the next batch of the outbox. Returns false if the worker was interrupted.
+    private boolean deliver(Outbox outbox) {
+        long chatWait = outbox.bucket.tryAcquire();
+        if (chatWait > 0) {
+            reschedule(outbox, chatWait);
+            return true;
+        }
+
+        long globalWait;
+        while ((globalWait = globalBucket.tryAcquire()) > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(globalWait);
+            } catch (InterruptedException e) {
+                reschedule(outbox, 0);
+                return false;
+            }
+        }
+
+        String text;
+        synchronized (outbox) {
+            if (outbox.batch == null) {
+                takeBatch(outbox);
+            }
+            text = outbox.batch;
+        }
+
+        try {
+            sender.send(outbox.chatId, text);
+        } catch (TelegramApiException e) {
+            handleFailure(outbox, e);
+            return true;
+        }
+
+        requests.increment();
+        merged.add(outbox.batchSize - 1);
+        pending.addAndGet(-outbox.batchSize);
+        synchronized (outbox) {
+            outbox.clearBatch();
+            if (outbox.texts.isEmpty()) {
+                outbox.scheduled = false;
+            } else {
+                reschedule(outbox, outbox.bucket.waitTime());
+            }
+        }
+        return true;
+    }
+
+    // 📝 Joins queued texts as long as they fit into one Telegram message.
+    // After a merged message failed, its texts go out one by one (outbox.unmerged).
+    private void takeBatch(Outbox outbox) {
+        String first = outbox.texts.poll();
+        outbox.batchTexts.add(first);
+        if (outbox.unmerged > 0) {
+            outbox.unmerged--;
+            outbox.batch = first;
+            outbox.batchSize = 1;
+            return;
+        }
+        StringBuilder sb = new StringBuilder(first);
+        String next;
+        while ((next = outbox.texts.peek()) != null
+                && sb.length() + SEPARATOR.length() + next.length() <= MAX_MESSAGE_LENGTH) {
+            sb.append(SEPARATOR).append(outbox.texts.poll());
+            outbox.batchTexts.add(next);
+        }
+        outbox.batch = sb.toString();
+        outbox.batchSize = outbox.batchTexts.size();
+    }
+
+    private void handleFailure(Outbox outbox, TelegramApiException e) {
+        long delay = retryDelay(e, outbox.attempts + 1);
+        if ((delay < 0 || outbox.attempts + 1 > config.maxRetries()) && outbox.batchSize > 1) {
+            LOG.warn("⚠️ Merged message failed, sending its texts one by one", "chat", outbox.chatId,
+                    "texts", outbox.batchSize, "error", e.getMessage());
+            synchronized (outbox) {
+                for (int i = outbox.batchTexts.size() - 1; i >= 0; i--) {
+                    outbox.texts.addFirst(outbox.batchTexts.get(i)); // <-- wieder vorne, Reihenfolge bleibt
+                }
+                outbox.unmerged = outbox.batchSize;
+                outbox.clearBatch();
+                reschedule(outbox, outbox.bucket.waitTime());
+            }
+            return;
+        }
+        if (delay < 0 || outbox.attempts + 1 > config.maxRetries()) {
+            LOG.error("❌ Error sending message, giving up", "chat", outbox.chatId, "error", e.getMessage());
+            failed.add(outbox.batchSize);
+            pending.addAndGet(-outbox.batchSize);
+            synchronized (outbox) {
+                outbox.clearBatch();
+                if (outbox.texts.isEmpty()) {
+                    outbox.scheduled = false;
+                } else {
+                    reschedule(outbox, outbox.bucket.waitTime());
+                }
+            }
+            return;
+        }
+
+        LOG.warn("⚠️ Sending failed, retrying", "chat", outbox.chatId,
+                "retryMs", TimeUnit.NANOSECONDS.toMillis(delay), "error", e.getMessage());
+        retries.increment();
+        synchronized (outbox) {
+            outbox.attempts++;
+            reschedule(outbox, delay);
+        }
+    }
+
+    // 📝 How long to wait before the next try, or -1 if trying again won't help (e.g. 400, 403).
+    private long retryDelay(TelegramApiException e, int attempt) {
+        if (e instanceof TelegramApiRequestException requestException && requestException.getErrorCode() != null) {
+            int code = requestException.getErrorCode();
+            if (code == 429) {
+                if (requestException.getParameters() != null && requestException.getParameters().getRetryAfter() != null) {
+                    return TimeUnit.SECONDS.toNanos(requestException.getParameters().getRetryAfter());
+                }
+                return backoff(attempt);
+            }
+            return code >= 500 ? backoff(attempt) : -1;
+        }
+        // 📝 No error code → the request never got an answer (timeout, network), worth another try.
+        return backoff(attempt);
+    }
+
+    // 📝 Exponential backoff with a bit of jitter, so retrying chats don't all hit the API at once.
+    private long backoff(int attempt) {
+        long base = config.baseBackoff().toNanos() << Math.min(attempt - 1, 20);
+        base = Math.min(base, MAX_BACKOFF_NANOS);
+        return base + ThreadLocalRandom.current().nextLong(base / 10 + 1);
+    }
+
+    private void reschedule(Outbox outbox, long delayNanos) {
+        synchronized (outbox) {
+            outbox.readyAt = System.nanoTime() + delayNanos;
+            ready.add(outbox);
+        }
+    }
+
+    // 📝 Drops outboxes of quiet chats. Only once their bucket is full again, otherwise
+    // a chat could get a fresh burst just by pausing for a moment.
+    private void sweepIdleOutboxes() {
+        long now = System.nanoTime();
+        long last = lastIdleSweep.get();
+        if (now - last < IDLE_SWEEP_NANOS || !lastIdleSweep.compareAndSet(last, now)) {
+            return;
+        }
+        for (String chatId : outboxes.keySet()) {
+            outboxes.computeIfPresent(chatId, (id, outbox) -> {
+                synchronized (outbox) {
+                    return !outbox.scheduled && outbox.bucket.isFull() ? null : outbox;
+                }
+            });
+        }
+    }
+
+    private TokenBucket bucketFor(String chatId) {
+        // 📝 Group and channel IDs are negative, Telegram allows them far fewer messages.
+        if (chatId.startsWith("-")) {
+            return new TokenBucket(config.chatBurst(), config.groupPerMinute() / 60.0);
+        }
+        return new TokenBucket(config.chatBurst(), config.chatPerSecond());
+    }
+
+    static List<String> split(String text) {
+        List<String> parts = new ArrayList<>(1);
+        int start = 0;
+        while (text.length() - start > MAX_MESSAGE_LENGTH) {
+            int end = text.lastIndexOf('\n', start + MAX_MESSAGE_LENGTH);
+            if (end <= start) {
+                end = start + MAX_MESSAGE_LENGTH;
+            }
+            parts.add(text.substring(start, end));
+            start = text.charAt(end) == '\n' ? end + 1 : end;
+        }
+        parts.add(text.substring(start));
+        return parts;
+    }
+
+    // 📝 Stops taking new texts and gives the workers a few seconds to send what is left.
+    @Override
+    public void close() {
+        closed = true;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread worker : workers) {
+            long left = deadline - System.nanoTime();
+            try {
+                if (left <= 0 || !worker.join(Duration.ofNanos(left))) {
+                    worker.interrupt();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                worker.interrupt();
+            }
+        }
+        if (pending.get() > 0) {
+            LOG.warn("⚠️ Outbound queue closed with unsent messages", "unsent", pending.get());
+        }
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    // -- Texts queued but not sent yet
+    public int getPending() {
+        return pending.get();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getMerged() {
+        return merged.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    //endregion
+
+    private static final class Outbox implements Delayed {
+        private final String chatId;
+        private final TokenBucket bucket;
+        private final ArrayDeque<String> texts = new ArrayDeque<>();
+        private boolean scheduled; // <-- liegt in der DelayQueue oder wird gerade verschickt
+        private long readyAt;
+        private String batch;      // <-- zusammengefügter Text, bleibt für Wiederholungen stehen
+        private int batchSize;
+        private final List<String> batchTexts = new ArrayList<>(); // <-- die Texte darin, falls er einzeln neu muss
+        private int attempts;
+        private int unmerged;      // <-- so viele Texte gehen noch einzeln raus (nach einem gescheiterten Batch)
+
+        Outbox(String chatId, TokenBucket bucket) {
+            this.chatId = chatId;
+            this.bucket = bucket;
+        }
+
+        void clearBatch() {
+            batch = null;
+            batchSize = 0;
+            batchTexts.clear();
+            attempts = 0;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(readyAt, ((Outbox) other).readyAt);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package telegram;
+
+import java.time.Duration;
+
+// 📝 Limits for the sessions kept in memory. Above maxEntries / maxBytes the least recently used
+// sessions are parked on disk, and sessions untouched for idleTimeout are parked as well.
+public record SessionCacheConfig(int maxEntries, long maxBytes, Duration idleTimeout, Duration sweepInterval) {
+
+    public static final SessionCacheConfig UNBOUNDED =
+            new SessionCacheConfig(Integer.MAX_VALUE, Long.MAX_VALUE, Duration.ofDays(36_500), Duration.ofMinutes(1));
+
+    public SessionCacheConfig {
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("Session cache limits must be at least 1.");
+        }
+    }
+
+    public boolean isBounded() {
+        return !this.equals(UNBOUNDED);
+    }
+}
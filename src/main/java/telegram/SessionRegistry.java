@@ -0,0 +1,644 @@
+package telegram;
+
+import game.CfrPolicy;
+import game.GameState;
+import game.GameStateIO;
+import game.RoundLogic;
+import journal.GameJournal;
+import journal.JournalRecorder;
+import log.Log;
+import log.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class SessionRegistry implements AutoCloseable {
+
+    // 📝 Alle laufenden Spiele, nach Chat-ID.
+    // - Nachschauen (get) ist lock-frei.
+    // - Alles, was ein Spiel verändert (Zug, /newgame, /endgame), läuft unter dem Lock des Chats (withLock).
+    //   GameState und RoundLogic sind nicht thread-safe - so fasst immer nur ein Thread ein Spiel an.
+    // Die Locks sind gestreift: eine feste Anzahl Locks, der Chat wird per Hash zugeordnet. Zwei Chats
+    // können sich einen Lock teilen, dann warten sie kurz aufeinander - mehr passiert nicht.
+    //
+    // 📝 Begrenzter Cache: Ein Sweeper parkt Sessions, die zu lange nichts getan haben, und - wenn zu viele
+    // oder zu große Sessions im Speicher liegen - die am längsten unbenutzten im SessionStore.
+    // Schreibt der User wieder, wird seine Session beim nächsten get() unbemerkt von der Platte geholt.
+    //
+    // 📝 Write-behind (optional): Hat ein withLock() das Spiel verändert, wird der Chat nur als geändert markiert. Ein eigener
+    // Thread schreibt alle markierten Spiele im Takt in den Store und macht sie dann mit einem flush() haltbar -
+    // zehn Züge im selben Takt sind ein Schreibvorgang. Der Store hat dann jedes Spiel, nicht nur die geparkten:
+    // nach einem Neustart kommt jedes Spiel beim ersten get() zurück, auch ohne Journal.
+    // Chats, die sicher nicht im Store liegen, merkt sich die Registry (absent) - ein get() für einen Chat ohne
+    // Spiel fragt den Store dann nicht jedes Mal.
+    //
+    // 📝 Journal (optional): Am Ende jedes withLock() schreibt die Session ihre Änderungen als einen Record.
+    // Neue Sessions, Enden und Parken landen ebenfalls im Journal, damit ein Neustart alle Spiele wiederfindet.
+
+    //region 🧱 Variables
+
+    private static final Logger LOG = Log.get(SessionRegistry.class);
+
+    private static final int DEFAULT_STRIPES = 1024;
+
+    // 📝 After an eviction run the cache should be a bit below its limits, so it doesn't evict on every create.
+    private static final double EVICTION_TARGET = 0.9;
+
+    private static final int MAX_ABSENT = 100_000; // <-- danach wird die Liste geleert und wieder nachgeschaut
+
+    private final ConcurrentHashMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final ReentrantLock[] stripes;
+
+    private final SessionCacheConfig cacheConfig;
+    private final SessionStore store;  // <-- null = verdrängte Sessions werden verworfen
+    private final GameJournal journal; // <-- null = kein Journal
+    private final CfrPolicy policy; // <-- für CFR-Bots aus dem Store, null = Heuristik
+    private final ScheduledExecutorService sweeper;
+    private final AtomicBoolean sweepRequested = new AtomicBoolean();
+    private final AtomicLong residentBytes = new AtomicLong();
+
+    private final ScheduledExecutorService writer; // <-- null = kein Write-behind
+    private final ConcurrentHashMap<Long, Boolean> pending = new ConcurrentHashMap<>(); // <-- true = Spiel beendet, im Store löschen
+    private final LongAdder storeWrites = new LongAdder();
+    private final LongAdder storeMarks = new LongAdder();
+    private final Set<Long> saving = ConcurrentHashMap.newKeySet(); // <-- schreibt der Writer gerade ohne Lock, nicht parken
+    private final Set<Long> absent = ConcurrentHashMap.newKeySet(); // <-- sicher nicht im Store
+    private final List<Runnable> sweepTasks = new CopyOnWriteArrayList<>(); // <-- laufen bei jedem Sweep mit (onSweep)
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public SessionRegistry() {
+        this(DEFAULT_STRIPES, SessionCacheConfig.UNBOUNDED, null);
+    }
+
+    public SessionRegistry(int stripeCount) {
+        this(stripeCount, SessionCacheConfig.UNBOUNDED, null);
+    }
+
+    public SessionRegistry(SessionCacheConfig cacheConfig, SessionStore store) {
+        this(DEFAULT_STRIPES, cacheConfig, store);
+    }
+
+    public SessionRegistry(int stripeCount, SessionCacheConfig cacheConfig, SessionStore store) {
+        this(stripeCount, cacheConfig, store, null);
+    }
+
+    public SessionRegistry(SessionCacheConfig cacheConfig, SessionStore store, GameJournal journal) {
+        this(DEFAULT_STRIPES, cacheConfig, store, journal, Duration.ZERO);
+    }
+
+    public SessionRegistry(int stripeCount, SessionCacheConfig cacheConfig, SessionStore store, GameJournal journal) {
+        this(stripeCount, cacheConfig, store, journal, Duration.ZERO);
+    }
+
+    // 📝 writeBehind = Takt, in dem geänderte Spiele in den Store geschrieben werden, ZERO = aus.
+    public SessionRegistry(SessionCacheConfig cacheConfig, SessionStore store, GameJournal journal, Duration writeBehind) {
+        this(DEFAULT_STRIPES, cacheConfig, store, journal, writeBehind);
+    }
+
+    public SessionRegistry(int stripeCount, SessionCacheConfig cacheConfig, SessionStore store, GameJournal journal,
+                           Duration writeBehind) {
+        this(stripeCount, cacheConfig, store, journal, writeBehind, null);
+    }
+
+    public SessionRegistry(SessionCacheConfig cacheConfig, SessionStore store, GameJournal journal, Duration writeBehind,
+                           CfrPolicy policy) {
+        this(DEFAULT_STRIPES, cacheConfig, store, journal, writeBehind, policy);
+    }
+
+    public SessionRegistry(int stripeCount, SessionCacheConfig cacheConfig, SessionStore store, GameJournal journal,
+                           Duration writeBehind, CfrPolicy policy) {
+        if (Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a power of two.");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+
+        this.cacheConfig = cacheConfig;
+        this.store = store;
+        this.journal = journal;
+        this.policy = policy;
+        if (cacheConfig.isBounded()) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "session-sweeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = cacheConfig.sweepInterval().toMillis();
+            sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.sweeper = null;
+        }
+        if (store != null && writeBehind.isPositive()) {
+            this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "session-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = writeBehind.toMillis();
+            writer.scheduleWithFixedDelay(this::writePending, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.writer = null;
+        }
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 Runs the action while holding the chat's lock. The lock is reentrant,
+    // so create/remove can be called from inside the action.
+    // Whatever the action changed in the game is written to the journal before the lock is released.
+    public <R> R withLock(long chatId, Supplier<R> action) {
+        ReentrantLock lock = lockFor(chatId);
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            try {
+                flushJournal(chatId);
+                markDirty(chatId);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 📝 Starts a new session for the chat and replaces a running one. Waits for a move that
+    // is still in progress in this chat, so a double-tapped /newgame can't cut into it.
+    public GameSession create(long chatId, Supplier<GameSession> factory) {
+        return withLock(chatId, () -> {
+            GameSession session = factory.get();
+            GameSession replaced = sessions.put(chatId, session);
+            forget(replaced);
+            if (replaced != null && replaced.getRecorder() != null) {
+                replaced.getRecorder().detach();
+            }
+            if (writer == null) {
+                deleteSpilled(chatId);
+            } // <-- mit Write-behind überschreibt der Writer das alte Spiel
+            account(session);
+            if (journal != null) {
+                session.setRecorder(journal.open(chatId, session.getGameState()));
+            }
+            return session;
+        });
+    }
+
+    // -- Removes the chat's session (in memory or parked), true if there was one
+    public boolean remove(long chatId) {
+        return withLock(chatId, () -> {
+            GameSession removed = sessions.remove(chatId);
+            forget(removed);
+            if (removed != null && removed.getRecorder() != null) {
+                removed.getRecorder().end();
+            }
+            if (writer != null) {
+                if (removed != null) {
+                    pending.put(chatId, true); // <-- löscht der Writer; bis dahin lädt loadSpilled es nicht mehr
+                    return true;
+                }
+                if (isEnded(chatId)) {
+                    return false; // <-- schon beendet, liegt nur noch bis zur nächsten Runde im Store
+                }
+            }
+            return deleteSpilled(chatId) || removed != null;
+        });
+    }
+
+    // 📝 Lock-free lookup for sessions in memory. A parked session is loaded back under the chat's
+    // lock. Only read the session this way, change it inside withLock.
+    public GameSession get(long chatId) {
+        GameSession session = sessions.get(chatId);
+        if (session == null && store != null) {
+            session = withLock(chatId, () -> loadSpilled(chatId));
+        }
+        if (session != null) {
+            session.touch();
+        }
+        return session;
+    }
+
+    // 📝 Puts a game rebuilt from the journal back in place, without writing it to the journal again.
+    public void restore(long chatId, GameSession session, long journalSequence) {
+        withLock(chatId, () -> {
+            forget(sessions.put(chatId, session));
+            account(session);
+            if (journal != null) {
+                session.setRecorder(journal.adopt(chatId, session.getGameState(), journalSequence));
+            }
+            return null;
+        });
+    }
+
+    // 📝 Takes the chat's session out for another node (see cluster.ClusterNode): the game as GameStateIO
+    // bytes, or null if the chat has none here. Waits for a move in progress; the journal records the game
+    // as ended here - the new owner journals it from now on.
+    public byte[] handOff(long chatId) {
+        return withLock(chatId, () -> {
+            GameSession session = sessions.get(chatId);
+            if (session == null && store != null) {
+                session = loadSpilled(chatId);
+            }
+            if (session == null) {
+                return null;
+            }
+            byte[] state = encode(session);
+            remove(chatId);
+            return state;
+        });
+    }
+
+    // 📝 Counterpart of handOff on the new owner. Refuses (null) if the chat already has a game here -
+    // that one was started after the chat moved and is newer than the handed off one.
+    public GameSession takeOver(long chatId, byte[] state) {
+        GameSession session;
+        try {
+            session = decode(state);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Handed off session of chat " + chatId + " is broken", e);
+        }
+        return withLock(chatId, () -> {
+            GameSession existing = sessions.get(chatId);
+            if (existing == null && store != null) {
+                existing = loadSpilled(chatId);
+            }
+            return existing == null ? create(chatId, () -> session) : null;
+        });
+    }
+
+    // -- Chats with a session here, in memory or parked
+    public Set<Long> chatIds() {
+        Set<Long> chatIds = new HashSet<>(sessions.keySet());
+        if (store != null) {
+            try {
+                for (long chatId : store.chatIds()) {
+                    if (!isEnded(chatId)) {
+                        chatIds.add(chatId);
+                    }
+                }
+            } catch (IOException e) {
+                LOG.error("❌ Could not list parked sessions", "error", e.getMessage());
+            }
+        }
+        return chatIds;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+
+    public long getResidentBytes() {
+        return residentBytes.get();
+    }
+
+    // -- Games the write-behind writer saved (each one after one or more moves)
+    public long getStoreWrites() {
+        return storeWrites.sum();
+    }
+
+    // -- Changes that asked for a write; minus getStoreWrites, that's how many writes coalescing saved
+    public long getStoreMarks() {
+        return storeMarks.sum();
+    }
+
+    public int getPendingWrites() {
+        return pending.size();
+    }
+
+    private static byte[] encode(GameSession session) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            GameStateIO.write(session.getGameState(), out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // <-- in den Speicher schreiben geht nicht schief
+        }
+        return bytes.toByteArray();
+    }
+
+    private GameSession decode(byte[] state) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(state))) {
+            GameState gameState = GameStateIO.read(in, policy);
+            return new GameSession(gameState, new RoundLogic(gameState));
+        }
+    }
+
+    private ReentrantLock lockFor(long chatId) {
+        int hash = Long.hashCode(chatId);
+        hash ^= hash >>> 16;
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    //endregion
+
+    //region 🧹 Eviction
+
+    // 📝 Parks idle sessions and, while the cache is over its limits, the least recently used ones.
+    // Runs on the sweeper thread; public so tests can run it right away.
+    public void sweep() {
+        sweepRequested.set(false);
+        sweepTasks.forEach(Runnable::run);
+        long now = System.nanoTime();
+        long idleNanos = cacheConfig.idleTimeout().toNanos();
+
+        for (Map.Entry<Long, GameSession> entry : sessions.entrySet()) {
+            if (now - entry.getValue().getLastAccess() > idleNanos) {
+                evict(entry.getKey(), entry.getValue(), true);
+            }
+        }
+
+        if (!isOverLimit(1.0)) {
+            return;
+        }
+
+        // 📝 lastAccess keeps changing while we sort, so sort a snapshot of it.
+        List<Candidate> byAge = new ArrayList<>(sessions.size());
+        sessions.forEach((chatId, session) -> byAge.add(new Candidate(chatId, session, session.getLastAccess())));
+        byAge.sort(Comparator.comparingLong(Candidate::lastAccess));
+        for (Candidate candidate : byAge) {
+            if (!isOverLimit(EVICTION_TARGET)) {
+                break;
+            }
+            evict(candidate.chatId(), candidate.session(), false);
+        }
+    }
+
+    // 📝 Runs task on every sweep, e.g. to drop other per-chat state that is idle (MyGameBot's open group tables).
+    // Without limits (SessionCacheConfig.UNBOUNDED) there is no sweeper and the task never runs.
+    public void onSweep(Runnable task) {
+        sweepTasks.add(task);
+    }
+
+    private boolean isOverLimit(double share) {
+        return sessions.size() > cacheConfig.maxEntries() * share
+                || residentBytes.get() > cacheConfig.maxBytes() * share;
+    }
+
+    private void evict(long chatId, GameSession expected, boolean onlyIfIdle) {
+        withLock(chatId, () -> {
+            // 📝 The session may have been replaced or used again since the sweep looked at it.
+            if (sessions.get(chatId) != expected) {
+                return null;
+            }
+            if (onlyIfIdle && System.nanoTime() - expected.getLastAccess() <= cacheConfig.idleTimeout().toNanos()) {
+                return null;
+            }
+            if (saving.contains(chatId)) {
+                return null; // <-- der Writer schreibt das Spiel gerade, der nächste Sweep parkt es
+            }
+
+            if (store != null) {
+                try {
+                    absent.remove(chatId);
+                    store.save(chatId, encode(expected));
+                } catch (IOException e) {
+                    LOG.error("❌ Could not park session", "chat", chatId, "error", e.getMessage());
+                    return null;
+                }
+            }
+            sessions.remove(chatId);
+            forget(expected);
+
+            JournalRecorder recorder = expected.getRecorder();
+            if (recorder != null) {
+                // 📝 Parked → the store has the game now. Dropped → it is gone for good.
+                if (store != null) {
+                    recorder.park();
+                } else {
+                    recorder.end();
+                }
+            }
+            return null;
+        });
+    }
+
+    private GameSession loadSpilled(long chatId) {
+        GameSession session = sessions.get(chatId);
+        if (session != null) {
+            return session;
+        }
+
+        if (isEnded(chatId) || absent.contains(chatId)) {
+            return null; // <-- beendet (der Writer hat es nur noch nicht gelöscht) oder gar nicht im Store
+        }
+        try {
+            byte[] state = store.load(chatId);
+            if (state == null) {
+                rememberAbsent(chatId);
+                return null;
+            }
+            session = decode(state);
+            session.setMarkedVersion(session.getGameState().getVersion()); // <-- steht so im Store
+            if (writer == null) {
+                store.delete(chatId); // <-- ab jetzt lebt das Spiel wieder im Speicher; mit Write-behind bleibt es im Store
+                rememberAbsent(chatId);
+            }
+        } catch (IOException e) {
+            LOG.error("❌ Could not load parked session", "chat", chatId, "error", e.getMessage());
+            return null;
+        }
+        sessions.put(chatId, session);
+        account(session);
+        if (journal != null) {
+            session.setRecorder(journal.open(chatId, session.getGameState()));
+        }
+        return session;
+    }
+
+    private void flushJournal(long chatId) {
+        if (journal == null) {
+            return;
+        }
+        GameSession session = sessions.get(chatId);
+        if (session != null && session.getRecorder() != null) {
+            session.getRecorder().flush();
+        }
+    }
+
+    private boolean deleteSpilled(long chatId) {
+        if (store == null || absent.contains(chatId)) {
+            return false;
+        }
+        try {
+            boolean deleted = store.delete(chatId);
+            rememberAbsent(chatId);
+            return deleted;
+        } catch (IOException e) {
+            LOG.error("❌ Could not delete parked session", "chat", chatId, "error", e.getMessage());
+            return false;
+        }
+    }
+
+    private void rememberAbsent(long chatId) {
+        if (absent.size() >= MAX_ABSENT) {
+            absent.clear();
+        }
+        absent.add(chatId);
+    }
+
+    private void account(GameSession session) {
+        long bytes = session.estimateBytes();
+        session.setAccountedBytes(bytes);
+        residentBytes.addAndGet(bytes);
+
+        // 📝 Over the limit → let the sweeper run now instead of waiting for the next interval.
+        if (sweeper != null && isOverLimit(1.0) && sweepRequested.compareAndSet(false, true)) {
+            sweeper.execute(this::sweep);
+        }
+    }
+
+    private void forget(GameSession session) {
+        if (session == null) {
+            return;
+        }
+        residentBytes.addAndGet(-session.getAccountedBytes());
+        session.setAccountedBytes(0);
+    }
+
+    private record Candidate(long chatId, GameSession session, long lastAccess) {
+    }
+
+    @Override
+    public void close() {
+        if (sweeper != null) {
+            sweeper.shutdown(); // <-- nicht unterbrechen: ein Sweep mitten im Parken soll fertig schreiben
+            try {
+                sweeper.awaitTermination(10, TimeUnit.SECONDS); // <-- sonst parkt er in einen geschlossenen Store
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                writer.awaitTermination(10, TimeUnit.SECONDS); // <-- eine laufende Runde zu Ende schreiben lassen
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writePending(); // <-- was seit der letzten Runde dazukam
+        }
+        if (store != null) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                LOG.error("❌ Could not close session store", "error", e.getMessage());
+            }
+        }
+    }
+
+    //endregion
+
+    //region 💾 Write-behind
+
+    // 📝 Only if the game changed since it was last marked - lookups, ignored messages and refused moves write nothing.
+    private void markDirty(long chatId) {
+        if (writer == null) {
+            return;
+        }
+        GameSession session = sessions.get(chatId);
+        if (session == null) {
+            return;
+        }
+        long version = session.getGameState().getVersion();
+        if (version != session.getMarkedVersion()) {
+            session.setMarkedVersion(version);
+            pending.put(chatId, false);
+            storeMarks.increment();
+        }
+    }
+
+    private boolean isEnded(long chatId) {
+        return writer != null && Boolean.TRUE.equals(pending.get(chatId));
+    }
+
+    // 📝 One write-behind round: every marked chat once, then one flush() for the whole batch.
+    // Only serializing the game needs its chat's lock - save() and delete() run outside it, so no move waits
+    // for the disk. While a chat is being written, the sweeper doesn't park it (saving), so an older copy can't
+    // overwrite a newer parked one; a move made meanwhile marks the chat again for the next round.
+    // Runs on the writer thread; public so tests can run it right away.
+    public void writePending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        int written = 0;
+        for (Map.Entry<Long, Boolean> entry : pending.entrySet()) {
+            long chatId = entry.getKey();
+            boolean ended = entry.getValue();
+            byte[] state = null;
+            ReentrantLock lock = lockFor(chatId); // <-- nicht withLock: kein Journal, nichts zu markieren
+            lock.lock();
+            try {
+                Boolean marked = pending.get(chatId);
+                if (marked == null || marked != ended) {
+                    continue; // <-- inzwischen neu markiert, kommt gleich noch einmal
+                }
+                GameSession session = sessions.get(chatId);
+                if (session != null) {
+                    state = encode(session);
+                    pending.remove(chatId, false);
+                } else if (!ended) {
+                    pending.remove(chatId, false);
+                    continue; // <-- geparkt, steht schon im Store
+                } // <-- beendet: bleibt markiert, bis der Store aufgeräumt ist, damit loadSpilled es nicht lädt
+                saving.add(chatId);
+            } finally {
+                lock.unlock();
+            }
+            written += writeOne(chatId, state, ended);
+        }
+        try {
+            store.flush();
+        } catch (IOException e) {
+            LOG.error("❌ Could not flush session store", "error", e.getMessage());
+        }
+        LOG.debug("💾 Sessions written behind", "written", written);
+    }
+
+    // -- Saves the serialized game, or deletes the ended one (state == null), without the chat's lock
+    private int writeOne(long chatId, byte[] state, boolean ended) {
+        try {
+            if (state != null) {
+                absent.remove(chatId);
+                store.save(chatId, state);
+                storeWrites.increment();
+                return 1;
+            }
+            store.delete(chatId);
+            rememberAbsent(chatId);
+            pending.remove(chatId, true);
+        } catch (IOException e) {
+            LOG.error("❌ Could not write session behind", "chat", chatId, "error", e.getMessage());
+            pending.putIfAbsent(chatId, ended); // <-- nächste Runde nochmal
+        } finally {
+            saving.remove(chatId);
+        }
+        return 0;
+    }
+
+    //endregion
+}
@@ -0,0 +1,76 @@
+package telegram;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SessionSpillStore implements SessionStore {
+
+    // 📝 Parkplatz für Sessions, die aus dem Speicher verdrängt wurden: eine Datei pro Chat.
+    // Schreibt zuerst in eine Temp-Datei und verschiebt sie dann, damit nie eine halbe Session auf der Platte liegt.
+
+    //region 🧱 Variables
+
+    private static final String SUFFIX = ".session";
+
+    private final Path directory;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public SessionSpillStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create session directory " + directory, e);
+        }
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    @Override
+    public void save(long chatId, byte[] state) throws IOException {
+        Path target = fileFor(chatId);
+        Path temp = directory.resolve(chatId + SUFFIX + ".tmp");
+
+        Files.write(temp, state);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public byte[] load(long chatId) throws IOException {
+        try {
+            return Files.readAllBytes(fileFor(chatId));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean delete(long chatId) throws IOException {
+        return Files.deleteIfExists(fileFor(chatId));
+    }
+
+    @Override
+    public List<Long> chatIds() throws IOException {
+        List<Long> chatIds = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                chatIds.add(Long.parseLong(name, 0, name.length() - SUFFIX.length(), 10));
+            }
+        }
+        return chatIds;
+    }
+
+    private Path fileFor(long chatId) {
+        return directory.resolve(chatId + SUFFIX);
+    }
+
+    //endregion
+}
@@ -0,0 +1,31 @@
+package telegram;
+
+import java.io.IOException;
+import java.util.Collection;
+
+// 📝 Where games live outside the heap: parked by the sweeper, written behind by SessionRegistry, loaded back
+// the first time a chat writes again. A game is stored as its GameStateIO bytes - the store doesn't know
+// anything about the game, only chat ID → bytes.
+// SESSION_STORE picks one: "files" (SessionSpillStore, default), "mapped" (MappedSessionStore),
+// "mvstore" (MvStoreSessionStore) or "memory" (MemorySessionStore).
+public interface SessionStore extends AutoCloseable {
+
+    // -- Replaces what is stored for the chat
+    void save(long chatId, byte[] state) throws IOException;
+
+    // -- The chat's bytes, null if nothing is stored
+    byte[] load(long chatId) throws IOException;
+
+    // -- Removes the chat, true if something was stored
+    boolean delete(long chatId) throws IOException;
+
+    Collection<Long> chatIds() throws IOException;
+
+    // 📝 Makes everything saved so far durable (after a write-behind batch). Stores that write through do nothing.
+    default void flush() throws IOException {
+    }
+
+    @Override
+    default void close() throws IOException {
+    }
+}
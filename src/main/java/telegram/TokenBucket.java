@@ -0,0 +1,53 @@
+package telegram;
+
+// 📝 Classic token bucket: holds up to `capacity` tokens and refills `perSecond` tokens every second.
+// Nobody blocks in here - tryAcquire() either takes a token or says how long to wait for the next one.
+final class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double capacity, double perSecond) {
+        if (capacity < 1 || perSecond <= 0) {
+            throw new IllegalArgumentException("A token bucket needs room for one token and a positive rate.");
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = perSecond / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    // -- Takes a token and returns 0, or takes nothing and returns the nanos until the next token
+    synchronized long tryAcquire() {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return nanosUntilToken();
+    }
+
+    // -- Nanos until a token is there, without taking it
+    synchronized long waitTime() {
+        refill();
+        return tokens >= 1 ? 0 : nanosUntilToken();
+    }
+
+    // -- True once the bucket has refilled completely, then it doesn't matter if it is thrown away
+    synchronized boolean isFull() {
+        refill();
+        return tokens >= capacity;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+
+    private long nanosUntilToken() {
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -0,0 +1,157 @@
+package telegram;
+
+import log.Log;
+import log.Logger;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+public class UpdateDispatcher implements AutoCloseable {
+
+    // 📝 Verteilt eingehende Updates auf virtuelle Threads:
+    // - Updates aus demselben Chat laufen streng nacheinander, in der Reihenfolge, in der sie kamen.
+    // - Verschiedene Chats laufen parallel - ein langsamer Chat (z. B. ein hängendes execute()) hält die anderen nicht auf.
+    // Jeder Chat hat eine eigene Queue. Solange sie nicht leer ist, arbeitet genau ein virtueller Thread sie ab.
+
+    //region 🧱 Variables
+
+    private static final Logger LOG = Log.get(UpdateDispatcher.class);
+
+    private final Consumer<Update> handler;
+    private final ConcurrentHashMap<Long, ChatQueue> chats = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore concurrency; // <-- wie viele Updates gleichzeitig verarbeitet werden dürfen
+    private final int maxQueuedPerChat;  // <-- ab hier werden neue Updates eines Chats verworfen
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public UpdateDispatcher(Consumer<Update> handler, int maxConcurrentUpdates, int maxQueuedPerChat) {
+        if (maxConcurrentUpdates < 1 || maxQueuedPerChat < 1) {
+            throw new IllegalArgumentException("Dispatcher limits must be at least 1.");
+        }
+        this.handler = handler;
+        this.concurrency = new Semaphore(maxConcurrentUpdates);
+        this.maxQueuedPerChat = maxQueuedPerChat;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 Returns false if the chat's queue is full and the update was dropped.
+    public boolean dispatch(long chatId, Update update) {
+        AtomicBoolean accepted = new AtomicBoolean();
+
+        // 📝 Enqueued inside compute(), so it can't race with drain() removing an idle queue.
+        ChatQueue queue = chats.compute(chatId, (id, current) -> {
+            ChatQueue q = current != null ? current : new ChatQueue();
+            if (q.size.get() < maxQueuedPerChat) {
+                q.size.incrementAndGet();
+                q.updates.offer(update);
+                queueDepth.incrementAndGet();
+                accepted.set(true);
+            }
+            return q;
+        });
+
+        if (!accepted.get()) {
+            return false;
+        }
+
+        if (queue.running.compareAndSet(false, true)) {
+            executor.execute(() -> drain(chatId, queue));
+        }
+        return true;
+    }
+
+    // 📝 Runs on the chat's virtual thread until its queue is empty.
+    // If the handler throws something handle() doesn't catch (an Error), the finally block still lets the
+    // chat go and hands what is left to a new drain - otherwise the chat would never be handled again.
+    private void drain(long chatId, ChatQueue queue) {
+        boolean released = false;
+        try {
+            while (true) {
+                Update update;
+                while ((update = queue.updates.poll()) != null) {
+                    queue.size.decrementAndGet();
+                    queueDepth.decrementAndGet();
+                    handle(update);
+                }
+
+                queue.running.set(false);
+                released = true;
+
+                // 📝 An update may have slipped in after the last poll - either we pick it up
+                // again or the dispatch() that added it has already started a new drain.
+                if (queue.updates.isEmpty() || !queue.running.compareAndSet(false, true)) {
+                    chats.computeIfPresent(chatId, (id, current) -> current == queue && current.isIdle() ? null : current);
+                    return;
+                }
+                released = false;
+            }
+        } finally {
+            if (!released) {
+                queue.running.set(false);
+                if (!queue.updates.isEmpty() && queue.running.compareAndSet(false, true)) {
+                    executor.execute(() -> drain(chatId, queue));
+                } else {
+                    chats.computeIfPresent(chatId, (id, current) -> current == queue && current.isIdle() ? null : current);
+                }
+            }
+        }
+    }
+
+    private void handle(Update update) {
+        try {
+            concurrency.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        try {
+            handler.accept(update);
+        } catch (RuntimeException e) {
+            LOG.error("❌ Error handling update", e);
+        } finally {
+            concurrency.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    //endregion
+
+    //region 🫴 Getters
+
+    // -- Updates that arrived but are not handled yet, across all chats
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    // -- Chats that have updates queued or in progress
+    public int getActiveChats() {
+        return chats.size();
+    }
+
+    //endregion
+
+    private static final class ChatQueue {
+        private final Queue<Update> updates = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        boolean isIdle() {
+            return !running.get() && updates.isEmpty();
+        }
+    }
+}
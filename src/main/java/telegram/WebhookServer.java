@@ -0,0 +1,126 @@
+package telegram;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import log.Log;
+import log.Logger;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+public class WebhookServer implements AutoCloseable {
+
+    // 📝 Webhook-Modus: Telegram schickt jedes Update per POST an uns, statt dass wir danach fragen (Long Polling).
+    // Läuft auf dem HttpServer aus dem JDK, jede Anfrage auf einem eigenen virtuellen Thread.
+    // Das JSON wird direkt aus dem Request-Stream gelesen - kein Umweg über einen String.
+    // Das Update geht an denselben Handler wie beim Polling (MyGameBot.onUpdateReceived), der es nur
+    // an den UpdateDispatcher weiterreicht - Telegram bekommt also sofort sein 200 OK.
+
+    //region 🧱 Variables
+
+    private static final Logger LOG = Log.get(WebhookServer.class);
+
+    // 📝 Telegram sends the secret from setWebhook in this header, so nobody else can post fake updates.
+    static final String SECRET_HEADER = "X-Telegram-Bot-Api-Secret-Token";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final String path;
+    private final byte[] secret; // <-- null = kein Secret gesetzt
+    private final Consumer<Update> handler;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public WebhookServer(InetSocketAddress address, String path, String secret, Consumer<Update> handler) throws IOException {
+        this.path = path;
+        this.secret = secret == null || secret.isBlank() ? null : secret.getBytes(StandardCharsets.UTF_8);
+        this.handler = handler;
+
+        this.server = HttpServer.create(address, 0);
+        server.createContext(path, this::handle);
+        server.setExecutor(executor);
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    public void start() {
+        server.start();
+        LOG.info("🌐 Webhook listening", "port", getPort(), "path", path);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream body = exchange.getRequestBody()) {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                respond(exchange, 405);
+                return;
+            }
+            if (!exchange.getRequestURI().getPath().equals(path)) {
+                respond(exchange, 404);
+                return;
+            }
+            if (!isAuthorized(exchange)) {
+                respond(exchange, 401);
+                return;
+            }
+
+            Update update;
+            try {
+                update = MAPPER.readValue(body, Update.class);
+            } catch (IOException e) {
+                LOG.warn("⚠️ Could not parse webhook update", "error", e.getMessage());
+                respond(exchange, 400);
+                return;
+            }
+
+            try {
+                handler.accept(update);
+            } catch (RuntimeException e) {
+                // 📝 Still answer 200 - otherwise Telegram sends the same broken update again and again.
+                LOG.error("❌ Error handling update", e);
+            }
+            respond(exchange, 200);
+        }
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        if (secret == null) {
+            return true;
+        }
+        String sent = exchange.getRequestHeaders().getFirst(SECRET_HEADER);
+        // 📝 Constant-time compare, so the secret can't be guessed from response times.
+        return sent != null && MessageDigest.isEqual(secret, sent.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respond(HttpExchange exchange, int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    // -- Port the server really listens on (useful when started with port 0)
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(1);
+        executor.close();
+    }
+
+    //endregion
+}
@@ -0,0 +1,35 @@
+package text;
+
+public enum Language {
+    DE("de"),
+    EN("en");
+
+    private final String code;
+
+    Language(String code) {
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    // 📝 "de", "en", also "de-AT" or "en_US" (what Telegram sends as language_code). null if we don't speak it.
+    public static Language fromCode(CharSequence text, int from, int to) {
+        if (to - from < 2 || (to - from > 2 && text.charAt(from + 2) != '-' && text.charAt(from + 2) != '_')) {
+            return null;
+        }
+        char first = Character.toLowerCase(text.charAt(from));
+        char second = Character.toLowerCase(text.charAt(from + 1));
+        for (Language language : values()) {
+            if (language.code.charAt(0) == first && language.code.charAt(1) == second) {
+                return language;
+            }
+        }
+        return null;
+    }
+
+    public static Language fromCode(String code) {
+        return code == null ? null : fromCode(code, 0, code.length());
+    }
+}
@@ -0,0 +1,89 @@
+package text;
+
+import java.util.concurrent.ArrayBlockingQueue;
+
+public final class Messages {
+
+    // 📝 All templates, compiled once (see Msg and Template), plus a small pool of Replies.
+    // A Reply keeps its StringBuilder, so building a message reuses the same buffer again and again -
+    // the only new object per message is the final String that goes to Telegram.
+
+    //region 🧱 Variables
+
+    static final int INITIAL_CAPACITY = 2048;       // <-- reicht für eine Lüge mit Zusammenfassung
+    static final int MAX_RETAINED_CAPACITY = 16384; // <-- größere Builder werden nicht zurück in den Pool gelegt
+
+    private final Template[][] templates = new Template[Language.values().length][Msg.values().length];
+    private final ArrayBlockingQueue<Reply> pool;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    public Messages() {
+        this(64);
+    }
+
+    public Messages(int poolSize) {
+        for (Msg msg : Msg.values()) {
+            Template reference = null;
+            for (Language language : Language.values()) {
+                Template template = Template.compile(msg + "/" + language.code(), msg.source(language));
+                if (reference != null && !sameSlots(reference, template)) {
+                    throw new IllegalStateException(msg + ": " + language + " uses other placeholders than "
+                            + Language.values()[0]);
+                }
+                reference = template;
+                templates[language.ordinal()][msg.ordinal()] = template;
+            }
+        }
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    private static boolean sameSlots(Template a, Template b) {
+        if (a.argumentCount != b.argumentCount) {
+            return false;
+        }
+        boolean[] used = new boolean[a.argumentCount];
+        for (int slot : a.slots) {
+            used[slot] = true;
+        }
+        for (int slot : b.slots) {
+            if (!used[slot]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    // 📝 A reply to fill. Hand it back with finish() (or close() if nothing gets sent).
+    public Reply open(Language language) {
+        Reply reply = pool.poll();
+        if (reply == null) {
+            reply = new Reply(this);
+        }
+        reply.begin(language);
+        return reply;
+    }
+
+    // -- A single message without arguments, e.g. for /help
+    public String render(Language language, Msg msg) {
+        return open(language).add(msg).finish();
+    }
+
+    Template template(Language language, Msg msg) {
+        return templates[language.ordinal()][msg.ordinal()];
+    }
+
+    void release(Reply reply) {
+        if (reply.capacity() <= MAX_RETAINED_CAPACITY) {
+            pool.offer(reply); // <-- Pool voll: dann darf der GC ihn haben
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,315 @@
+package text;
+
+public enum Msg {
+
+    // 📝 Every text the bot sends, in German and English. Written in Telegram Markdown (*fett*, _kursiv_,
+    // `code`); {0}, {1}, … are filled in by Reply. Messages compiles all of them once at startup and
+    // checks that both languages use the same placeholders.
+
+    //region 👋 Commands
+
+    WELCOME("""
+            👋 *Willkommen bei Liars Dice!*
+
+            Starte dein Spiel mit:
+            • `/newgame` – Neues Spiel beginnen
+            • `/help` – Hilfe anzeigen
+            • `/rules` – Anleitung anzeigen
+            • `/endgame` – Beendet das Spiel
+            • `/lang en` – Switch to English
+
+            In einer Gruppe öffnet `/newgame` einen Tisch für bis zu 50 Spieler.
+            """, """
+            👋 *Welcome to Liars Dice!*
+
+            Start your game with:
+            • `/newgame` – start a new game
+            • `/help` – show help
+            • `/rules` – show the rules
+            • `/endgame` – end the game
+            • `/lang de` – auf Deutsch wechseln
+
+            In a group, `/newgame` opens a table for up to 50 players.
+            """),
+
+    HELP("""
+            ℹ️ *Hilfe*:
+
+            • `/newgame` – Neues Spiel starten
+            • `2 5` – einen Call machen (z. B. „2 Würfel mit Wert 5“)
+            • `lie` – den letzten Call anzweifeln
+            • `reroll 0 2` – einzelne Würfel neu würfeln (max. 1x pro Spiel) - wobei 0 dein Erster und 5 dein Letzter Würfel ist!
+            • `/lang en` – Switch to English
+
+            *In Gruppen:*
+            • `/newgame` – Tisch öffnen
+            • `/join` – Platz nehmen, `/leave` – aufstehen (auch mitten im Spiel)
+            • `/addbot` – einen Bot an den Tisch setzen
+            • `/startgame` – los geht's (ab 2 Spielern), deine Würfel bekommst du privat
+            """, """
+            ℹ️ *Help*:
+
+            • `/newgame` – start a new game
+            • `2 5` – make a call (e.g. "2 dice showing 5")
+            • `lie` – doubt the last call
+            • `reroll 0 2` – roll single dice again (once per game) - 0 is your first die, 4 your last!
+            • `/lang de` – auf Deutsch wechseln
+
+            *In groups:*
+            • `/newgame` – open a table
+            • `/join` – take a seat, `/leave` – get up (also during a game)
+            • `/addbot` – seat a bot at the table
+            • `/startgame` – start playing (2 players or more), your dice come in a private message
+            """),
+
+    RULES("""
+            ℹ️ *Regeln*:
+
+            • Bei Liars Dice geht es um Lug & Betrug.
+            • Ziel ist am Ende noch mindestens 2 Würfel zu besitzen.
+            • Man verliert Würfel, wenn man beim Lügen erwischt wird (2 Stück)
+            • oder jemanden fälschlicherweise des Betrugs beschuldigt (1 Würfel).
+            • Jedes Mal wenn man dran ist, sagt man eine Anzahl der Würfel mit einem bestimmten Wert.
+            • Z. B. 2 3 (2 Würfel, die eine 3 zeigen).
+            • Der nächste Spieler kann „Lüge“ rufen oder höher bieten.
+            • Hier kommt der Twist: Alle Würfel werden aufgedeckt und alle Würfel auf dem Tisch zählen.
+            • Glaubt man während des Spiels dem Bot – oder nicht?
+            • Außerdem kann man 1× pro Match beliebige Würfel neu würfeln.
+
+            Möge der Bessere gewinnen!
+            """, """
+            ℹ️ *Rules*:
+
+            • Liars Dice is all about lying and cheating.
+            • The goal is to still have at least 2 dice at the end.
+            • You lose dice when you're caught lying (2 dice)
+            • or when you wrongly accuse someone of lying (1 die).
+            • On your turn, you call a number of dice showing a certain face.
+            • E.g. 2 3 (2 dice showing a 3).
+            • The next player can call "lie" or bid higher.
+            • Here's the twist: all dice are revealed and every die on the table counts.
+            • Do you believe the bot - or not?
+            • And once per match you may roll any of your dice again.
+
+            May the best player win!
+            """),
+
+    GAME_ENDED("""
+            🛑 *Spiel beendet!*
+
+            Danke fürs Spielen. Starte ein neues Spiel mit `/newgame`.
+            """, """
+            🛑 *Game ended!*
+
+            Thanks for playing. Start a new game with `/newgame`.
+            """),
+
+    NO_GAME_TO_END("⚠️ Es läuft gerade kein Spiel, das du beenden könntest.",
+            "⚠️ There's no game running that you could end."),
+
+    LANGUAGE_SET("🇩🇪 Ab jetzt spreche ich Deutsch.",
+            "🇬🇧 I'll speak English from now on."),
+
+    LANGUAGE_USAGE("🌐 Sprache wechseln: `/lang de` oder `/lang en`.",
+            "🌐 Change the language: `/lang de` or `/lang en`."),
+
+    //endregion
+
+    //region 🎲 Game
+
+    GAME_STARTED("""
+            🎲 *Neues Spiel gestartet!*
+
+            Du hast {0} Würfel.
+            🎲 *Deine Würfel:* {1}
+
+            *Mach deinen ersten Call* – z. B. `2 3`.""", """
+            🎲 *New game started!*
+
+            You have {0} dice.
+            🎲 *Your dice:* {1}
+
+            *Make your first call* – e.g. `2 3`."""),
+
+    NO_GAME("⚠️ Du hast noch kein Spiel gestartet. Nutze /newgame.",
+            "⚠️ You haven't started a game yet. Use /newgame."),
+
+    WAIT_FOR_BOT("⚠️ *Warte, der Bot ist gerade am Zug.*",
+            "⚠️ *Wait, it's the bot's turn.*"),
+
+    PLAYER_CALLED("*{0}* calls {1} × {2}\n\n🎲 *Deine Würfel:* {3}\n\n_Bitte warte, Bot denkt nach…_",
+            "*{0}* calls {1} × {2}\n\n🎲 *Your dice:* {3}\n\n_Please wait, the bot is thinking…_"),
+
+    PLAYER_CALLED_LIE("🙅 *Du hast Lüge gerufen!*\n\n",
+            "🙅 *You called lie!*\n\n"),
+
+    REROLLED("🎲 *Neue Würfel:* {0}\n\n_Mach nun einen höheren Call._",
+            "🎲 *New dice:* {0}\n\n_Now make a higher call._"),
+
+    BOT_CALLED_LIE("🤖 *{0} ruft LIE!*\n\n",
+            "🤖 *{0} calls LIE!*\n\n"),
+
+    BOT_REROLLS("🤖 *{0} entscheidet sich für einen Reroll.*\n",
+            "🤖 *{0} decides to reroll.*\n"),
+
+    BOT_CALLS("🤖 *{0} calls:* `{1} {2}` Überbiete es oder schreib 'lie'!",
+            "🤖 *{0} calls:* `{1} {2}` Beat it or write 'lie'!"),
+
+    REVEAL_HEADER("\n=== 🎲 *ALLE WÜRFEL WERDEN ENTHÜLLT!* ===\n",
+            "\n=== 🎲 *ALL DICE ARE REVEALED!* ===\n"),
+
+    REVEAL_LINE("🎲 *{0}*: {1}\n",
+            "🎲 *{0}*: {1}\n"),
+
+    REVEAL_FOOTER("============================\n\n",
+            "============================\n\n"),
+
+    ACTUAL_COUNT("Es lagen tatsächlich *{0} × {1}* auf dem Tisch.\n",
+            "There were actually *{0} × {1}* on the table.\n"),
+
+    INSTANT_WIN("\n🏆 *{0}* hat das Maximum richtig gecallt und gewinnt sofort das ganze Spiel!",
+            "\n🏆 *{0}* called the maximum right and wins the whole game at once!"),
+
+    CALL_WAS_TRUE("\n✅ *Der Call war WAHR!* {0} verliert 1 Würfel.",
+            "\n✅ *The call was TRUE!* {0} loses 1 die."),
+
+    CALL_WAS_FALSE("\n❌ *Der Call war FALSCH!* {0} verliert 2 Würfel.",
+            "\n❌ *The call was FALSE!* {0} loses 2 dice."),
+
+    SUMMARY_LINE("🎲 *{0}* hat noch {1} Würfel.\n",
+            "🎲 *{0}* has {1} dice left.\n"),
+
+    SUMMARY_DICE("Würfel: {0}\n",
+            "Dice: {0}\n"),
+
+    NEW_ROUND("\n🔄 *Neue Runde gestartet!* Mach deinen ersten Call.",
+            "\n🔄 *New round started!* Make your first call."),
+
+    GAME_OVER("🎉 *GAME OVER!* \n🏆 Gewinner: {0}",
+            "🎉 *GAME OVER!* \n🏆 Winner: {0}"),
+
+    //endregion
+
+    //region 👥 Group Tables
+
+    LOBBY_OPENED("""
+            🎲 *Der Tisch ist offen!*
+
+            • `/join` – Platz nehmen
+            • `/addbot` – einen Bot dazusetzen
+            • `/startgame` – Spiel starten (ab 2 Spielern)
+
+            Schreib mir vorher einmal privat /start, damit ich dir deine Würfel schicken kann.""", """
+            🎲 *The table is open!*
+
+            • `/join` – take a seat
+            • `/addbot` – add a bot
+            • `/startgame` – start the game (2 players or more)
+
+            Send me /start in a private chat first, so I can send you your dice."""),
+
+    LOBBY_ALREADY_OPEN("🎲 Hier ist schon ein Tisch offen ({0} Spieler): {1}\n\n`/join` – Platz nehmen, `/startgame` – Spiel starten.",
+            "🎲 There's already an open table here ({0} players): {1}\n\n`/join` – take a seat, `/startgame` – start the game."),
+
+    LOBBY_JOINED("🪑 *{0}* sitzt am Tisch ({1} Spieler).",
+            "🪑 *{0}* joined the table ({1} players)."),
+
+    LOBBY_LEFT("👋 *{0}* ist aufgestanden ({1} Spieler).",
+            "👋 *{0}* left the table ({1} players)."),
+
+    LOBBY_FULL("⚠️ Der Tisch ist voll – mehr als {0} Spieler gehen nicht.",
+            "⚠️ The table is full – no more than {0} players."),
+
+    ALREADY_JOINED("⚠️ Du sitzt schon am Tisch.",
+            "⚠️ You're already at the table."),
+
+    NO_LOBBY("⚠️ Hier ist kein Tisch offen. Öffne einen mit /newgame.",
+            "⚠️ There's no open table here. Open one with /newgame."),
+
+    LOBBY_TOO_SMALL("⚠️ Zum Spielen braucht es mindestens 2 Spieler. `/join` oder `/addbot`!",
+            "⚠️ You need at least 2 players. `/join` or `/addbot`!"),
+
+    GAME_RUNNING("⚠️ Hier läuft schon ein Spiel. Beende es mit /endgame.",
+            "⚠️ There's already a game running here. End it with /endgame."),
+
+    GROUP_GAME_STARTED("🎲 *Neues Spiel mit {0} Spielern!* Jeder hat seine Würfel privat bekommen.\n",
+            "🎲 *New game with {0} players!* Everyone got their dice in a private message.\n"),
+
+    TURN("\n👉 *{0}* ist dran.",
+            "\n👉 It's *{0}*'s turn."),
+
+    NOT_YOUR_TURN("⚠️ Warte, *{0}* ist gerade am Zug.",
+            "⚠️ Wait, it's *{0}*'s turn."),
+
+    NOT_PLAYING("⚠️ Du spielst in dieser Runde nicht mit.",
+            "⚠️ You're not playing in this game."),
+
+    PLAYER_LEFT_GAME("👋 *{0}* verlässt das Spiel.\n",
+            "👋 *{0}* leaves the game.\n"),
+
+    YOUR_DICE("🎲 *Deine Würfel:* {0}",
+            "🎲 *Your dice:* {0}"),
+
+    GROUP_ONLY("⚠️ Das geht nur in einer Gruppe. Hier spielst du mit /newgame gegen den Bot.",
+            "⚠️ That only works in a group. Here you play against the bot with /newgame."),
+
+    GROUP_CALL("*{0}* calls {1} × {2}\n",
+            "*{0}* calls {1} × {2}\n"),
+
+    GROUP_LIE("🙅 *{0}* ruft Lüge!\n\n",
+            "🙅 *{0}* calls lie!\n\n"),
+
+    GROUP_REROLLED("🎲 *{0}* würfelt neu.\n",
+            "🎲 *{0}* rolls again.\n"),
+
+    //endregion
+
+    //region ⚠️ Errors
+
+    TOO_MANY_DICE("⚠️ Es gibt nicht so viele Würfel im Spiel.",
+            "⚠️ There aren't that many dice in the game."),
+
+    CALL_NOT_HIGHER("⚠️ Dein Call muss höher sein als der letzte.",
+            "⚠️ Your call has to be higher than the last one."),
+
+    REROLL_ALREADY_USED("⚠️ Du hast deinen Reroll bereits benutzt.",
+            "⚠️ You already used your reroll."),
+
+    NO_SUCH_DIE("⚠️ So viele Würfel hast du nicht. Zähl ab 0, z. B. `reroll 0 2`.",
+            "⚠️ You don't have that many dice. Count from 0, e.g. `reroll 0 2`."),
+
+    UNKNOWN_COMMAND("⚠️ Diesen Befehl kenne ich nicht. Schau in /help.",
+            "⚠️ I don't know that command. Have a look at /help."),
+
+    QUANTITY_OUT_OF_RANGE("⚠️ Die Anzahl muss mindestens 1 sein und darf nicht größer sein als die Würfel im Spiel.",
+            "⚠️ The number of dice must be at least 1 and can't be more than the dice in the game."),
+
+    FACE_OUT_OF_RANGE("⚠️ Die Augenzahl muss zwischen 1 und 6 liegen.",
+            "⚠️ The face has to be between 1 and 6."),
+
+    NO_DICE_TO_REROLL("⚠️ Welche Würfel? Z. B. `reroll 0 2`.",
+            "⚠️ Which dice? E.g. `reroll 0 2`."),
+
+    NOT_SAVED("⚠️ Dieser Zug konnte nicht gespeichert werden – startet der Bot neu, ist er verloren.",
+            "⚠️ This move couldn't be saved – if the bot restarts, it's lost."),
+
+    INVALID_INPUT("⚠️ Ungültige Eingabe. Nutze z. B. `2 3`, `lie` oder `reroll 0 2`.",
+            "⚠️ Invalid input. Use e.g. `2 3`, `lie` or `reroll 0 2`.");
+
+    //endregion
+
+    private final String de;
+    private final String en;
+
+    Msg(String de, String en) {
+        this.de = de;
+        this.en = en;
+    }
+
+    String source(Language language) {
+        return switch (language) {
+            case DE -> de;
+            case EN -> en;
+        };
+    }
+}
@@ -0,0 +1,149 @@
+package text;
+
+import game.Player;
+
+public final class Reply implements AutoCloseable {
+
+    // 📝 One answer being built: set the arguments, then add() the message - repeat for the next part.
+    //     reply.text(0, name).number(1, quantity).number(2, face).dice(3, player).add(Msg.PLAYER_CALLED);
+    // Arguments are only references or numbers in fixed slots; they are written straight into the builder
+    // (names escaped for the spot they're in, dice from pre-rendered fragments). Not thread-safe - one
+    // reply belongs to one update.
+
+    //region 🧱 Variables
+
+    private static final int MAX_ARGUMENTS = 4;
+
+    private static final byte NONE = 0, TEXT = 1, NUMBER = 2, DICE = 3;
+
+    // 📝 Every face once, rendered up front: the face as a die and as a digit (for reroll you need the position anyway).
+    private static final String[] DIE_FRAGMENTS = {"?", "⚀1", "⚁2", "⚂3", "⚃4", "⚄5", "⚅6"};
+
+    private final Messages messages;
+    private final StringBuilder out = new StringBuilder(Messages.INITIAL_CAPACITY);
+    private Language language;
+    private boolean open;
+
+    private final byte[] kinds = new byte[MAX_ARGUMENTS];
+    private final CharSequence[] texts = new CharSequence[MAX_ARGUMENTS];
+    private final long[] numbers = new long[MAX_ARGUMENTS];
+    private final Player[] dice = new Player[MAX_ARGUMENTS];
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    Reply(Messages messages) {
+        this.messages = messages;
+    }
+
+    void begin(Language language) {
+        this.language = language;
+        this.open = true;
+        out.setLength(0);
+    }
+
+    //endregion
+
+    //region 📝 Arguments
+
+    public Reply text(int slot, CharSequence value) {
+        kinds[slot] = TEXT;
+        texts[slot] = value;
+        return this;
+    }
+
+    public Reply number(int slot, long value) {
+        kinds[slot] = NUMBER;
+        numbers[slot] = value;
+        return this;
+    }
+
+    // -- The player's dice, e.g. "⚂3 ⚂3 ⚃4 ⚄5 ⚄5"
+    public Reply dice(int slot, Player player) {
+        kinds[slot] = DICE;
+        dice[slot] = player;
+        return this;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    public Reply add(Msg msg) {
+        Template template = messages.template(language, msg);
+        out.append(template.literals[0]);
+        for (int i = 0; i < template.slots.length; i++) {
+            appendArgument(template.slots[i], template.contexts[i], msg);
+            out.append(template.literals[i + 1]);
+        }
+        clearArguments();
+        return this;
+    }
+
+    // -- Empty line between two parts of a reply
+    public Reply gap() {
+        out.append("\n\n");
+        return this;
+    }
+
+    public Language language() {
+        return language;
+    }
+
+    public int length() {
+        return out.length();
+    }
+
+    // 📝 The finished text. The reply goes back to the pool and must not be used afterwards
+    // (closing it again, e.g. from try-with-resources, does nothing).
+    public String finish() {
+        String text = out.toString();
+        close();
+        return text;
+    }
+
+    @Override
+    public void close() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        clearArguments();
+        out.setLength(0);
+        messages.release(this);
+    }
+
+    int capacity() {
+        return out.capacity();
+    }
+
+    private void appendArgument(int slot, char context, Msg msg) {
+        switch (kinds[slot]) {
+            case TEXT -> Template.appendEscaped(out, texts[slot], context);
+            case NUMBER -> out.append(numbers[slot]);
+            case DICE -> appendDice(dice[slot]);
+            default -> throw new IllegalStateException(msg + ": argument " + slot + " was not set");
+        }
+    }
+
+    private void appendDice(Player player) {
+        int count = player.getDiceCount();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                out.append(' ');
+            }
+            out.append(DIE_FRAGMENTS[player.getDie(i)]);
+        }
+    }
+
+    private void clearArguments() {
+        for (int i = 0; i < MAX_ARGUMENTS; i++) {
+            kinds[i] = NONE;
+            texts[i] = null;
+            dice[i] = null;
+        }
+    }
+
+    //endregion
+}
@@ -0,0 +1,116 @@
+package text;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class Template {
+
+    // 📝 One compiled message: the fixed text pieces and, between them, the placeholders.
+    // Compiling walks the Markdown once and remembers for every placeholder whether it sits inside
+    // *bold*, _italic_ or `code` - so filling in a player name later only needs the escaping for that
+    // one spot, without looking at the template again. A template with unclosed Markdown fails here,
+    // at startup, instead of in front of a player (Telegram rejects such messages).
+
+    //region 🧱 Variables
+
+    static final char NO_ENTITY = 0;
+
+    final String[] literals;    // <-- literals.length == slots.length + 1
+    final int[] slots;          // <-- which argument goes into the gap after literals[i]
+    final char[] contexts;      // <-- '*', '_', '`' oder NO_ENTITY
+    final int argumentCount;
+    final int literalLength;
+
+    //endregion
+
+    //region 🛠️ Constructor
+
+    private Template(String[] literals, int[] slots, char[] contexts) {
+        this.literals = literals;
+        this.slots = slots;
+        this.contexts = contexts;
+        int count = 0;
+        for (int slot : slots) {
+            count = Math.max(count, slot + 1);
+        }
+        this.argumentCount = count;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    //endregion
+
+    //region ⚙️ Methods
+
+    static Template compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder contexts = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        char entity = NO_ENTITY;
+
+        for (int i = 0; i < source.length(); i++) {
+            char c = source.charAt(i);
+            if (c == '{') {
+                int close = source.indexOf('}', i);
+                if (close < 0) {
+                    throw new IllegalStateException(name + ": unclosed placeholder at " + i);
+                }
+                int slot;
+                try {
+                    slot = Integer.parseInt(source, i + 1, close, 10);
+                } catch (NumberFormatException e) {
+                    throw new IllegalStateException(name + ": bad placeholder " + source.substring(i, close + 1));
+                }
+                literals.add(literal.toString());
+                literal.setLength(0);
+                slots.add(slot);
+                contexts.append(entity);
+                i = close;
+                continue;
+            }
+            if (c == '*' || c == '_' || c == '`') {
+                if (entity == NO_ENTITY) {
+                    entity = c;
+                } else if (entity == c) {
+                    entity = NO_ENTITY;
+                } // <-- andere Zeichen sind innerhalb einer Formatierung normaler Text
+            }
+            literal.append(c);
+        }
+        if (entity != NO_ENTITY) {
+            throw new IllegalStateException(name + ": unclosed Markdown '" + entity + "'");
+        }
+        literals.add(literal.toString());
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+        return new Template(literals.toArray(new String[0]), slotArray, contexts.toString().toCharArray());
+    }
+
+    // 📝 Appends text so Telegram shows it as typed, wherever the placeholder sits:
+    // outside of formatting _ * ` [ get a backslash, inside a formatting only its own closing
+    // character matters - that one is written as "close, escaped char, reopen".
+    static void appendEscaped(StringBuilder out, CharSequence text, char context) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (context == NO_ENTITY) {
+                if (c == '_' || c == '*' || c == '`' || c == '[') {
+                    out.append('\\');
+                }
+                out.append(c);
+            } else if (c == context) {
+                out.append(context).append('\\').append(c).append(context);
+            } else {
+                out.append(c);
+            }
+        }
+    }
+
+    //endregion
+}
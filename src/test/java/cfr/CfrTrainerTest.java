@@ -0,0 +1,123 @@
+package cfr;
+
+import game.CfrBotPlayer;
+import game.CfrPolicy;
+import game.DiceSource;
+import game.GameState;
+import game.GameStateIO;
+import game.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CfrTrainerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testArgsOverrideDefaults() {
+        CfrConfig config = CfrConfig.fromArgs(new String[]{"iterations=500", "threads=3", "seed=9", "out=x.cfr"});
+        assertEquals(500, config.iterations());
+        assertEquals(3, config.threads());
+        assertEquals(9, config.seed());
+        assertEquals(Path.of("x.cfr"), config.output());
+    }
+
+    @Test
+    public void testShortTrainingGivesAPlayablePolicy() throws IOException {
+        CfrTrainer trainer = new CfrTrainer();
+        trainer.train(new CfrConfig(20_000, 2, 42, dir.resolve("policy.cfr")));
+        assertTrue(trainer.trainedInfoSets() > 0, "Training should reach some info sets");
+
+        Path file = dir.resolve("policy.cfr");
+        CfrPolicy.write(file, trainer.getStrategySums());
+        try (CfrPolicy policy = CfrPolicy.open(file)) {
+            for (long seed = 0; seed < 50; seed++) {
+                DiceSource dice = DiceSource.seeded(seed);
+                CfrBotPlayer bot = new CfrBotPlayer("Bot", 5, dice.split(), policy);
+                GameState state = new GameState(List.of(new Player("Alice", 5, dice.split()), bot));
+                bot.rollAllDice();
+
+                String call = bot.decideNextCall(2, 3, state.getTotalDiceCount()).toString();
+                String[] parts = call.split(" ");
+                int quantity = Integer.parseInt(parts[0]);
+                int faceValue = Integer.parseInt(parts[1]);
+
+                state.setCurrentCall(2, 3);
+                assertTrue(state.isCallHigher(quantity, faceValue), "Bot's call should be higher than 2 × 3: " + call);
+                assertTrue(quantity <= state.getTotalDiceCount(), "Bot can't call more dice than on the table");
+            }
+        }
+    }
+
+    @Test
+    public void testCallsLieWhenNoCallIsLeft() throws IOException {
+        Path file = dir.resolve("empty.cfr");
+        CfrPolicy.write(file, new float[CfrPolicy.INFO_SETS * CfrPolicy.ACTIONS]);
+        try (CfrPolicy policy = CfrPolicy.open(file)) {
+            CfrBotPlayer bot = new CfrBotPlayer("Bot", 5, DiceSource.seeded(1), policy);
+            bot.rollAllDice();
+
+            // 📝 10 × 6 with ten dice - there is nothing higher, only lie is left.
+            assertTrue(bot.shouldCallLie(10, 6, 10));
+            assertFalse(bot.shouldReroll());
+        }
+    }
+
+    // 🐛 The 1-on-1 policy used to play against several opponents as if they were one
+    @Test
+    public void testPolicyOnlyPlaysOneOnOne() throws IOException {
+        float[] alwaysLie = new float[CfrPolicy.INFO_SETS * CfrPolicy.ACTIONS];
+        for (int infoSet = 0; infoSet < CfrPolicy.INFO_SETS; infoSet++) {
+            alwaysLie[infoSet * CfrPolicy.ACTIONS + CfrPolicy.LIE] = 1;
+        }
+        Path file = dir.resolve("lie.cfr");
+        CfrPolicy.write(file, alwaysLie);
+        try (CfrPolicy policy = CfrPolicy.open(file)) {
+            CfrBotPlayer bot = new CfrBotPlayer("Bot", 5, DiceSource.seeded(1), policy);
+            bot.rollAllDice();
+
+            assertTrue(bot.shouldCallLie(1, 3, 10), "1-on-1 the policy decides");
+
+            // 📝 Two opponents with five dice together - the heuristic never calls lie on 1 × 3.
+            bot.setPlayerCount(3);
+            assertFalse(bot.shouldCallLie(1, 3, 10));
+        }
+    }
+
+    // 🐛 Restored bots used a process-wide policy - closing another bot's policy left them reading an unmapped file
+    @Test
+    public void testRestoredBotsPlayWithTheirOwnersPolicy() throws IOException {
+        float[] alwaysLie = new float[CfrPolicy.INFO_SETS * CfrPolicy.ACTIONS];
+        for (int infoSet = 0; infoSet < CfrPolicy.INFO_SETS; infoSet++) {
+            alwaysLie[infoSet * CfrPolicy.ACTIONS + CfrPolicy.LIE] = 1;
+        }
+        Path file = dir.resolve("lie.cfr");
+        CfrPolicy.write(file, alwaysLie);
+
+        DiceSource dice = DiceSource.seeded(1);
+        GameState state = new GameState(List.of(new Player("Alice", 5, dice.split()), new CfrBotPlayer("Bot", 5, dice.split(), null)));
+        state.getSeat(1).rollAllDice();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameStateIO.write(state, new DataOutputStream(bytes));
+
+        try (CfrPolicy policy = CfrPolicy.open(file)) {
+            GameState restored = GameStateIO.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), policy);
+            CfrBotPlayer bot = (CfrBotPlayer) restored.getSeat(1);
+
+            // 📝 A second bot in the same JVM opens and closes its own policy.
+            CfrPolicy.open(file).close();
+            assertTrue(bot.shouldCallLie(1, 3, 10), "The restored bot plays with the policy it was read with");
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package cluster;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
+import telegram.MyGameBot;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClusterTest {
+
+    private static final int CHATS = 40;
+
+    @TempDir
+    Path dir;
+
+    private final Map<String, BlockingQueue<String>> replies = new ConcurrentHashMap<>();
+    private Cluster cluster;
+
+    @AfterEach
+    public void tearDown() {
+        if (cluster != null) {
+            cluster.close();
+        }
+    }
+
+    @Test
+    public void testEveryGameLivesOnItsOwner() throws InterruptedException {
+        cluster = newCluster("a", "b", "c");
+        startGames();
+
+        for (long chatId = 1; chatId <= CHATS; chatId++) {
+            String owner = cluster.getRing().ownerOf(chatId);
+            for (ClusterNode node : cluster.getNodes()) {
+                assertEquals(node.getId().equals(owner), node.getBot().getSessions().get(chatId) != null,
+                        "Chat " + chatId + " on node " + node.getId() + ", owner " + owner);
+            }
+        }
+        long forwarded = cluster.getNodes().stream().mapToLong(ClusterNode::getForwarded).sum();
+        assertTrue(forwarded > 0, "Round-robin should have sent some updates to the wrong node first");
+    }
+
+    @Test
+    public void testGamesMoveWhenNodesJoinAndLeave() throws InterruptedException {
+        cluster = newCluster("a", "b");
+        startGames();
+
+        ClusterNode joined = cluster.addNode("c");
+        assertTrue(joined.getSessionsIn() > 0, "The new node should have taken over some games");
+        assertEquals(CHATS, totalSessions());
+
+        cluster.removeNode("a");
+        assertEquals(CHATS, totalSessions());
+        for (long chatId = 1; chatId <= CHATS; chatId++) {
+            String owner = cluster.getRing().ownerOf(chatId);
+            assertNotNull(cluster.getNode(owner).getBot().getSessions().get(chatId), "Chat " + chatId + " lost its game");
+        }
+
+        // 📝 Every game is still there for its player, wherever it went.
+        for (long chatId = 1; chatId <= CHATS; chatId++) {
+            cluster.onUpdateReceived(update(chatId, "/endgame"));
+            assertTrue(nextReply(chatId).contains("Game ended"), "Chat " + chatId + " has no game anymore");
+        }
+        assertEquals(0, totalSessions());
+    }
+
+    // 🐛 An update that reached a node's bot after its chat moved away used to start an orphan game there
+    @Test
+    public void testUpdateForAMovedChatGoesToTheOwner() throws InterruptedException {
+        cluster = newCluster("a", "b");
+        long chatId = 1;
+        String owner = cluster.getRing().ownerOf(chatId);
+        ClusterNode other = cluster.getNode(owner.equals("a") ? "b" : "a");
+
+        other.getBot().onUpdateReceived(update(chatId, "/newgame")); // <-- wie aus der Dispatcher-Queue vor dem Wechsel
+        assertNotNull(nextReply(chatId), "No reply to /newgame");
+        assertNotNull(cluster.getNode(owner).getBot().getSessions().get(chatId), "The owner should have the game");
+        assertNull(other.getBot().getSessions().get(chatId), "No orphan game on the old node");
+        assertEquals(1, other.getForwarded());
+    }
+
+    @Test
+    public void testHandedOffGameDoesNotReplaceARunningOne() throws InterruptedException {
+        cluster = newCluster("a");
+        startGames();
+        ClusterNode node = cluster.getNode("a");
+        byte[] running = node.getBot().getSessions().handOff(1L);
+        cluster.onUpdateReceived(update(1L, "/newgame"));
+        assertNotNull(nextReply(1L));
+        Object current = node.getBot().getSessions().get(1L);
+
+        assertNull(node.getBot().getSessions().takeOver(1L, running), "The chat already has a game");
+        assertSame(current, node.getBot().getSessions().get(1L), "The running game must stay");
+    }
+
+    private Cluster newCluster(String... nodeIds) {
+        Cluster created = new Cluster(nodeId -> new MyGameBot(settings(dir.resolve(nodeId))::get,
+                (chatId, text) -> replies.computeIfAbsent(chatId, id -> new LinkedBlockingQueue<>()).add(text)));
+        for (String nodeId : nodeIds) {
+            created.addNode(nodeId);
+        }
+        return created;
+    }
+
+    private void startGames() throws InterruptedException {
+        for (long chatId = 1; chatId <= CHATS; chatId++) {
+            cluster.onUpdateReceived(update(chatId, "/newgame"));
+        }
+        for (long chatId = 1; chatId <= CHATS; chatId++) {
+            assertNotNull(nextReply(chatId), "No reply to /newgame in chat " + chatId);
+        }
+    }
+
+    private int totalSessions() {
+        return cluster.getNodes().stream().mapToInt(node -> node.getBot().getSessions().size()).sum();
+    }
+
+    private String nextReply(long chatId) throws InterruptedException {
+        return replies.computeIfAbsent(String.valueOf(chatId), id -> new LinkedBlockingQueue<>()).poll(5, TimeUnit.SECONDS);
+    }
+
+    private static Map<String, String> settings(Path spillDirectory) {
+        Map<String, String> settings = new HashMap<>();
+        settings.put("BOT_TOKEN", "cluster-test");
+        settings.put("BOT_USERNAME", "ClusterTestBot");
+        settings.put("DEFAULT_LANGUAGE", "en");
+        settings.put("LOG_LEVEL", "WARN");
+        settings.put("JOURNAL_DIR", "off");
+        settings.put("SESSION_SPILL_DIR", spillDirectory.toString());
+        settings.put("OUTBOUND_MERGE_MS", "0");
+        return settings;
+    }
+
+    private static Update update(long chatId, String text) {
+        User user = new User();
+        user.setId(chatId);
+        user.setFirstName("Player " + chatId);
+        user.setIsBot(false);
+
+        Chat chat = new Chat();
+        chat.setId(chatId);
+        chat.setType("private");
+
+        Message message = new Message();
+        message.setChat(chat);
+        message.setFrom(user);
+        message.setText(text);
+
+        Update update = new Update();
+        update.setMessage(message);
+        return update;
+    }
+}
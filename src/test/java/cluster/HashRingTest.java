@@ -0,0 +1,67 @@
+package cluster;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashRingTest {
+
+    private static final int CHATS = 100_000;
+
+    @Test
+    public void testChatsAreSpreadEvenly() {
+        HashRing ring = HashRing.of(List.of("a", "b", "c", "d"));
+        Map<String, Integer> owned = new HashMap<>();
+        for (long chatId = 1; chatId <= CHATS; chatId++) {
+            owned.merge(ring.ownerOf(chatId), 1, Integer::sum);
+        }
+        for (String node : ring.nodes()) {
+            int share = owned.getOrDefault(node, 0);
+            assertTrue(share > CHATS / 4 * 0.8 && share < CHATS / 4 * 1.2, node + " owns " + share + " chats");
+        }
+    }
+
+    @Test
+    public void testJoiningNodeOnlyTakesChats() {
+        HashRing before = HashRing.of(List.of("a", "b", "c", "d"));
+        HashRing after = before.with("e");
+        int moved = 0;
+        for (long chatId = 1; chatId <= CHATS; chatId++) {
+            String was = before.ownerOf(chatId);
+            String is = after.ownerOf(chatId);
+            if (!was.equals(is)) {
+                assertEquals("e", is, "Chat " + chatId + " moved between two old nodes");
+                moved++;
+            }
+        }
+        // 📝 About a fifth of all chats should move to the fifth node - and nothing else.
+        assertTrue(moved > CHATS / 5 * 0.7 && moved < CHATS / 5 * 1.3, moved + " chats moved");
+    }
+
+    @Test
+    public void testLeavingNodeGivesAwayOnlyItsChats() {
+        HashRing before = HashRing.of(List.of("a", "b", "c"));
+        HashRing after = before.without("b");
+        for (long chatId = 1; chatId <= 10_000; chatId++) {
+            String was = before.ownerOf(chatId);
+            if (!was.equals("b")) {
+                assertEquals(was, after.ownerOf(chatId), "Chat " + chatId + " should have stayed");
+            }
+        }
+        assertFalse(after.contains("b"));
+    }
+
+    @Test
+    public void testSameMembersBuildTheSameRing() {
+        HashRing one = HashRing.of(List.of("a", "b", "c"));
+        HashRing other = HashRing.of(List.of("c", "a")).with("b");
+        for (long chatId = -500; chatId <= 500; chatId++) {
+            assertEquals(one.ownerOf(chatId), other.ownerOf(chatId));
+        }
+        assertNull(HashRing.of(List.of()).ownerOf(1));
+    }
+}
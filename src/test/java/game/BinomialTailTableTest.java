@@ -0,0 +1,70 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinomialTailTableTest {
+
+    // 📝 Straightforward sum of binomial terms, only usable for small n.
+    private double bruteForce(int n, int k, double p) {
+        double sum = 0.0;
+        for (int i = k; i <= n; i++) {
+            double combinations = 1.0;
+            for (int j = 0; j < i; j++) {
+                combinations = combinations * (n - j) / (j + 1);
+            }
+            sum += combinations * Math.pow(p, i) * Math.pow(1 - p, n - i);
+        }
+        return sum;
+    }
+
+    @Test
+    public void testMatchesBruteForceForSmallTables() {
+        BinomialTailTable table = BinomialTailTable.oneInSix();
+
+        for (int n = 0; n <= 30; n++) {
+            for (int k = 0; k <= n; k++) {
+                assertEquals(bruteForce(n, k, 1.0 / 6.0), table.atLeast(n, k), 1e-12,
+                        "P(X >= " + k + ") with " + n + " dice");
+            }
+        }
+    }
+
+    @Test
+    public void testEdgeCases() {
+        BinomialTailTable table = BinomialTailTable.oneInThree();
+
+        assertEquals(1.0, table.atLeast(10, 0), 0.0, "At least 0 is always true");
+        assertEquals(1.0, table.atLeast(10, -3), 0.0, "Negative k is always true");
+        assertEquals(0.0, table.atLeast(10, 11), 0.0, "More than n is impossible");
+        assertEquals(Math.pow(1.0 / 3.0, 10), table.atLeast(10, 10), 1e-15, "All dice show the face");
+    }
+
+    @Test
+    public void testLargeTablesStayValid() {
+        BinomialTailTable table = BinomialTailTable.oneInSix();
+
+        double previous = 1.0;
+        for (int k = 0; k <= 900; k++) {
+            double probability = table.atLeast(900, k);
+            assertFalse(Double.isNaN(probability), "Probability should be a number");
+            assertTrue(probability <= previous + 1e-12, "Tail should never grow with k");
+            previous = probability;
+        }
+        assertEquals(0.5, table.atLeast(900, 150), 0.05, "Around the mean it should be close to a coin flip");
+    }
+
+    @Test
+    public void testFallbackBeyondMaxDiceMatchesTable() {
+        BinomialTailTable small = new BinomialTailTable(1.0 / 6.0, 20);
+        BinomialTailTable large = new BinomialTailTable(1.0 / 6.0, 300);
+
+        for (int n : new int[]{21, 60, 300}) {
+            for (int k = 0; k <= n; k++) {
+                assertEquals(large.atLeast(n, k), small.atLeast(n, k), 1e-9,
+                        "Fallback for P(X >= " + k + ") with " + n + " dice");
+            }
+        }
+    }
+}
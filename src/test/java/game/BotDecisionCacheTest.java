@@ -0,0 +1,73 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BotDecisionCacheTest {
+
+    @Test
+    public void testStoresAndFindsDecisions() {
+        BotDecisionCache<Long> cache = new BotDecisionCache<>(100);
+
+        assertNull(cache.get(42));
+        cache.put(42, 7L);
+        cache.put(43, 0L);
+        assertEquals(Long.valueOf(7), cache.get(42));
+        assertEquals(Long.valueOf(0), cache.get(43));
+
+        cache.put(42, 9L);
+        assertEquals(Long.valueOf(9), cache.get(42), "Putting again overwrites");
+
+        assertEquals(3, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(0.75, cache.getHitRate(), 1e-9);
+    }
+
+    // 🐛 A stored value the caller couldn't use on its own used to count as a hit
+    @Test
+    public void testIncompleteValuesArePartialHits() {
+        BotDecisionCache<Long> cache = new BotDecisionCache<>(100);
+        cache.put(42, 500L);
+
+        assertEquals(Long.valueOf(500), cache.get(42, rollouts -> rollouts >= 1_000));
+        assertEquals(Long.valueOf(500), cache.get(42, rollouts -> rollouts >= 100));
+
+        assertEquals(1, cache.getPartialHits());
+        assertEquals(1, cache.getHits());
+        assertEquals(0.5, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void testCapacityIsRoundedUpToWholeBuckets() {
+        assertEquals(8, new BotDecisionCache<Long>(1).capacity());
+        assertEquals(128, new BotDecisionCache<Long>(100).capacity());
+        assertEquals(65536, new BotDecisionCache<Long>(65536).capacity());
+    }
+
+    // 📝 One bucket, eight slots: the clock hand skips what was used and evicts the rest first.
+    @Test
+    public void testClockKeepsRecentlyUsedDecisions() {
+        BotDecisionCache<Long> cache = new BotDecisionCache<>(8);
+        for (long key = 1; key <= 8; key++) {
+            cache.put(key, key);
+        }
+        cache.get(1);
+        cache.get(2);
+
+        cache.put(100, 100L);
+
+        assertEquals(1, cache.getEvictions());
+        assertEquals(Long.valueOf(1), cache.get(1));
+        assertEquals(Long.valueOf(2), cache.get(2));
+        assertNull(cache.get(3), "The first unused slot made room");
+        assertEquals(Long.valueOf(100), cache.get(100));
+    }
+
+    @Test
+    public void testRejectsReservedValues() {
+        BotDecisionCache<Long> cache = new BotDecisionCache<>(8);
+        assertThrows(IllegalArgumentException.class, () -> cache.put(0, 1L));
+        assertThrows(IllegalArgumentException.class, () -> cache.put(1, null));
+    }
+}
@@ -0,0 +1,95 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CfrPolicyTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testEverySituationHasItsOwnInfoSet() {
+        boolean[] seen = new boolean[CfrPolicy.INFO_SETS];
+        int[] counts = new int[7];
+        int covered = 0;
+        for (int code = 0; code < 6 * 6 * 6 * 6 * 6 * 6; code++) {
+            int dice = 0;
+            for (int f = 6, rest = code; f >= 1; f--, rest /= 6) {
+                counts[f] = rest % 6;
+                dice += counts[f];
+            }
+            if (dice < CfrPolicy.MIN_DICE || dice > CfrPolicy.MAX_DICE) {
+                continue;
+            }
+            for (int theirDice = CfrPolicy.MIN_DICE; theirDice <= CfrPolicy.MAX_DICE; theirDice++) {
+                for (int bid = 0; bid <= CfrPolicy.MAX_QUANTITY * 6; bid++) {
+                    int quantity = bid == 0 ? 0 : (bid - 1) / 6 + 1;
+                    int face = bid == 0 ? 0 : (bid - 1) % 6 + 1;
+                    for (int reroll = CfrPolicy.CAN_REROLL; reroll <= CfrPolicy.JUST_REROLLED; reroll++) {
+                        int infoSet = CfrPolicy.infoSet(counts, theirDice, quantity, face, reroll);
+                        assertTrue(infoSet >= 0 && infoSet < CfrPolicy.INFO_SETS, "Info set out of range: " + infoSet);
+                        assertFalse(seen[infoSet], "Two situations share info set " + infoSet);
+                        seen[infoSet] = true;
+                        covered++;
+                    }
+                }
+            }
+        }
+        assertEquals(CfrPolicy.INFO_SETS, covered);
+    }
+
+    @Test
+    public void testBiggerTablesAreOutsideThePolicy() {
+        int[] six = {0, 1, 1, 1, 1, 1, 1};
+        int[] two = {0, 0, 2, 0, 0, 0, 0};
+        assertEquals(-1, CfrPolicy.infoSet(six, 3, 1, 1, CfrPolicy.CAN_REROLL), "Six own dice");
+        assertEquals(-1, CfrPolicy.infoSet(two, 6, 1, 1, CfrPolicy.CAN_REROLL), "Six dice on the other side");
+        assertEquals(-1, CfrPolicy.infoSet(two, 5, 11, 1, CfrPolicy.CAN_REROLL), "Call above MAX_QUANTITY");
+    }
+
+    @Test
+    public void testActionsFollowTheRules() {
+        // 📝 On 3 × 4: a raise on a higher face keeps the quantity, on the same or a lower face it goes up.
+        assertEquals(3, CfrPolicy.quantityOf(CfrPolicy.RAISE + 4, 3, 4)); // <-- 3 × 5
+        assertEquals(4, CfrPolicy.quantityOf(CfrPolicy.RAISE + 3, 3, 4)); // <-- 4 × 4
+        assertEquals(2, CfrPolicy.faceOf(CfrPolicy.RAISE + 1));
+        assertEquals(1, CfrPolicy.quantityOf(CfrPolicy.RAISE, 0, 0), "Opening call");
+
+        assertFalse(CfrPolicy.isLegal(CfrPolicy.LIE, 0, 0, 10, CfrPolicy.CAN_REROLL), "No lie without a call");
+        assertFalse(CfrPolicy.isLegal(CfrPolicy.LIE, 3, 4, 10, CfrPolicy.JUST_REROLLED), "After a reroll a call has to follow");
+        assertFalse(CfrPolicy.isLegal(CfrPolicy.REROLL, 3, 4, 10, CfrPolicy.REROLL_USED), "Only one reroll");
+        assertTrue(CfrPolicy.isLegal(CfrPolicy.REROLL, 3, 4, 10, CfrPolicy.CAN_REROLL));
+        assertFalse(CfrPolicy.isLegal(CfrPolicy.RAISE, 10, 6, 10, CfrPolicy.CAN_REROLL), "No call above the dice in the game");
+        assertFalse(CfrPolicy.canRaise(10, 6, 10));
+    }
+
+    @Test
+    public void testWrittenPolicyIsMappedBack() throws IOException {
+        float[] sums = new float[CfrPolicy.INFO_SETS * CfrPolicy.ACTIONS];
+        sums[7 * CfrPolicy.ACTIONS + CfrPolicy.LIE] = 4f;
+        sums[7 * CfrPolicy.ACTIONS + CfrPolicy.RAISE] = 1f;
+        Path file = dir.resolve("test.cfr");
+        CfrPolicy.write(file, sums);
+
+        try (CfrPolicy policy = CfrPolicy.open(file)) {
+            assertEquals(255, policy.weight(7, CfrPolicy.LIE));
+            assertEquals(64, policy.weight(7, CfrPolicy.RAISE));
+            assertEquals(0, policy.weight(7, CfrPolicy.REROLL));
+            assertEquals(0, policy.weight(8, CfrPolicy.LIE), "Untrained info sets stay 0");
+        }
+    }
+
+    @Test
+    public void testRejectsFileOfAnotherLayout() throws IOException {
+        Path file = dir.resolve("broken.cfr");
+        Files.write(file, new byte[100]);
+        assertThrows(IOException.class, () -> CfrPolicy.open(file));
+    }
+}
@@ -0,0 +1,126 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandParserTest {
+
+    private final Command command = new Command();
+
+    private Command parse(String input) {
+        CommandParser.parse(input, command);
+        return command;
+    }
+
+    // 🐛 All the ways people type a call
+    @Test
+    public void testCallVariants() {
+        for (String input : new String[]{"3 4", "3x4", "3 x 4", "3X4", "3×4", "3*4", "  3   4  ", "3 4"}) {
+            Command c = parse(input);
+            assertEquals(Command.Type.CALL, c.type(), input);
+            assertEquals(3, c.quantity(), input);
+            assertEquals(4, c.face(), input);
+        }
+        assertEquals(12, parse("12 6").quantity());
+    }
+
+    @Test
+    public void testCallErrors() {
+        assertEquals(Command.ParseError.FACE_OUT_OF_RANGE, parse("3 7").error());
+        assertEquals(Command.ParseError.FACE_OUT_OF_RANGE, parse("3 0").error());
+        assertEquals(Command.ParseError.QUANTITY_OUT_OF_RANGE, parse("0 4").error());
+        assertEquals(Command.ParseError.QUANTITY_OUT_OF_RANGE, parse("99999999999 4").error());
+        assertEquals(Command.ParseError.NOT_A_CALL, parse("3").error());
+        assertEquals(Command.ParseError.NOT_A_CALL, parse("3 4 5").error());
+        assertEquals(Command.ParseError.NOT_A_CALL, parse("3 y 4").error());
+        assertEquals(Command.ParseError.NOT_A_CALL, parse("hallo").error());
+        assertEquals(Command.ParseError.EMPTY, parse("   ").error());
+        assertFalse(parse("3 7").isValid());
+    }
+
+    @Test
+    public void testLieVariants() {
+        for (String input : new String[]{"lie", "LIE", "Lie!", "Lüge", "LÜGE", "luege", "liar", " lie "}) {
+            assertEquals(Command.Type.LIE, parse(input).type(), input);
+        }
+        assertFalse(parse("lie 3").isValid());
+        assertFalse(parse("lies").isValid());
+    }
+
+    @Test
+    public void testReroll() {
+        assertEquals(0b101, parse("reroll 0 2").rerollMask());
+        assertEquals(0b101, parse("Reroll 0,2").rerollMask());
+        assertEquals(0b11, parse("reroll 1 0 1").rerollMask());
+        assertEquals(Command.Type.REROLL, parse("reroll  4").type());
+
+        assertEquals(Command.ParseError.NO_DICE_TO_REROLL, parse("reroll").error());
+        assertEquals(Command.ParseError.DIE_INDEX_OUT_OF_RANGE, parse("reroll 64").error());
+        assertEquals(Command.ParseError.NOT_A_CALL, parse("reroll a").error());
+    }
+
+    @Test
+    public void testSlashCommands() {
+        assertEquals(Command.Type.START, parse("/start").type());
+        assertEquals(Command.Type.HELP, parse("/HELP").type());
+        assertEquals(Command.Type.RULES, parse("/rules").type());
+        assertEquals(Command.Type.NEW_GAME, parse("/newgame@LiarsDiceBot").type());
+        assertEquals(Command.Type.END_GAME, parse("/endgame now").type());
+        assertEquals(Command.Type.JOIN, parse("/join@LiarsDiceBot").type());
+        assertEquals(Command.Type.LEAVE, parse("/leave").type());
+        assertEquals(Command.Type.ADD_BOT, parse("/addbot").type());
+        assertEquals(Command.Type.START_GAME, parse("/startgame").type());
+        assertEquals(Command.Type.START, parse("/start game").type()); // <-- "startgame" nur als ein Wort
+
+        assertEquals(Command.ParseError.UNKNOWN_COMMAND, parse("/foo").error());
+        assertEquals(Command.ParseError.UNKNOWN_COMMAND, parse("/newgames").error());
+        assertEquals(Command.ParseError.UNKNOWN_COMMAND, parse("/").error());
+    }
+
+    // 🐛 Reusing the command: nothing of the last parse may stick around
+    @Test
+    public void testReuseResetsCommand() {
+        parse("reroll 0 2");
+        Command c = parse("3 4");
+        assertEquals(0, c.rerollMask());
+        assertEquals(Command.ParseError.NONE, c.error());
+
+        c = parse("3 9");
+        assertEquals(Command.Type.INVALID, c.type());
+    }
+
+    @Test
+    public void testLanguageArgument() {
+        String input = "/lang@LiarsDiceBot   en  ";
+        Command c = parse(input);
+        assertEquals(Command.Type.LANGUAGE, c.type());
+        assertEquals("en", input.substring(c.argumentStart(), c.argumentEnd()));
+
+        c = parse("/language");
+        assertEquals(Command.Type.LANGUAGE, c.type());
+        assertEquals(c.argumentStart(), c.argumentEnd()); // <-- kein Argument
+    }
+
+    @Test
+    public void testParsingDoesNotAllocate() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        String[] inputs = {"3 4", "12x6", "lie", "Lüge", "reroll 0 2 4", "/newgame", "kaputt", "3 9"};
+        for (int i = 0; i < 50_000; i++) { // <-- warm up
+            CommandParser.parse(inputs[i % inputs.length], command);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 50_000; i++) {
+            CommandParser.parse(inputs[i % inputs.length], command);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < 1024, "Parsing allocated " + allocated + " bytes");
+    }
+}
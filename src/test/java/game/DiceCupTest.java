@@ -34,4 +34,49 @@ public class DiceCupTest {
 
         assertEquals(5, after.size(), "Should still have 5 dice");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testRollSelectedMask() {
+        DiceCup cup = new DiceCup(5, DiceSource.seeded(7));
+        cup.rollAll();
+        List<Integer> before = List.copyOf(cup.getCurrentDice());
+
+        cup.rollSelected(0b1010L | 1L << 40); // <-- Würfel 1 und 3, Bit 40 gibt es nicht
+        List<Integer> after = cup.getCurrentDice();
+
+        assertEquals(5, after.size(), "Should still have 5 dice");
+        assertEquals(before.get(0), after.get(0));
+        assertEquals(before.get(2), after.get(2));
+        assertEquals(before.get(4), after.get(4));
+    }
+
+    @Test
+    public void testFaceCountsFollowRollsAndRemovals() {
+        DiceCup cup = new DiceCup(5);
+        cup.rollAll();
+        cup.rollSelected(List.of(1, 3));
+        cup.removeDice(2);
+
+        List<Integer> values = cup.getCurrentDice();
+        assertEquals(3, values.size(), "Should have 3 dice left");
+
+        for (int face = 1; face <= 6; face++) {
+            int expected = 0;
+            for (Integer die : values) {
+                if (die == face) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, cup.countOf(face), "Histogram should match the dice for face " + face);
+        }
+    }
+
+    @Test
+    public void testCurrentDiceIsReadOnly() {
+        DiceCup cup = new DiceCup(5);
+        cup.rollAll();
+
+        assertThrows(UnsupportedOperationException.class, () -> cup.getCurrentDice().set(0, 6),
+                "Dice view should not allow changing dice");
+    }
+}
@@ -0,0 +1,102 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DiceSourceTest {
+
+    @Test
+    public void testFacesAreUniform() {
+        DiceSource source = DiceSource.seeded(1);
+        int rolls = 600_000;
+        byte[] dice = new byte[rolls];
+        source.roll(dice, 0, rolls);
+
+        long[] counts = new long[7];
+        for (byte die : dice) {
+            assertTrue(die >= 1 && die <= 6, "Die out of range: " + die);
+            counts[die]++;
+        }
+
+        // 📝 Chi-square with 5 degrees of freedom - 20.5 is the 0.1 % quantile, a fair die stays well below.
+        double expected = rolls / 6.0;
+        double chiSquare = 0;
+        for (int face = 1; face <= 6; face++) {
+            chiSquare += Math.pow(counts[face] - expected, 2) / expected;
+        }
+        assertTrue(chiSquare < 20.5, "Faces should be uniform, chi-square was " + chiSquare);
+    }
+
+    @Test
+    public void testSameSeedSameDice() {
+        DiceCup first = new DiceCup(30, DiceSource.seeded(42));
+        DiceCup second = new DiceCup(30, DiceSource.seeded(42));
+        first.rollAll();
+        second.rollAll();
+        assertEquals(first.getCurrentDice(), second.getCurrentDice());
+
+        DiceSource parent = DiceSource.seeded(42);
+        DiceSource a = parent.split();
+        DiceSource b = parent.split();
+        assertNotEquals(a.nextFaces(), b.nextFaces(), "Split sources should roll independently");
+    }
+
+    // 🐛 Splitting a source with a generator that can't split (java.util.Random) used to throw
+    @Test
+    public void testSplitWorksForEveryGenerator() {
+        DiceSource parent = DiceSource.of(new Random(7));
+        DiceSource a = parent.split();
+        DiceSource b = parent.split();
+        assertNotEquals(a.nextFaces(), b.nextFaces(), "Split sources should roll independently");
+        assertEquals(DiceSource.of(new Random(7)).split().nextFaces(), DiceSource.of(new Random(7)).split().nextFaces(),
+                "Same seed, same split");
+    }
+
+    @Test
+    public void testPackedFacesStayInRange() {
+        DiceSource source = DiceSource.of(new SplittableRandom(7));
+        for (int i = 0; i < 10_000; i++) {
+            long faces = source.nextFaces();
+            assertTrue(faces >= 0 && faces < 4_738_381_338_321_616_896L, "Packed faces must be below 6^24");
+        }
+    }
+
+    @Test
+    public void testSharedSourceFromManyThreads() throws Exception {
+        DiceSource shared = DiceSource.shared();
+        List<Future<long[]>> results = new ArrayList<>();
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                results.add(pool.submit(() -> {
+                    long[] counts = new long[7];
+                    byte[] dice = new byte[24];
+                    for (int i = 0; i < 10_000; i++) {
+                        shared.roll(dice, 0, dice.length);
+                        for (byte die : dice) {
+                            counts[die]++;
+                        }
+                        counts[shared.roll()]++;
+                    }
+                    return counts;
+                }));
+            }
+            for (Future<long[]> result : results) {
+                long[] counts = result.get();
+                assertEquals(0, counts[0], "No die may come out as 0");
+                for (int face = 1; face <= 6; face++) {
+                    assertTrue(counts[face] > 0, "Every face should show up");
+                }
+            }
+        }
+    }
+}
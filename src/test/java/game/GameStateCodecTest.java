@@ -0,0 +1,128 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameStateCodecTest {
+
+    private static GameState rolledGame(int players, int dice, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Player> seats = new ArrayList<>();
+        for (int i = 0; i < players - 1; i++) {
+            seats.add(new Player("P" + i, dice, random.split()));
+        }
+        seats.add(new BotPlayer("Bot", dice, random.split(), BotTuning.DEFAULT));
+        GameState state = new GameState(seats);
+        for (Player p : seats) {
+            p.rollAllDice();
+        }
+        return state;
+    }
+
+    private static void assertSameGame(GameState expected, GameState actual) {
+        assertEquals(expected.getPlayers().size(), actual.getPlayers().size());
+        assertEquals(expected.getCurrentSeat(), actual.getCurrentSeat());
+        assertEquals(expected.getCurrentQuantityCalled(), actual.getCurrentQuantityCalled());
+        assertEquals(expected.getCurrentFaceValueCalled(), actual.getCurrentFaceValueCalled());
+        for (int p = 0; p < expected.getPlayers().size(); p++) {
+            Player e = expected.getPlayers().get(p);
+            Player a = actual.getPlayers().get(p);
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getClass(), a.getClass());
+            assertEquals(e.hasUsedReroll(), a.hasUsedReroll());
+            assertEquals(e.revealDice(), a.revealDice());
+        }
+        for (int face = 1; face <= 6; face++) {
+            assertEquals(expected.getTotalDiceForFace(face), actual.getTotalDiceForFace(face));
+        }
+    }
+
+    private static List<String> names(GameState state) {
+        return state.getPlayers().stream().map(Player::getName).toList();
+    }
+
+    @Test
+    public void testTwoPlayerGameFitsInTwoLongs() {
+        GameState state = rolledGame(2, 5, 1);
+        state.setCurrentCall(3, 4);
+        state.advanceTurn();
+        state.getPlayers().getFirst().useReroll();
+
+        long[] words = GameStateCodec.encode(state);
+
+        assertEquals(2, words.length);
+        assertSameGame(state, GameStateCodec.decode(words, names(state)));
+    }
+
+    @Test
+    public void testByteBufferAndMemorySegmentRoundTrip() {
+        GameState state = rolledGame(6, 20, 2);
+        state.setCurrentCall(17, 6);
+        state.getPlayers().get(2).loseDice(3);
+
+        ByteBuffer buffer = ByteBuffer.allocate(256);
+        buffer.putInt(42); // <-- der State muss nicht am Anfang stehen
+        int written = GameStateCodec.encode(state, buffer);
+        assertEquals(GameStateCodec.encodedLongs(state) * Long.BYTES, written);
+
+        buffer.flip();
+        assertEquals(42, buffer.getInt());
+        assertSameGame(state, GameStateCodec.decode(buffer, names(state)));
+        assertFalse(buffer.hasRemaining(), "Decoding should move the position past the state");
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(256);
+            GameStateCodec.encode(state, segment, 3);
+            assertSameGame(state, GameStateCodec.decode(segment, 3, names(state)));
+        }
+    }
+
+    // 🐛 The ByteBuffer path used the buffer's byte order, the MemorySegment path native order
+    @Test
+    public void testSameBytesOnEveryPath() {
+        GameState state = rolledGame(4, 5, 1);
+        int bytes = GameStateCodec.encodedLongs(state) * Long.BYTES;
+
+        ByteBuffer bigEndian = ByteBuffer.allocate(bytes); // <-- Standard bei ByteBuffer
+        GameStateCodec.encode(state, bigEndian);
+        ByteBuffer littleEndian = ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        GameStateCodec.encode(state, littleEndian);
+        assertArrayEquals(littleEndian.array(), bigEndian.array());
+        assertEquals(ByteOrder.BIG_ENDIAN, bigEndian.order(), "The buffer's own order stays");
+
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment segment = arena.allocate(bytes);
+            GameStateCodec.encode(state, segment, 0);
+            assertArrayEquals(bigEndian.array(), segment.toArray(ValueLayout.JAVA_BYTE));
+            assertSameGame(state, GameStateCodec.decode(MemorySegment.ofArray(bigEndian.array()), 0, names(state)));
+        }
+        assertSameGame(state, GameStateCodec.decode(littleEndian.flip().order(ByteOrder.BIG_ENDIAN), names(state)));
+    }
+
+    @Test
+    public void testHashFollowsTheState() {
+        GameState state = rolledGame(3, 5, 3);
+        GameState copy = GameStateCodec.decode(GameStateCodec.encode(state), names(state));
+
+        assertEquals(GameStateCodec.hash(state), GameStateCodec.hash(copy), "Equal tables should hash equally");
+
+        copy.setCurrentCall(1, 2);
+        assertNotEquals(GameStateCodec.hash(state), GameStateCodec.hash(copy), "A different call should change the hash");
+    }
+
+    @Test
+    public void testRejectsTooManyDice() {
+        GameState state = rolledGame(2, 200, 4);
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.encode(state));
+    }
+}
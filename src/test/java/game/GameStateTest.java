@@ -88,4 +88,115 @@ public class GameStateTest {
         bob.loseDice(2);
         assertEquals(8, state.getTotalDiceCount(), "Total dice should be 8 after Bob loses 2");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testTableIndexFollowsRollsLossesAndEliminations() {
+        Player alice = new Player("Alice", 5);
+        Player bob = new Player("Bob", 5);
+        Player carl = new Player("Carl", 5);
+
+        GameState state = new GameState(List.of(alice, bob, carl));
+
+        alice.rollAllDice();
+        bob.rollAllDice();
+        carl.rollAllDice();
+        bob.rerollSelectedDice(List.of(0, 4));
+        alice.loseDice(2);
+        carl.loseDice(4);
+        state.removeEliminatedPlayers();
+
+        assertEquals(8, state.getTotalDiceCount(), "Carl's last die should be off the table");
+        for (int face = 1; face <= 6; face++) {
+            assertEquals(alice.countOf(face) + bob.countOf(face), state.getTotalDiceForFace(face),
+                    "Table count should match the remaining cups for face " + face);
+        }
+
+        carl.rollAllDice();
+        assertEquals(8, state.getTotalDiceCount(), "Eliminated players should no longer change the table");
+    }
+
+    // 🐛 Dropping a player before the current one used to shift the list, so the turn jumped back to seat 0
+    @Test
+    public void testTurnStaysWithCurrentPlayerWhenSomeoneBeforeIsEliminated() {
+        Player alice = new Player("Alice", 5);
+        Player bob = new Player("Bob", 5);
+        Player carl = new Player("Carl", 5);
+
+        GameState state = new GameState(List.of(alice, bob, carl));
+        state.advanceTurn();
+        state.advanceTurn();
+        assertSame(carl, state.getCurrentPlayer());
+
+        alice.loseDice(4);
+        state.removeEliminatedPlayers();
+
+        assertSame(carl, state.getCurrentPlayer(), "Carl is still on turn");
+        assertSame(bob, state.getPreviousPlayer());
+        assertEquals(2, state.seatOf(carl));
+        state.advanceTurn();
+        assertSame(bob, state.getCurrentPlayer(), "Alice's seat is skipped");
+    }
+
+    @Test
+    public void testEliminatedCurrentPlayerPassesTurnOn() {
+        Player alice = new Player("Alice", 5);
+        Player bob = new Player("Bob", 5);
+        Player carl = new Player("Carl", 5);
+
+        GameState state = new GameState(List.of(alice, bob, carl));
+        state.advanceTurn();
+        bob.loseDice(4);
+        state.removeEliminatedPlayers();
+
+        assertSame(carl, state.getCurrentPlayer());
+        assertEquals(List.of(alice, carl), state.getPlayers());
+        assertFalse(state.isSeated(1));
+        assertSame(bob, state.getSeat(1), "The seat keeps its player for the journal");
+    }
+
+    @Test
+    public void testForfeitClearsTheLeaversCall() {
+        Player alice = new Player("Alice", 5);
+        Player bob = new Player("Bob", 5);
+        Player carl = new Player("Carl", 5);
+
+        GameState state = new GameState(List.of(alice, bob, carl));
+        state.setCurrentCall(3, 4);
+        state.advanceTurn(); // <-- Alice hat gecallt, Bob ist dran
+
+        state.forfeit(alice);
+
+        assertEquals(2, state.getPlayerCount());
+        assertEquals(10, state.getTotalDiceCount(), "Alice's dice are off the table");
+        assertEquals(0, state.getCurrentQuantityCalled(), "Nobody can doubt Alice's call any more");
+        assertSame(bob, state.getCurrentPlayer());
+        assertSame(carl, state.getPreviousPlayer());
+
+        state.forfeit(bob);
+        assertTrue(state.isGameOver());
+        assertSame(carl, state.getWinner());
+    }
+
+    @Test
+    public void testFiftySeatTable() {
+        List<Player> players = new java.util.ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            players.add(new Player("P" + i, 5));
+        }
+        GameState state = new GameState(players);
+
+        for (int i = 0; i < 50; i += 2) {
+            players.get(i).loseDice(4); // <-- jeder zweite fliegt raus
+        }
+        state.removeEliminatedPlayers();
+
+        assertEquals(25, state.getPlayerCount());
+        assertEquals(125, state.getTotalDiceCount());
+        assertSame(players.get(1), state.getCurrentPlayer(), "Seat 0 was out, seat 1 goes on");
+        for (int i = 1; i < 50; i += 2) {
+            assertSame(players.get(i), state.getCurrentPlayer());
+            state.advanceTurn();
+        }
+        assertSame(players.get(1), state.getCurrentPlayer(), "Once around the ring");
+    }
+}
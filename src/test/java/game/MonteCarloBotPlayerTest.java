@@ -0,0 +1,129 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MonteCarloBotPlayerTest {
+
+    private final SearchBudget budget = new SearchBudget(Duration.ofMillis(50), 2, 5_000);
+
+    @Test
+    public void testCallsLieOnImpossibleCall() {
+        MonteCarloBotPlayer bot = new MonteCarloBotPlayer("Bot", 5, new SplittableRandom(1), budget);
+        Player human = new Player("Alice", 5);
+        GameState state = new GameState(List.of(human, bot));
+        bot.rollAllDice();
+        human.rollAllDice();
+
+        // 📝 10 × 6 is only true if all ten dice show a six - the bot can see its own dice don't.
+        int sixes = bot.countOf(6);
+        assertTrue(bot.shouldCallLie(10, 6, state.getTotalDiceCount()) || sixes == 5,
+                "Bot should call lie on a call it can see is (almost) impossible");
+    }
+
+    @Test
+    public void testDecisionMakesALegalCall() {
+        MonteCarloBotPlayer bot = new MonteCarloBotPlayer("Bot", 5, new SplittableRandom(2), budget);
+        GameState state = new GameState(List.of(new Player("Alice", 5), bot));
+        bot.rollAllDice();
+
+        String call = bot.decideNextCall(2, 3, state.getTotalDiceCount()).toString();
+        String[] parts = call.split(" ");
+        int quantity = Integer.parseInt(parts[0]);
+        int faceValue = Integer.parseInt(parts[1]);
+
+        state.setCurrentCall(2, 3);
+        assertTrue(state.isCallHigher(quantity, faceValue), "Bot's call should be higher than 2 × 3: " + call);
+        assertTrue(quantity <= state.getTotalDiceCount(), "Bot can't call more dice than on the table");
+    }
+
+    @Test
+    public void testSearchStopsAtTheRolloutCap() {
+        SearchBudget capped = new SearchBudget(Duration.ofSeconds(10), 2, 2_000); // <-- Zeit spielt keine Rolle, nur die Rollouts
+        MonteCarloBotPlayer bot = new MonteCarloBotPlayer("Bot", 5, new SplittableRandom(3), capped);
+        bot.rollAllDice();
+
+        bot.shouldCallLie(2, 3, 10);
+        MonteCarloBotPlayer.SearchStats stats = bot.getLastSearch();
+        assertEquals(2_000, stats.rollouts(), "Search should do exactly its rollout budget");
+        assertTrue(stats.elapsedNanos() < capped.moveTime().toNanos(), "Search should stop at the cap, not the deadline");
+    }
+
+    @Test
+    public void testSearchStopsAtItsDeadline() {
+        SearchBudget tight = new SearchBudget(Duration.ofMillis(20), 2, Integer.MAX_VALUE);
+        MonteCarloBotPlayer bot = new MonteCarloBotPlayer("Bot", 20, new SplittableRandom(3), tight);
+        bot.rollAllDice();
+
+        bot.shouldCallLie(60, 4, 400);
+        long elapsed = bot.getLastSearch().elapsedNanos();
+        assertTrue(elapsed < Duration.ofMillis(200).toNanos(),
+                "Search should stop around its deadline, took " + elapsed / 1_000_000 + " ms");
+    }
+
+    @Test
+    public void testSameSituationIsAnsweredFromTheCache() {
+        BotDecisionCache<MonteCarloBotPlayer.SearchScores> cache = new BotDecisionCache<>(1024);
+        SearchBudget full = new SearchBudget(Duration.ofSeconds(10), 2, 5_000); // <-- Zeit spielt keine Rolle, nur die Rollouts
+        MonteCarloBotPlayer first = new MonteCarloBotPlayer("Bot 1", 5, DiceSource.seeded(4), full, cache);
+        MonteCarloBotPlayer second = new MonteCarloBotPlayer("Bot 2", 5, DiceSource.seeded(4), full, cache);
+        first.rollAllDice();
+        second.rollAllDice(); // <-- gleicher Seed, gleiche Würfel
+
+        first.decideNextCall(2, 3, 10);
+        assertEquals(full.maxRollouts(), first.getLastSearch().rollouts(), "The first bot has to search the full budget");
+
+        String call = second.decideNextCall(2, 3, 10).toString();
+        assertEquals(0, second.getLastSearch().rollouts(), "The second bot picks from the stored scores");
+        assertEquals(1, cache.getHits());
+        assertTrue(call.matches("\\d+ \\d+"), "Still a raise: " + call);
+    }
+
+    // 🐛 A search that ran out of time only adds to the stored scores - the next bot searches on until the budget is full
+    @Test
+    public void testShortSearchesAreToppedUpInsteadOfCached() {
+        BotDecisionCache<MonteCarloBotPlayer.SearchScores> cache = new BotDecisionCache<>(1024);
+        SearchBudget partial = new SearchBudget(Duration.ofSeconds(10), 1, 1_000); // <-- steht für eine Suche, der die Zeit ausging
+        SearchBudget full = new SearchBudget(Duration.ofSeconds(10), 1, 3_000);
+        MonteCarloBotPlayer first = new MonteCarloBotPlayer("Bot 1", 5, DiceSource.seeded(6), partial, cache);
+        MonteCarloBotPlayer second = new MonteCarloBotPlayer("Bot 2", 5, DiceSource.seeded(6), full, cache);
+        MonteCarloBotPlayer third = new MonteCarloBotPlayer("Bot 3", 5, DiceSource.seeded(6), full, cache);
+        first.rollAllDice();
+        second.rollAllDice();
+        third.rollAllDice();
+
+        first.decideNextCall(2, 3, 10);
+        assertEquals(1_000, first.getLastSearch().rollouts());
+
+        second.decideNextCall(2, 3, 10);
+        assertEquals(2_000, second.getLastSearch().rollouts(), "Stored scores below the budget are searched on");
+
+        third.decideNextCall(2, 3, 10);
+        assertEquals(0, third.getLastSearch().rollouts(), "Now the stored scores stand on the full budget");
+        assertEquals(1, cache.getPartialHits(), "The second bot still had to search");
+        assertEquals(1, cache.getHits(), "Only the third bot was answered by the cache");
+    }
+
+    // 🐛 A search that got no rollouts in time used to pick the first option - "lie" on any call on the table
+    @Test
+    public void testStarvedSearchFallsBackToTheHeuristic() {
+        SearchBudget starved = new SearchBudget(Duration.ofNanos(1), 1, 5_000);
+        BotDecisionCache<MonteCarloBotPlayer.SearchScores> cache = new BotDecisionCache<>(1024);
+        MonteCarloBotPlayer bot = new MonteCarloBotPlayer("Bot", 5, DiceSource.seeded(5), starved, cache);
+        bot.rollAllDice();
+
+        // 📝 1 × 3 on ten dice is as good as certain - the heuristic never calls lie on that.
+        assertFalse(bot.shouldCallLie(1, 3, 10), "No rollouts must not turn into a lie");
+        assertTrue(bot.getLastSearch().rollouts() < 100);
+        String call = bot.decideNextCall(1, 3, 10).toString();
+        assertNotEquals("lie", call);
+
+        assertFalse(bot.shouldCallLie(1, 3, 10));
+        assertEquals(0, cache.getHits(), "A starved search must not be cached");
+    }
+}
@@ -0,0 +1,54 @@
+package game;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TurnRingTest {
+
+    @Test
+    public void testWalksAroundInSeatOrder() {
+        TurnRing ring = new TurnRing(3);
+
+        assertEquals(1, ring.next(0));
+        assertEquals(0, ring.next(2));
+        assertEquals(2, ring.previous(0));
+        assertEquals(3, ring.size());
+    }
+
+    @Test
+    public void testRemovedSeatIsSkipped() {
+        TurnRing ring = new TurnRing(4);
+        ring.remove(1);
+        ring.remove(2);
+
+        assertEquals(3, ring.next(0));
+        assertEquals(0, ring.previous(3));
+        assertFalse(ring.contains(1));
+        assertEquals(2, ring.size());
+        assertEquals(4, ring.capacity());
+
+        assertEquals(3, ring.next(2), "A removed seat still leads back into the ring");
+    }
+
+    @Test
+    public void testRemovingTwiceChangesNothing() {
+        TurnRing ring = new TurnRing(3);
+        ring.remove(0);
+        ring.remove(0);
+
+        assertEquals(2, ring.size());
+        assertEquals(2, ring.next(1));
+        assertEquals(1, ring.next(2));
+    }
+
+    @Test
+    public void testLastSeatStays() {
+        TurnRing ring = new TurnRing(2);
+        ring.remove(0);
+
+        assertThrows(IllegalStateException.class, () -> ring.remove(1));
+        assertEquals(1, ring.next(1));
+        assertEquals(1, ring.previous(1));
+    }
+}
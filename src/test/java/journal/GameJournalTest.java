@@ -0,0 +1,173 @@
+package journal;
+
+import game.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static final ChatLock NO_LOCK = (chatId, action) -> action.run();
+
+    private static GameState newGame(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Player alice = new Player("Alice", 5, random.split());
+        BotPlayer bot = new BotPlayer("Bot", 5, random.split(), BotTuning.DEFAULT);
+        GameState state = new GameState(List.of(alice, bot));
+        alice.rollAllDice();
+        bot.rollAllDice();
+        return state;
+    }
+
+    // 📝 A few moves of a real game: calls, a reroll, a lie and the new round - one flush per move.
+    private static void playMoves(GameState state, JournalRecorder recorder, int rounds) {
+        RoundLogic round = new RoundLogic(state);
+        for (int r = 0; r < rounds && !state.isGameOver(); r++) {
+            state.setCurrentCall(1, 2);
+            state.advanceTurn();
+            recorder.flush();
+
+            Player current = state.getCurrentPlayer();
+            if (!current.hasUsedReroll()) {
+                current.rerollSelectedDice(List.of(0, 1));
+                current.useReroll();
+            }
+            state.setCurrentCall(2, 2);
+            state.advanceTurn();
+            recorder.flush();
+
+            round.settleLie();
+            for (Player p : state.getPlayers()) {
+                p.rollAllDice();
+            }
+            recorder.flush();
+        }
+    }
+
+    @Test
+    public void testRecoversGamesAfterCrash() throws Exception {
+        GameState running = newGame(1);
+        GameState ended = newGame(2);
+
+        GameJournal journal = new GameJournal(dir, JournalConfig.DEFAULT);
+        JournalRecorder runningRecorder = journal.open(1L, running);
+        JournalRecorder endedRecorder = journal.open(2L, ended);
+        runningRecorder.flush();
+        endedRecorder.flush();
+
+        playMoves(running, runningRecorder, 2);
+        playMoves(ended, endedRecorder, 1);
+        endedRecorder.end();
+        journal.sync(); // <-- kein close(): so sieht ein Absturz aus
+
+        GameJournal restarted = new GameJournal(dir, JournalConfig.DEFAULT);
+        Map<Long, RecoveredSession> recovered = restarted.takeRecovered();
+
+        assertEquals(1, recovered.size(), "Only the running game should come back");
+        assertArrayEquals(bytesOf(running), bytesOf(recovered.get(1L).state()), "Replayed game should match the original");
+        assertEquals(runningRecorder.getLastSequence(), recovered.get(1L).sequence());
+        restarted.close();
+    }
+
+    @Test
+    public void testSnapshotReplacesOldSegments() throws Exception {
+        GameState state = newGame(3);
+
+        GameJournal journal = new GameJournal(dir, JournalConfig.DEFAULT);
+        JournalRecorder recorder = journal.open(7L, state);
+        recorder.flush();
+        playMoves(state, recorder, 1);
+
+        journal.startSnapshots(NO_LOCK);
+        journal.snapshot();
+        playMoves(state, recorder, 1);
+        journal.sync();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(2, files.count(), "Only the snapshot and the current segment should be left");
+        }
+
+        GameJournal restarted = new GameJournal(dir, JournalConfig.DEFAULT);
+        RecoveryStats stats = restarted.getRecoveryStats();
+        assertEquals(1, stats.fromSnapshot());
+        assertTrue(stats.recordsReplayed() > 0, "Moves after the snapshot should be replayed");
+        assertArrayEquals(bytesOf(state), bytesOf(restarted.takeRecovered().get(7L).state()));
+        restarted.close();
+    }
+
+    @Test
+    public void testSequenceKeepsGrowingAfterRestart() throws Exception {
+        GameJournal journal = new GameJournal(dir, JournalConfig.DEFAULT);
+        JournalRecorder first = journal.open(1L, newGame(4));
+        first.flush();
+        journal.sync();
+
+        GameJournal restarted = new GameJournal(dir, JournalConfig.DEFAULT);
+        JournalRecorder second = restarted.open(2L, newGame(5));
+        second.flush();
+
+        assertTrue(second.getLastSequence() > first.getLastSequence());
+        restarted.close();
+    }
+
+    // 🐛 Every sync() used to fsync, even when nothing had been written since the last one
+    @Test
+    public void testSyncOnlyForcesWhenRecordsWereWritten() throws Exception {
+        GameJournal journal = new GameJournal(dir, JournalConfig.DEFAULT);
+        journal.sync();
+        assertEquals(0, journal.getForceCount(), "Nothing written, nothing to force");
+
+        JournalRecorder recorder = journal.open(1L, newGame(7));
+        recorder.flush();
+        journal.sync();
+        assertEquals(1, journal.getForceCount());
+
+        journal.sync();
+        journal.sync();
+        assertEquals(1, journal.getForceCount(), "The record is already on disk");
+        journal.close();
+    }
+
+    @Test
+    public void testIgnoresIncompleteLastRecord() throws Exception {
+        GameState state = newGame(6);
+
+        GameJournal journal = new GameJournal(dir, JournalConfig.DEFAULT);
+        JournalRecorder recorder = journal.open(1L, state);
+        recorder.flush();
+        playMoves(state, recorder, 1);
+        journal.sync();
+
+        // 📝 A crash in the middle of a write leaves half a record behind.
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.filter(f -> f.getFileName().toString().startsWith("journal-")).findFirst().orElseThrow();
+        }
+        Files.write(segment, new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        GameJournal restarted = new GameJournal(dir, JournalConfig.DEFAULT);
+        assertArrayEquals(bytesOf(state), bytesOf(restarted.takeRecovered().get(1L).state()));
+        restarted.close();
+    }
+
+    private static byte[] bytesOf(GameState state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameStateIO.write(state, new DataOutputStream(bytes));
+        return bytes.toByteArray();
+    }
+}
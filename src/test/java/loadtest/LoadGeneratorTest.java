@@ -0,0 +1,56 @@
+package loadtest;
+
+import game.Command;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadGeneratorTest {
+
+    // 🐛 A short run without think time: every update gets its answer and the games are actually played
+    @Test
+    public void testChatsPlayFullGames() throws InterruptedException {
+        LoadTestConfig config = new LoadTestConfig(16, Duration.ofSeconds(2), Duration.ZERO, 42, "heuristic");
+        LoadTestStats stats = LoadGenerator.run(config);
+
+        assertEquals(0, stats.getTimeouts());
+        assertTrue(stats.getUpdates() > 100, "Only " + stats.getUpdates() + " updates");
+        assertEquals(stats.getUpdates(), stats.getAll().getCount());
+        assertTrue(stats.getGamesStarted() > 0);
+        assertTrue(stats.getGamesFinished() > 0, "No game was played to the end");
+        assertTrue(stats.latency(Command.Type.CALL).getCount() > 0);
+        assertTrue(stats.latency(Command.Type.LIE).getCount() > 0);
+        assertEquals(0, stats.latency(Command.Type.INVALID).getCount());
+
+        String report = LoadGenerator.report(config, stats);
+        assertTrue(report.contains("updates/sec"));
+        assertTrue(report.contains("p999"));
+    }
+
+    // 🐛 Same run against a cluster of three nodes: the updates that land on the wrong node still get their answer
+    @Test
+    public void testChatsPlayAgainstACluster() throws InterruptedException {
+        LoadTestConfig config = new LoadTestConfig(16, Duration.ofSeconds(2), Duration.ZERO, 42, "heuristic", 3);
+        LoadTestStats stats = LoadGenerator.run(config);
+
+        assertEquals(0, stats.getTimeouts());
+        assertTrue(stats.getGamesFinished() > 0, "No game was played to the end");
+        assertTrue(stats.getForwarded() > 0, "Round-robin should forward updates");
+        assertTrue(LoadGenerator.report(config, stats).contains("3 nodes"));
+    }
+
+    @Test
+    public void testConfigFromArgs() {
+        LoadTestConfig config = LoadTestConfig.fromArgs(new String[]{"chats=500", "seconds=10", "think=0", "seed=7"});
+        assertEquals(500, config.chats());
+        assertEquals(Duration.ofSeconds(10), config.duration());
+        assertEquals(Duration.ZERO, config.thinkTime());
+        assertEquals(7, config.seed());
+        assertEquals(1, config.nodes());
+        assertEquals(3, LoadTestConfig.fromArgs(new String[]{"nodes=3"}).nodes());
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.fromArgs(new String[]{"chats=0"}));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestConfig.fromArgs(new String[]{"users=5"}));
+    }
+}
@@ -0,0 +1,65 @@
+package loadtest;
+
+import log.Level;
+import log.Log;
+import org.junit.jupiter.api.Test;
+import telegram.MyGameBot;
+import text.Language;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WarmUpTest {
+
+    @Test
+    public void testWarmUpIsOffByDefault() throws InterruptedException {
+        assertNull(WarmUp.run(Map.<String, String>of("BOT_TOKEN", "warm-up")::get));
+    }
+
+    // 🐛 Plays the games it was asked for (or stops early once the JIT is done) and leaves the log level alone
+    @Test
+    public void testWarmUpPlaysGamesAndRestoresLogLevel() throws InterruptedException {
+        Level level = Log.instance().getLevel();
+        WarmUp.Result result = WarmUp.run(Map.of("BOT_TOKEN", "warm-up", "BOT_USERNAME", "WarmUpBot",
+                "WARMUP_GAMES", "40", "WARMUP_CHATS", "4", "WARMUP_SECONDS", "30")::get);
+
+        assertNotNull(result);
+        assertTrue(result.rounds() >= 1);
+        assertTrue(result.games() >= 40 || result.settled(), "Only " + result.games() + " games");
+        assertTrue(result.firstRound().getCount() > 0, "Warm-up chats should have gotten replies");
+        assertTrue(result.lastRound().getCount() > 0);
+        assertEquals(level, Log.instance().getLevel(), "The real bot should start with the configured log level");
+    }
+
+    // 🐛 The warm-up used to play English private chats only - German texts and group tables stayed cold
+    @Test
+    public void testGroupAndGermanChatsPlayWholeGames() throws InterruptedException {
+        Level level = Log.instance().getLevel();
+        RecordingSender sender = new RecordingSender();
+        MyGameBot bot = new MyGameBot(WarmUp.warmUpSettings(Map.of("BOT_TOKEN", "warm-up", "BOT_USERNAME", "WarmUpBot")::get)::get,
+                sender);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        try {
+            long userId = 1;
+            for (boolean group : new boolean[]{false, true}) {
+                for (Language language : Language.values()) {
+                    LoadTestStats stats = new LoadTestStats();
+                    SyntheticChat chat = new SyntheticChat(userId++, group, language, bot::onUpdateReceived, stats,
+                            new SplittableRandom(7), 0, deadline, 2);
+                    sender.register(chat);
+                    chat.run();
+
+                    String kind = (group ? "group" : "private") + " chat in " + language;
+                    assertEquals(2, stats.getGamesStarted(), kind);
+                    assertEquals(0, stats.getTimeouts(), kind);
+                }
+            }
+        } finally {
+            bot.onClosing();
+            Log.instance().setLevel(level);
+        }
+    }
+}
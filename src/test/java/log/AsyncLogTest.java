@@ -0,0 +1,197 @@
+package log;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncLogTest {
+
+    // 🐛 One line per event, logfmt fields, warnings on the error stream
+    @Test
+    public void testFormatAndStreams() {
+        StringWriter out = new StringWriter();
+        StringWriter err = new StringWriter();
+        AsyncLog log = new AsyncLog(64, Level.INFO, out, err);
+        Logger logger = log.logger("test");
+
+        logger.info("Incoming", "chat", 42L, "text", "2 3\nlie");
+        logger.warn("Retry", "delay", 500);
+        log.close();
+
+        String line = out.toString();
+        assertTrue(line.endsWith(" INFO test Incoming chat=42 text=\"2 3\\nlie\"\n"), line);
+        assertEquals(1, line.split("\n").length);
+        assertTrue(err.toString().endsWith(" WARN test Retry delay=500\n"), err.toString());
+    }
+
+    // 🐛 Mutable values used to be formatted later on the writer thread and showed their later state
+    @Test
+    public void testMutableValuesAreTakenWhenLogged() {
+        StringWriter out = new StringWriter();
+        AsyncLog log = new AsyncLog(64, Level.INFO, out, out);
+        Logger logger = log.logger("test");
+
+        StringBuilder text = new StringBuilder("before");
+        logger.info("Value", "text", text);
+        text.setLength(0);
+        text.append("after");
+        log.close();
+
+        assertTrue(out.toString().contains("Value text=before\n"), out.toString());
+    }
+
+    // 🐛 An exception passed as a field lost its stack trace
+    @Test
+    public void testExceptionPrintsItsStackTrace() {
+        StringWriter out = new StringWriter();
+        StringWriter err = new StringWriter();
+        AsyncLog log = new AsyncLog(64, Level.INFO, out, err);
+
+        log.logger("test").error("Failed", "chat", 7L, new IllegalStateException("boom"));
+        log.close();
+
+        String written = err.toString();
+        assertTrue(written.contains(" ERROR test Failed chat=7\njava.lang.IllegalStateException: boom\n"), written);
+        assertTrue(written.contains("\tat log.AsyncLogTest.testExceptionPrintsItsStackTrace"), written);
+    }
+
+    // 📝 The idle writer sleeps until an event comes in - and still wakes up for it.
+    @Test
+    public void testIdleWriterWakesUpForTheNextEvent() throws InterruptedException {
+        StringWriter out = new StringWriter();
+        CountDownLatch flushed = new CountDownLatch(1);
+        Writer flushing = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                out.write(buffer, offset, length);
+            }
+
+            @Override
+            public void flush() {
+                flushed.countDown();
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncLog log = new AsyncLog(64, Level.INFO, flushing, flushing);
+        Thread.sleep(50); // <-- Writer hat sich schlafen gelegt
+
+        log.logger("test").info("late");
+        assertTrue(flushed.await(5, TimeUnit.SECONDS), "The writer didn't wake up");
+        assertTrue(out.toString().contains("INFO test late"));
+        log.close();
+    }
+
+    @Test
+    public void testLevelFilter() {
+        StringWriter out = new StringWriter();
+        AsyncLog log = new AsyncLog(64, Level.INFO, out, out);
+        Logger logger = log.logger("test");
+
+        logger.debug("hidden", "text", "whole game text");
+        assertFalse(logger.isDebugEnabled());
+        log.setLevel(Level.DEBUG);
+        logger.debug("shown");
+        log.close();
+
+        assertFalse(out.toString().contains("hidden"));
+        assertTrue(out.toString().contains("DEBUG test shown"));
+    }
+
+    // 🐛 A full buffer drops events instead of blocking the caller
+    @Test
+    public void testDropsWhenFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StringWriter written = new StringWriter();
+        Writer blocking = new Writer() {
+            @Override
+            public void write(char[] buffer, int offset, int length) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.write(buffer, offset, length);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        AsyncLog log = new AsyncLog(8, Level.INFO, blocking, blocking);
+        Logger logger = log.logger("test");
+
+        logger.info("first");
+        assertTrue(writing.await(5, TimeUnit.SECONDS)); // <-- Writer hängt jetzt im ersten Event
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            logger.info("event", "i", i);
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "Logging blocked");
+        assertEquals(92, log.getDropped());
+
+        release.countDown();
+        log.close();
+        assertEquals(9, written.toString().split("\n").length);
+        assertTrue(written.toString().contains("event i=7\n"));
+    }
+
+    @Test
+    public void testOrderAcrossThreads() throws Exception {
+        StringWriter out = new StringWriter();
+        AsyncLog log = new AsyncLog(1 << 16, Level.INFO, out, out);
+        Logger logger = log.logger("test");
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    logger.info("event", "thread", thread, "i", i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        log.close();
+
+        String[] lines = out.toString().split("\n");
+        assertEquals(4000, lines.length);
+        int[] next = new int[threads.length];
+        for (String line : lines) {
+            int thread = line.charAt(line.indexOf("thread=") + 7) - '0';
+            int i = Integer.parseInt(line.substring(line.indexOf(" i=") + 3));
+            assertEquals(next[thread]++, i, "Events of one thread out of order");
+        }
+    }
+
+    @Test
+    public void testSampling() {
+        StringWriter out = new StringWriter();
+        AsyncLog log = new AsyncLog(1 << 16, Level.INFO, out, out);
+        Logger sampled = log.logger("test").sampled(10);
+
+        for (int i = 0; i < 10_000; i++) {
+            sampled.info("tick");
+        }
+        log.close();
+
+        int lines = out.toString().split("\n").length;
+        assertTrue(lines > 800 && lines < 1200, "Sampled " + lines + " of 10000");
+    }
+}
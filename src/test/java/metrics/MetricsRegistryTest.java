@@ -0,0 +1,123 @@
+package metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsRegistryTest {
+
+    // 🐛 Every value lands in a bucket whose bounds contain it, at most 25 % wide
+    @Test
+    public void testHistogramBuckets() {
+        for (long nanos = 1; nanos < 1L << 40; nanos = nanos * 3 / 2 + 1) {
+            int bucket = LatencyHistogram.bucketOf(nanos);
+            long upper = LatencyHistogram.upperBound(bucket);
+            long lower = bucket == 0 ? 0 : LatencyHistogram.upperBound(bucket - 1);
+            assertTrue(nanos >= lower && nanos < upper, nanos + " not in [" + lower + ", " + upper + ")");
+            if (bucket > 0 && bucket < LatencyHistogram.BUCKETS - 1) {
+                assertTrue(upper - lower <= lower / 4 + 1, "Bucket too wide at " + nanos);
+            }
+        }
+    }
+
+    @Test
+    public void testPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1_000_000L); // <-- 1 ms .. 100 ms
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5_050_000_000L, histogram.getSumNanos());
+        long p50 = histogram.percentile(50);
+        long p99 = histogram.percentile(99);
+        assertTrue(p50 >= 50_000_000L && p50 <= 50_000_000L * 5 / 4, "p50 was " + p50);
+        assertTrue(p99 >= 99_000_000L && p99 <= 99_000_000L * 5 / 4, "p99 was " + p99);
+    }
+
+    @Test
+    public void testPrometheusFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter calls = registry.counter("test_commands_total", "Commands.", MetricsRegistry.label("command", "call"));
+        registry.counter("test_commands_total", "Commands.", MetricsRegistry.label("command", "lie")).add(2);
+        calls.increment();
+        registry.gauge("test_sessions", "Sessions.", () -> 7);
+        LatencyHistogram latency = registry.histogram("test_duration_seconds", "Latency.");
+        latency.record(3_000); // <-- 3 µs
+        latency.record(2_000_000_000L); // <-- 2 s
+
+        assertSame(calls, registry.counter("test_commands_total", "Commands.", MetricsRegistry.label("command", "call")));
+
+        String text = registry.scrape();
+        assertTrue(text.contains("# TYPE test_commands_total counter\n"));
+        assertTrue(text.contains("test_commands_total{command=\"call\"} 1\n"));
+        assertTrue(text.contains("test_commands_total{command=\"lie\"} 2\n"));
+        assertTrue(text.contains("# TYPE test_sessions gauge\ntest_sessions 7\n"));
+        assertTrue(text.contains("# TYPE test_duration_seconds histogram\n"));
+        assertTrue(text.contains("test_duration_seconds_bucket{le=\"4.096E-6\"} 1\n"), text);
+        assertTrue(text.contains("test_duration_seconds_bucket{le=\"+Inf\"} 2\n"));
+        assertTrue(text.contains("test_duration_seconds_count 2\n"));
+        assertTrue(text.contains("test_duration_seconds_sum 2.000003\n"));
+    }
+
+    @Test
+    public void testTypeClash() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("test_total", "Count.");
+        assertThrows(IllegalArgumentException.class, () -> registry.histogram("test_total", "Latency."));
+        assertThrows(IllegalArgumentException.class, () -> registry.counter("bad name", "Count."));
+    }
+
+    // 🐛 Recording must not create garbage
+    @Test
+    public void testRecordingDoesNotAllocate() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        MetricsRegistry registry = new MetricsRegistry();
+        Counter counter = registry.counter("test_total", "Count.");
+        LatencyHistogram histogram = registry.histogram("test_seconds", "Latency.");
+        for (int i = 0; i < 100_000; i++) { // <-- warm up
+            counter.increment();
+            histogram.record(i * 1_000L);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            counter.increment();
+            histogram.recordSince(System.nanoTime() - i);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < 1024, "Recording allocated " + allocated + " bytes");
+    }
+
+    @Test
+    public void testMetricsEndpoint() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("test_total", "Count.").add(42);
+
+        try (MetricsServer server = new MetricsServer(new InetSocketAddress("127.0.0.1", 0), registry)) {
+            server.start();
+            HttpClient client = HttpClient.newHttpClient();
+            URI uri = URI.create("http://127.0.0.1:" + server.getPort() + "/metrics");
+
+            HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(200, response.statusCode());
+            assertEquals(MetricsServer.CONTENT_TYPE, response.headers().firstValue("Content-Type").orElse(""));
+            assertTrue(response.body().contains("test_total 42\n"));
+
+            HttpResponse<String> post = client.send(HttpRequest.newBuilder(uri).POST(HttpRequest.BodyPublishers.noBody()).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(405, post.statusCode());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package simulation;
+
+import game.BotTuning;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulatorTest {
+
+    @Test
+    public void testEveryGameHasAWinner() {
+        SimulationConfig config = new SimulationConfig(500, 3, 5, 42L,
+                List.of(BotTuning.DEFAULT, BotTuning.DEFAULT, BotTuning.DEFAULT));
+
+        SimulationStats stats = Simulator.run(config);
+
+        assertEquals(500, stats.getGames(), "All games should be played");
+        assertEquals(500, stats.getWins(0) + stats.getWins(1) + stats.getWins(2), "Every game should have one winner");
+        assertTrue(stats.getAverageRounds() >= 1.0, "A game needs at least one round");
+        assertTrue(stats.getLieCalls() > 0, "Rounds only end with a lie call");
+        // 🐛 Calls that weren't higher used to be counted as lie calls
+        assertEquals(Math.round(stats.getAverageRounds() * 500), stats.getLieCalls() + stats.getBotErrors(),
+                "Every round ends with one lie call or one bot error");
+    }
+
+    @Test
+    public void testSameSeedGivesSameResult() {
+        SimulationConfig config = SimulationConfig.fromArgs(new String[]{"games=300", "seed=7", "seat1=0.6,0.35,0.15"});
+
+        SimulationStats first = Simulator.run(config);
+        SimulationStats second = Simulator.run(config);
+
+        assertEquals(first.getWins(0), second.getWins(0), "Seeded runs should be reproducible");
+        assertEquals(first.getLieCalls(), second.getLieCalls(), "Seeded runs should be reproducible");
+        assertEquals(0.6, config.tunings().get(1).likelyTrue(), 0.0, "Seat 1 should use the given tuning");
+    }
+}
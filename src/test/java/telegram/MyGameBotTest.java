@@ -1,11 +1,37 @@
 package telegram;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.Chat;
+import org.telegram.telegrambots.meta.api.objects.Message;
+import org.telegram.telegrambots.meta.api.objects.Update;
+import org.telegram.telegrambots.meta.api.objects.User;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class MyGameBotTest {
 
+    private static final long GROUP = -100;
+    private static final long ALICE = 11;
+    private static final long BOB = 12;
+    private static final long CAROL = 13;
+
+    private final Map<String, BlockingQueue<String>> replies = new ConcurrentHashMap<>();
+    private MyGameBot groupBot;
+
+    @AfterEach
+    public void tearDown() {
+        if (groupBot != null) {
+            groupBot.onClosing();
+        }
+    }
 
     // 🐛 Is Bot Running?
     @Test
@@ -17,4 +43,119 @@ public class MyGameBotTest {
         assertFalse(bot.getBotToken().isEmpty(), "Bot token should not be empty");
         System.out.println("Bot is running...");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGroupTableJoinAddBotLeaveAndStart() throws InterruptedException {
+        groupBot = newBot();
+
+        assertTrue(send(ALICE, "Alice", "/newgame").contains("The table is open"));
+        assertTrue(send(BOB, "Bob", "/join").contains("*Bob* joined the table (2 players)"));
+        assertTrue(send(BOB, "Bob", "/join").contains("already at the table"));
+        assertTrue(send(ALICE, "Alice", "/addbot").contains("*Bot 1* joined the table (3 players)"));
+        assertTrue(send(BOB, "Bob", "/leave").contains("*Bob* left the table (2 players)"));
+
+        String started = send(ALICE, "Alice", "/startgame");
+        assertTrue(started.contains("New game with 2 players"), started);
+        assertTrue(nextReply(ALICE).contains("Your dice"), "Alice should get her dice in private");
+        assertTrue(send(CAROL, "Carol", "/join").contains("already a game running"));
+    }
+
+    @Test
+    public void testStartNeedsTwoPlayers() throws InterruptedException {
+        groupBot = newBot();
+
+        assertTrue(send(ALICE, "Alice", "/startgame").contains("no open table"));
+        send(ALICE, "Alice", "/newgame");
+        assertTrue(send(ALICE, "Alice", "/startgame").contains("at least 2 players"));
+    }
+
+    // 🐛 A second /newgame used to throw away the open table and everyone who sat at it
+    @Test
+    public void testSecondNewGameKeepsTheOpenTable() throws InterruptedException {
+        groupBot = newBot();
+
+        send(ALICE, "Alice", "/newgame");
+        send(BOB, "Bob", "/join");
+
+        String again = send(CAROL, "Carol", "/newgame");
+        assertTrue(again.contains("already an open table here (2 players): Alice, Bob"), again);
+        assertTrue(send(BOB, "Bob", "/join").contains("already at the table"), "Bob should still be seated");
+    }
+
+    @Test
+    public void testOnlyThePlayerOnTurnMovesAndLeavingForfeits() throws InterruptedException {
+        groupBot = newBot();
+
+        send(ALICE, "Alice", "/newgame");
+        send(BOB, "Bob", "/join");
+        assertTrue(send(ALICE, "Alice", "/startgame").contains("It's *Alice*'s turn"));
+
+        assertTrue(send(BOB, "Bob", "1 2").contains("Wait, it's *Alice*'s turn"));
+        assertTrue(send(CAROL, "Carol", "/leave").contains("not playing"));
+
+        String left = send(ALICE, "Alice", "/leave");
+        assertTrue(left.contains("*Alice* leaves the game"), left);
+        assertTrue(left.contains("GAME OVER"), left);
+        assertTrue(left.contains("Bob"), left);
+    }
+
+    // 🐛 An abandoned /newgame in a group used to keep its table in memory forever
+    @Test
+    public void testSweepClosesIdleTables() throws InterruptedException {
+        groupBot = newBot(Map.of("SESSION_IDLE_MINUTES", "0"));
+
+        send(ALICE, "Alice", "/newgame");
+        groupBot.getSessions().sweep();
+        assertTrue(send(BOB, "Bob", "/join").contains("no open table"));
+    }
+
+    private MyGameBot newBot() {
+        return newBot(Map.of());
+    }
+
+    private MyGameBot newBot(Map<String, String> overrides) {
+        Map<String, String> settings = new HashMap<>(Map.of(
+                "BOT_TOKEN", "test",
+                "BOT_USERNAME", "TestBot",
+                "DEFAULT_LANGUAGE", "en",
+                "LOG_LEVEL", "WARN",
+                "JOURNAL_DIR", "off",
+                "SESSION_STORE", "memory",
+                "OUTBOUND_MERGE_MS", "0"));
+        settings.putAll(overrides);
+        return new MyGameBot(settings::get,
+                (chatId, text) -> replies.computeIfAbsent(chatId, id -> new LinkedBlockingQueue<>()).add(text));
+    }
+
+    // -- Sends text to the group as that user and waits for the bot's answer in the group
+    private String send(long userId, String name, String text) throws InterruptedException {
+        groupBot.onUpdateReceived(groupUpdate(userId, name, text));
+        String reply = nextReply(GROUP);
+        assertNotNull(reply, "No reply to " + text);
+        return reply;
+    }
+
+    private String nextReply(long chatId) throws InterruptedException {
+        return replies.computeIfAbsent(String.valueOf(chatId), id -> new LinkedBlockingQueue<>()).poll(5, TimeUnit.SECONDS);
+    }
+
+    private static Update groupUpdate(long userId, String name, String text) {
+        User user = new User();
+        user.setId(userId);
+        user.setFirstName(name);
+        user.setIsBot(false);
+
+        Chat chat = new Chat();
+        chat.setId(GROUP);
+        chat.setType("group");
+
+        Message message = new Message();
+        message.setChat(chat);
+        message.setFrom(user);
+        message.setText(text);
+
+        Update update = new Update();
+        update.setMessage(message);
+        return update;
+    }
+}
@@ -0,0 +1,146 @@
+package telegram;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.exceptions.TelegramApiException;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutboundQueueTest {
+
+    private static OutboundConfig fastConfig(Duration mergeWindow) {
+        return new OutboundConfig(4, 1000, 1000, 100, 1000, mergeWindow, 3, Duration.ofMillis(5));
+    }
+
+    @Test
+    public void testMergesBurstIntoOneMessage() throws InterruptedException {
+        List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+        try (OutboundQueue queue = new OutboundQueue((chatId, text) -> sent.add(text), fastConfig(Duration.ofMillis(200)))) {
+            queue.submit("42", "a");
+            queue.submit("42", "b");
+            queue.submit("42", "c");
+            waitUntilSent(queue);
+
+            assertEquals(List.of("a\n\nb\n\nc"), sent, "A burst within the merge window should go out as one message");
+            assertEquals(1, queue.getRequests());
+            assertEquals(2, queue.getMerged());
+        }
+    }
+
+    @Test
+    public void testKeepsOrderPerChat() throws InterruptedException {
+        int chats = 10;
+        int textsPerChat = 100;
+        Map<String, List<String>> sent = new ConcurrentHashMap<>();
+
+        try (OutboundQueue queue = new OutboundQueue((chatId, text) ->
+                sent.computeIfAbsent(chatId, id -> Collections.synchronizedList(new ArrayList<>())).add(text),
+                fastConfig(Duration.ZERO))) {
+            for (int i = 0; i < textsPerChat; i++) {
+                for (int chat = 0; chat < chats; chat++) {
+                    assertTrue(queue.submit(String.valueOf(chat), String.valueOf(i)));
+                }
+            }
+            waitUntilSent(queue);
+        }
+
+        for (int chat = 0; chat < chats; chat++) {
+            List<String> received = new ArrayList<>();
+            for (String message : sent.get(String.valueOf(chat))) {
+                received.addAll(Arrays.asList(message.split("\n\n")));
+            }
+            for (int i = 0; i < textsPerChat; i++) {
+                assertEquals(String.valueOf(i), received.get(i), "Chat " + chat + " should get its texts in order");
+            }
+        }
+    }
+
+    @Test
+    public void testRetriesFailedSends() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+        try (OutboundQueue queue = new OutboundQueue((chatId, text) -> {
+            if (attempts.incrementAndGet() <= 2) {
+                throw new TelegramApiException("connection reset");
+            }
+            sent.add(text);
+        }, fastConfig(Duration.ZERO))) {
+            queue.submit("7", "hello");
+            waitUntilSent(queue);
+
+            assertEquals(List.of("hello"), sent);
+            assertEquals(2, queue.getRetries());
+            assertEquals(0, queue.getFailed());
+        }
+    }
+
+    @Test
+    public void testGivesUpAfterMaxRetries() throws InterruptedException {
+        try (OutboundQueue queue = new OutboundQueue((chatId, text) -> {
+            throw new TelegramApiException("down");
+        }, fastConfig(Duration.ZERO))) {
+            queue.submit("7", "hello");
+            waitUntilSent(queue);
+
+            assertEquals(1, queue.getFailed());
+            assertEquals(3, queue.getRetries());
+        }
+    }
+
+    // 🐛 A merged message that failed for good used to take every text merged into it down with it
+    @Test
+    public void testFailedMergedMessageIsSentTextByText() throws InterruptedException {
+        List<String> sent = Collections.synchronizedList(new ArrayList<>());
+
+        try (OutboundQueue queue = new OutboundQueue((chatId, text) -> {
+            if (text.contains("bad")) {
+                throw new TelegramApiException("can't parse entities");
+            }
+            sent.add(text);
+        }, fastConfig(Duration.ofMillis(200)))) {
+            queue.submit("42", "a");
+            queue.submit("42", "bad");
+            queue.submit("42", "c");
+            waitUntilSent(queue);
+
+            assertEquals(List.of("a", "c"), sent, "Only the broken text should be lost, in order");
+            assertEquals(1, queue.getFailed());
+        }
+    }
+
+    @Test
+    public void testSplitsLongTexts() {
+        String line = "x".repeat(1000) + "\n";
+        List<String> parts = OutboundQueue.split(line.repeat(10));
+
+        assertTrue(parts.size() > 1);
+        for (String part : parts) {
+            assertTrue(part.length() <= OutboundQueue.MAX_MESSAGE_LENGTH);
+        }
+        assertEquals(line.repeat(10), String.join("\n", parts));
+    }
+
+    @Test
+    public void testTokenBucketLimitsBurst() {
+        TokenBucket bucket = new TokenBucket(2, 10);
+
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        long wait = bucket.tryAcquire();
+        assertTrue(wait > 0 && wait <= Duration.ofMillis(100).toNanos(), "Third token should come after about 100 ms");
+    }
+
+    private static void waitUntilSent(OutboundQueue queue) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (queue.getPending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(0, queue.getPending(), "All texts should be handled");
+    }
+}
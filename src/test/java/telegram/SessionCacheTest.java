@@ -0,0 +1,70 @@
+package telegram;
+
+import game.GameState;
+import game.Player;
+import game.RoundLogic;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionCacheTest {
+
+    @TempDir
+    Path spillDir;
+
+    private GameSession newSession() {
+        Player alice = new Player("Alice", 5);
+        Player bob = new Player("Bob", 5);
+        GameState state = new GameState(List.of(alice, bob));
+        alice.rollAllDice();
+        bob.rollAllDice();
+        return new GameSession(state, new RoundLogic(state));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedSessionsAreParkedAndComeBack() throws InterruptedException {
+        SessionCacheConfig config = new SessionCacheConfig(10, Long.MAX_VALUE, Duration.ofHours(1), Duration.ofHours(1));
+
+        try (SessionRegistry registry = new SessionRegistry(config, new SessionSpillStore(spillDir))) {
+            GameSession first = registry.create(1L, this::newSession);
+            first.getGameState().setCurrentCall(3, 4);
+            List<Integer> firstDice = List.copyOf(first.getGameState().getPlayers().getFirst().revealDice());
+            Thread.sleep(2);
+
+            for (long chatId = 2; chatId <= 20; chatId++) {
+                registry.create(chatId, this::newSession);
+            }
+            registry.sweep();
+
+            assertTrue(registry.size() <= 9, "Cache should be back below its limit, has " + registry.size());
+
+            GameSession loaded = registry.get(1L);
+            assertNotNull(loaded, "Parked session should be loaded back transparently");
+            assertNotSame(first, loaded, "Session should have come from disk");
+            assertEquals(3, loaded.getGameState().getCurrentQuantityCalled(), "Call should survive parking");
+            assertEquals(4, loaded.getGameState().getCurrentFaceValueCalled(), "Call should survive parking");
+            assertEquals(firstDice, loaded.getGameState().getPlayers().getFirst().revealDice(), "Dice should survive parking");
+        }
+    }
+
+    @Test
+    public void testIdleSessionsAreParked() throws InterruptedException {
+        SessionCacheConfig config = new SessionCacheConfig(100, Long.MAX_VALUE, Duration.ofMillis(5), Duration.ofHours(1));
+
+        try (SessionRegistry registry = new SessionRegistry(config, new SessionSpillStore(spillDir))) {
+            registry.create(5L, this::newSession);
+            Thread.sleep(20);
+            registry.sweep();
+
+            assertEquals(0, registry.size(), "Idle session should have left the heap");
+            assertEquals(0, registry.getResidentBytes(), "No bytes should be counted for parked sessions");
+            assertTrue(registry.remove(5L), "Parked session can still be ended");
+            assertNull(registry.get(5L), "Ended session should be gone from disk too");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package telegram;
+
+import game.GameState;
+import game.Player;
+import game.RoundLogic;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionRegistryTest {
+
+    private GameSession newSession() {
+        GameState state = new GameState(List.of(new Player("Alice", 5), new Player("Bob", 5)));
+        return new GameSession(state, new RoundLogic(state));
+    }
+
+    @Test
+    public void testCreateGetAndRemove() {
+        SessionRegistry registry = new SessionRegistry();
+
+        assertNull(registry.get(42L), "No session before /newgame");
+        GameSession session = registry.create(42L, this::newSession);
+        assertSame(session, registry.get(42L), "Lookup should find the new session");
+
+        assertTrue(registry.remove(42L), "Removing a running session should work");
+        assertFalse(registry.remove(42L), "Nothing left to remove");
+        assertEquals(0, registry.size(), "Registry should be empty");
+    }
+
+    @Test
+    public void testMovesInOneChatNeverOverlap() throws InterruptedException {
+        SessionRegistry registry = new SessionRegistry(16);
+        registry.create(7L, this::newSession);
+        int[] movesInProgress = {0};
+        int[] overlaps = {0};
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 2_000; i++) {
+            boolean doubleTap = i % 50 == 0;
+            pool.execute(() -> {
+                if (doubleTap) {
+                    // 📝 A /newgame while moves are running must wait for them.
+                    registry.create(7L, this::newSession);
+                }
+                registry.withLock(7L, () -> {
+                    if (++movesInProgress[0] > 1) {
+                        overlaps[0]++;
+                    }
+                    registry.get(7L).getGameState().advanceTurn();
+                    movesInProgress[0]--;
+                    return null;
+                });
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS), "All moves should finish");
+
+        assertEquals(0, overlaps[0], "Two moves in the same chat should never run at the same time");
+        assertNotNull(registry.get(7L), "The last /newgame should have left a session");
+    }
+}
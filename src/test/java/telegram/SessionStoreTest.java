@@ -0,0 +1,228 @@
+package telegram;
+
+import game.GameState;
+import game.Player;
+import game.RoundLogic;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private GameSession newSession() {
+        Player alice = new Player("Alice", 5);
+        Player bob = new Player("Bob", 5);
+        GameState state = new GameState(List.of(alice, bob));
+        alice.rollAllDice();
+        bob.rollAllDice();
+        return new GameSession(state, new RoundLogic(state));
+    }
+
+    private void checkContract(SessionStore store) throws IOException {
+        assertNull(store.load(1L), "Nothing stored yet");
+        store.save(1L, new byte[]{1, 2, 3});
+        store.save(2L, new byte[]{4});
+        store.save(1L, new byte[]{5, 6});
+        assertArrayEquals(new byte[]{5, 6}, store.load(1L), "Newest save should win");
+        assertEquals(Set.of(1L, 2L), Set.copyOf(store.chatIds()));
+
+        assertTrue(store.delete(2L));
+        assertFalse(store.delete(2L), "Already deleted");
+        assertNull(store.load(2L));
+        assertEquals(Set.of(1L), Set.copyOf(store.chatIds()));
+        store.flush();
+    }
+
+    @Test
+    public void testEveryStoreKeepsTheContract() throws IOException {
+        try (SessionStore store = new MemorySessionStore()) {
+            checkContract(store);
+        }
+        try (SessionStore store = new SessionSpillStore(dir.resolve("files"))) {
+            checkContract(store);
+        }
+        try (SessionStore store = new MappedSessionStore(dir.resolve("mapped"), 4096)) {
+            checkContract(store);
+        }
+        try (SessionStore store = new MvStoreSessionStore(dir.resolve("mvstore").resolve(MvStoreSessionStore.FILE_NAME))) {
+            checkContract(store);
+        }
+    }
+
+    @Test
+    public void testMappedStoreSurvivesReopenAndCompactsOldSegments() throws IOException {
+        Path mapped = dir.resolve("mapped");
+        try (MappedSessionStore store = new MappedSessionStore(mapped, 1024)) {
+            for (int round = 0; round < 50; round++) {
+                for (long chatId = 1; chatId <= 5; chatId++) {
+                    store.save(chatId, new byte[]{(byte) round, (byte) chatId, 0, 0, 0, 0, 0, 0});
+                }
+            }
+            store.delete(5L);
+            assertTrue(store.getSegmentCount() <= 4, "Old segments should have been compacted, has " + store.getSegmentCount());
+        }
+
+        try (MappedSessionStore store = new MappedSessionStore(mapped, 1024)) {
+            assertEquals(Set.of(1L, 2L, 3L, 4L), Set.copyOf(store.chatIds()), "Deleted chat should stay deleted");
+            assertArrayEquals(new byte[]{49, 3, 0, 0, 0, 0, 0, 0}, store.load(3L), "Newest record should come back");
+        }
+    }
+
+    @Test
+    public void testWriteBehindCoalescesMovesIntoOneWrite() throws IOException {
+        SessionCacheConfig config = new SessionCacheConfig(100, Long.MAX_VALUE, Duration.ofHours(1), Duration.ofHours(1));
+        MemorySessionStore store = new MemorySessionStore();
+
+        try (SessionRegistry registry = new SessionRegistry(config, store, null, Duration.ofHours(1))) {
+            GameSession session = registry.create(1L, this::newSession);
+            for (int move = 1; move <= 10; move++) {
+                int quantity = move;
+                registry.withLock(1L, () -> {
+                    session.getGameState().setCurrentCall(quantity, 2);
+                    return null;
+                });
+            }
+            assertNull(store.load(1L), "Nothing is written on the request path");
+            assertEquals(1, registry.getPendingWrites());
+
+            registry.writePending();
+
+            assertEquals(1, registry.getStoreWrites(), "Eleven changes should be one write");
+            assertEquals(11, registry.getStoreMarks());
+            assertNotNull(store.load(1L), "The writer should have saved the game");
+
+            registry.withLock(1L, () -> registry.get(1L));
+            assertEquals(0, registry.getPendingWrites(), "Looking at a game doesn't change it");
+            assertEquals(11, registry.getStoreMarks());
+
+            assertTrue(registry.remove(1L));
+            assertNotNull(store.load(1L), "Deleting is written behind too");
+            registry.writePending();
+            assertNull(store.load(1L), "Ended game should be gone from the store");
+        }
+    }
+
+    // 🐛 An ended game used to come back from the store when the chat wrote again before the writer ran
+    @Test
+    public void testEndedGameStaysEndedBeforeTheWriterRuns() {
+        SessionCacheConfig config = new SessionCacheConfig(100, Long.MAX_VALUE, Duration.ofHours(1), Duration.ofHours(1));
+        MemorySessionStore store = new MemorySessionStore();
+
+        try (SessionRegistry registry = new SessionRegistry(config, store, null, Duration.ofHours(1))) {
+            registry.create(3L, this::newSession);
+            registry.writePending();
+
+            assertTrue(registry.remove(3L));
+            assertNull(registry.get(3L), "Ended game must not be loaded back");
+            assertFalse(registry.remove(3L), "Ending it twice finds nothing");
+            assertFalse(registry.chatIds().contains(3L));
+
+            registry.writePending();
+            assertNull(store.load(3L));
+            assertEquals(1, registry.getStoreWrites(), "The ended game must not be written again");
+        }
+    }
+
+    @Test
+    public void testWrittenBehindGamesComeBackAfterRestart() {
+        SessionCacheConfig config = new SessionCacheConfig(100, Long.MAX_VALUE, Duration.ofHours(1), Duration.ofHours(1));
+        Path mapped = dir.resolve("mapped");
+
+        List<Integer> dice;
+        try (SessionRegistry registry = new SessionRegistry(config, new MappedSessionStore(mapped, 4096), null, Duration.ofHours(1))) {
+            GameSession session = registry.create(7L, this::newSession);
+            registry.withLock(7L, () -> {
+                session.getGameState().setCurrentCall(4, 6);
+                return null;
+            });
+            dice = List.copyOf(session.getGameState().getPlayers().getFirst().revealDice());
+        } // <-- close schreibt, was noch aussteht
+
+        try (SessionRegistry registry = new SessionRegistry(config, new MappedSessionStore(mapped, 4096), null, Duration.ofHours(1))) {
+            assertEquals(0, registry.size(), "Games are loaded lazily, not at start");
+            GameSession loaded = registry.get(7L);
+            assertNotNull(loaded, "Game should come back on first use");
+            assertEquals(4, loaded.getGameState().getCurrentQuantityCalled());
+            assertEquals(6, loaded.getGameState().getCurrentFaceValueCalled());
+            assertEquals(dice, loaded.getGameState().getPlayers().getFirst().revealDice());
+        }
+    }
+
+    // 🐛 Every lookup of a chat without a game used to ask the store again
+    @Test
+    public void testChatWithoutAGameAsksTheStoreOnce() {
+        SessionCacheConfig config = new SessionCacheConfig(100, Long.MAX_VALUE, Duration.ofHours(1), Duration.ofHours(1));
+        AtomicInteger loads = new AtomicInteger();
+        MemorySessionStore store = new MemorySessionStore() {
+            @Override
+            public byte[] load(long chatId) {
+                loads.incrementAndGet();
+                return super.load(chatId);
+            }
+        };
+
+        try (SessionRegistry registry = new SessionRegistry(config, store, null, Duration.ofHours(1))) {
+            for (int i = 0; i < 5; i++) {
+                assertNull(registry.get(4L));
+            }
+            assertEquals(1, loads.get(), "The store said no once, that's enough");
+
+            registry.create(4L, this::newSession);
+            registry.writePending();
+            registry.remove(4L);
+            registry.writePending();
+            assertNull(registry.get(4L));
+            assertEquals(1, loads.get(), "The writer deleted the game, no need to look");
+        }
+    }
+
+    // 🐛 The write-behind writer used to save while holding the chat's lock, so moves waited for the disk
+    @Test
+    public void testMovesDontWaitForTheWriter() throws InterruptedException {
+        SessionCacheConfig config = new SessionCacheConfig(100, Long.MAX_VALUE, Duration.ofHours(1), Duration.ofHours(1));
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        MemorySessionStore store = new MemorySessionStore() {
+            @Override
+            public void save(long chatId, byte[] state) {
+                saving.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.save(chatId, state);
+            }
+        };
+
+        try (SessionRegistry registry = new SessionRegistry(config, store, null, Duration.ofHours(1))) {
+            GameSession session = registry.create(5L, this::newSession);
+            Thread writer = Thread.ofVirtual().start(registry::writePending);
+            assertTrue(saving.await(5, TimeUnit.SECONDS));
+
+            Thread move = Thread.ofVirtual().start(() -> registry.withLock(5L, () -> {
+                session.getGameState().setCurrentCall(3, 4);
+                return null;
+            }));
+            move.join(5_000);
+            assertFalse(move.isAlive(), "The move should not wait for save()");
+
+            release.countDown();
+            writer.join();
+            assertEquals(1, registry.getPendingWrites(), "The move is written in the next round");
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package telegram;
+
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UpdateDispatcherTest {
+
+    @Test
+    public void testKeepsOrderPerChat() throws InterruptedException {
+        int chats = 20;
+        int updatesPerChat = 200;
+        Map<Update, Integer> sequence = new IdentityHashMap<>();
+        Map<Update, Long> chatOf = new IdentityHashMap<>();
+        Map<Long, List<Integer>> seen = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(chats * updatesPerChat);
+
+        List<Update> updates = new ArrayList<>();
+        for (int i = 0; i < updatesPerChat; i++) {
+            for (long chat = 0; chat < chats; chat++) {
+                Update update = new Update();
+                sequence.put(update, i);
+                chatOf.put(update, chat);
+                updates.add(update);
+            }
+        }
+
+        try (UpdateDispatcher dispatcher = new UpdateDispatcher(update -> {
+            seen.computeIfAbsent(chatOf.get(update), id -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(sequence.get(update));
+            done.countDown();
+        }, 8, updatesPerChat)) {
+            for (Update update : updates) {
+                assertTrue(dispatcher.dispatch(chatOf.get(update), update), "Queue should not be full");
+            }
+            assertTrue(done.await(10, TimeUnit.SECONDS), "All updates should be handled");
+        }
+
+        for (long chat = 0; chat < chats; chat++) {
+            List<Integer> order = seen.get(chat);
+            for (int i = 0; i < updatesPerChat; i++) {
+                assertEquals(i, order.get(i).intValue(), "Chat " + chat + " should see its updates in order");
+            }
+        }
+    }
+
+    // 🐛 An Error from the handler used to leave the chat marked as running - nothing of it was handled again
+    @Test
+    public void testChatGoesOnAfterAnError() throws InterruptedException {
+        Update broken = new Update();
+        CountDownLatch handled = new CountDownLatch(2);
+
+        try (UpdateDispatcher dispatcher = new UpdateDispatcher(update -> {
+            if (update == broken) {
+                throw new AssertionError("broken update"); // <-- kein RuntimeException: handle() fängt es nicht
+            }
+            handled.countDown();
+        }, 4, 10)) {
+            dispatcher.dispatch(1, broken);
+            dispatcher.dispatch(1, new Update());
+            dispatcher.dispatch(1, new Update());
+            assertTrue(handled.await(5, TimeUnit.SECONDS), "Updates after the broken one should still be handled");
+        }
+    }
+
+    @Test
+    public void testSlowChatDoesNotBlockOthers() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch otherChatDone = new CountDownLatch(1);
+        Update slow = new Update();
+        Update fast = new Update();
+
+        try (UpdateDispatcher dispatcher = new UpdateDispatcher(update -> {
+            if (update == slow) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else {
+                otherChatDone.countDown();
+            }
+        }, 4, 10)) {
+            dispatcher.dispatch(1L, slow);
+            dispatcher.dispatch(2L, fast);
+
+            assertTrue(otherChatDone.await(5, TimeUnit.SECONDS), "Chat 2 should not wait for chat 1");
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testDropsWhenChatQueueIsFull() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        try (UpdateDispatcher dispatcher = new UpdateDispatcher(update -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 1, 2)) {
+            dispatcher.dispatch(1L, new Update());
+            assertTrue(started.await(5, TimeUnit.SECONDS), "First update should be in progress");
+
+            assertTrue(dispatcher.dispatch(1L, new Update()), "Second update fits in the queue");
+            assertTrue(dispatcher.dispatch(1L, new Update()), "Third update fits in the queue");
+            assertFalse(dispatcher.dispatch(1L, new Update()), "Fourth update should be dropped");
+            assertEquals(2, dispatcher.getQueueDepth(), "Two updates should be waiting");
+
+            release.countDown();
+        }
+    }
+}
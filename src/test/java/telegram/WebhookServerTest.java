@@ -0,0 +1,77 @@
+package telegram;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.telegram.telegrambots.meta.api.objects.Update;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WebhookServerTest {
+
+    private static final String UPDATE_JSON = """
+            {"update_id": 1, "message": {"message_id": 5, "date": 1700000000,
+             "chat": {"id": 4711, "type": "private"},
+             "from": {"id": 4711, "is_bot": false, "first_name": "Anna"},
+             "text": "2 5"}}
+            """;
+
+    private final BlockingQueue<Update> received = new LinkedBlockingQueue<>();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private WebhookServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = new WebhookServer(new InetSocketAddress("127.0.0.1", 0), "/telegram", "s3cret", received::add);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.close();
+    }
+
+    @Test
+    public void testHandsUpdateToHandler() throws Exception {
+        assertEquals(200, post("/telegram", "s3cret", UPDATE_JSON));
+
+        Update update = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(update, "The update should reach the handler");
+        assertEquals(4711L, update.getMessage().getChatId().longValue());
+        assertEquals("2 5", update.getMessage().getText());
+        assertEquals("Anna", update.getMessage().getFrom().getFirstName());
+    }
+
+    @Test
+    public void testRejectsWrongSecret() throws Exception {
+        assertEquals(401, post("/telegram", "guess", UPDATE_JSON));
+        assertEquals(401, post("/telegram", null, UPDATE_JSON));
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    public void testRejectsBrokenJson() throws Exception {
+        assertEquals(400, post("/telegram", "s3cret", "{\"update_id\": "));
+        assertTrue(received.isEmpty());
+    }
+
+    private int post(String path, String secret, String body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (secret != null) {
+            request.header(WebhookServer.SECRET_HEADER, secret);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
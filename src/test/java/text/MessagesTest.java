@@ -0,0 +1,117 @@
+package text;
+
+import game.DiceSource;
+import game.Player;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MessagesTest {
+
+    private final Messages messages = new Messages();
+
+    // 🐛 Every message compiles in both languages (the constructor would have thrown otherwise)
+    @Test
+    public void testAllTemplatesCompile() {
+        for (Msg msg : Msg.values()) {
+            for (Language language : Language.values()) {
+                Template template = messages.template(language, msg);
+                assertEquals(template.slots.length + 1, template.literals.length, msg + "/" + language);
+            }
+        }
+        assertTrue(messages.render(Language.EN, Msg.HELP).startsWith("ℹ️ *Help*"));
+        assertTrue(messages.render(Language.DE, Msg.HELP).startsWith("ℹ️ *Hilfe*"));
+    }
+
+    @Test
+    public void testBrokenTemplatesFail() {
+        assertThrows(IllegalStateException.class, () -> Template.compile("bold", "*{0} gewinnt"));
+        assertThrows(IllegalStateException.class, () -> Template.compile("slot", "Hallo {x}"));
+        assertThrows(IllegalStateException.class, () -> Template.compile("open", "Hallo {0"));
+    }
+
+    // 🐛 Names with Markdown characters are shown as typed, inside and outside of formatting
+    @Test
+    public void testNamesAreEscapedForTheirContext() {
+        Reply reply = messages.open(Language.DE);
+        reply.text(0, "*Max_Power*").add(Msg.GAME_OVER);
+        assertEquals("🎉 *GAME OVER!* \n🏆 Gewinner: \\*Max\\_Power\\*", reply.finish());
+
+        reply = messages.open(Language.EN);
+        reply.text(0, "a*b_c").number(1, 3).add(Msg.SUMMARY_LINE);
+        assertEquals("🎲 *a*\\**b_c* has 3 dice left.\n", reply.finish());
+    }
+
+    @Test
+    public void testDiceAndNumbers() {
+        Player player = new Player("Anna", 5, DiceSource.seeded(7));
+        player.rollAllDice();
+
+        Reply reply = messages.open(Language.EN);
+        reply.text(0, player.getName()).number(1, 2).number(2, 5).dice(3, player).add(Msg.PLAYER_CALLED);
+        String text = reply.finish();
+
+        StringBuilder expected = new StringBuilder();
+        String faces = "?⚀⚁⚂⚃⚄⚅";
+        for (int i = 0; i < player.getDiceCount(); i++) {
+            expected.append(i > 0 ? " " : "").append(faces.charAt(player.getDie(i))).append(player.getDie(i));
+        }
+        assertEquals("*Anna* calls 2 × 5\n\n🎲 *Your dice:* " + expected + "\n\n_Please wait, the bot is thinking…_", text);
+    }
+
+    @Test
+    public void testMissingArgumentFails() {
+        try (Reply reply = messages.open(Language.DE)) {
+            assertThrows(IllegalStateException.class, () -> reply.add(Msg.GAME_OVER));
+        }
+    }
+
+    // 🐛 Replies go back to the pool exactly once, even if finish() is followed by close()
+    @Test
+    public void testRepliesAreReused() {
+        Reply first = messages.open(Language.DE);
+        try (first) {
+            first.add(Msg.NO_GAME).finish();
+        }
+        Reply second = messages.open(Language.EN);
+        Reply third = messages.open(Language.EN);
+        assertSame(first, second);
+        assertNotSame(second, third);
+        second.close();
+        third.close();
+    }
+
+    @Test
+    public void testRenderingOnlyAllocatesTheResult() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        Player player = new Player("Anna", 5, DiceSource.seeded(7));
+        player.rollAllDice();
+        for (int i = 0; i < 20_000; i++) { // <-- warm up
+            render(player);
+        }
+
+        int rounds = 20_000;
+        long before = threads.getCurrentThreadAllocatedBytes();
+        long length = 0;
+        for (int i = 0; i < rounds; i++) {
+            length += render(player);
+        }
+        long perReply = (threads.getCurrentThreadAllocatedBytes() - before) / rounds;
+
+        // 📝 Only the finished String should be left - no builders, no boxing. Emojis make it UTF-16
+        // (2 bytes per char), and toString() first tries a Latin-1 copy (1 more byte per char).
+        long resultSize = 3 * length / rounds + 96;
+        assertTrue(perReply <= resultSize, "Rendering allocated " + perReply + " bytes per reply");
+    }
+
+    private int render(Player player) {
+        Reply reply = messages.open(Language.DE);
+        reply.text(0, player.getName()).number(1, 4).number(2, 6).dice(3, player).add(Msg.PLAYER_CALLED);
+        return reply.finish().length();
+    }
+}